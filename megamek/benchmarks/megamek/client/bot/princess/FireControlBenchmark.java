@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.bot.princess;
+
+import megamek.common.BenchmarkFixture;
+import megamek.common.Entity;
+import megamek.common.Game;
+import megamek.common.Mounted;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Has Princess, playing one side of the {@link BenchmarkFixture}, plan to fire every weapon of
+ * each of her units at each unit of the other side.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FireControlBenchmark {
+    private BenchmarkFixture fixture;
+    private Princess princess;
+    private FireControl fireControl;
+    /** No weapon holds its fire to save ammo */
+    private final Map<Mounted, Double> ammoConservation = new HashMap<>();
+
+    /** A Princess that plays the fixture's game without being connected to a server */
+    private static final class BenchmarkPrincess extends Princess {
+        BenchmarkPrincess(Game game, int playerId) {
+            super("Benchmark Princess", "localhost", 0);
+            this.game = game;
+            setLocalPlayerNumber(playerId);
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(BenchmarkFixture.DEFAULT_BOARD);
+        princess = new BenchmarkPrincess(fixture.getGame(), 0);
+        fireControl = new FireControl(princess);
+        for (Entity shooter : fixture.getSide(0)) {
+            for (Mounted weapon : shooter.getWeaponList()) {
+                ammoConservation.put(weapon, 0.0);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        princess.die();
+    }
+
+    @Benchmark
+    public void getFullFiringPlan(Blackhole blackhole) {
+        final Game game = fixture.getGame();
+        for (Entity shooter : fixture.getSide(0)) {
+            for (Entity target : fixture.getSide(1)) {
+                blackhole.consume(fireControl.getFullFiringPlan(shooter, target, ammoConservation, game));
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import megamek.common.enums.GamePhase;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * A game for the benchmarks to work on, the same every time: two sides with the units of a fixed
+ * MUL file, placed by a seeded random on opposite edges of a standard board and facing each
+ * other, and dice seeded the same way. The benchmarks are run from the project directory, so
+ * board files are given relative to it, such as {@link #DEFAULT_BOARD}.
+ */
+public final class BenchmarkFixture {
+    //region Variable Declarations
+    public static final String DEFAULT_BOARD = "data/boards/MapSet2/16x17 BattleTech.board";
+    public static final String CITY_BOARD = "data/boards/MapSet2/16x17 City Ruins.board";
+    public static final long SEED = 1234567L;
+
+    private static final String UNITS = "benchmark.mul";
+    /** How many rows from its edge each side may be placed in */
+    private static final int DEPLOYMENT_DEPTH = 4;
+
+    private final Game game = new Game();
+    private final List<List<Entity>> sides = new ArrayList<>();
+    //endregion Variable Declarations
+
+    //region Constructors
+    /**
+     * Sets up the game on the given board.
+     *
+     * @param boardFile the board file, relative to the project directory
+     * @throws Exception if the board or the units can't be loaded
+     */
+    public BenchmarkFixture(String boardFile) throws Exception {
+        Compute.setRNG(MMRandom.seeded(SEED));
+        EquipmentType.initializeTypes();
+
+        final Board board = new Board();
+        board.load(new File(boardFile));
+        game.setBoardDirect(board);
+
+        final Random placement = new Random(SEED);
+        final Set<Coords> occupied = new HashSet<>();
+        int entityId = 0;
+        for (int side = 0; side < 2; side++) {
+            final Player player = new Player(side, "Side " + side);
+            player.setTeam(side + 1);
+            game.addPlayer(side, player);
+
+            final List<Entity> units = new ArrayList<>();
+            for (Entity entity : loadUnits()) {
+                entity.setOwner(player);
+                entity.setId(entityId++);
+                entity.setGame(game);
+                entity.setPosition(findPlace(entity, side, placement, occupied));
+                entity.setFacing((side == 0) ? 3 : 0);
+                entity.setSecondaryFacing(entity.getFacing());
+                entity.setDeployed(true);
+                entity.setDone(false);
+                game.addEntity(entity);
+                units.add(entity);
+            }
+            sides.add(units);
+        }
+        game.setupTeams();
+        game.setPhase(GamePhase.FIRING);
+    }
+    //endregion Constructors
+
+    private Vector<Entity> loadUnits() throws Exception {
+        try (InputStream is = BenchmarkFixture.class.getResourceAsStream(UNITS)) {
+            if (is == null) {
+                throw new IllegalStateException("Missing the benchmark units " + UNITS);
+            }
+            return new MULParser(is, game.getOptions()).getEntities();
+        }
+    }
+
+    /**
+     * @return a free hex the entity may stand in near the edge of the given side
+     */
+    private Coords findPlace(Entity entity, int side, Random placement, Set<Coords> occupied) {
+        final Board board = game.getBoard();
+        for (int attempt = 0; attempt < 1000; attempt++) {
+            final int row = placement.nextInt(DEPLOYMENT_DEPTH);
+            final Coords coords = new Coords(placement.nextInt(board.getWidth()),
+                    (side == 0) ? row : board.getHeight() - 1 - row);
+            if (!occupied.contains(coords) && !entity.isLocationProhibited(coords)) {
+                occupied.add(coords);
+                return coords;
+            }
+        }
+        throw new IllegalStateException("No place for " + entity.getShortName());
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @param side 0 or 1
+     * @return the units of the side, in the order of the MUL file
+     */
+    public List<Entity> getSide(int side) {
+        return sides.get(side);
+    }
+}
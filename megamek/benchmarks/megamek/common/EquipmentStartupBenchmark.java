@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the equipment types and looks up a few of them, as at startup. This can only be measured
+ * once in a JVM, so each fork measures it once.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+@State(Scope.Benchmark)
+public class EquipmentStartupBenchmark {
+    private static final String[] NAMES = { "Medium Laser", "ISAC20", "IS Ammo AC/20", "Heat Sink" };
+
+    @Benchmark
+    public int initializeTypes() {
+        EquipmentType.initializeTypes();
+        int found = 0;
+        for (String name : NAMES) {
+            if (EquipmentType.get(name) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
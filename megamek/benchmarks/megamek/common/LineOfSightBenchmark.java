@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works out the lines of sight from every unit of one side of the {@link BenchmarkFixture} to every
+ * unit of the other, in the open and in a city.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LineOfSightBenchmark {
+    @Param({ BenchmarkFixture.DEFAULT_BOARD, BenchmarkFixture.CITY_BOARD })
+    public String board;
+
+    private BenchmarkFixture fixture;
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(board);
+    }
+
+    @Benchmark
+    public void calculateLOS(Blackhole blackhole) {
+        final Game game = fixture.getGame();
+        for (Entity attacker : fixture.getSide(0)) {
+            for (Entity target : fixture.getSide(1)) {
+                blackhole.consume(LosEffects.calculateLOS(game, attacker, target));
+            }
+        }
+    }
+
+    @Benchmark
+    public void canSee(Blackhole blackhole) {
+        final Game game = fixture.getGame();
+        for (Entity attacker : fixture.getSide(0)) {
+            for (Entity target : fixture.getSide(1)) {
+                blackhole.consume(Compute.canSee(game, attacker, target));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads unit files of the kinds in the {@link BenchmarkFixture}, as the unit selector does for each
+ * unit shown.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MechFileParserBenchmark {
+    @Param({ "data/mechfiles/mechs/3039u/Atlas AS7-D.mtf",
+            "data/mechfiles/vehicles/3039u/Manticore Heavy Tank.blk",
+            "data/mechfiles/battlearmor/RS3058Uu/Elemental Battle Armor [Laser].blk" })
+    public String unitFile;
+
+    private File file;
+
+    @Setup
+    public void setUp() {
+        EquipmentType.initializeTypes();
+        file = new File(unitFile);
+    }
+
+    @Benchmark
+    public Entity parse() throws Exception {
+        return new MechFileParser(file).getEntity();
+    }
+}
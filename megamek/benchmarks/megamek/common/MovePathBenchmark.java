@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import megamek.common.MovePath.MoveStepType;
+import megamek.common.enums.GamePhase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plots the same short move for every unit of one side of the {@link BenchmarkFixture}. Each step
+ * added to a path is compiled, which works out its cost and legality.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MovePathBenchmark {
+    private static final MoveStepType[] STEPS = { MoveStepType.FORWARDS, MoveStepType.FORWARDS,
+            MoveStepType.TURN_LEFT, MoveStepType.FORWARDS, MoveStepType.TURN_RIGHT,
+            MoveStepType.FORWARDS, MoveStepType.FORWARDS };
+
+    private BenchmarkFixture fixture;
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(BenchmarkFixture.DEFAULT_BOARD);
+        fixture.getGame().setPhase(GamePhase.MOVEMENT);
+    }
+
+    @Benchmark
+    public int compileSteps() {
+        int legal = 0;
+        for (Entity entity : fixture.getSide(0)) {
+            final MovePath path = new MovePath(fixture.getGame(), entity);
+            for (MoveStepType step : STEPS) {
+                path.addStep(step);
+            }
+            if (path.isMoveLegal()) {
+                legal++;
+            }
+        }
+        return legal;
+    }
+}
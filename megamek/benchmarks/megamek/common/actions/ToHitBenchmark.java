@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.actions;
+
+import megamek.common.BenchmarkFixture;
+import megamek.common.Entity;
+import megamek.common.Game;
+import megamek.common.Mounted;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works out the to-hit numbers of every weapon of every unit of one side of the
+ * {@link BenchmarkFixture} against every unit of the other, as the firing display and the bots do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToHitBenchmark {
+    private BenchmarkFixture fixture;
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(BenchmarkFixture.DEFAULT_BOARD);
+    }
+
+    @Benchmark
+    public void toHit(Blackhole blackhole) {
+        allWeaponsAtAllTargets(blackhole);
+    }
+
+    /** As above, sharing the lines of sight and ECM fields as the bots do */
+    @Benchmark
+    public void toHitWithCache(Blackhole blackhole) {
+        final ToHitCache toHitCache = ToHitCache.open(fixture.getGame());
+        try {
+            allWeaponsAtAllTargets(blackhole);
+        } finally {
+            toHitCache.close();
+        }
+    }
+
+    private void allWeaponsAtAllTargets(Blackhole blackhole) {
+        final Game game = fixture.getGame();
+        for (Entity attacker : fixture.getSide(0)) {
+            for (Mounted weapon : attacker.getWeaponList()) {
+                final int weaponId = attacker.getEquipmentNum(weapon);
+                for (Entity target : fixture.getSide(1)) {
+                    blackhole.consume(WeaponAttackAction.toHit(game, attacker.getId(), target, weaponId, false));
+                }
+            }
+        }
+    }
+}
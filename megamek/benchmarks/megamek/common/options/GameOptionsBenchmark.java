@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.options;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up game options, which the rules do many times for every attack and move.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameOptionsBenchmark {
+    private static final String[] BOOLEAN_OPTIONS = { OptionsConstants.ADVANCED_TACOPS_SENSORS,
+            OptionsConstants.ADVANCED_TEAM_VISION, OptionsConstants.ADVCOMBAT_TACOPS_MANUAL_AMS,
+            OptionsConstants.BASE_AUTOSAVE_MSG };
+
+    private GameOptions options;
+
+    @Setup
+    public void setUp() {
+        options = new GameOptions();
+    }
+
+    @Benchmark
+    public int booleanOption() {
+        int set = 0;
+        for (String option : BOOLEAN_OPTIONS) {
+            if (options.booleanOption(option)) {
+                set++;
+            }
+        }
+        return set;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.pathfinder;
+
+import megamek.common.BenchmarkFixture;
+import megamek.common.Coords;
+import megamek.common.Entity;
+import megamek.common.Game;
+import megamek.common.MovePath;
+import megamek.common.MovePath.MoveStepType;
+import megamek.common.enums.GamePhase;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the path finders used by the movement display and the bots for every unit of one side of
+ * the {@link BenchmarkFixture}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathFinderBenchmark {
+    private BenchmarkFixture fixture;
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new BenchmarkFixture(BenchmarkFixture.DEFAULT_BOARD);
+        fixture.getGame().setPhase(GamePhase.MOVEMENT);
+    }
+
+    /** The shortest path to the middle of the board */
+    @Benchmark
+    public void shortestPath(Blackhole blackhole) {
+        final Game game = fixture.getGame();
+        final Coords destination = new Coords(game.getBoard().getWidth() / 2, game.getBoard().getHeight() / 2);
+        for (Entity entity : fixture.getSide(0)) {
+            final ShortestPathFinder finder = ShortestPathFinder.newInstanceOfAStar(destination,
+                    MoveStepType.FORWARDS, game);
+            finder.run(new MovePath(game, entity));
+            blackhole.consume(finder.getComputedPath(destination));
+        }
+    }
+
+    /** The shortest paths to every hex the unit can run to */
+    @Benchmark
+    public void shortestPathsToAll(Blackhole blackhole) {
+        final Game game = fixture.getGame();
+        for (Entity entity : fixture.getSide(0)) {
+            final ShortestPathFinder finder = ShortestPathFinder.newInstanceOfOneToAll(entity.getRunMP(),
+                    MoveStepType.FORWARDS, game);
+            finder.run(new MovePath(game, entity));
+            blackhole.consume(finder.getAllComputedPaths());
+        }
+    }
+
+    /** The longest paths the unit can run, as used for the movement envelope */
+    @Benchmark
+    public void longestPaths(Blackhole blackhole) {
+        final Game game = fixture.getGame();
+        for (Entity entity : fixture.getSide(0)) {
+            final LongestPathFinder finder = LongestPathFinder.newInstanceOfLongestPath(entity.getRunMP(),
+                    MoveStepType.FORWARDS, game);
+            finder.run(new MovePath(game, entity));
+            blackhole.consume(finder.getLongestComputedPaths());
+        }
+    }
+}
@@ -21,9 +21,11 @@ import megamek.common.*;
 import megamek.common.annotations.Nullable;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.util.AbstractCommandLineParser;
+import megamek.common.util.OrderedBatchProcessor;
 import megamek.common.util.fileUtils.MegaMekFile;
 import megamek.common.verifier.*;
 import megamek.server.DedicatedServer;
+import megamek.server.SimulationRunner;
 import megamek.utils.RATGeneratorEditor;
 import org.apache.logging.log4j.LogManager;
 
@@ -49,8 +51,8 @@ public class MegaMek {
     private static final NumberFormat commafy = NumberFormat.getInstance();
     private static final String INCORRECT_ARGUMENTS_MESSAGE = "Incorrect arguments:";
     private static final String ARGUMENTS_DESCRIPTION_MESSAGE = "Arguments syntax:\n\t MegaMek "
-            + "[-log <logfile>] [(-gui <guiname>)|(-dedicated)|(-validate)|(-export)|(-eqdb)|"
-            + "(-eqedb) (-oul)] [<args>]";
+            + "[-log <logfile>] [(-gui <guiname>)|(-dedicated)|(-simulate)|(-validate)|(-export)|"
+            + "(-eqdb)|(-eqedb) (-oul)|(-bfc <filename> [<threads>])|(-asc <filename> [<threads>])] [<args>]";
     public static final String PREFERENCES_FILE = "mmconf/megamek.preferences";
     public static final String LEGACY_LOG_FILE_NAME = "megameklog.txt";
 
@@ -76,6 +78,9 @@ public class MegaMek {
             if (cp.dedicatedServer()) {
                 startDedicatedServer(restArgs);
                 return;
+            } else if (cp.simulation()) {
+                startSimulation(restArgs);
+                return;
             }
 
             getPreferences().loadFromFile(PREFERENCES_FILE);
@@ -245,6 +250,17 @@ public class MegaMek {
         DedicatedServer.start(args);
     }
 
+    /**
+     * Plays a batch of bot-vs-bot games with the arguments in args. See
+     * {@link megamek.server.SimulationRunner} for more information.
+     *
+     * @param args the arguments to the simulation runner.
+     */
+    private static void startSimulation(String... args) {
+        LogManager.getLogger().info("Starting Simulation. " + Arrays.toString(args));
+        SimulationRunner.main(args);
+    }
+
     /**
      * Starts MegaMek's GUI
      */
@@ -281,11 +297,15 @@ public class MegaMek {
     private static class CommandLineParser extends AbstractCommandLineParser {
         private String logFilename;
         private boolean dedicatedServer = false;
+        private boolean simulation = false;
         private boolean ratGenEditor = false;
         private String[] restArgs = new String[0];
+        /** The number of threads that convert units */
+        private int threads = OrderedBatchProcessor.defaultThreads();
 
         // Options
         private static final String OPTION_DEDICATED = "dedicated";
+        private static final String OPTION_SIMULATE = "simulate";
         private static final String OPTION_LOG = "log";
         private static final String OPTION_EQUIPMENT_DB = "eqdb";
         private static final String OPTION_EQUIPMENT_EXTENDED_DB = "eqedb";
@@ -308,6 +328,13 @@ public class MegaMek {
             return dedicatedServer;
         }
 
+        /**
+         * @return true if this is a batch of bot-vs-bot games.
+         */
+        boolean simulation() {
+            return simulation;
+        }
+
         /**
          * Flag that indicates the option for the RAT Generator editor
          * @return Whether the RAT Generator editor should be invoked
@@ -366,6 +393,9 @@ public class MegaMek {
                     case OPTION_DEDICATED:
                         dedicatedServer = true;
                         break;
+                    case OPTION_SIMULATE:
+                        simulation = true;
+                        break;
                     case OPTION_RATGEN_EDIT:
                         ratGenEditor = true;
                         break;
@@ -491,11 +521,12 @@ public class MegaMek {
             System.exit(0);
         }
 
-        private void processUnitBattleForceConverter() {
+        private void processUnitBattleForceConverter() throws ParseException {
             String filename;
             if (getToken() == TOK_LITERAL) {
                 filename = getTokenValue();
                 nextToken();
+                parseThreads();
 
                 if (!new File("./docs").exists()) {
                     if (!new File("./docs").mkdir()) {
@@ -514,14 +545,8 @@ public class MegaMek {
                     fw.write("Element\tSize\tMP\tArmor\tStructure\tS/M/L\tOV\tPoint Cost\tAbilities");
                     fw.newLine();
 
-                    MechSummary[] units = MechSummaryCache.getInstance().getAllMechs();
-                    for (MechSummary unit : units) {
-                        Entity entity = new MechFileParser(unit.getSourceFile(),
-                                unit.getEntryName()).getEntity();
-
-                        BattleForceElement bfe = new BattleForceElement(entity);
-                        bfe.writeCsv(fw);
-                    }
+                    convertAllUnits("BattleForce conversion", fw,
+                            (entity, line) -> new BattleForceElement(entity).writeCsv(line));
                 } catch (Exception e) {
                     LogManager.getLogger().error("", e);
                 }
@@ -530,11 +555,12 @@ public class MegaMek {
             System.exit(0);
         }
 
-        private void processUnitAlphaStrikeConverter() {
+        private void processUnitAlphaStrikeConverter() throws ParseException {
             String filename;
             if (getToken() == TOK_LITERAL) {
                 filename = getTokenValue();
                 nextToken();
+                parseThreads();
 
                 if (!new File("./docs").exists()) {
                     if (!new File("./docs").mkdir()) {
@@ -554,14 +580,8 @@ public class MegaMek {
                     bw.write("Element\tType\tSize\tMP\tArmor\tStructure\tS/M/L\tOV\tPoint Cost\tAbilities");
                     bw.newLine();
 
-                    MechSummary[] units = MechSummaryCache.getInstance().getAllMechs();
-                    for (MechSummary unit : units) {
-                        Entity entity = new MechFileParser(unit.getSourceFile(),
-                                unit.getEntryName()).getEntity();
-
-                        AlphaStrikeElement ase = new AlphaStrikeElement(entity);
-                        ase.writeCsv(bw);
-                    }
+                    convertAllUnits("AlphaStrike conversion", bw,
+                            (entity, line) -> new AlphaStrikeElement(entity).writeCsv(line));
                 } catch (Exception ex) {
                     LogManager.getLogger().error("", ex);
                 }
@@ -569,6 +589,49 @@ public class MegaMek {
             System.exit(0);
         }
 
+        /**
+         * Parses the optional number of threads that follows the file name of a conversion.
+         */
+        private void parseThreads() throws ParseException {
+            if (getToken() == TOK_LITERAL) {
+                try {
+                    threads = Integer.parseInt(getTokenValue());
+                } catch (NumberFormatException ex) {
+                    throw new ParseException("number of threads expected");
+                }
+                if (threads < 1) {
+                    throw new ParseException("number of threads expected");
+                }
+                nextToken();
+            }
+        }
+
+        /**
+         * Loads every unit and writes one line per unit, in the order of the unit cache. The
+         * units are loaded and converted on a pool of worker threads.
+         *
+         * @param description describes the conversion in the progress messages
+         * @param writer      the file that receives the lines
+         * @param converter   converts a unit and writes its line
+         */
+        private void convertAllUnits(String description, BufferedWriter writer,
+                                     UnitConverter converter) throws IOException {
+            final MechSummary[] units = MechSummaryCache.getInstance().getAllMechs();
+            new OrderedBatchProcessor<MechSummary, String>(description, threads).process(
+                    Arrays.asList(units), unit -> {
+                        final StringWriter line = new StringWriter();
+                        try (BufferedWriter w = new BufferedWriter(line)) {
+                            Entity entity = new MechFileParser(unit.getSourceFile(),
+                                    unit.getEntryName()).getEntity();
+                            converter.convert(entity, w);
+                        } catch (Exception ex) {
+                            LogManager.getLogger().error("Unable to convert " + unit.getName(), ex);
+                            return null;
+                        }
+                        return line.toString();
+                    }, writer::write);
+        }
+
         private void processUnitExporter() {
             processUnitExporter(false);
         }
@@ -664,6 +727,14 @@ public class MegaMek {
             System.exit(0);
         }
 
+        /**
+         * Converts a unit and writes it as a line of a file.
+         */
+        @FunctionalInterface
+        private interface UnitConverter {
+            void convert(Entity entity, BufferedWriter writer) throws IOException;
+        }
+
         private void processRestOfInput() {
             Vector<String> v = new Vector<>();
             while (getArgValue() != null) {
@@ -234,7 +234,15 @@ public class Client implements IClientCommandHandler {
      * Attempt to connect to the specified host
      */
     public boolean connect() {
-        connection = ConnectionFactory.getInstance().createClientConnection(host, port, 1);
+        return connect(ConnectionFactory.getInstance().createClientConnection(host, port, 1));
+    }
+
+    /**
+     * Attempt to connect through the given connection, such as the client end of
+     * {@link megamek.server.Server#openLoopbackConnection()}
+     */
+    public boolean connect(AbstractConnection connection) {
+        this.connection = connection;
         boolean result = connection.open();
         if (result) {
             connection.addConnectionListener(connectionListener);
@@ -1213,9 +1221,9 @@ public class Client implements IClientCommandHandler {
             return "[null report vector]";
         }
 
-        StringBuffer report = new StringBuffer();
+        StringBuilder report = new StringBuilder();
         for (Report r : v) {
-            report.append(r.getText());
+            r.appendText(report);
         }
 
         Set<Integer> set = new HashSet<>();
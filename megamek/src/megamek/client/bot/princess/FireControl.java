@@ -1211,29 +1211,83 @@ public class FireControl {
     void calculateUtility(final FiringPlan firingPlan,
                           final int overheatTolerance,
                           final boolean shooterIsAero) {
+        firingPlan.setUtility(calculateUtility(calcTargetUtility(firingPlan.getTarget()),
+                firingPlan.getHeat(), firingPlan.getExpectedDamage(), firingPlan.getExpectedCriticals(),
+                firingPlan.getKillProbability(), overheatTolerance, shooterIsAero));
+    }
+
+    /**
+     * calculates the 'utility' of a firing plan from the sums over its weapons. Firing plans
+     * against the same target can share the {@link TargetUtility}.
+     *
+     * @param targetUtility     The parts of the utility that depend only on the target.
+     * @param heat              The heat of the plan.
+     * @param expectedDamage    The expected damage of the plan.
+     * @param expectedCriticals The expected critical hits of the plan.
+     * @param killProbability   The odds of the plan getting a kill.
+     * @param overheatTolerance How much overheat we're willing to forgive.
+     * @param shooterIsAero     Set TRUE if the shooter is an Aero unit.
+     * @return The utility of the plan.
+     */
+    double calculateUtility(final TargetUtility targetUtility,
+                            final int heat,
+                            final double expectedDamage,
+                            final double expectedCriticals,
+                            final double killProbability,
+                            final int overheatTolerance,
+                            final boolean shooterIsAero) {
         int overheat = 0;
-        if (firingPlan.getHeat() > overheatTolerance) {
-            overheat = firingPlan.getHeat() - overheatTolerance;
+        if (heat > overheatTolerance) {
+            overheat = heat - overheatTolerance;
         }
 
-        double modifier = 1;
-        modifier += calcCommandUtility(firingPlan.getTarget());
-        modifier += calcStrategicBuildingTargetUtility(firingPlan.getTarget());
-        modifier += calcPriorityUnitTargetUtility(firingPlan.getTarget());
-
-        double expectedDamage = firingPlan.getExpectedDamage();
         double utility = 0;
         utility += DAMAGE_UTILITY * expectedDamage;
-        utility += CRITICAL_UTILITY * firingPlan.getExpectedCriticals();
-        utility += KILL_UTILITY * firingPlan.getKillProbability();
+        utility += CRITICAL_UTILITY * expectedCriticals;
+        utility += KILL_UTILITY * killProbability;
         // Multiply the combined damage/crit/kill utility for a target by a log-scaled factor based on the target's damage potential.
-        utility *= calcTargetPotentialDamageMultiplier(firingPlan.getTarget());
-        utility += TARGET_HP_FRACTION_DEALT_UTILITY * calcDamageAllocationUtility(firingPlan.getTarget(), expectedDamage);
-        utility -= calcCivilianTargetDisutility(firingPlan.getTarget());
-        utility *= modifier;
+        utility *= targetUtility.potentialDamageMultiplier;
+        utility += TARGET_HP_FRACTION_DEALT_UTILITY * calcDamageAllocationUtility(targetUtility.target, expectedDamage);
+        utility -= targetUtility.civilianDisutility;
+        utility *= targetUtility.modifier;
         utility -= (shooterIsAero ? OVERHEAT_DISUTILITY_AERO : OVERHEAT_DISUTILITY) * overheat;
-        utility -= (firingPlan.getTarget() instanceof MechWarrior) ? EJECTED_PILOT_DISUTILITY : 0;
-        firingPlan.setUtility(utility);
+        utility -= (targetUtility.target instanceof MechWarrior) ? EJECTED_PILOT_DISUTILITY : 0;
+        return utility;
+    }
+
+    /**
+     * Works out the parts of the utility of a firing plan that depend only on its target. These
+     * look at the target's weapons and Princess' settings, so they are worked out once when
+     * many plans against the same target are compared.
+     *
+     * @param target The target of the firing plans.
+     * @return The target's parts of the utility.
+     */
+    TargetUtility calcTargetUtility(final Targetable target) {
+        double modifier = 1;
+        modifier += calcCommandUtility(target);
+        modifier += calcStrategicBuildingTargetUtility(target);
+        modifier += calcPriorityUnitTargetUtility(target);
+        return new TargetUtility(target, modifier, calcTargetPotentialDamageMultiplier(target),
+                calcCivilianTargetDisutility(target));
+    }
+
+    /**
+     * The parts of the utility of a firing plan that depend only on its target.
+     */
+    static final class TargetUtility {
+        final Targetable target;
+        final double modifier;
+        final double potentialDamageMultiplier;
+        final double civilianDisutility;
+
+        TargetUtility(final Targetable target, final double modifier,
+                      final double potentialDamageMultiplier, final double civilianDisutility) {
+            this.target = target;
+            this.modifier = modifier;
+            this.potentialDamageMultiplier = potentialDamageMultiplier;
+            this.civilianDisutility = civilianDisutility;
+        }
     }
 
     protected double calcStrategicBuildingTargetUtility(final Targetable target) {
@@ -1786,36 +1840,41 @@ public class FireControl {
             return myPlan;
         }
 
-        // cycle through my weapons
-        for (final Mounted weapon : shooter.getWeaponList()) {
-        	// respect restriction on manual AMS firing.
-        	if (!game.getOptions().booleanOption(OptionsConstants.ADVCOMBAT_TACOPS_MANUAL_AMS) &&
-        			weapon.getType().hasFlag(WeaponType.F_AMS)) {
-        		continue;
-        	}
+        // cycle through my weapons; they share their lines of sight and ECM fields
+        final ToHitCache toHitCache = ToHitCache.open(game);
+        try {
+            for (final Mounted weapon : shooter.getWeaponList()) {
+            	// respect restriction on manual AMS firing.
+            	if (!game.getOptions().booleanOption(OptionsConstants.ADVCOMBAT_TACOPS_MANUAL_AMS) &&
+            			weapon.getType().hasFlag(WeaponType.F_AMS)) {
+            		continue;
+            	}
         	
-        	final double toHitThreshold = ammoConservation.get(weapon);
-            WeaponFireInfo shoot = buildWeaponFireInfo(shooter, target, weapon, game, false);
+            	final double toHitThreshold = ammoConservation.get(weapon);
+                WeaponFireInfo shoot = buildWeaponFireInfo(shooter, target, weapon, game, false);
             
-            // if we're below the threshold, try switching missile modes
-            if (shoot.getProbabilityToHit() <= toHitThreshold) {
+                // if we're below the threshold, try switching missile modes
+                if (shoot.getProbabilityToHit() <= toHitThreshold) {
                 
-                int updatedMissileMode = switchMissileMode(weapon);
+                    int updatedMissileMode = switchMissileMode(weapon);
                 
-                if (updatedMissileMode > -1) {
-                    shoot = buildWeaponFireInfo(shooter, target, weapon, game, false);
-                    shoot.setUpdatedFiringMode(updatedMissileMode);
+                    if (updatedMissileMode > -1) {
+                        shoot = buildWeaponFireInfo(shooter, target, weapon, game, false);
+                        shoot.setUpdatedFiringMode(updatedMissileMode);
+                    }
                 }
-            }
             
-            if ((shoot.getProbabilityToHit() > toHitThreshold)) {
-                myPlan.add(shoot);
-                continue;
-            }
+                if ((shoot.getProbabilityToHit() > toHitThreshold)) {
+                    myPlan.add(shoot);
+                    continue;
+                }
 
-            LogManager.getLogger().debug("\nTo Hit Chance (" + DECF.format(shoot.getProbabilityToHit())
-                      + ") for " + weapon.getName() +
-                      " is less than threshold (" + DECF.format(toHitThreshold) + ")");
+                LogManager.getLogger().debug("\nTo Hit Chance (" + DECF.format(shoot.getProbabilityToHit())
+                          + ") for " + weapon.getName() +
+                          " is less than threshold (" + DECF.format(toHitThreshold) + ")");
+            }
+        } finally {
+            toHitCache.close();
         }
 
         // Rank how useful this plan is.
@@ -1949,35 +2008,8 @@ public class FireControl {
         }
 
         // build up heat table
-        for (int heatLevel = 1; heatLevel <= maxHeat; heatLevel++) {
-            bestPlans[heatLevel] = new FiringPlan(target);
-
-            // Include all the firing options that exist at the last heat level.
-            bestPlans[heatLevel].addAll(bestPlans[heatLevel - 1]);
-            calculateUtility(bestPlans[heatLevel], heatTolerance, isAero);
-
-            for (final WeaponFireInfo weaponFireInfo : nonZeroHeatOptions) {
-
-                final int leftoverHeatCapacity = heatLevel - weaponFireInfo.getHeat();
+        buildHeatTable(bestPlans, maxHeat, nonZeroHeatOptions, alphaStrike.getFlipArms(), heatTolerance, isAero);
 
-                // If this attack produces heat and is not already included in the plan, check its utility.
-                if ((0 <= leftoverHeatCapacity) &&
-                    !bestPlans[leftoverHeatCapacity].containsWeapon(weaponFireInfo.getWeapon())) {
-
-                    // make sure to pass along arm flip state from the alpha strike, if any
-                    final FiringPlan testPlan = new FiringPlan(target, alphaStrike.getFlipArms());
-                    testPlan.addAll(bestPlans[heatLevel - weaponFireInfo.getHeat()]);
-                    testPlan.add(weaponFireInfo);
-                    calculateUtility(testPlan, heatTolerance, isAero);
-
-                    // If this plan has a higher utility, add it.
-                    if (testPlan.getUtility() > bestPlans[heatLevel].getUtility()) {
-                        bestPlans[heatLevel] = testPlan;
-                    }
-                }
-            }
-        }
-        
         // if we are an aero blasting away at ground targets, another good option for a heatless plan is to bomb the crap out of the enemy
         //bombs cannot be mixed with other attack types, so we calculate it separately and overwrite the 0-heat plan if it's better
         //currently, this will probably result in the aero blowing its bomb load as soon as it passes over an enemy
@@ -1995,6 +2027,138 @@ public class FireControl {
         return bestPlans;
     }
 
+    /**
+     * Fills in the best firing plans for heat levels 1 to maxHeat. The plan for each heat level
+     * is the best of the plan for one less heat and each plan for less heat with one more weapon.
+     *
+     * The candidate plans are only built when they become the best so far; until then they are
+     * rated from the sums over their weapons, which each candidate adds one weapon to.
+     *
+     * @param bestPlans          The heat table; the plan for no heat must already be set.
+     * @param maxHeat            The highest heat level to fill in.
+     * @param nonZeroHeatOptions The attacks that build heat.
+     * @param flipArms           The arm flip state of the alpha strike.
+     * @param heatTolerance      How much overheat we're willing to forgive.
+     * @param isAero             Set TRUE if the shooter is an Aero unit.
+     */
+    private void buildHeatTable(final FiringPlan[] bestPlans,
+                                final int maxHeat,
+                                final FiringPlan nonZeroHeatOptions,
+                                final boolean flipArms,
+                                final int heatTolerance,
+                                final boolean isAero) {
+        final FiringPlan heatlessPlan = bestPlans[0];
+        final Targetable target = heatlessPlan.getTarget();
+        final TargetUtility targetUtility = calcTargetUtility(target);
+
+        // Give each weapon a bit, so that checking if a plan fires it takes no search
+        final Map<Mounted, Integer> weaponIndices = new IdentityHashMap<>();
+        final int[] indices = new int[nonZeroHeatOptions.size()];
+        final boolean[] heatless = new boolean[nonZeroHeatOptions.size()];
+        for (int i = 0; i < nonZeroHeatOptions.size(); i++) {
+            final Mounted weapon = nonZeroHeatOptions.get(i).getWeapon();
+            indices[i] = weaponIndices.computeIfAbsent(weapon, w -> weaponIndices.size());
+            heatless[i] = heatlessPlan.containsWeapon(weapon);
+        }
+
+        final HeatPlan[] heatPlans = new HeatPlan[maxHeat + 1];
+        heatPlans[0] = new HeatPlan(heatlessPlan);
+        heatPlans[0].utility = calculateUtility(targetUtility, heatPlans[0].heat, heatPlans[0].expectedDamage,
+                heatPlans[0].expectedCriticals, 1 - heatPlans[0].surviveProbability, heatTolerance, isAero);
+        // Plans carried over from one less heat don't carry the arm flip state
+        final boolean[] flipped = new boolean[maxHeat + 1];
+        for (int heatLevel = 1; heatLevel <= maxHeat; heatLevel++) {
+            // Include all the firing options that exist at the last heat level.
+            heatPlans[heatLevel] = heatPlans[heatLevel - 1];
+            for (int i = 0; i < nonZeroHeatOptions.size(); i++) {
+                final WeaponFireInfo weaponFireInfo = nonZeroHeatOptions.get(i);
+                final int leftoverHeatCapacity = heatLevel - weaponFireInfo.getHeat();
+
+                // If this attack produces heat and is not already included in the plan, check its utility.
+                if ((0 > leftoverHeatCapacity) || heatless[i]
+                        || heatPlans[leftoverHeatCapacity].weapons.get(indices[i])) {
+                    continue;
+                }
+                final HeatPlan base = heatPlans[leftoverHeatCapacity];
+                final int heat = base.heat + weaponFireInfo.getHeat();
+                final double expectedDamage = base.expectedDamage
+                        + (weaponFireInfo.getExpectedDamageOnHit() * weaponFireInfo.getProbabilityToHit());
+                final double expectedCriticals = base.expectedCriticals + weaponFireInfo.getExpectedCriticals();
+                final double surviveProbability = base.surviveProbability * (1 - weaponFireInfo.getKillProbability());
+                final double utility = calculateUtility(targetUtility, heat, expectedDamage, expectedCriticals,
+                        1 - surviveProbability, heatTolerance, isAero);
+
+                // If this plan has a higher utility, add it.
+                if (utility > heatPlans[heatLevel].utility) {
+                    heatPlans[heatLevel] = new HeatPlan(base, weaponFireInfo, indices[i], heat,
+                            expectedDamage, expectedCriticals, surviveProbability, utility);
+                    flipped[heatLevel] = flipArms;
+                }
+            }
+        }
+
+        for (int heatLevel = 1; heatLevel <= maxHeat; heatLevel++) {
+            bestPlans[heatLevel] = heatPlans[heatLevel].toFiringPlan(heatlessPlan, flipped[heatLevel]);
+        }
+    }
+
+    /**
+     * A firing plan in the heat table built by {@link #buildHeatTable}: the plan with no heat or
+     * a plan for less heat with one more weapon, together with the sums its utility is rated on.
+     */
+    private static final class HeatPlan {
+        private final HeatPlan base;
+        private final WeaponFireInfo added;
+        /** The bits of the heat-building weapons fired by this plan */
+        private final BitSet weapons;
+        private final int heat;
+        private final double expectedDamage;
+        private final double expectedCriticals;
+        private final double surviveProbability;
+        private double utility;
+
+        /** Creates the plan for no heat, summed the way {@link FiringPlan} does. */
+        HeatPlan(final FiringPlan heatlessPlan) {
+            base = null;
+            added = null;
+            weapons = new BitSet();
+            heat = heatlessPlan.getHeat();
+            expectedDamage = heatlessPlan.getExpectedDamage();
+            expectedCriticals = heatlessPlan.getExpectedCriticals();
+            double survive = 1;
+            for (final WeaponFireInfo weaponFireInfo : heatlessPlan) {
+                survive *= 1 - weaponFireInfo.getKillProbability();
+            }
+            surviveProbability = survive;
+        }
+
+        HeatPlan(final HeatPlan base, final WeaponFireInfo added, final int index, final int heat,
+                 final double expectedDamage, final double expectedCriticals,
+                 final double surviveProbability, final double utility) {
+            this.base = base;
+            this.added = added;
+            weapons = (BitSet) base.weapons.clone();
+            weapons.set(index);
+            this.heat = heat;
+            this.expectedDamage = expectedDamage;
+            this.expectedCriticals = expectedCriticals;
+            this.surviveProbability = surviveProbability;
+            this.utility = utility;
+        }
+
+        FiringPlan toFiringPlan(final FiringPlan heatlessPlan, final boolean flipArms) {
+            final Deque<WeaponFireInfo> addedWeapons = new ArrayDeque<>();
+            for (HeatPlan plan = this; plan.added != null; plan = plan.base) {
+                addedWeapons.push(plan.added);
+            }
+            final FiringPlan firingPlan = new FiringPlan(heatlessPlan.getTarget(), flipArms);
+            firingPlan.addAll(heatlessPlan);
+            firingPlan.addAll(addedWeapons);
+            firingPlan.setUtility(utility);
+            return firingPlan;
+        }
+    }
+
     /*
      * Gets the 'best' firing plan, using heat as a disutility. No twisting is
      * done
@@ -2370,34 +2534,39 @@ public class FireControl {
         final List<Targetable> enemies = getTargetableEnemyEntities(shooter, game, owner.getFireControlState());
 
         // Loop through each enemy and find the best plan for attacking them.
-        for (final Targetable enemy : enemies) {
+        final ToHitCache toHitCache = ToHitCache.open(game);
+        try {
+            for (final Targetable enemy : enemies) {
 
-            if (owner.getBehaviorSettings().getIgnoredUnitTargets().contains(enemy.getTargetId())) {
-                LogManager.getLogger().info(enemy.getDisplayName() + " is being explicitly ignored");
-                continue;
-            }
+                if (owner.getBehaviorSettings().getIgnoredUnitTargets().contains(enemy.getTargetId())) {
+                    LogManager.getLogger().info(enemy.getDisplayName() + " is being explicitly ignored");
+                    continue;
+                }
             
-            final boolean priorityTarget = owner.getPriorityUnitTargets().contains(enemy.getTargetId());
+                final boolean priorityTarget = owner.getPriorityUnitTargets().contains(enemy.getTargetId());
 
-            // Skip retreating enemies so long as they haven't fired on me while retreating.
-            final int playerId = (enemy instanceof Entity) ? ((Entity) enemy).getOwnerId() : -1;
-            if (!priorityTarget && honorUtil.isEnemyBroken(enemy.getTargetId(), playerId,
-                                                           owner.getForcedWithdrawal())) {
-                LogManager.getLogger().info(enemy.getDisplayName() + " is broken - ignoring");
-                continue;
-            }
+                // Skip retreating enemies so long as they haven't fired on me while retreating.
+                final int playerId = (enemy instanceof Entity) ? ((Entity) enemy).getOwnerId() : -1;
+                if (!priorityTarget && honorUtil.isEnemyBroken(enemy.getTargetId(), playerId,
+                                                               owner.getForcedWithdrawal())) {
+                    LogManager.getLogger().info(enemy.getDisplayName() + " is broken - ignoring");
+                    continue;
+                }
 
-            final FiringPlanCalculationParameters parameters =
-                    new FiringPlanCalculationParameters.Builder().buildExact(shooter,
-                                                                             enemy,
-                                                                             ammoConservation);
-            final FiringPlan plan = determineBestFiringPlan(parameters);
+                final FiringPlanCalculationParameters parameters =
+                        new FiringPlanCalculationParameters.Builder().buildExact(shooter,
+                                                                                 enemy,
+                                                                                 ammoConservation);
+                final FiringPlan plan = determineBestFiringPlan(parameters);
 
-            LogManager.getLogger().info(shooter.getDisplayName() + " at " + enemy
-                    .getDisplayName() + " - Best Firing Plan: " + plan.getDebugDescription(true));
-            if ((null == bestPlan) || (plan.getUtility() > bestPlan.getUtility())) {
-                bestPlan = plan;
+                LogManager.getLogger().info(shooter.getDisplayName() + " at " + enemy
+                        .getDisplayName() + " - Best Firing Plan: " + plan.getDebugDescription(true));
+                if ((null == bestPlan) || (plan.getUtility() > bestPlan.getUtility())) {
+                    bestPlan = plan;
+                }
             }
+        } finally {
+            toHitCache.close();
         }
         
         // Return the best overall plan.
@@ -23,6 +23,7 @@ import megamek.common.Entity;
 import megamek.common.Game;
 import megamek.common.Mounted;
 import megamek.common.Targetable;
+import megamek.common.actions.ToHitCache;
 import megamek.common.options.OptionsConstants;
 import org.apache.logging.log4j.LogManager;
 
@@ -131,12 +132,29 @@ public class MultiTargetFireControl extends FireControl {
         return bestShot;
     }
     
+    /**
+     * A firing plan here may fire at several targets, so none of the parts of the utility that
+     * depend on a single target apply.
+     */
+    @Override
+    TargetUtility calcTargetUtility(final Targetable target) {
+        return new TargetUtility(target, 1, 1, 0);
+    }
+
     /**
      * calculates the 'utility' of a firing plan. This particular function
      * ignores any characteristics of the firing plan that depend on having a single target.
      *
-     * @param firingPlan
-     *            The {@link FiringPlan} to be calculated.
+     * @param targetUtility
+     *            Ignored, as the plan may have several targets.
+     * @param heat
+     *            The heat of the plan.
+     * @param expectedDamage
+     *            The expected damage of the plan.
+     * @param expectedCriticals
+     *            The expected critical hits of the plan.
+     * @param killProbability
+     *            The odds of the plan getting a kill.
      * @param overheatTolerance
      *            How much overheat we're willing to forgive.
      * @param shooterIsAero
@@ -144,39 +162,48 @@ public class MultiTargetFireControl extends FireControl {
      *            take stiffer penalties.
      */
     @Override
-    void calculateUtility(final FiringPlan firingPlan,
-                          final int overheatTolerance,
-                          final boolean shooterIsAero) {
+    double calculateUtility(final TargetUtility targetUtility,
+                            final int heat,
+                            final double expectedDamage,
+                            final double expectedCriticals,
+                            final double killProbability,
+                            final int overheatTolerance,
+                            final boolean shooterIsAero) {
         int overheat = 0;
-        if (firingPlan.getHeat() > overheatTolerance) {
-            overheat = firingPlan.getHeat() - overheatTolerance;
+        if (heat > overheatTolerance) {
+            overheat = heat - overheatTolerance;
         }
 
         double modifier = 1;
         // eliminated calls to calcCommandUtility, calcStrategicBuildingTargetUtility, calcPriorityUnitTargetUtility
         
-        double expectedDamage = firingPlan.getExpectedDamage();
         double utility = 0;
         utility += DAMAGE_UTILITY * expectedDamage;
-        utility += CRITICAL_UTILITY * firingPlan.getExpectedCriticals();
-        utility += KILL_UTILITY * firingPlan.getKillProbability();
+        utility += CRITICAL_UTILITY * expectedCriticals;
+        utility += KILL_UTILITY * killProbability;
         // eliminated calcTargetPotentialDamageMultiplier, calcDamageAllocationUtility, calcCivilianTargetDisutility
         // Multiply the combined damage/crit/kill utility for a target by a log-scaled factor based on the target's damage potential.
         utility *= modifier;
         utility -= (shooterIsAero ? OVERHEAT_DISUTILITY_AERO : OVERHEAT_DISUTILITY) * overheat;
         // eliminated ejected pilot disutility, as it's superflous - we will ignore ejected mechwarriors altogether.
-        firingPlan.setUtility(utility);
+        return utility;
     }
 
     FiringPlan calculateFiringPlan(Entity shooter, List<Mounted> weaponList) {
         FiringPlan retVal = new FiringPlan();
         
         List<WeaponFireInfo> shotList = new ArrayList<>();
-        for (Mounted weapon : weaponList) {
-            WeaponFireInfo shot = getBestShot(weapon);
-            if (shot != null) {
-                shotList.add(shot);
+        // every weapon is tried against every target, so share the lines of sight between them
+        final ToHitCache toHitCache = ToHitCache.open(owner.getGame());
+        try {
+            for (Mounted weapon : weaponList) {
+                WeaponFireInfo shot = getBestShot(weapon);
+                if (shot != null) {
+                    shotList.add(shot);
+                }
             }
+        } finally {
+            toHitCache.close();
         }
         
         boolean shooterIsLarge =
@@ -28,6 +28,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -70,6 +71,11 @@ public class Precognition implements Runnable {
     private final AtomicBoolean waiting = new AtomicBoolean(false);
     private final AtomicBoolean done = new AtomicBoolean(false);
 
+    // counters for watching how much work the thread does
+    private final AtomicLong eventsProcessed = new AtomicLong();
+    private final AtomicLong eventsCoalesced = new AtomicLong();
+    private final AtomicLong recalculations = new AtomicLong();
+
     public Precognition(Princess owner) {
         this.owner = owner;
         this.game = new Game();
@@ -338,6 +344,7 @@ public class Precognition implements Runnable {
                 Entity entity = getGame().getEntity(entityId);
                 if (entity != null) {
                     LogManager.getLogger().debug("recalculating paths for " + entity.getDisplayName());
+                    recalculations.incrementAndGet();
                     getPathEnumerator().recalculateMovesFor(entity);
                     LogManager.getLogger().debug("finished recalculating paths for " + entity.getDisplayName());
                 }
@@ -362,6 +369,7 @@ public class Precognition implements Runnable {
                     if ((entity != null) && isEntityOnMap(entity)) {
                         unPause();
                         LogManager.getLogger().debug("recalculating paths for " + entity.getDisplayName());
+                        recalculations.incrementAndGet();
                         getPathEnumerator().recalculateMovesFor(entity);
                         LogManager.getLogger().debug("finished recalculating paths for " + entity.getDisplayName());
                     }
@@ -409,21 +417,38 @@ public class Precognition implements Runnable {
      * Process game events that have happened since the thread last checked i.e.
      * if a unit has moved, my precaculated paths are no longer valid
      */
-    private void processGameEvents() {
+    void processGameEvents() {
         // We don't want Game to change while this is happening
         GAME_LOCK.lock();
         try {
-            LinkedList<GameEvent> eventsToProcessIterator = new LinkedList<>(getEventsToProcess());
-            int numEvents = eventsToProcessIterator.size();
+            List<GameEvent> events = new ArrayList<>();
+            GameEvent queued;
+            while ((queued = getEventsToProcess().poll()) != null) {
+                events.add(queued);
+            }
+
+            // Handling an entity change only looks at the entity's current state, so when an
+            // entity has changed several times only its latest change needs handling
+            Map<Integer, Integer> latestChange = new HashMap<>();
+            for (int count = 0; count < events.size(); count++) {
+                if ((events.get(count) instanceof GameEntityChangeEvent)
+                        && (((GameEntityChangeEvent) events.get(count)).getEntity() != null)) {
+                    latestChange.put(((GameEntityChangeEvent) events.get(count)).getEntity().getId(), count);
+                }
+            }
+
+            int numEvents = events.size();
+            eventsProcessed.addAndGet(numEvents);
             for (int count = 0; count < numEvents; count++) {
                 LogManager.getLogger().debug("Processing event " + (count + 1) + " out of " + numEvents);
-                GameEvent event = eventsToProcessIterator.get(count);
-                if (event == null) {
-                    continue;
-                }
+                GameEvent event = events.get(count);
                 LogManager.getLogger().debug("Processing " + event.toString());
-                getEventsToProcess().remove(event);
                 if (event instanceof GameEntityChangeEvent) {
+                    Entity changed = ((GameEntityChangeEvent) event).getEntity();
+                    if ((changed != null) && (latestChange.get(changed.getId()) != count)) {
+                        eventsCoalesced.incrementAndGet();
+                        continue; // a later event for the same entity follows
+                    }
                     // Ignore entity changes that don't happen during movement
                     if (!getGame().getPhase().isMovement()) {
                         continue;
@@ -469,7 +494,10 @@ public class Precognition implements Runnable {
                     }
                 }
             }
-            LogManager.getLogger().debug("Events still to process: " + getEventsToProcess().size());
+            LogManager.getLogger().debug("Events still to process: " + getEventQueueDepth()
+                    + " :: events processed = " + getEventsProcessed()
+                    + " :: coalesced = " + getEventsCoalesced()
+                    + " :: path recalculations = " + getRecalculations());
         } finally {
             GAME_LOCK.unlock();
         }
@@ -588,6 +616,31 @@ public class Precognition implements Runnable {
         return eventsToProcess;
     }
 
+    /** @return the number of game events waiting to be processed */
+    int getEventQueueDepth() {
+        return eventsToProcess.size();
+    }
+
+    /** @return the number of units waiting to have their paths recalculated */
+    int getDirtyUnitCount() {
+        return dirtyUnits.size();
+    }
+
+    /** @return the number of game events processed so far, including coalesced ones */
+    long getEventsProcessed() {
+        return eventsProcessed.get();
+    }
+
+    /** @return the number of entity change events skipped for a later change of the same entity */
+    long getEventsCoalesced() {
+        return eventsCoalesced.get();
+    }
+
+    /** @return the number of times the paths of a unit were recalculated */
+    long getRecalculations() {
+        return recalculations.get();
+    }
+
     private AtomicBoolean getWaitWhenDone() {
         return waitWhenDone;
     }
@@ -615,7 +668,7 @@ public class Precognition implements Runnable {
         }
     }
 
-    private Game getGame() {
+    Game getGame() {
         GAME_LOCK.lock();
         try {
             LogManager.getLogger().debug("GAME_LOCK read locked.");
@@ -1369,10 +1369,8 @@ public class Princess extends BotClient {
         }
         
         BehaviorType behavior = forceMoveToContact ? BehaviorType.MoveToContact : unitBehaviorTracker.getBehaviorType(mover, this);
-        // during the movement phase, it is technically necessary to clear this data between each unit
-        // as the state of the board may have changed due to crashes etc. 
-        // generating movable clusters is a relatively cheap operation, so it's not a big deal
-        getClusterTracker().clearMovableAreas();
+        // the state of the board may have changed due to crashes etc. since the last unit moved;
+        // the cluster tracker looks at the changed hexes again
         getClusterTracker().updateMovableAreas(mover);
         
         // basic idea: 
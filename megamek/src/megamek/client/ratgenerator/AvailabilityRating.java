@@ -68,10 +68,12 @@ public class AvailabilityRating {
 		String[] fields = code.split(":");
 		if (fields[0].contains("!")) {
 			String[] subfields = fields[0].split("!");
-			ratings = subfields[1];
+			ratings = subfields[1].intern();
 			fields[0] = subfields[0];
 		}
-		faction = fields[0];
+		// There are only a few hundred distinct faction keys spread over hundreds of thousands
+		// of records, so share the instances.
+		faction = fields[0].intern();
 
 		if (fields.length < 2) {
 		    LogManager.getLogger().warn("No availability code given for " + unit +
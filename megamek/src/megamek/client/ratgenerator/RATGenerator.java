@@ -32,6 +32,7 @@ import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,6 +52,11 @@ public class RATGenerator {
     private final HashMap<Integer, HashMap<String, HashMap<String, AvailabilityRating>>> chassisIndex;
 
     private final TreeSet<Integer> eraSet;
+    /* Eras whose data has been fully merged into the indices; may be read without locking. */
+    private final Set<Integer> loadedEras;
+    /* Per-era locks so that different eras can be parsed concurrently while a second request
+     * for an era that is already being loaded waits for the first to finish. */
+    private final Map<Integer, Object> eraLocks;
 
     private static RATGenerator rg = null;
     private static boolean interrupted = false;
@@ -68,6 +74,8 @@ public class RATGenerator {
         modelIndex = new HashMap<>();
         chassisIndex = new HashMap<>();
         eraSet = new TreeSet<>();
+        loadedEras = ConcurrentHashMap.newKeySet();
+        eraLocks = new ConcurrentHashMap<>();
         
         listeners = new ArrayList<>();
     }
@@ -103,10 +111,11 @@ public class RATGenerator {
         chassisIndex.clear();
         modelIndex.clear();
         eraSet.clear();
+        loadedEras.clear();
         initialized = false;
         initializing = false;
         initialize(dir);
-        rg.getEraSet().forEach(e -> rg.loadEra(e, dir));
+        new ArrayList<>(rg.getEraSet()).parallelStream().forEach(e -> rg.loadEra(e, dir));
     }
 
     public AvailabilityRating findChassisAvailabilityRecord(int era, String unit, String faction,
@@ -344,7 +353,7 @@ public class RATGenerator {
     }
     
     public boolean eraIsLoaded(int era) {
-        return chassisIndex.containsKey(era);
+        return loadedEras.contains(era);
     }
 
     /**
@@ -849,12 +858,33 @@ public class RATGenerator {
             return;
         }
 
+        List<Integer> eras = new ArrayList<>(2);
         if (year > getEraSet().first()) {
-            loadEra(getEraSet().floor(year));
+            eras.add(getEraSet().floor(year));
         }
 
         if (year < getEraSet().last()) {
-            loadEra(getEraSet().ceiling(year));
+            eras.add(getEraSet().ceiling(year));
+        }
+        loadEras(eras);
+    }
+
+    /**
+     * Loads all the given eras that are not already loaded. The era files are parsed in parallel;
+     * eras that are already loaded are skipped without blocking.
+     *
+     * @param eras The eras to load. Each should be a member of the <code>eraSet</code>.
+     */
+    public void loadEras(final Collection<Integer> eras) {
+        List<Integer> toLoad = eras.stream()
+                .filter(Objects::nonNull)
+                .filter(e -> !eraIsLoaded(e))
+                .distinct()
+                .collect(Collectors.toList());
+        if (toLoad.size() == 1) {
+            loadEra(toLoad.get(0));
+        } else if (!toLoad.isEmpty()) {
+            toLoad.parallelStream().forEach(this::loadEra);
         }
     }
     
@@ -905,19 +935,41 @@ public class RATGenerator {
         }
     }
     
-    private synchronized void loadEra(int era, File dir) {
+    private void loadEra(int era, File dir) {
         if (eraIsLoaded(era)) {
             return;
         }
-        chassisIndex.put(era, new HashMap<>());
-        modelIndex.put(era, new HashMap<>());
-        File file = new MegaMekFile(dir, era + ".xml").getFile();
-        FileInputStream fis;
-        try {
-            fis = new FileInputStream(file);
-        } catch (FileNotFoundException e) {
+        synchronized (eraLocks.computeIfAbsent(era, e -> new Object())) {
+            if (eraIsLoaded(era)) {
+                return;
+            }
+            // Parsing is the expensive part and does not touch any shared state, so it is done
+            // before acquiring the lock on the generator.
+            File file = new MegaMekFile(dir, era + ".xml").getFile();
+            Document xmlDoc = parseEraFile(era, file);
+            synchronized (this) {
+                chassisIndex.put(era, new HashMap<>());
+                modelIndex.put(era, new HashMap<>());
+                if (xmlDoc != null) {
+                    applyEraDocument(era, xmlDoc, file);
+                }
+                loadedEras.add(era);
+            }
+        }
+        notifyListenersEraLoaded();
+    }
+
+    /**
+     * Reads the availability file for an era.
+     *
+     * @param era  The era to read
+     * @param file The era file
+     * @return The parsed document, or null if the file could not be read
+     */
+    private @Nullable Document parseEraFile(int era, File file) {
+        if (!file.exists()) {
             LogManager.getLogger().error("Unable to read RAT generator file for era " + era);
-            return;
+            return null;
         }
         while (!MechSummaryCache.getInstance().isInitialized()) {
             try {
@@ -927,21 +979,25 @@ public class RATGenerator {
             }
         }
 
-        Document xmlDoc;
-
-        try {
+        try (FileInputStream fis = new FileInputStream(file)) {
             DocumentBuilder db = MegaMekXmlUtil.newSafeDocumentBuilder();
-            xmlDoc = db.parse(fis);
+            Document xmlDoc = db.parse(fis);
+            xmlDoc.getDocumentElement().normalize();
+            return xmlDoc;
         } catch (Exception ex) {
             LogManager.getLogger().error("", ex);
-            return;
+            return null;
         }
+    }
 
+    /**
+     * Merges the faction and unit data of a parsed era file into the indices. Must be called
+     * while holding the lock on this generator.
+     */
+    private void applyEraDocument(int era, Document xmlDoc, File file) {
         Element element = xmlDoc.getDocumentElement();
         NodeList nl = element.getChildNodes();
 
-        element.normalize();
-
         for (int x = 0; x < nl.getLength(); x++) {
             Node mainNode = nl.item(x);
             if (mainNode.getNodeName().equalsIgnoreCase("factions")) {
@@ -971,7 +1027,6 @@ public class RATGenerator {
                 }
             }
         }
-        notifyListenersEraLoaded();
     }
     
     /**
@@ -1036,7 +1091,7 @@ public class RATGenerator {
                 String[] codes = wn2.getTextContent().trim().split(",");
                 for (String code : codes) {
                     AvailabilityRating ar = new AvailabilityRating(chassisKey, era, code);
-                    cr.getIncludedFactions().add(code.split(":")[0]);
+                    cr.getIncludedFactions().add(code.split(":")[0].intern());
                     chassisIndex.get(era).get(chassisKey).put(ar.getFactionCode(), ar);
                 }
             } else if (wn2.getNodeName().equalsIgnoreCase("model")) {
@@ -1079,7 +1134,7 @@ public class RATGenerator {
                 String[] codes = wn2.getTextContent().trim().split(",");
                 for (String code : codes) {
                     AvailabilityRating ar = new AvailabilityRating(mr.getKey(), era, code);
-                    mr.getIncludedFactions().add(code.split(":")[0]);
+                    mr.getIncludedFactions().add(code.split(":")[0].intern());
                     modelIndex.get(era).get(mr.getKey()).put(ar.getFactionCode(), ar);
                 }
             } 
@@ -1112,7 +1167,8 @@ public class RATGenerator {
      */
     public void notifyListenersEraLoaded() {
         if (initialized) {
-            for (ActionListener l : listeners) {
+            // Eras may be loaded concurrently, so iterate over a copy.
+            for (ActionListener l : new ArrayList<>(listeners)) {
                 l.actionPerformed(new ActionEvent(
                         this,ActionEvent.ACTION_PERFORMED,"ratGenEraLoaded"));
             }
@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 import megamek.common.Compute;
 import megamek.common.EntityMovementMode;
 import megamek.common.MechSummary;
+import megamek.common.util.weightedMaps.WeightedAliasTable;
 
 /**
  * Manages random assignment table generated by RATGenerator.
@@ -40,7 +41,13 @@ public class UnitTable {
         boolean include(MechSummary ms);
     }
 
-    private static final int CACHE_SIZE = 32;
+    /* Batch force generation requests the same few hundred combinations of parameters over and
+     * over, so keep enough tables around that they do not get regenerated. */
+    private static final int CACHE_SIZE = 256;
+
+    /* The number of times a filtered draw is attempted from the full table before falling back
+     * to building a filtered copy of the table. */
+    private static final int FILTER_ATTEMPTS = 8;
 
     private static LinkedHashMap<Parameters,UnitTable> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
 
@@ -48,7 +55,7 @@ public class UnitTable {
 
         @Override
         protected boolean removeEldestEntry(Map.Entry<Parameters, UnitTable> entry) {
-            return size() >= CACHE_SIZE;
+            return size() > CACHE_SIZE;
         }
     };
 
@@ -117,6 +124,9 @@ public class UnitTable {
     private Parameters key;
     private List<TableEntry> salvageTable = new ArrayList<>();
     private List<TableEntry> unitTable = new ArrayList<>();
+    /* Alias tables for constant time selection, built on first use */
+    private WeightedAliasTable<TableEntry> salvageSampler;
+    private WeightedAliasTable<TableEntry> unitSampler;
 
     int salvageTotal;
     int unitTotal;
@@ -253,13 +263,29 @@ public class UnitTable {
                 return ms;
             }
         }
-        List<TableEntry> useUnitList = unitTable;
-        int unitMapSize = unitTotal;
-        if (filter != null) {
-            useUnitList = unitTable.stream().filter(te -> filter.include(te.getUnitEntry()))
-                    .collect(Collectors.toList());
-            unitMapSize = useUnitList.stream().mapToInt(te -> te.weight).sum();
+        if (unitTotal <= 0) {
+            return null;
+        }
+        if (unitSampler == null) {
+            unitSampler = createSampler(unitTable);
+        }
+        if (filter == null) {
+            return unitSampler.randomItem().getUnitEntry();
+        }
+
+        /* Drawing from the full table and rejecting units that do not pass the filter gives
+         * the same distribution as drawing from the filtered table, and is much cheaper as long
+         * as most of the table passes. */
+        for (int i = 0; i < FILTER_ATTEMPTS; i++) {
+            MechSummary ms = unitSampler.randomItem().getUnitEntry();
+            if (filter.include(ms)) {
+                return ms;
+            }
         }
+        List<TableEntry> useUnitList = unitTable.stream()
+                .filter(te -> filter.include(te.getUnitEntry()))
+                .collect(Collectors.toList());
+        int unitMapSize = useUnitList.stream().mapToInt(te -> te.weight).sum();
 
         if (unitMapSize > 0) {
             roll = Compute.randomInt(unitMapSize);
@@ -274,6 +300,11 @@ public class UnitTable {
         return null;
     }
 
+    private static WeightedAliasTable<TableEntry> createSampler(List<TableEntry> entries) {
+        return new WeightedAliasTable<>(entries,
+                entries.stream().map(te -> te.weight).collect(Collectors.toList()));
+    }
+
     /**
      * Selects a number of units from the table.
      *
@@ -314,15 +345,10 @@ public class UnitTable {
      */
     private MechSummary generateSalvage(UnitFilter filter) {
         while (salvageTotal > 0) {
-            int roll = Compute.randomInt(salvageTotal);
-            TableEntry salvageEntry = null;
-            for (TableEntry te : salvageTable) {
-                if (roll < te.weight) {
-                    salvageEntry = te;
-                    break;
-                }
-                roll -= te.weight;
+            if (salvageSampler == null) {
+                salvageSampler = createSampler(salvageTable);
             }
+            TableEntry salvageEntry = salvageSampler.randomItem();
             if (salvageEntry != null) {
                 UnitTable salvage = UnitTable.findTable(salvageEntry.getSalvageFaction(),
                         key.getUnitType(), key.getYear() - 5, key.getRating(),
@@ -333,6 +359,7 @@ public class UnitTable {
                 } else {
                     salvageTotal -= salvageEntry.weight;
                     salvageTable.remove(salvageEntry);
+                    salvageSampler = null;
                 }
             }
         }
@@ -408,8 +435,11 @@ public class UnitTable {
             this.unitType = unitType;
             this.year = year;
             this.rating = rating;
-            this.weightClasses = weightClasses == null?
+            List<Integer> wcList = weightClasses == null?
                     new ArrayList<>() : new ArrayList<>(weightClasses);
+            // The order does not affect the generated table, so normalize it for the cache key
+            Collections.sort(wcList);
+            this.weightClasses = wcList;
             this.networkMask = networkMask;
             this.movementModes = ((movementModes == null) || movementModes.isEmpty())
                     ? EnumSet.noneOf(EntityMovementMode.class) : EnumSet.copyOf(movementModes);
@@ -20,11 +20,18 @@ package megamek.client.ui.panes;
 
 import megamek.client.ui.baseComponents.AbstractTabbedPane;
 import megamek.client.ui.swing.MechViewPanel;
+import megamek.client.ui.panes.UnitReadoutCache.Readout;
 import megamek.common.Entity;
+import megamek.common.MechFileParser;
+import megamek.common.MechSummary;
 import megamek.common.annotations.Nullable;
+import megamek.common.loaders.EntityLoadingException;
 import megamek.common.templates.TROView;
+import org.apache.logging.log4j.LogManager;
 
 import javax.swing.*;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 
 /**
  * The EntityViewPane displays the Entity Summary and the TRO panels within a Tabbed Pane.
@@ -33,8 +40,20 @@ public class EntityViewPane extends AbstractTabbedPane {
     //region Variable Declarations
     private MechViewPanel entityPanel;
     private MechViewPanel troPanel;
+    private SwingWorker<LoadedUnit, Void> readoutWorker;
     //endregion Variable Declarations
 
+    /** A unit loaded in the background along with its readouts */
+    private static final class LoadedUnit {
+        private final Entity entity;
+        private final Readout readout;
+
+        private LoadedUnit(final Entity entity, final Readout readout) {
+            this.entity = entity;
+            this.readout = readout;
+        }
+    }
+
     //region Constructors
     public EntityViewPane(final JFrame frame, final @Nullable Entity entity) {
         super(frame, "EntityViewPane");
@@ -84,6 +103,7 @@ public class EntityViewPane extends AbstractTabbedPane {
      * @param entity the entity to update to, or null if the panels are to be reset.
      */
     public void updateDisplayedEntity(final @Nullable Entity entity) {
+        cancelReadoutWorker();
         // Null entity, which means to reset the panels
         if (entity == null) {
             getEntityPanel().reset();
@@ -93,4 +113,93 @@ public class EntityViewPane extends AbstractTabbedPane {
             getTROPanel().setMech(entity, TROView.createView(entity, true));
         }
     }
+
+    /**
+     * This updates the pane's currently displayed entity to the given unit from the unit files.
+     * The unit is loaded and its readouts are made in the background so that browsing through the
+     * units doesn't wait on them. The readouts of such units are kept once made and are shown at
+     * once when the unit is shown again; the fluff images follow when the unit is loaded.
+     *
+     * @param unit the unit to update to, or null if the panels are to be reset.
+     * @param whenLoaded called with the entity loaded from the unit, or null if there is none
+     */
+    public void updateDisplayedUnit(final @Nullable MechSummary unit,
+                                    final Consumer<Entity> whenLoaded) {
+        if (unit == null) {
+            updateDisplayedEntity(null);
+            whenLoaded.accept(null);
+            return;
+        }
+        cancelReadoutWorker();
+        final UnitReadoutCache cache = UnitReadoutCache.getInstance();
+        final Readout cachedReadout = cache.get(unit, true);
+        if (cachedReadout != null) {
+            getEntityPanel().setReadout(cachedReadout.getSummary());
+            getTROPanel().setReadout(cachedReadout.getTRO());
+        } else {
+            getEntityPanel().reset();
+            getTROPanel().reset();
+        }
+        readoutWorker = new SwingWorker<>() {
+            @Override
+            protected LoadedUnit doInBackground() throws EntityLoadingException {
+                final Entity entity = new MechFileParser(unit.getSourceFile(), unit.getEntryName()).getEntity();
+                return new LoadedUnit(entity,
+                        (cachedReadout != null) ? cachedReadout : cache.create(unit, entity, true));
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                readoutWorker = null;
+                Entity entity;
+                try {
+                    final LoadedUnit loadedUnit = get();
+                    entity = loadedUnit.entity;
+                    if (cachedReadout == null) {
+                        showReadout(entity, loadedUnit.readout);
+                    } else {
+                        // Keep the scroll position of the readouts shown so far
+                        getEntityPanel().setFluffImage(entity);
+                        getTROPanel().setFluffImage(entity);
+                    }
+                } catch (InterruptedException | ExecutionException e) {
+                    LogManager.getLogger().error("", e);
+                    // Make the readouts here instead, as the unit selector did before
+                    entity = loadEntity(unit);
+                    updateDisplayedEntity(entity);
+                }
+                whenLoaded.accept(entity);
+            }
+        };
+        readoutWorker.execute();
+    }
+
+    private static @Nullable Entity loadEntity(final MechSummary unit) {
+        try {
+            return new MechFileParser(unit.getSourceFile(), unit.getEntryName()).getEntity();
+        } catch (Exception e) {
+            LogManager.getLogger().error("Unable to load mech: " + unit.getSourceFile() + ": "
+                    + unit.getEntryName() + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void showReadout(final Entity entity, final Readout readout) {
+        getEntityPanel().setMech(entity, readout.getSummary());
+        getTROPanel().setMech(entity, readout.getTRO());
+    }
+
+    /**
+     * Stops showing the readouts being made in the background once they are done. They are still
+     * made and kept, as the unit is likely to be shown again.
+     */
+    private void cancelReadoutWorker() {
+        if (readoutWorker != null) {
+            readoutWorker.cancel(false);
+            readoutWorker = null;
+        }
+    }
 }
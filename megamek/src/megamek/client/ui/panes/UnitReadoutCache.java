@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.panes;
+
+import megamek.common.Entity;
+import megamek.common.MechSummary;
+import megamek.common.MechView;
+import megamek.common.annotations.Nullable;
+import megamek.common.templates.TROView;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * A process-wide cache of the summary and TRO readouts of the units in the unit files, as shown by
+ * the {@link EntityViewPane} of the unit selector. Making a readout fills in a large HTML document
+ * and, for the TRO, runs the unit through the verifier, which is noticeable when browsing through
+ * the units. A unit file always gives the same readouts, so they are kept by the file and entry of
+ * the unit and the options they were made with, up to a fixed budget of memory.
+ */
+final class UnitReadoutCache {
+    //region Variable Declarations
+    /** The memory budget for the cached readouts, in bytes */
+    private static final long MAX_BYTES = Math.min(8L << 20, Runtime.getRuntime().maxMemory() / 64);
+    private static final int BYTES_PER_CHAR = 2;
+
+    private static final UnitReadoutCache instance = new UnitReadoutCache();
+
+    private final LinkedHashMap<String, Readout> readouts = new LinkedHashMap<>(64, 0.75f, true);
+    private final long maxBytes;
+    private long bytes = 0;
+    //endregion Variable Declarations
+
+    /** The readouts of a unit; these never change once made */
+    static final class Readout {
+        private final String summary;
+        private final String tro;
+
+        Readout(final String summary, final @Nullable String tro) {
+            this.summary = summary;
+            this.tro = Objects.requireNonNullElse(tro, "");
+        }
+
+        String getSummary() {
+            return summary;
+        }
+
+        String getTRO() {
+            return tro;
+        }
+
+        long size() {
+            return (long) (summary.length() + tro.length()) * BYTES_PER_CHAR;
+        }
+    }
+
+    //region Constructors
+    private UnitReadoutCache() {
+        this(MAX_BYTES);
+    }
+
+    /**
+     * @param maxBytes the memory budget for the cached readouts, in bytes
+     */
+    UnitReadoutCache(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    static UnitReadoutCache getInstance() {
+        return instance;
+    }
+    //endregion Constructors
+
+    /**
+     * @return the readouts of the unit if they have been made, otherwise null
+     */
+    synchronized @Nullable Readout get(final MechSummary unit, final boolean useAlternateCost) {
+        return readouts.get(createKey(unit, useAlternateCost));
+    }
+
+    /**
+     * Makes and keeps the readouts of an entity freshly loaded from the given unit. This may be
+     * called from any thread, as long as no other thread uses the entity meanwhile.
+     *
+     * @param unit             the unit
+     * @param entity           the entity loaded from the unit
+     * @param useAlternateCost whether the summary shows the alternate cost
+     * @return the readouts
+     */
+    Readout create(final MechSummary unit, final Entity entity, final boolean useAlternateCost) {
+        final Readout readout = new Readout(
+                new MechView(entity, false, useAlternateCost).getMechReadout(),
+                TROView.createView(entity, true).processTemplate());
+        put(unit, useAlternateCost, readout);
+        return readout;
+    }
+
+    private static String createKey(final MechSummary unit, final boolean useAlternateCost) {
+        return unit.getSourceFile().getAbsolutePath() + '|' + unit.getEntryName() + '|'
+                + unit.getModified() + '|' + useAlternateCost;
+    }
+
+    /**
+     * Keeps the given readouts of the unit, dropping the least recently used readouts that no
+     * longer fit into the memory budget.
+     */
+    synchronized void put(final MechSummary unit, final boolean useAlternateCost, final Readout readout) {
+        final Readout previous = readouts.put(createKey(unit, useAlternateCost), readout);
+        if (previous != null) {
+            bytes -= previous.size();
+        }
+        bytes += readout.size();
+        final Iterator<Readout> eldest = readouts.values().iterator();
+        while ((bytes > maxBytes) && eldest.hasNext()) {
+            bytes -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+}
@@ -1365,49 +1365,54 @@ public class FiringDisplay extends StatusBarPhaseDisplay implements ItemListener
         ToHitData toHit;
         StringBuffer toHitBuff = new StringBuffer();
         setFireEnabled(true);
-        for (Coords c : strafingCoords) {
-            for (Entity t : game.getEntitiesVector(c)) {
-                // Airborne units cannot be strafed
-                if (t.isAirborne()) {
-                    continue;
+        final ToHitCache toHitCache = ToHitCache.open(game);
+        try {
+            for (Coords c : strafingCoords) {
+                for (Entity t : game.getEntitiesVector(c)) {
+                    // Airborne units cannot be strafed
+                    if (t.isAirborne()) {
+                        continue;
+                    }
+                    // Can't shoot at infantry in the building
+                    // Instead, strafe will hit the building, which could damage Inf
+                    if (Compute.isInBuilding(game, t) && (t instanceof Infantry)) {
+                        continue;
+                    }
+                
+                    toHit = WeaponAttackAction.toHit(game, cen, t, weaponId,
+                            Entity.LOC_NONE, AimingMode.NONE, true);
+                    toHitBuff.append(t.getShortName() + ": ");
+                    toHitBuff.append(toHit.getDesc());
+                    toHitBuff.append("\n");
+                    if (m.getType().hasFlag(WeaponType.F_AUTO_TARGET)
+                            || (toHit.getValue() == TargetRoll.IMPOSSIBLE)) {
+                        setFireEnabled(false);
+                    }
                 }
-                // Can't shoot at infantry in the building
-                // Instead, strafe will hit the building, which could damage Inf
-                if (Compute.isInBuilding(game, t) && (t instanceof Infantry)) {
-                    continue;
+                Building bldg = game.getBoard().getBuildingAt(c); 
+                if (bldg != null) {
+                    Targetable t = new BuildingTarget(c, game.getBoard(), false);
+                    toHit = WeaponAttackAction.toHit(game, cen, t, weaponId,
+                            Entity.LOC_NONE, AimingMode.NONE, true);
+                    toHitBuff.append(t.getDisplayName() + ": ");
+                    toHitBuff.append(toHit.getDesc());
+                    toHitBuff.append("\n");
                 }
-                
-                toHit = WeaponAttackAction.toHit(game, cen, t, weaponId,
+                Targetable hexTarget = new HexTarget(c, HexTarget.TYPE_HEX_CLEAR);
+                toHit = WeaponAttackAction.toHit(game, cen, hexTarget, weaponId,
                         Entity.LOC_NONE, AimingMode.NONE, true);
-                toHitBuff.append(t.getShortName() + ": ");
-                toHitBuff.append(toHit.getDesc());
-                toHitBuff.append("\n");
                 if (m.getType().hasFlag(WeaponType.F_AUTO_TARGET)
                         || (toHit.getValue() == TargetRoll.IMPOSSIBLE)) {
                     setFireEnabled(false);
+                    if (toHitBuff.length() < 1) {
+                        toHitBuff.append(toHit.getDesc());
+                    }
                 }
+                // Could check legality on buildings, but I don't believe there are
+                // any weapons that are still legal that aren't legal on buildings            
             }
-            Building bldg = game.getBoard().getBuildingAt(c); 
-            if (bldg != null) {
-                Targetable t = new BuildingTarget(c, game.getBoard(), false);
-                toHit = WeaponAttackAction.toHit(game, cen, t, weaponId,
-                        Entity.LOC_NONE, AimingMode.NONE, true);
-                toHitBuff.append(t.getDisplayName() + ": ");
-                toHitBuff.append(toHit.getDesc());
-                toHitBuff.append("\n");
-            }
-            Targetable hexTarget = new HexTarget(c, HexTarget.TYPE_HEX_CLEAR);
-            toHit = WeaponAttackAction.toHit(game, cen, hexTarget, weaponId,
-                    Entity.LOC_NONE, AimingMode.NONE, true);
-            if (m.getType().hasFlag(WeaponType.F_AUTO_TARGET)
-                    || (toHit.getValue() == TargetRoll.IMPOSSIBLE)) {
-                setFireEnabled(false);
-                if (toHitBuff.length() < 1) {
-                    toHitBuff.append(toHit.getDesc());
-                }
-            }
-            // Could check legality on buildings, but I don't believe there are
-            // any weapons that are still legal that aren't legal on buildings            
+        } finally {
+            toHitCache.close();
         }
         clientgui.mechD.wPan.toHitText.setText(toHitBuff.toString());
     }
@@ -27,6 +27,7 @@ import megamek.common.Building.DemolitionCharge;
 import megamek.common.actions.BAVibroClawAttackAction;
 import megamek.common.actions.BreakGrappleAttackAction;
 import megamek.common.actions.GrappleAttackAction;
+import megamek.common.actions.ToHitCache;
 import megamek.common.actions.WeaponAttackAction;
 import megamek.common.annotations.Nullable;
 import megamek.common.enums.GamePhase;
@@ -699,21 +700,26 @@ public class MapMenu extends JPopupMenu {
                 weapons.sort(new WeaponComparatorDamage(false));
 
                 Targetable target = panel.getTarget();
-                for (Mounted weapon : weapons) {
-                    // If the weapon has been used at all this turn, ignore
-                    if (!weapon.usedInPhase().isUnknown()) {
-                        continue;
-                    }
-                    int weaponNum = weapToId.get(weapon);
-                    // Used to determine if attack is valid
-                    WeaponAttackAction waa = new WeaponAttackAction(myEntity.getId(),
-                            target.getTargetType(), target.getTargetId(), weaponNum);
-                    // Only fire weapons that have a chance to hit
-                    int toHitVal = waa.toHit(game).getValue();
-                    if (toHitVal <= 12) {
-                        gui.mechD.wPan.selectWeapon(weaponNum);
-                        panel.fire();
+                final ToHitCache toHitCache = ToHitCache.open(game);
+                try {
+                    for (Mounted weapon : weapons) {
+                        // If the weapon has been used at all this turn, ignore
+                        if (!weapon.usedInPhase().isUnknown()) {
+                            continue;
+                        }
+                        int weaponNum = weapToId.get(weapon);
+                        // Used to determine if attack is valid
+                        WeaponAttackAction waa = new WeaponAttackAction(myEntity.getId(),
+                                target.getTargetType(), target.getTargetId(), weaponNum);
+                        // Only fire weapons that have a chance to hit
+                        int toHitVal = waa.toHit(game).getValue();
+                        if (toHitVal <= 12) {
+                            gui.mechD.wPan.selectWeapon(weaponNum);
+                            panel.fire();
+                        }
                     }
+                } finally {
+                    toHitCache.close();
                 }
             } catch (Exception ex) {
                 LogManager.getLogger().error("", ex);
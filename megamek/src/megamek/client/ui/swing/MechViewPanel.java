@@ -77,23 +77,38 @@ public class MechViewPanel extends JPanel {
     }
 
     public void setMech(Entity entity, MechView mechView) {
-        txtMek.setText(mechView.getMechReadout());
-        txtMek.setCaretPosition(0);
-        setFluffImage(entity);
+        setMech(entity, mechView.getMechReadout());
     }
 
     public void setMech(Entity entity, TROView troView) {
-        txtMek.setText(troView.processTemplate());
-        txtMek.setCaretPosition(0);
+        setMech(entity, troView.processTemplate());
+    }
+
+    /**
+     * Shows a readout that has already been made, such as a {@link MechView} or {@link TROView}
+     * readout, along with the fluff image of the entity.
+     */
+    public void setMech(Entity entity, String readout) {
+        setReadout(readout);
         setFluffImage(entity);
     }
 
+    /**
+     * Shows a readout that has already been made without a fluff image. The fluff image can be
+     * added with {@link #setFluffImage(Entity)} once the entity is at hand.
+     */
+    public void setReadout(String readout) {
+        txtMek.setText(readout);
+        txtMek.setCaretPosition(0);
+        lblMek.setIcon(null);
+    }
+
     public void setMech(Entity entity, boolean useAlternateCost) {
         MechView mechView = new MechView(entity, false, useAlternateCost);
         setMech(entity,mechView);
     }
 
-    private void setFluffImage(Entity entity) {
+    public void setFluffImage(Entity entity) {
         Image image = FluffImageHelper.getFluffImage(entity);
         // Scale down to the default width if the image is wider than that
         if (null != image) {
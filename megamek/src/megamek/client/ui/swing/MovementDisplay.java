@@ -53,6 +53,8 @@ import java.awt.event.InputEvent;
 import java.awt.event.MouseEvent;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 public class MovementDisplay extends StatusBarPhaseDisplay {
@@ -285,6 +287,11 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
      */
     private List<Entity> towedUnits = null;
 
+    /** The movement envelopes worked out this turn */
+    private final Map<MovementEnvelopeWorker.Key, Map<Coords, Integer>> envelopeCache = new ConcurrentHashMap<>();
+    private MovementEnvelopeWorker envelopeWorker;
+    private SwingWorker<Collection<MovePath>, Void> modifierEnvelopeWorker;
+
     public static final int GEAR_LAND = 0;
     public static final int GEAR_BACKUP = 1;
     public static final int GEAR_JUMP = 2;
@@ -1011,6 +1018,7 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
         clientgui.getBoardView().selectEntity(null);
         clientgui.setSelectedEntityNum(Entity.NONE);
         clientgui.getBoardView().clearMovementData();
+        cancelEnvelopeWorkers();
         clientgui.getBoardView().clearFieldofF();
     }
 
@@ -1095,6 +1103,7 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
         // clear board cursors
         clientgui.getBoardView().select(null);
         clientgui.getBoardView().cursor(null);
+        cancelEnvelopeWorkers();
         clientgui.getBoardView().clearMovementEnvelope();
 
         if (ce == null) {
@@ -1518,6 +1527,7 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
 
         disableButtons();
         clientgui.getBoardView().clearMovementData();
+        cancelEnvelopeWorkers();
         clientgui.getBoardView().clearMovementEnvelope();
         if (ce().hasUMU()) {
             clientgui.getClient().sendUpdateEntity(ce());
@@ -4275,6 +4285,9 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
     //
     @Override
     public void gameTurnChange(GameTurnChangeEvent e) {
+        // other units may have moved, which changes where ours can go
+        envelopeCache.clear();
+
         // Are we ignoring events?
         if (isIgnoringEvents()) {
             return;
@@ -4328,6 +4341,8 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
 
     @Override
     public void gamePhaseChange(GamePhaseChangeEvent e) {
+        envelopeCache.clear();
+
         // In case of a /reset command, ensure the state gets reset
         if (clientgui.getClient().getGame().getPhase() 
                 == GamePhase.LOUNGE) {
@@ -4363,6 +4378,8 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
      * @param suggestion
      */
     public void computeMovementEnvelope(Entity suggestion) {
+        cancelEnvelopeWorker();
+
         // do nothing if deactivated in the settings
         if (!GUIPreferences.getInstance()
                 .getBoolean(GUIPreferences.MOVE_ENVELOPE)) {
@@ -4384,7 +4401,6 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
             return;
         }
         
-        Map<Coords, MovePath> mvEnvData = new HashMap<>();
         MovePath mp = new MovePath(clientgui.getClient().getGame(), en);
 
         int maxMP;
@@ -4410,19 +4426,29 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
             mp.addStep(MoveStepType.START_JUMP);
         }
 
-        ShortestPathFinder pf = ShortestPathFinder.newInstanceOfOneToAll(maxMP,
-                stepType, en.getGame());
-        pf.run(mp);
-        mvEnvData = pf.getAllComputedPaths();
-        Map<Coords, Integer> mvEnvMP = new HashMap<>((int) ((mvEnvData.size() * 1.25) + 1));
-        for (Coords c : mvEnvData.keySet()) {
-            mvEnvMP.put(c, mvEnvData.get(c).countMp(mvMode == GEAR_JUMP));
+        final int walkMP = en.getWalkMP();
+        final int runMP = en.getRunMP();
+        final int jumpMP = en.getJumpMP();
+        final int envelopeGear = mvMode;
+        final MovementEnvelopeWorker.Key key = new MovementEnvelopeWorker.Key(en, mvMode, maxMP);
+        final Map<Coords, Integer> cached = envelopeCache.get(key);
+        if (cached != null) {
+            clientgui.getBoardView().setMovementEnvelope(cached, walkMP, runMP, jumpMP, envelopeGear);
+            return;
         }
-        clientgui.getBoardView().setMovementEnvelope(mvEnvMP, en.getWalkMP(), en
-                .getRunMP(), en.getJumpMP(), mvMode);
+
+        // the search can take a while for fast units on large boards, so it runs in the background
+        // and the envelope is drawn as it grows
+        clientgui.getBoardView().clearMovementEnvelope();
+        envelopeWorker = new MovementEnvelopeWorker(mp, maxMP, stepType, mvMode == GEAR_JUMP,
+                envelope -> clientgui.getBoardView().setMovementEnvelope(envelope, walkMP, runMP,
+                        jumpMP, envelopeGear),
+                envelope -> envelopeCache.put(key, envelope));
+        envelopeWorker.execute();
     }
 
     public void computeModifierEnvelope() {
+        cancelModifierEnvelopeWorker();
         if (ce() == null) {
             return;
         }
@@ -4451,8 +4477,51 @@ public class MovementDisplay extends StatusBarPhaseDisplay {
         AbstractPathFinder.StopConditionTimeout<MovePath> timeoutCondition = new AbstractPathFinder.StopConditionTimeout<>(
                 timeLimit * 10);
         lpf.addStopCondition(timeoutCondition);
-        lpf.run(mp);
-        clientgui.getBoardView().setMovementModifierEnvelope(lpf.getLongestComputedPaths());
+
+        modifierEnvelopeWorker = new SwingWorker<>() {
+            @Override
+            protected Collection<MovePath> doInBackground() {
+                lpf.addStopCondition(movePath -> isCancelled());
+                lpf.run(mp);
+                return lpf.getLongestComputedPaths();
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    clientgui.getBoardView().setMovementModifierEnvelope(get());
+                } catch (InterruptedException | ExecutionException e) {
+                    LogManager.getLogger().error("", e);
+                }
+            }
+        };
+        modifierEnvelopeWorker.execute();
+    }
+
+    /**
+     * Stops working out the movement envelope and the movement modifier envelope, so that
+     * neither is drawn once it is done.
+     */
+    private void cancelEnvelopeWorkers() {
+        cancelEnvelopeWorker();
+        cancelModifierEnvelopeWorker();
+    }
+
+    private void cancelEnvelopeWorker() {
+        if (envelopeWorker != null) {
+            envelopeWorker.cancel(false);
+            envelopeWorker = null;
+        }
+    }
+
+    private void cancelModifierEnvelopeWorker() {
+        if (modifierEnvelopeWorker != null) {
+            modifierEnvelopeWorker.cancel(false);
+            modifierEnvelopeWorker = null;
+        }
     }
 
     //
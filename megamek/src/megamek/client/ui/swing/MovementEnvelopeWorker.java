@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.swing;
+
+import megamek.common.Coords;
+import megamek.common.Entity;
+import megamek.common.EntityMovementMode;
+import megamek.common.MovePath;
+import megamek.common.MovePath.MoveStepType;
+import megamek.common.pathfinder.ShortestPathFinder;
+import org.apache.logging.log4j.LogManager;
+
+import javax.swing.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Works out the movement envelope of a unit, the MP it needs to reach each hex, away from the
+ * event dispatch thread. While the search runs, the hexes found so far are handed to the display
+ * every {@link #PUBLISH_INTERVAL} milliseconds, so the envelope grows on the board as the search
+ * spreads out. The search stops soon after the worker is cancelled, and a cancelled worker
+ * displays nothing more.
+ */
+class MovementEnvelopeWorker extends SwingWorker<Map<Coords, Integer>, Map<Coords, Integer>> {
+    //region Variable Declarations
+    private static final long PUBLISH_INTERVAL = 100;
+
+    private final MovePath start;
+    private final int maxMP;
+    private final MoveStepType stepType;
+    private final boolean jump;
+    private final Consumer<Map<Coords, Integer>> display;
+    private final Consumer<Map<Coords, Integer>> finished;
+    //endregion Variable Declarations
+
+    //region Constructors
+    /**
+     * @param start    the path to start the search from
+     * @param maxMP    the most MP the unit may spend
+     * @param stepType the step to move with
+     * @param jump     whether the MP are counted as jumping MP
+     * @param display  called on the event dispatch thread with the envelope found so far, and with
+     *                 the whole envelope once the search is done
+     * @param finished called on the event dispatch thread with the whole envelope once the search
+     *                 is done
+     */
+    MovementEnvelopeWorker(MovePath start, int maxMP, MoveStepType stepType, boolean jump,
+                           Consumer<Map<Coords, Integer>> display, Consumer<Map<Coords, Integer>> finished) {
+        this.start = start;
+        this.maxMP = maxMP;
+        this.stepType = stepType;
+        this.jump = jump;
+        this.display = display;
+        this.finished = finished;
+    }
+    //endregion Constructors
+
+    @Override
+    protected Map<Coords, Integer> doInBackground() {
+        final ShortestPathFinder pf = ShortestPathFinder.newInstanceOfOneToAll(maxMP, stepType,
+                start.getGame());
+        final long[] nextPublish = { System.currentTimeMillis() + PUBLISH_INTERVAL };
+        // the stop condition runs on this thread after each step of the search, which makes it
+        // the place to give up when cancelled and to look at what has been found so far
+        pf.addStopCondition(movePath -> {
+            if (isCancelled()) {
+                return true;
+            }
+            final long now = System.currentTimeMillis();
+            if (now >= nextPublish[0]) {
+                publish(countMp(pf.getAllComputedPaths()));
+                nextPublish[0] = now + PUBLISH_INTERVAL;
+            }
+            return false;
+        });
+        pf.run(start);
+        return isCancelled() ? null : countMp(pf.getAllComputedPaths());
+    }
+
+    private Map<Coords, Integer> countMp(Map<Coords, MovePath> paths) {
+        final Map<Coords, Integer> retVal = new HashMap<>((int) ((paths.size() * 1.25) + 1));
+        for (Map.Entry<Coords, MovePath> entry : paths.entrySet()) {
+            retVal.put(entry.getKey(), entry.getValue().countMp(jump));
+        }
+        return retVal;
+    }
+
+    @Override
+    protected void process(List<Map<Coords, Integer>> chunks) {
+        if (!isCancelled()) {
+            display.accept(chunks.get(chunks.size() - 1));
+        }
+    }
+
+    @Override
+    protected void done() {
+        if (isCancelled()) {
+            return;
+        }
+        try {
+            final Map<Coords, Integer> envelope = get();
+            display.accept(envelope);
+            finished.accept(envelope);
+        } catch (InterruptedException | ExecutionException e) {
+            LogManager.getLogger().error("", e);
+        }
+    }
+
+    /**
+     * Everything about a unit and the way it is moved that its movement envelope depends on, other
+     * than the board and the other units. An envelope can be reused for the same key until those
+     * change, that is until the next turn.
+     */
+    static final class Key {
+        private final int entityId;
+        private final Coords position;
+        private final int facing;
+        private final int elevation;
+        private final int altitude;
+        private final EntityMovementMode movementMode;
+        private final boolean prone;
+        private final boolean hullDown;
+        private final boolean climbMode;
+        private final boolean converting;
+        private final int gear;
+        private final int maxMP;
+        private final int walkMP;
+        private final int runMP;
+        private final int jumpMP;
+
+        Key(Entity entity, int gear, int maxMP) {
+            entityId = entity.getId();
+            position = entity.getPosition();
+            facing = entity.getFacing();
+            elevation = entity.getElevation();
+            altitude = entity.getAltitude();
+            movementMode = entity.getMovementMode();
+            prone = entity.isProne();
+            hullDown = entity.isHullDown();
+            climbMode = entity.climbMode();
+            converting = entity.isConvertingNow();
+            this.gear = gear;
+            this.maxMP = maxMP;
+            walkMP = entity.getWalkMP();
+            runMP = entity.getRunMP();
+            jumpMP = entity.getJumpMP();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return (entityId == key.entityId) && (facing == key.facing) && (elevation == key.elevation)
+                    && (altitude == key.altitude) && (movementMode == key.movementMode)
+                    && (prone == key.prone) && (hullDown == key.hullDown) && (climbMode == key.climbMode)
+                    && (converting == key.converting) && (gear == key.gear) && (maxMP == key.maxMP)
+                    && (walkMP == key.walkMP) && (runMP == key.runMP) && (jumpMP == key.jumpMP)
+                    && Objects.equals(position, key.position);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityId, position, facing, elevation, altitude, movementMode, prone, hullDown,
+                    climbMode, converting, gear, maxMP, walkMP, runMP, jumpMP);
+        }
+    }
+}
@@ -21,6 +21,10 @@ import java.awt.event.ActionListener;
 import javax.swing.*;
 import javax.swing.event.HyperlinkEvent;
 import javax.swing.event.HyperlinkListener;
+import javax.swing.text.Element;
+import javax.swing.text.StyleConstants;
+import javax.swing.text.html.HTML;
+import javax.swing.text.html.HTMLDocument;
 import javax.swing.text.html.HTMLEditorKit;
 
 import megamek.client.Client;
@@ -37,6 +41,7 @@ import megamek.common.enums.GamePhase;
 import megamek.common.event.GamePhaseChangeEvent;
 import megamek.common.preference.IPreferenceChangeListener;
 import megamek.common.preference.PreferenceChangeEvent;
+import org.apache.logging.log4j.LogManager;
 
 public class ReportDisplay extends AbstractPhaseDisplay implements
         ActionListener, HyperlinkListener, IPreferenceChangeListener {
@@ -236,15 +241,34 @@ public class ReportDisplay extends AbstractPhaseDisplay implements
     public void appendReportTab(String additionalText) {
         int phaseTab = tabs.indexOfTab("Phase");
         if (phaseTab > 0) {
-            JTextPane pane = ((JTextPane) ((JScrollPane) tabs.getComponentAt(phaseTab - 1)).getViewport().getView());
-            BASE64ToolKit toolKit = new BASE64ToolKit();
-            pane.setEditorKit(toolKit);
-            pane.setText(pane.getText() + "<pre>"+additionalText+"</pre>");
+            appendReport((JTextPane) ((JScrollPane) tabs.getComponentAt(phaseTab - 1)).getViewport().getView(),
+                    additionalText);
+        }
+        appendReport((JTextPane) ((JScrollPane) tabs.getComponentAt(phaseTab)).getViewport().getView(),
+                additionalText);
+    }
+
+    /**
+     * Adds the report text to the end of the pane's document. Unlike setting the pane's text
+     * to its old text plus the new report, this does not parse the whole report again.
+     */
+    private static void appendReport(JTextPane pane, String additionalText) {
+        String html = "<pre>" + additionalText + "</pre>";
+        if (pane.getDocument() instanceof HTMLDocument) {
+            HTMLDocument document = (HTMLDocument) pane.getDocument();
+            Element body = document.getElement(document.getDefaultRootElement(),
+                    StyleConstants.NameAttribute, HTML.Tag.BODY);
+            if (body != null) {
+                try {
+                    document.insertBeforeEnd(body, html);
+                    return;
+                } catch (Exception ex) {
+                    LogManager.getLogger().error("Failed to append to the report", ex);
+                }
+            }
         }
-        JTextPane pane = ((JTextPane) ((JScrollPane) tabs.getComponentAt(phaseTab)).getViewport().getView());
-        BASE64ToolKit toolKit = new BASE64ToolKit();
-        pane.setEditorKit(toolKit);
-        pane.setText(pane.getText() + "<pre>"+additionalText+"</pre>");
+        pane.setEditorKit(new BASE64ToolKit());
+        pane.setText(pane.getText() + html);
     }
 
     public void resetTabs() {
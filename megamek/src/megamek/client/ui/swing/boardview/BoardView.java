@@ -4949,6 +4949,7 @@ public class BoardView extends JPanel implements Scrollable, BoardListener, Mous
      */
     @Override
     public void boardNewBoard(BoardEvent b) {
+        fovHighlightingAndDarkening.boardReplaced();
         updateBoard();
         clearHexImageCache();
         clearShadowMap();
@@ -4963,6 +4964,7 @@ public class BoardView extends JPanel implements Scrollable, BoardListener, Mous
      */
     @Override
     public void boardChangedHex(BoardEvent b) {
+        fovHighlightingAndDarkening.boardChanged();
         hexImageCache.remove(b.getCoords());
         // Also repaint the surrounding hexes because of shadows, border etc.
         for (int dir: allDirections) { 
@@ -4980,6 +4982,7 @@ public class BoardView extends JPanel implements Scrollable, BoardListener, Mous
      */
     @Override
     public synchronized void boardChangedAllHexes(BoardEvent b) {
+        fovHighlightingAndDarkening.boardChanged();
         clearHexImageCache();
         clearShadowMap();
         repaint();
@@ -5061,6 +5064,7 @@ public class BoardView extends JPanel implements Scrollable, BoardListener, Mous
             if (b != null) {
                 b.addBoardListener(BoardView.this);
             }
+            fovHighlightingAndDarkening.boardReplaced();
             boardBackgrounds.clear();
             if (b.hasBoardBackground()) {
                 ListIterator<Boolean> flipItHoriz = b.getFlipBGHoriz().listIterator();
@@ -5096,6 +5100,7 @@ public class BoardView extends JPanel implements Scrollable, BoardListener, Mous
 
         @Override
         public void gameBoardChanged(GameBoardChangeEvent e) {
+            fovHighlightingAndDarkening.boardChanged();
             clearHexImageCache();
             boardChanged();
         }
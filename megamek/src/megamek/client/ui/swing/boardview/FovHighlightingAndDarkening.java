@@ -4,17 +4,16 @@ import megamek.client.ui.swing.GUIPreferences;
 import megamek.common.*;
 import megamek.common.annotations.Nullable;
 import megamek.common.enums.GamePhase;
-import megamek.common.enums.IlluminationLevel;
-import megamek.common.event.GameListener;
-import megamek.common.event.GameListenerAdapter;
-import megamek.common.event.GameTurnChangeEvent;
+import megamek.common.event.*;
 import megamek.common.options.OptionsConstants;
 import megamek.common.preference.IPreferenceChangeListener;
 import org.apache.logging.log4j.LogManager;
 
+import javax.swing.*;
 import java.awt.*;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A helper class for highlighting and darkening hexes.
@@ -44,6 +43,26 @@ class FovHighlightingAndDarkening {
             public void gameTurnChange(GameTurnChangeEvent e) {
                 cacheGameChanged = true;
             }
+
+            @Override
+            public void gamePhaseChange(GamePhaseChangeEvent e) {
+                SwingUtilities.invokeLater(() -> discardVisibilityField());
+            }
+
+            @Override
+            public void gameEntityNew(GameEntityNewEvent e) {
+                SwingUtilities.invokeLater(() -> updateVisibilityField());
+            }
+
+            @Override
+            public void gameEntityChange(GameEntityChangeEvent e) {
+                SwingUtilities.invokeLater(() -> updateVisibilityField());
+            }
+
+            @Override
+            public void gameEntityRemove(GameEntityRemoveEvent e) {
+                SwingUtilities.invokeLater(() -> updateVisibilityField());
+            }
         };
         this.boardView1.game.addGameListener(cacheGameListner);
     }
@@ -51,6 +70,7 @@ class FovHighlightingAndDarkening {
     public void die() {
         gs.removePreferenceChangeListener(ringsChangeListner);
         this.boardView1.game.removeGameListener(cacheGameListner);
+        discardVisibilityField();
     };
 
 
@@ -103,32 +123,6 @@ class FovHighlightingAndDarkening {
             final int pad = 0;
             final int lw = 7;
 
-            boolean sensorsOn = (boardView1.game.getOptions().booleanOption(
-                    OptionsConstants.ADVANCED_TACOPS_SENSORS)
-                    || boardView1.game.getOptions().booleanOption(OptionsConstants.ADVAERORULES_STRATOPS_ADVANCED_SENSORS));
-            boolean doubleBlindOn = boardView1.game.getOptions().booleanOption(
-                    OptionsConstants.ADVANCED_DOUBLE_BLIND);
-            boolean inclusiveSensorsOn = boardView1.game.getOptions().booleanOption(
-                    OptionsConstants.ADVANCED_INCLUSIVE_SENSOR_RANGE);
-
-            // Determine if any of the entities at the coordinates are illuminated, or if the
-            // coordinates are illuminated themselves
-            boolean targetIlluminated = boardView1.game.getEntitiesVector(c).stream().anyMatch(Entity::isIlluminated)
-                    || !IlluminationLevel.determineIlluminationLevel(boardView1.game, c).isNone();
-
-            final int max_dist;
-            // We don't want to have to compute a LoSEffects yet, as that
-            //  can be expensive on large viewing areas
-            if ((boardView1.selectedEntity != null) && doubleBlindOn) {
-                // We can only use this is double blind is on, otherwise visual
-                // range won't effect LoS
-                max_dist = this.boardView1.game.getPlanetaryConditions()
-                        .getVisualRange(this.boardView1.selectedEntity,
-                                targetIlluminated);
-            } else {
-                max_dist = 60;
-            }
-
             final Color transparent_gray = new Color(0, 0, 0,
                     gs.getInt(GUIPreferences.FOV_DARKEN_ALPHA));
             final Color transparent_light_gray = new Color(0, 0, 0,
@@ -137,78 +131,160 @@ class FovHighlightingAndDarkening {
 
             int dist = src.distance(c);
 
-            int visualRange = 30;
-            int minSensorRange = 0;
-            int maxSensorRange = 0;
-
             if (dist == 0) {
                 this.boardView1.drawHexBorder(boardGraph, p, selected_color, pad, lw);
-            } else if (dist < max_dist) {
-                LosEffects los = getCachedLosEffects(src, c);
-                if (null != this.boardView1.selectedEntity) {
-                    if (los == null) {
-                        los = LosEffects.calculateLOS(boardView1.game, boardView1.selectedEntity, null);
-                    }
-
-                    if (doubleBlindOn) { // Visual Range only matters in DB
-                        visualRange = Compute.getVisualRange(
-                                this.boardView1.game,
-                                this.boardView1.selectedEntity, los,
-                                targetIlluminated);
-                    }
-                    int bracket = Compute.getSensorRangeBracket(
-                            this.boardView1.selectedEntity, null,
-                            cachedAllECMInfo);
-                    int range = Compute.getSensorRangeByBracket(
-                            this.boardView1.game,
-                            this.boardView1.selectedEntity, null, los);
-
-                    maxSensorRange = bracket * range;
-                    minSensorRange = Math.max((bracket - 1) * range, 0);
-                    if (inclusiveSensorsOn) {
-                        minSensorRange = 0;
-                    }
-                }
+                return true;
+            }
 
-                // Visual Range only matters in DB: ensure no effect w/o DB
-                if (!doubleBlindOn) {
-                    visualRange = dist;
-                }
+            VisibilityField field = getVisibilityField(src);
+            if (field == null) {
+                // the hexes are drawn again once the field is worked out
+                return true;
+            }
 
-                if (((los != null) && !los.canSee()) || (dist > visualRange)) {
-                    if (darken) {
-                        if (sensorsOn
-                                && (dist > minSensorRange)
-                                && (dist <= maxSensorRange)) {
-                            boardView1.drawHexLayer(p, boardGraph,
-                                    transparent_light_gray, false);
-                        } else {
-                            boardView1.drawHexLayer(p, boardGraph,
-                                    transparent_gray, true);
+            switch (field.getVisibility(c)) {
+                case VisibilityField.VISIBLE:
+                    if (highlight) {
+                        Iterator<Integer> itR= ringsRadii.iterator();
+                        Iterator<Color> itC= ringsColors.iterator();
+                        while (itR.hasNext() && itC.hasNext()) {
+                            int dt= itR.next();
+                            Color ct= itC.next();
+                            if (dist <= dt) {
+                                boardView1.drawHexLayer(p, boardGraph, ct, false);
+                                break;
+                            }
                         }
                     }
+                    break;
+                case VisibilityField.IN_SENSOR_RANGE:
+                    if (darken) {
+                        boardView1.drawHexLayer(p, boardGraph,
+                                transparent_light_gray, false);
+                    }
                     hasLoS = false;
-                } else if (highlight) {
-                    Iterator<Integer> itR= ringsRadii.iterator();
-                    Iterator<Color> itC= ringsColors.iterator();
-                    while (itR.hasNext() && itC.hasNext()) {
-                        int dt= itR.next();
-                        Color ct= itC.next();
-                        if (dist <= dt) {
-                            boardView1.drawHexLayer(p, boardGraph, ct, false);
-                            break;
-                        }
+                    break;
+                default:
+                    if (darken) {
+                        boardView1.drawHexLayer(p, boardGraph,
+                                transparent_gray, true);
                     }
+                    hasLoS = false;
+            }
+        }
+        return hasLoS;
+    }
+
+    /** The visibility field that is drawn, if it has been worked out */
+    private VisibilityField visibilityField;
+    /** The worker that works out a visibility field, if one is running */
+    private SwingWorker<VisibilityField, Void> visibilityWorker;
+    private VisibilityField.Key visibilityWorkerKey;
+
+    /**
+     * Returns the visibility field for the given source hex and the selected unit. If it has not
+     * been worked out yet, a worker is started to do so and null is returned.
+     */
+    private @Nullable VisibilityField getVisibilityField(Coords src) {
+        VisibilityField.Key key = createKey(src);
+        if ((visibilityField != null) && visibilityField.getKey().equals(key)) {
+            return visibilityField;
+        } else if (!key.equals(visibilityWorkerKey)) {
+            startVisibilityWorker(key, null);
+        }
+        return null;
+    }
+
+    /**
+     * Starts working out a visibility field, in place of any that is being worked out.
+     *
+     * @param key   what to work the field out for
+     * @param field the field to update for units that have moved, or null to work out a new one
+     */
+    private void startVisibilityWorker(VisibilityField.Key key, @Nullable VisibilityField field) {
+        if (visibilityWorker != null) {
+            visibilityWorker.cancel(false);
+        }
+        final Game game = boardView1.game;
+        visibilityWorkerKey = key;
+        visibilityWorker = new SwingWorker<>() {
+            @Override
+            protected VisibilityField doInBackground() {
+                return (field == null) ? VisibilityField.compute(game, key, this::isCancelled)
+                        : VisibilityField.update(game, field, this::isCancelled);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
                 }
-            } else {
-                // Max dist should be >= visual dist, this hex can't be seen
-                if (darken) {
-                    this.boardView1.drawHexLayer(p, boardGraph, transparent_gray, true);
+                visibilityWorker = null;
+                visibilityWorkerKey = null;
+                try {
+                    VisibilityField result = get();
+                    VisibilityField previous = visibilityField;
+                    visibilityField = result;
+                    // only the hexes that look different need to be drawn again
+                    if ((previous != null) && previous.getKey().equals(result.getKey())) {
+                        boardView1.clearHexImageCache(previous.getDifferences(result));
+                    } else {
+                        boardView1.clearHexImageCache();
+                    }
+                    boardView1.repaint();
+                } catch (InterruptedException | ExecutionException e) {
+                    LogManager.getLogger().error("", e);
                 }
-                hasLoS = false;
             }
+        };
+        visibilityWorker.execute();
+    }
+
+    /**
+     * Updates the visibility field after units have been added, changed or removed.
+     */
+    private void updateVisibilityField() {
+        if (visibilityWorker != null) {
+            // the running worker may have missed the change
+            startVisibilityWorker(visibilityWorkerKey,
+                    ((visibilityField != null) && visibilityField.getKey().equals(visibilityWorkerKey))
+                            ? visibilityField : null);
+        } else if (visibilityField != null) {
+            startVisibilityWorker(visibilityField.getKey(), visibilityField);
         }
-        return hasLoS;
+    }
+
+    /**
+     * Works out the visibility field anew after hexes of the board have changed. Until it is done,
+     * the old field is drawn.
+     */
+    void boardChanged() {
+        SwingUtilities.invokeLater(() -> {
+            if (visibilityWorker != null) {
+                startVisibilityWorker(visibilityWorkerKey, null);
+            } else if (visibilityField != null) {
+                startVisibilityWorker(visibilityField.getKey(), null);
+            }
+        });
+    }
+
+    /**
+     * Stops using the visibility field after the board has been replaced.
+     */
+    void boardReplaced() {
+        SwingUtilities.invokeLater(this::discardVisibilityField);
+    }
+
+    /**
+     * Stops using the visibility field, as at the end of the movement phase.
+     */
+    private void discardVisibilityField() {
+        if (visibilityWorker != null) {
+            visibilityWorker.cancel(false);
+            visibilityWorker = null;
+            visibilityWorkerKey = null;
+        }
+        visibilityField = null;
     }
 
     List<ECMInfo> cachedAllECMInfo = null;
@@ -308,15 +384,7 @@ class FovHighlightingAndDarkening {
     }
 
     /**
-     * Calculate the LosEffects between the given Coords. Unit height for
-     * the source hex is determined by the selectedEntity if present
-     * otherwise the GUIPreference 'mechInFirst' is used. If pathSprites are
-     * not empty then elevation from last step is used for attacker
-     * elevation, also it is assumed that last step's position is equal to
-     * src.
-     * Unit height for the destination hex is determined by the tallest unit
-     * present in that hex. If no units are present, the GUIPreference
-     * 'mechInSecond' is used.
+     * Calculate the LosEffects between the given Coords, as seen from the selected unit or hex.
      */
     private @Nullable LosEffects getLosEffects(final Coords src, final Coords dest) {
         /*
@@ -325,58 +393,47 @@ class FovHighlightingAndDarkening {
          * stepSprite from path Sprites. If this behavior changes, please
          * change the getCachedLos method accordingly.
          */
+        return VisibilityField.calculateLos(boardView1.game, createKey(src), dest);
+    }
+
+    /**
+     * Gathers what lines of sight from the given hex depend on. Unit height for the source hex is
+     * determined by the selectedEntity if present otherwise the GUIPreference 'mechInFirst' is
+     * used. If pathSprites are not empty then elevation from last step is used for attacker
+     * elevation, also it is assumed that last step's position is equal to src. If no units are
+     * present in a destination hex, the GUIPreference 'mechInSecond' is used for its height.
+     */
+    private VisibilityField.Key createKey(final Coords src) {
         GUIPreferences guip = GUIPreferences.getInstance();
-        Board board = this.boardView1.game.getBoard();
-        Hex srcHex = board.getHex(src);
-        if (srcHex == null) {
-            LogManager.getLogger().error("Cannot process line of sight effects with a null source hex.");
-            return null;
-        }
-        Hex dstHex = board.getHex(dest);
-        if (dstHex == null) {
-            LogManager.getLogger().error("Cannot process line of sight effects with a null destination hex.");
-            return null;
-        }
-        LosEffects.AttackInfo ai = new LosEffects.AttackInfo();
-        ai.attackPos = src;
-        ai.targetPos = dest;
+        Entity entity = this.boardView1.selectedEntity;
+        int attackerElevation = 0;
+        int attackerHeight;
         // First, we check for a selected unit and use its height. If
         // there's no selected unit we use the mechInFirst GUIPref.
-        if (this.boardView1.selectedEntity != null) {
-            ai.attackHeight = this.boardView1.selectedEntity.getHeight();
+        if (entity != null) {
+            attackerHeight = entity.getHeight();
             // Elevation of entity above the hex surface
-            int elevation;
             if (this.boardView1.pathSprites.size() > 0) {
                 // If we've got a step, get the elevation from it
                 int lastStepIdx = this.boardView1.pathSprites.size() - 1;
                 MoveStep lastMS = this.boardView1.pathSprites.get(lastStepIdx)
                         .getStep();
-                elevation = lastMS.getElevation();
+                attackerElevation = lastMS.getElevation();
             } else {
                 // otherwise we use entity's elevation
-                elevation = this.boardView1.selectedEntity.getElevation();
+                attackerElevation = entity.getElevation();
             }
-            ai.attackAbsHeight = srcHex.getLevel() + elevation
-                    + this.boardView1.selectedEntity.getHeight();
         } else {
-            ai.attackHeight = guip.getMechInFirst() ? 1 : 0;
-            ai.attackAbsHeight = srcHex.getLevel() + ai.attackHeight;
-        }
-        // First, we take the tallest unit in the destination hex, if no units are present we use
-        // the mechInSecond GUIPref.
-        ai.targetHeight = ai.targetAbsHeight = Integer.MIN_VALUE;
-        for (Entity ent : boardView1.game.getEntitiesVector(dest)) {
-            int trAbsheight = dstHex.getLevel() + ent.relHeight();
-            if (trAbsheight > ai.targetAbsHeight) {
-                ai.targetHeight = ent.getHeight();
-                ai.targetAbsHeight = trAbsheight;
-            }
-        }
-        if ((ai.targetHeight == Integer.MIN_VALUE)
-                && (ai.targetAbsHeight == Integer.MIN_VALUE)) {
-            ai.targetHeight = guip.getMechInSecond() ? 1 : 0;
-            ai.targetAbsHeight = dstHex.getLevel() + ai.targetHeight;
+            attackerHeight = guip.getMechInFirst() ? 1 : 0;
         }
-        return LosEffects.calculateLos(boardView1.game, ai);
+        boolean sensorsOn = (boardView1.game.getOptions().booleanOption(
+                OptionsConstants.ADVANCED_TACOPS_SENSORS)
+                || boardView1.game.getOptions().booleanOption(OptionsConstants.ADVAERORULES_STRATOPS_ADVANCED_SENSORS));
+        boolean doubleBlindOn = boardView1.game.getOptions().booleanOption(
+                OptionsConstants.ADVANCED_DOUBLE_BLIND);
+        boolean inclusiveSensorsOn = boardView1.game.getOptions().booleanOption(
+                OptionsConstants.ADVANCED_INCLUSIVE_SENSOR_RANGE);
+        return new VisibilityField.Key(src, entity, attackerElevation, attackerHeight,
+                guip.getMechInSecond() ? 1 : 0, doubleBlindOn, sensorsOn, inclusiveSensorsOn);
     }
-}
\ No newline at end of file
+}
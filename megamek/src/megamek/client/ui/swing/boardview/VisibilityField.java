@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.swing.boardview;
+
+import megamek.common.*;
+import megamek.common.annotations.Nullable;
+import megamek.common.enums.IlluminationLevel;
+import org.apache.logging.log4j.LogManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * What can be seen of each hex of the board from the selected unit or hex, as the field of view
+ * darkening and highlighting shows it: whether there is a line of sight within visual range, and if
+ * not whether the hex is in sensor range.
+ *
+ * A field is worked out for all hexes at once, away from the event dispatch thread, so that
+ * painting a hex only has to look up its visibility. It depends on the board, on the {@link Key}
+ * it was worked out for and, through the heights of the units in each hex and their ECM, on the
+ * other units. When only other units have moved, {@link #update} works out the hexes they left
+ * and entered anew and keeps the rest. Grounded DropShips block the view into other hexes, so when
+ * a large or multi-hex unit has come, gone or moved the whole field is worked out anew.
+ */
+final class VisibilityField {
+    //region Variable Declarations
+    static final byte VISIBLE = 0;
+    static final byte IN_SENSOR_RANGE = 1;
+    static final byte HIDDEN = 2;
+
+    /** The distance from which no hex is visible */
+    static final int MAX_DISTANCE = 60;
+
+    private final Key key;
+    private final int width;
+    private final int height;
+    private final byte[] visibility;
+    private final int sensorBracket;
+    /** The hexes that held units when the field was worked out */
+    private final Set<Coords> occupied;
+    /** The hexes of each large or multi-hex unit when the field was worked out, by unit ID */
+    private final Map<Integer, Set<Coords>> largeUnits;
+    //endregion Variable Declarations
+
+    //region Constructors
+    private VisibilityField(Key key, int width, int height, byte[] visibility, int sensorBracket,
+                            Set<Coords> occupied, Map<Integer, Set<Coords>> largeUnits) {
+        this.key = key;
+        this.width = width;
+        this.height = height;
+        this.visibility = visibility;
+        this.sensorBracket = sensorBracket;
+        this.occupied = occupied;
+        this.largeUnits = largeUnits;
+    }
+    //endregion Constructors
+
+    /**
+     * Works out the visibility of every hex of the board.
+     *
+     * @param cancelled tells whether to give up
+     * @return the field, or null if cancelled
+     */
+    static @Nullable VisibilityField compute(Game game, Key key, BooleanSupplier cancelled) {
+        final Board board = game.getBoard();
+        final int width = board.getWidth();
+        final int height = board.getHeight();
+        final int sensorBracket = getSensorBracket(game, key);
+        final byte[] visibility = new byte[width * height];
+        for (int x = 0; x < width; x++) {
+            if (cancelled.getAsBoolean()) {
+                return null;
+            }
+            for (int y = 0; y < height; y++) {
+                visibility[(y * width) + x] = classify(game, key, sensorBracket, new Coords(x, y));
+            }
+        }
+        return new VisibilityField(key, width, height, visibility, sensorBracket, getOccupiedHexes(game),
+                getLargeUnits(game));
+    }
+
+    /**
+     * Works out the visibility of the given field anew after other units have moved. Only the hexes
+     * that held units before or hold units now are looked at again, unless something the whole
+     * field depends on has changed, such as where the large units are.
+     *
+     * @param cancelled tells whether to give up
+     * @return the updated field, or null if cancelled
+     */
+    static @Nullable VisibilityField update(Game game, VisibilityField field, BooleanSupplier cancelled) {
+        final Board board = game.getBoard();
+        final int sensorBracket = getSensorBracket(game, field.key);
+        // in double blind games, units with searchlights light up other hexes than their own, and
+        // grounded DropShips block the lines of sight through their hexes
+        if (field.key.doubleBlind || (sensorBracket != field.sensorBracket)
+                || (board.getWidth() != field.width) || (board.getHeight() != field.height)
+                || !getLargeUnits(game).equals(field.largeUnits)) {
+            return compute(game, field.key, cancelled);
+        }
+
+        final Set<Coords> occupied = getOccupiedHexes(game);
+        final Set<Coords> changed = new HashSet<>(field.occupied);
+        changed.addAll(occupied);
+        final byte[] visibility = field.visibility.clone();
+        for (Coords coords : changed) {
+            if (cancelled.getAsBoolean()) {
+                return null;
+            } else if (board.contains(coords)) {
+                visibility[(coords.getY() * field.width) + coords.getX()] = classify(game, field.key,
+                        sensorBracket, coords);
+            }
+        }
+        return new VisibilityField(field.key, field.width, field.height, visibility, sensorBracket, occupied,
+                field.largeUnits);
+    }
+
+    private static int getSensorBracket(Game game, Key key) {
+        if (key.entity == null) {
+            return 0;
+        }
+        return Compute.getSensorRangeBracket(key.entity, null,
+                ComputeECM.computeAllEntitiesECMInfo(game.getEntitiesVector()));
+    }
+
+    private static Set<Coords> getOccupiedHexes(Game game) {
+        final Set<Coords> retVal = new HashSet<>();
+        for (Entity entity : game.getEntitiesVector()) {
+            if (entity.getPosition() != null) {
+                retVal.add(entity.getPosition());
+                retVal.addAll(entity.getOccupiedCoords());
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * @return the hexes of the units that take up more than one hex or may block the view into
+     * other hexes, by unit ID
+     */
+    private static Map<Integer, Set<Coords>> getLargeUnits(Game game) {
+        final Map<Integer, Set<Coords>> retVal = new HashMap<>();
+        for (Entity entity : game.getEntitiesVector()) {
+            if ((entity.getPosition() != null) && (entity.isLargeCraft()
+                    || ((entity.getSecondaryPositions() != null) && !entity.getSecondaryPositions().isEmpty()))) {
+                final Set<Coords> hexes = entity.getOccupiedCoords();
+                hexes.add(entity.getPosition());
+                // a DropShip only blocks the view while it is grounded
+                if (entity.isAirborne() || entity.isSpaceborne()) {
+                    hexes.clear();
+                }
+                retVal.put(entity.getId(), hexes);
+            }
+        }
+        return retVal;
+    }
+
+    private static byte classify(Game game, Key key, int sensorBracket, Coords coords) {
+        final int dist = key.source.distance(coords);
+        if (dist == 0) {
+            return VISIBLE;
+        }
+
+        // Determine if any of the entities at the coordinates are illuminated, or if the
+        // coordinates are illuminated themselves; this only matters for visual range in double blind
+        final boolean targetIlluminated = key.doubleBlind
+                && (game.getEntitiesVector(coords).stream().anyMatch(Entity::isIlluminated)
+                        || !IlluminationLevel.determineIlluminationLevel(game, coords).isNone());
+
+        final int maxDist;
+        // We don't want to have to compute a LoSEffects yet, as that
+        //  can be expensive on large viewing areas
+        if ((key.entity != null) && key.doubleBlind) {
+            // We can only use this is double blind is on, otherwise visual
+            // range won't effect LoS
+            maxDist = game.getPlanetaryConditions().getVisualRange(key.entity, targetIlluminated);
+        } else {
+            maxDist = MAX_DISTANCE;
+        }
+        if (dist >= maxDist) {
+            // Max dist should be >= visual dist, this hex can't be seen
+            return HIDDEN;
+        }
+
+        int visualRange = 30;
+        int minSensorRange = 0;
+        int maxSensorRange = 0;
+        LosEffects los = calculateLos(game, key, coords);
+        if (key.entity != null) {
+            if (los == null) {
+                los = LosEffects.calculateLOS(game, key.entity, null);
+            }
+            if (key.doubleBlind) { // Visual Range only matters in DB
+                visualRange = Compute.getVisualRange(game, key.entity, los, targetIlluminated);
+            }
+            final int range = Compute.getSensorRangeByBracket(game, key.entity, null, los);
+            maxSensorRange = sensorBracket * range;
+            minSensorRange = key.inclusiveSensors ? 0 : Math.max((sensorBracket - 1) * range, 0);
+        }
+
+        // Visual Range only matters in DB: ensure no effect w/o DB
+        if (!key.doubleBlind) {
+            visualRange = dist;
+        }
+
+        if (((los != null) && !los.canSee()) || (dist > visualRange)) {
+            return (key.sensors && (dist > minSensorRange) && (dist <= maxSensorRange)) ? IN_SENSOR_RANGE : HIDDEN;
+        }
+        return VISIBLE;
+    }
+
+    /**
+     * Calculate the LosEffects from the source of the given key to the given hex. Unit height for
+     * the destination hex is determined by the tallest unit present in that hex. If no units are
+     * present, the default target height of the key is used.
+     */
+    static @Nullable LosEffects calculateLos(Game game, Key key, Coords dest) {
+        Board board = game.getBoard();
+        Hex srcHex = board.getHex(key.source);
+        if (srcHex == null) {
+            LogManager.getLogger().error("Cannot process line of sight effects with a null source hex.");
+            return null;
+        }
+        Hex dstHex = board.getHex(dest);
+        if (dstHex == null) {
+            LogManager.getLogger().error("Cannot process line of sight effects with a null destination hex.");
+            return null;
+        }
+        LosEffects.AttackInfo ai = new LosEffects.AttackInfo();
+        ai.attackPos = key.source;
+        ai.targetPos = dest;
+        ai.attackHeight = key.attackerHeight;
+        ai.attackAbsHeight = srcHex.getLevel() + key.attackerElevation + key.attackerHeight;
+        // First, we take the tallest unit in the destination hex
+        ai.targetHeight = ai.targetAbsHeight = Integer.MIN_VALUE;
+        for (Entity ent : game.getEntitiesVector(dest)) {
+            int trAbsheight = dstHex.getLevel() + ent.relHeight();
+            if (trAbsheight > ai.targetAbsHeight) {
+                ai.targetHeight = ent.getHeight();
+                ai.targetAbsHeight = trAbsheight;
+            }
+        }
+        if ((ai.targetHeight == Integer.MIN_VALUE)
+                && (ai.targetAbsHeight == Integer.MIN_VALUE)) {
+            ai.targetHeight = key.defaultTargetHeight;
+            ai.targetAbsHeight = dstHex.getLevel() + ai.targetHeight;
+        }
+        return LosEffects.calculateLos(game, ai);
+    }
+
+    Key getKey() {
+        return key;
+    }
+
+    /**
+     * @return the visibility of the given hex, which is {@link #HIDDEN} for hexes off the board
+     */
+    byte getVisibility(Coords coords) {
+        if ((coords.getX() < 0) || (coords.getY() < 0) || (coords.getX() >= width) || (coords.getY() >= height)) {
+            return HIDDEN;
+        }
+        return visibility[(coords.getY() * width) + coords.getX()];
+    }
+
+    /**
+     * @return the hexes whose visibility differs between this field and the given one of the same size
+     */
+    Set<Coords> getDifferences(VisibilityField other) {
+        final Set<Coords> retVal = new HashSet<>();
+        for (int index = 0; index < visibility.length; index++) {
+            if (visibility[index] != other.visibility[index]) {
+                retVal.add(new Coords(index % width, index / width));
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * Where lines of sight are traced from and the settings that decide what is visible. The source
+     * is the selected unit, or the selected hex if there is no selected unit, in which case the
+     * heights come from the GUI preferences.
+     */
+    static final class Key {
+        private final Coords source;
+        private final Entity entity;
+        private final int attackerElevation;
+        private final int attackerHeight;
+        private final int defaultTargetHeight;
+        private final boolean doubleBlind;
+        private final boolean sensors;
+        private final boolean inclusiveSensors;
+
+        Key(Coords source, @Nullable Entity entity, int attackerElevation, int attackerHeight,
+            int defaultTargetHeight, boolean doubleBlind, boolean sensors, boolean inclusiveSensors) {
+            this.source = source;
+            this.entity = entity;
+            this.attackerElevation = attackerElevation;
+            this.attackerHeight = attackerHeight;
+            this.defaultTargetHeight = defaultTargetHeight;
+            this.doubleBlind = doubleBlind;
+            this.sensors = sensors;
+            this.inclusiveSensors = inclusiveSensors;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            // the unit itself, not an equal one: a unit is replaced when it is updated
+            return (entity == key.entity) && (attackerElevation == key.attackerElevation)
+                    && (attackerHeight == key.attackerHeight) && (defaultTargetHeight == key.defaultTargetHeight)
+                    && (doubleBlind == key.doubleBlind) && (sensors == key.sensors)
+                    && (inclusiveSensors == key.inclusiveSensors) && source.equals(key.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, System.identityHashCode(entity), attackerElevation, attackerHeight,
+                    defaultTargetHeight, doubleBlind, sensors, inclusiveSensors);
+        }
+    }
+}
@@ -562,29 +562,36 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
     }
 
     /**
-     * @return the selected entity (required for MekHQ/MegaMek overrides)
+     * Shows the selected unit in the preview. The unit is loaded in the background, after which
+     * {@link #refreshUnitImage(Entity)} is called with it. This used to load the unit itself and
+     * return it; overrides (such as in MekHQ) that need the selected entity must now override
+     * {@link #refreshUnitImage(Entity)} instead.
      */
-    protected Entity refreshUnitView() {
-        Entity selectedEntity = getSelectedEntity();
-        panePreview.updateDisplayedEntity(selectedEntity);
+    protected void refreshUnitView() {
+        panePreview.updateDisplayedUnit(getSelectedMechSummary(), this::refreshUnitImage);
+    }
+
+    /**
+     * Called once the unit selected for the preview has been loaded (required for MekHQ/MegaMek
+     * overrides)
+     *
+     * @param selectedEntity the selected entity, or null if there is none
+     */
+    protected void refreshUnitImage(final @Nullable Entity selectedEntity) {
         // Empty the unit preview icon if there's no entity selected
         if (selectedEntity == null) {
             labelImage.setIcon(null);
         }
-        return selectedEntity;
     }
 
     /**
      * @return the selected entity
      */
     public @Nullable Entity getSelectedEntity() {
-        int view = tableUnits.getSelectedRow();
-        if (view < 0) {
-            // selection got filtered away
+        MechSummary ms = getSelectedMechSummary();
+        if (ms == null) {
             return null;
         }
-        int selected = tableUnits.convertRowIndexToModel(view);
-        MechSummary ms = mechs[selected];
         try {
             // For some unknown reason the base path gets screwed up after you
             // print so this sets the source file to the full path.
@@ -596,6 +603,18 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
         }
     }
 
+    /**
+     * @return the summary of the selected unit
+     */
+    private @Nullable MechSummary getSelectedMechSummary() {
+        int view = tableUnits.getSelectedRow();
+        if (view < 0) {
+            // selection got filtered away
+            return null;
+        }
+        return mechs[tableUnits.convertRowIndexToModel(view)];
+    }
+
     @Override
     public void run() {
         // Loading mechs can take a while, so it will have its own thread for MegaMek
@@ -29,6 +29,7 @@ import megamek.common.Entity;
 import megamek.common.MechSummaryCache;
 import megamek.common.Player;
 import megamek.common.TechConstants;
+import megamek.common.annotations.Nullable;
 import megamek.common.enums.Gender;
 import megamek.common.options.OptionsConstants;
 import megamek.common.preference.ClientPreferences;
@@ -155,12 +156,11 @@ public class MegaMekUnitSelectorDialog extends AbstractUnitSelectorDialog {
     //endregion Button Methods
 
     @Override
-    protected Entity refreshUnitView() {
-        Entity selectedEntity = super.refreshUnitView(); //we first want it to run through the same code as its parent
+    protected void refreshUnitImage(final @Nullable Entity selectedEntity) {
+        super.refreshUnitImage(selectedEntity); //we first want it to run through the same code as its parent
         if (selectedEntity != null) {
             clientGUI.loadPreviewImage(labelImage, selectedEntity, clientGUI.getClient().getLocalPlayer());
         }
-        return selectedEntity;
     }
 
     @Override
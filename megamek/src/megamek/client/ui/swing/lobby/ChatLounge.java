@@ -90,6 +90,7 @@ import java.util.*;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -932,7 +933,7 @@ public class ChatLounge extends AbstractPhaseDisplay implements
         boardTags.clear();
         for (String boardName : mapSettings.getBoardsAvailableVector()) {
             File boardFile = new MegaMekFile(Configuration.boardsDir(), boardName + ".board").getFile();
-            Set<String> tags = Board.getTags(boardFile);
+            Set<String> tags = BoardCatalog.getInstance().getTags(boardFile);
             boardTags.put(boardName, String.join("||", tags).toLowerCase());
         }
     }
@@ -967,7 +968,6 @@ public class ChatLounge extends AbstractPhaseDisplay implements
         panMapButtons.removeAll();
         panMapButtons.setVisible(false);
         panMapButtons.add(Box.createVerticalGlue());
-        Dimension buttonSize = null;
 
         // If buttons are unused, remove their image so that they update when they're used once more
         if (mapSettings.getMapHeight() * mapSettings.getMapWidth() < mapButtons.size()) {
@@ -999,63 +999,12 @@ public class ChatLounge extends AbstractPhaseDisplay implements
                         || (!mapSettings.equalMapGenParameters(oldMapSettings) 
                                 && mapSettings.getMapWidth() == oldMapSettings.getMapWidth()
                                 && mapSettings.getMapHeight() == oldMapSettings.getMapHeight())) {
-                    Board buttonBoard;
-                    Image image;
-                    // Generated and space boards use a generated example
-                    if (boardName.startsWith(MapSettings.BOARD_GENERATED) 
-                            || (mapSettings.getMedium() == MapSettings.MEDIUM_SPACE)) {
-                        buttonBoard = BoardUtilities.generateRandom(mapSettings);
-                        image = MiniMap.getMinimapImageMaxZoom(buttonBoard);
-                    } else { 
-                        String boardForImage = boardName;
-                        // For a surprise board, just use the first board as example
-                        if (boardName.startsWith(MapSettings.BOARD_SURPRISE)) {
-                            boardForImage = extractSurpriseMaps(boardName).get(0);
-                        }
-                        
-                        boolean rotateBoard = false;
-                        // for a rotation board, set a flag (when appropriate) and fix the name
-                        if (boardForImage.startsWith(Board.BOARD_REQUEST_ROTATION)) {
-                            // only rotate boards with an even width
-                            if ((mapSettings.getBoardWidth() % 2) == 0) {
-                                rotateBoard = true;
-                            }
-                            
-                            boardForImage = boardForImage.replace(Board.BOARD_REQUEST_ROTATION, "");
-                        }
-                        
-                        File boardFile = new MegaMekFile(Configuration.boardsDir(), boardForImage + ".board").getFile();
-                        if (boardFile.exists()) {
-                            buttonBoard = new Board(16, 17);
-                            buttonBoard.load(new MegaMekFile(Configuration.boardsDir(), boardForImage + ".board").getFile());
-                            StringBuffer errs = new StringBuffer();
-                            try (InputStream is = new FileInputStream(new MegaMekFile(Configuration.boardsDir(), boardForImage + ".board").getFile())) {
-                                buttonBoard.load(is, errs, true);
-                                BoardUtilities.flip(buttonBoard, rotateBoard, rotateBoard);
-                            } catch (IOException ex) {
-                                buttonBoard = Board.createEmptyBoard(mapSettings.getBoardWidth(), mapSettings.getBoardHeight());
-                            }
-                            image = MiniMap.getMinimapImageMaxZoom(buttonBoard);
-                        } else {
-                            buttonBoard = Board.createEmptyBoard(mapSettings.getBoardWidth(), mapSettings.getBoardHeight());
-                            BufferedImage emptyBoardMap = MiniMap.getMinimapImageMaxZoom(buttonBoard);
-                            markServerSideBoard(emptyBoardMap);
-                            image = emptyBoardMap;
-                        }
-                    }
-                    button.setImage(image, boardName);
-                    buttonSize = optMapButtonSize(image);
+                    requestMapPreview(button, boardName);
                 }
                 button.scheduleRescale();
             }
         }
         oldMapSettings = MapSettings.getInstance(mapSettings);
-        
-        if (buttonSize != null) {
-            for (MapPreviewButton button: mapButtons) {
-                button.setPreviewSize(buttonSize);
-            }
-        }
         splGroundMap.setDividerLocation(getDividerLocation());
 
         panMapButtons.add(Box.createVerticalGlue());
@@ -1083,6 +1032,73 @@ public class ChatLounge extends AbstractPhaseDisplay implements
 
     }
     
+    /**
+     * Shows the minimap image of the given board on the given preview button. Until the image
+     * has been made in the background, the button shows the board name; an image that arrives
+     * after the button has been given another board is dropped.
+     */
+    private void requestMapPreview(MapPreviewButton button, String boardName) {
+        final int request = button.showPlaceholder(boardName);
+        final Consumer<BufferedImage> showPreview = image -> {
+            if (button.isPreviewRequest(request)) {
+                button.setImage(image, boardName);
+                Dimension buttonSize = optMapButtonSize(image);
+                for (MapPreviewButton mapButton: mapButtons) {
+                    mapButton.setPreviewSize(buttonSize);
+                }
+            }
+        };
+        
+        // Generated and space boards use a generated example
+        if (boardName.startsWith(MapSettings.BOARD_GENERATED) 
+                || (mapSettings.getMedium() == MapSettings.MEDIUM_SPACE)) {
+            final MapSettings settings = MapSettings.getInstance(mapSettings);
+            MapPreviewCache.getInstance().draw(
+                    () -> MapPreviewCache.getInstance().drawMinimap(BoardUtilities.generateRandom(settings)),
+                    showPreview);
+            return;
+        }
+        
+        String boardForImage = boardName;
+        // For a surprise board, just use the first board as example
+        if (boardName.startsWith(MapSettings.BOARD_SURPRISE)) {
+            boardForImage = extractSurpriseMaps(boardName).get(0);
+        }
+
+        boolean rotateBoard = false;
+        // for a rotation board, set a flag (when appropriate) and fix the name
+        if (boardForImage.startsWith(Board.BOARD_REQUEST_ROTATION)) {
+            // only rotate boards with an even width
+            if ((mapSettings.getBoardWidth() % 2) == 0) {
+                rotateBoard = true;
+            }
+
+            boardForImage = boardForImage.replace(Board.BOARD_REQUEST_ROTATION, "");
+        }
+
+        File boardFile = new MegaMekFile(Configuration.boardsDir(), boardForImage + ".board").getFile();
+        if (boardFile.exists()) {
+            BufferedImage image = MapPreviewCache.getInstance().get(boardFile, rotateBoard);
+            if (image != null) {
+                showPreview.accept(image);
+            } else {
+                MapPreviewCache.getInstance().load(boardFile, rotateBoard, mapSettings.getBoardWidth(),
+                        mapSettings.getBoardHeight(), showPreview);
+            }
+        } else {
+            final int width = mapSettings.getBoardWidth();
+            final int height = mapSettings.getBoardHeight();
+            MapPreviewCache.getInstance().draw(() -> {
+                BufferedImage emptyBoardMap = MapPreviewCache.getInstance()
+                        .drawMinimap(Board.createEmptyBoard(width, height));
+                if (emptyBoardMap != null) {
+                    markServerSideBoard(emptyBoardMap);
+                }
+                return emptyBoardMap;
+            }, showPreview);
+        }
+    }
+    
     private void markServerSideBoard(BufferedImage image) {
         Graphics g = image.getGraphics();
         GUIPreferences.AntiAliasifSet(g);
@@ -1167,13 +1183,13 @@ public class ChatLounge extends AbstractPhaseDisplay implements
     }
     
     private void refreshMekTable() {
-        List<Integer> enIds = getSelectedEntities().stream().map(Entity::getId).collect(toList());
-        mekModel.clearData();
+        Set<Integer> enIds = getSelectedEntities().stream().map(Entity::getId).collect(toSet());
         ArrayList<Entity> allEntities = new ArrayList<>(clientgui.getClient().getEntitiesVector());
-        allEntities.sort(activeSorter);
+        activeSorter.sort(allEntities);
 
         boolean localUnits = false;
         GameOptions opts = clientgui.getClient().getGame().getOptions();
+        List<Entity> shownEntities = new ArrayList<>(allEntities.size());
         
         for (Entity entity : allEntities) {
             // Remember if the local player has units.
@@ -1215,16 +1231,25 @@ public class ChatLounge extends AbstractPhaseDisplay implements
             boolean teamUnit = !entity.getOwner().isEnemyOf(localPlayer());
             boolean realBlindDrop = opts.booleanOption(OptionsConstants.BASE_REAL_BLIND_DROP);
             if (localUnit || teamUnit || !realBlindDrop) {
-                mekModel.addUnit(entity);
+                shownEntities.add(entity);
             }
         }
-        // Restore selection
-        if (!enIds.isEmpty()) {
+        mekModel.setUnits(shownEntities);
+        
+        // Restore selection; rows that have not changed may still be selected
+        ListSelectionModel selectionModel = mekTable.getSelectionModel();
+        selectionModel.setValueIsAdjusting(true);
+        try {
             for (int i = 0; i < mekTable.getRowCount(); i++) {
-                if (enIds.contains(mekModel.getEntityAt(i).getId())) {
+                boolean selected = enIds.contains(mekModel.getEntityAt(i).getId());
+                if (selected && !selectionModel.isSelectedIndex(i)) {
                     mekTable.addRowSelectionInterval(i, i);
+                } else if (!selected && selectionModel.isSelectedIndex(i)) {
+                    mekTable.removeRowSelectionInterval(i, i);
                 }
             }
+        } finally {
+            selectionModel.setValueIsAdjusting(false);
         }
     }
     
@@ -1609,6 +1634,7 @@ public class ChatLounge extends AbstractPhaseDisplay implements
         refreshPlayerTable();
         refreshPlayerConfig();
         refreshCamoButton();
+        mekModel.invalidateCells();
         refreshEntities();
         panTeamOverview.refreshData();
     }
@@ -1625,6 +1651,7 @@ public class ChatLounge extends AbstractPhaseDisplay implements
             refreshPlayerTable();
             refreshTeams();
             refreshCamoButton();
+            mekModel.invalidateCells();
             refreshEntities();
             panTeamOverview.refreshData();
         }
@@ -1653,6 +1680,7 @@ public class ChatLounge extends AbstractPhaseDisplay implements
             nextSorter(unitSorters);
             updateTableHeaders();
         }
+        mekModel.invalidateCells();
         refreshEntities();
         refreshPlayerTable();
         refreshMapSizes();
@@ -2078,6 +2106,8 @@ public class ChatLounge extends AbstractPhaseDisplay implements
     @Override
     public void updateMapSettings(MapSettings newSettings) {
         mapSettings = MapSettings.getInstance(newSettings);
+        // The unit cells show warnings that depend on the map type
+        mekModel.invalidateCells();
         refreshMapButtons();
         refreshMapChoice();
         refreshMapUI();
@@ -3326,7 +3356,10 @@ public class ChatLounge extends AbstractPhaseDisplay implements
             if (zoom < 0) {
                 zoom = 0;
             }
-            BufferedImage bufImage = MiniMap.getMinimapImage(board, zoom);
+            BufferedImage bufImage = MapPreviewCache.getInstance().drawMinimap(board, zoom);
+            if (bufImage == null) {
+                return null;
+            }
 
             // Add the board name label and the server-side board label if necessary
             String text = LobbyUtility.cleanBoardName(boardName, mapSettings);
@@ -51,6 +51,8 @@ public class MapPreviewButton extends JButton {
     private int index;
     private boolean isExample = false;
     private String boardName = "";
+    /** Counts the requests for preview images so that outdated ones can be recognized */
+    private int previewRequest = 0;
 
     /** A specialized JButton for the map preview panel of the Lobby. */
     public MapPreviewButton(ChatLounge cl, int nr) {
@@ -100,9 +102,32 @@ public class MapPreviewButton extends JButton {
         scheduleRescale();
     }
     
+    /** 
+     * Shows the name of the given board until its minimap image has been made and stores the 
+     * name for DnD.
+     * 
+     * @return the number of this request for a preview image, see {@link #isPreviewRequest(int)} 
+     */
+    public int showPlaceholder(String name) {
+        isExample = name.startsWith(MapSettings.BOARD_SURPRISE) || name.startsWith(MapSettings.BOARD_GENERATED);
+        baseImage = null;
+        boardName = name;
+        setText(name);
+        generateTooltip();
+        scheduleRescale();
+        repaint();
+        return ++previewRequest;
+    }
+    
+    /** Returns true if the given request number is that of the latest request for a preview image. */
+    public boolean isPreviewRequest(int request) {
+        return request == previewRequest;
+    }
+    
     public void reset() {
         baseImage = null;
         boardName = "";
+        previewRequest++;
     }
     
     private void generateTooltip() {
@@ -182,6 +207,8 @@ public class MapPreviewButton extends JButton {
         }
         if (scaledImage != null) {
             g.drawImage(scaledImage, 0, 0, null);
+        } else if (baseImage == null) {
+            super.paintComponent(g);
         }
     }
     
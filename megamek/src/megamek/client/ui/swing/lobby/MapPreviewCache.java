@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.swing.lobby;
+
+import megamek.client.ui.swing.GUIPreferences;
+import megamek.client.ui.swing.MiniMap;
+import megamek.common.Board;
+import megamek.common.Configuration;
+import megamek.common.annotations.Nullable;
+import megamek.common.util.BoardUtilities;
+import megamek.common.util.fileUtils.MegaMekFile;
+import org.apache.logging.log4j.LogManager;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A process-wide cache of the minimap images shown by the map preview buttons of the lobby.
+ * Loading a board and drawing its minimap takes long enough that doing it for a grid of boards
+ * on the event dispatch thread freezes the lobby, so boards are loaded on a small pool of
+ * background threads and the images are handed back on the event dispatch thread. The minimap
+ * keeps its colours in static fields that it sets up anew for every image, so all minimaps are
+ * drawn one at a time on a single thread; use {@link #drawMinimap(Board)} for that.
+ *
+ * The images of board files are kept in memory up to a fixed budget and saved as PNG files to
+ * a cache directory. They are identified by the path, modification time and length of the board
+ * file, whether the board is rotated and the minimap colours, so a changed board is drawn anew.
+ * When the cache is created, the least recently used files beyond a disk budget are deleted.
+ */
+final class MapPreviewCache {
+    //region Variable Declarations
+    private static final String PREVIEW_DIRECTORY = "mappreviews";
+    /** The memory budget for the cached images, in bytes */
+    private static final long MAX_BYTES = Math.min(32L << 20, Runtime.getRuntime().maxMemory() / 16);
+    private static final int BYTES_PER_PIXEL = 4;
+    /** The disk budget for the saved images, in bytes */
+    private static final long MAX_DISK_BYTES = 64L << 20;
+
+    private static final MapPreviewCache instance = new MapPreviewCache();
+
+    private final LinkedHashMap<String, BufferedImage> images = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes = 0;
+    private final File cacheDirectory;
+    private final ExecutorService pool;
+    private final ExecutorService renderer;
+    //endregion Variable Declarations
+
+    //region Constructors
+    private MapPreviewCache() {
+        cacheDirectory = new File(Configuration.userdataDir(), PREVIEW_DIRECTORY);
+        final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        pool = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "Map Preview Loader");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        renderer = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "Map Preview Renderer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        pool.execute(this::pruneDirectory);
+    }
+
+    static MapPreviewCache getInstance() {
+        return instance;
+    }
+    //endregion Constructors
+
+    /**
+     * @param boardFile a board file
+     * @param rotate    whether the board is rotated
+     * @return the preview of the board if it is in memory, otherwise null
+     */
+    synchronized @Nullable BufferedImage get(final File boardFile, final boolean rotate) {
+        return images.get(createKey(boardFile, rotate));
+    }
+
+    /**
+     * Makes the preview of the given board file in the background, reading it from the cache
+     * directory if it was saved before.
+     *
+     * @param boardFile an existing board file
+     * @param rotate    whether the board is rotated
+     * @param width     the board width to show when the board file can't be loaded
+     * @param height    the board height to show when the board file can't be loaded
+     * @param whenReady called on the event dispatch thread with the preview, unless it can't be made
+     */
+    void load(final File boardFile, final boolean rotate, final int width, final int height,
+              final Consumer<BufferedImage> whenReady) {
+        final String key = createKey(boardFile, rotate);
+        draw(() -> {
+            BufferedImage image;
+            synchronized (this) {
+                image = images.get(key);
+            }
+            if (image == null) {
+                image = readPreview(key);
+                if (image == null) {
+                    final Board board = loadBoard(boardFile, rotate);
+                    if (board == null) {
+                        // Not cached, so the board is tried again when it is next shown
+                        return drawMinimap(Board.createEmptyBoard(width, height));
+                    }
+                    image = drawMinimap(board);
+                    writePreview(key, image);
+                }
+                put(key, image);
+            }
+            return image;
+        }, whenReady);
+    }
+
+    /**
+     * Makes a preview that can't be cached, such as that of a generated board, in the background.
+     *
+     * @param drawer    makes the preview; may return null if it can't be made
+     * @param whenReady called on the event dispatch thread with the preview, unless it can't be made
+     */
+    void draw(final Supplier<BufferedImage> drawer, final Consumer<BufferedImage> whenReady) {
+        pool.execute(() -> {
+            try {
+                final BufferedImage preview = drawer.get();
+                if (preview != null) {
+                    SwingUtilities.invokeLater(() -> whenReady.accept(preview));
+                }
+            } catch (Exception ex) {
+                LogManager.getLogger().error("Failed to make a map preview", ex);
+            }
+        });
+    }
+
+    /**
+     * Draws the minimap image of the given board at the maximum zoom on the render thread and
+     * waits for it. Minimap images must only be drawn this way while the lobby is shown.
+     *
+     * @param board the board to draw
+     * @return the minimap image, or null if it can't be drawn
+     */
+    @Nullable BufferedImage drawMinimap(final Board board) {
+        return render(() -> MiniMap.getMinimapImageMaxZoom(board));
+    }
+
+    /**
+     * Draws the minimap image of the given board on the render thread and waits for it.
+     *
+     * @param board the board to draw
+     * @param zoom  the zoom index of the minimap
+     * @return the minimap image, or null if it can't be drawn
+     */
+    @Nullable BufferedImage drawMinimap(final Board board, final int zoom) {
+        return render(() -> MiniMap.getMinimapImage(board, zoom));
+    }
+
+    private @Nullable BufferedImage render(final Callable<BufferedImage> drawer) {
+        try {
+            return renderer.submit(drawer).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            LogManager.getLogger().error("Failed to draw the minimap of a map preview", ex);
+            return null;
+        }
+    }
+
+    private static @Nullable Board loadBoard(final File boardFile, final boolean rotate) {
+        final Board board = new Board(16, 17);
+        try (InputStream is = new FileInputStream(boardFile)) {
+            board.load(is, new StringBuffer(), true);
+            BoardUtilities.flip(board, rotate, rotate);
+            return board;
+        } catch (IOException ex) {
+            LogManager.getLogger().error("Failed to load the board " + boardFile, ex);
+            return null;
+        }
+    }
+
+    private @Nullable BufferedImage readPreview(final String key) {
+        final File file = previewFile(key);
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            // Marks the file as recently used for pruning
+            file.setLastModified(System.currentTimeMillis());
+            return ImageIO.read(file);
+        } catch (IOException ex) {
+            LogManager.getLogger().warn("Failed to read the map preview " + file, ex);
+            return null;
+        }
+    }
+
+    private void writePreview(final String key, final @Nullable BufferedImage image) {
+        if (image == null) {
+            return;
+        }
+        final File file = previewFile(key);
+        try {
+            if (cacheDirectory.isDirectory() || cacheDirectory.mkdirs()) {
+                ImageIO.write(image, "png", file);
+            }
+        } catch (IOException ex) {
+            LogManager.getLogger().warn("Failed to save the map preview " + file, ex);
+        }
+    }
+
+    /**
+     * Deletes the least recently used saved images until the rest fit into the disk budget.
+     */
+    private void pruneDirectory() {
+        final File[] files = cacheDirectory.listFiles((dir, name) -> name.endsWith(".png"));
+        if (files == null) {
+            return;
+        }
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        if (total <= MAX_DISK_BYTES) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (total <= MAX_DISK_BYTES) {
+                break;
+            }
+            final long length = file.length();
+            if (file.delete()) {
+                total -= length;
+            } else {
+                LogManager.getLogger().warn("Failed to delete the map preview " + file);
+            }
+        }
+    }
+
+    private File previewFile(final String key) {
+        return new File(cacheDirectory, UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + ".png");
+    }
+
+    private static String createKey(final File boardFile, final boolean rotate) {
+        final File colours = new MegaMekFile(Configuration.hexesDir(),
+                GUIPreferences.getInstance().getMinimapColours()).getFile();
+        return boardFile.getAbsolutePath() + '|' + boardFile.lastModified() + '|' + boardFile.length()
+                + '|' + rotate + '|' + colours.getPath() + '|' + colours.lastModified();
+    }
+
+    private synchronized void put(final String key, final @Nullable BufferedImage image) {
+        if (image == null) {
+            return;
+        }
+        final BufferedImage previous = images.put(key, image);
+        if (previous != null) {
+            bytes -= sizeOf(previous);
+        }
+        bytes += sizeOf(image);
+        final Iterator<BufferedImage> eldest = images.values().iterator();
+        while ((bytes > MAX_BYTES) && eldest.hasNext()) {
+            bytes -= sizeOf(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private static long sizeOf(final BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * BYTES_PER_PIXEL;
+    }
+}
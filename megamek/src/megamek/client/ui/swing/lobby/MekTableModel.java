@@ -42,6 +42,11 @@ import javax.swing.table.TableCellRenderer;
 import java.awt.*;
 import java.text.NumberFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static megamek.client.ui.swing.util.UIUtil.alternateTableBGColor;
 import static megamek.client.ui.swing.util.UIUtil.guiScaledFontHTML;
@@ -89,6 +94,16 @@ public class MekTableModel extends AbstractTableModel {
     private ArrayList<String> pilotTooltips = new ArrayList<>();
     /** The displayed contents of the Player column. */
     private ArrayList<String> playerCells = new ArrayList<>();
+    /** 
+     * The C3 network members of each unit when its display content was built, as its BV
+     * depends on theirs. 
+     */
+    private ArrayList<Set<Entity>> c3Networks = new ArrayList<>();
+    /** 
+     * False when the display content of the present rows may be outdated by something other than 
+     * the entities themselves, such as the options or the players, and must not be reused. 
+     */
+    private boolean cellsValid = true;
     //endregion Variable Declarations
 
     //region Constructors
@@ -140,9 +155,83 @@ public class MekTableModel extends AbstractTableModel {
         unitCells.clear();
         pilotCells.clear();
         playerCells.clear();
+        c3Networks.clear();
+        cellsValid = true;
         fireTableDataChanged();
     }
     
+    /** 
+     * Marks the display content of all rows as outdated so that it is rebuilt the next time
+     * the units are set, even for entities that have not changed.
+     */
+    public void invalidateCells() {
+        cellsValid = false;
+    }
+    
+    /**
+     * Sets the given entities as the table rows, in their order. The display content of
+     * an entity that is already shown is reused, as an entity is replaced by a new object
+     * when it is updated; it is only built for new and updated entities and for those
+     * whose C3 network has changed or has new or updated members. The table is
+     * notified once and only of the rows that have changed, so that the selection of
+     * unchanged rows is kept.
+     */
+    public void setUnits(List<Entity> newEntities) {
+        final ArrayList<Entity> oldEntities = entities;
+        final ArrayList<Integer> oldBv = bv;
+        final ArrayList<String> oldUnitCells = unitCells;
+        final ArrayList<String> oldPilotCells = pilotCells;
+        final ArrayList<String> oldUnitTooltips = unitTooltips;
+        final ArrayList<String> oldPilotTooltips = pilotTooltips;
+        final ArrayList<String> oldPlayerCells = playerCells;
+        final ArrayList<Set<Entity>> oldC3Networks = c3Networks;
+        final Map<Entity, Integer> oldRows = new IdentityHashMap<>();
+        if (cellsValid) {
+            for (int row = 0; row < oldEntities.size(); row++) {
+                oldRows.put(oldEntities.get(row), row);
+            }
+        }
+
+        entities = new ArrayList<>(newEntities.size());
+        bv = new ArrayList<>(newEntities.size());
+        unitCells = new ArrayList<>(newEntities.size());
+        pilotCells = new ArrayList<>(newEntities.size());
+        unitTooltips = new ArrayList<>(newEntities.size());
+        pilotTooltips = new ArrayList<>(newEntities.size());
+        playerCells = new ArrayList<>(newEntities.size());
+        c3Networks = new ArrayList<>(newEntities.size());
+        int firstChanged = -1;
+        int lastChanged = -1;
+        for (Entity entity : newEntities) {
+            final int row = entities.size();
+            final Integer oldRow = oldRows.get(entity);
+            entities.add(entity);
+            final Set<Entity> c3Network = c3NetworkOf(entity);
+            if ((oldRow != null) && c3Network.equals(oldC3Networks.get(oldRow))) {
+                bv.add(oldBv.get(oldRow));
+                unitCells.add(oldUnitCells.get(oldRow));
+                pilotCells.add(oldPilotCells.get(oldRow));
+                unitTooltips.add(oldUnitTooltips.get(oldRow));
+                pilotTooltips.add(oldPilotTooltips.get(oldRow));
+                playerCells.add(oldPlayerCells.get(oldRow));
+                c3Networks.add(c3Network);
+            } else {
+                addCellData(entity);
+            }
+            if ((oldRow == null) || (oldRow != row)) {
+                firstChanged = (firstChanged == -1) ? row : firstChanged;
+                lastChanged = row;
+            }
+        }
+        cellsValid = true;
+
+        if (entities.size() != oldEntities.size()) {
+            fireTableDataChanged();
+        } else if (firstChanged != -1) {
+            fireTableRowsUpdated(firstChanged, lastChanged);
+        }
+    }
+    
     /** 
      * Rebuilds the display content of the table cells from the present entity list.
      * Used when the GUI scale changes. 
@@ -154,9 +243,11 @@ public class MekTableModel extends AbstractTableModel {
         playerCells.clear();
         unitCells.clear();
         pilotCells.clear();
+        c3Networks.clear();
         for (Entity entity: entities) {
             addCellData(entity);
         }
+        cellsValid = true;
         fireTableDataChanged();
     }
 
@@ -173,6 +264,7 @@ public class MekTableModel extends AbstractTableModel {
      * the display content will be added as a new last table row. 
      */  
     private void addCellData(Entity entity) {
+        c3Networks.add(c3NetworkOf(entity));
         bv.add(entity.calculateBattleValue());
         playerCells.add(playerCellContent(entity));
 
@@ -202,6 +294,19 @@ public class MekTableModel extends AbstractTableModel {
 
     }
     
+    /** 
+     * Returns the C3 network members of the given entity, including itself, as the very objects. 
+     * Updated members are new objects, so an updated member makes this set differ.
+     */
+    private Set<Entity> c3NetworkOf(Entity entity) {
+        if (!entity.hasAnyC3System()) {
+            return Collections.emptySet();
+        }
+        final Set<Entity> members = Collections.newSetFromMap(new IdentityHashMap<>());
+        members.addAll(clientGui.getClient().getGame().getC3NetworkMembers(entity));
+        return members;
+    }
+    
     /** Returns the tooltip for the given row and column from the tooltip cache. */
     public String getTooltip(int row, int col) {
         if (col == COLS.PILOT.ordinal()) {
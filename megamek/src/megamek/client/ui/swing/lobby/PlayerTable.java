@@ -204,7 +204,8 @@ class PlayerTable extends JTable {
             result.append(guiScaledFontHTML());
             result.append("BV: ");
             NumberFormat formatter = NumberFormat.getIntegerInstance(PreferenceManager.getClientPreferences().getLocale());
-            result.append((player.getBV() != 0) ? formatter.format(player.getBV()) : "--");
+            int playerBV = player.getBV();
+            result.append((playerBV != 0) ? formatter.format(playerBV) : "--");
             result.append("</FONT>");
 
             // Initiative Mod
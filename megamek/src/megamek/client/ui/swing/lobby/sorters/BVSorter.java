@@ -23,6 +23,9 @@ import megamek.common.Entity;
 import megamek.common.options.GameOptions;
 import megamek.common.options.OptionsConstants;
 
+import java.util.List;
+import java.util.function.ToIntFunction;
+
 /** A Lobby Mek Table sorter that sorts by BV. */
 public class BVSorter implements MekTableSorter {
 
@@ -35,8 +38,18 @@ public class BVSorter implements MekTableSorter {
 
     @Override
     public int compare(final Entity a, final Entity b) {
-        int aBV = a.calculateBattleValue();
-        int bBV = b.calculateBattleValue();
+        return compare(a, b, Entity::calculateBattleValue);
+    }
+
+    /** Sorts the entities, calculating the BV of each entity only once. */
+    @Override
+    public void sort(List<Entity> entities) {
+        MekTableSorter.sortByBV(entities, this::compare);
+    }
+
+    private int compare(final Entity a, final Entity b, final ToIntFunction<Entity> bvOf) {
+        int aBV = bvOf.applyAsInt(a);
+        int bBV = bvOf.applyAsInt(b);
         if (bBV > aBV) {
             return smaller(direction);
         } else if (bBV < aBV) {
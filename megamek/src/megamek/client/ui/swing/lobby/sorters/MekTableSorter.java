@@ -19,6 +19,10 @@
 package megamek.client.ui.swing.lobby.sorters;
 
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 
 import megamek.common.Entity;
 import megamek.common.options.GameOptions;
@@ -52,6 +56,33 @@ public interface MekTableSorter extends Comparator<Entity> {
         return null;
     };
     
+    /**
+     * Sorts the given list of entities with this sorter. Sorters that compare by a value that
+     * is expensive to calculate override this to calculate the value only once per entity
+     * rather than in every comparison.
+     */
+    default void sort(List<Entity> entities) {
+        entities.sort(this);
+    }
+    
+    /** A comparison of two entities that gets the BV of an entity from the given function. */
+    @FunctionalInterface
+    interface BVComparison {
+        int compare(Entity a, Entity b, ToIntFunction<Entity> bvOf);
+    }
+    
+    /**
+     * Sorts the given list of entities with the given comparison, calculating the BV of each
+     * entity only once.
+     */
+    static void sortByBV(List<Entity> entities, BVComparison comparison) {
+        final Map<Entity, Integer> bvs = new IdentityHashMap<>();
+        for (Entity entity : entities) {
+            bvs.put(entity, entity.calculateBattleValue());
+        }
+        entities.sort((a, b) -> comparison.compare(a, b, bvs::get));
+    }
+    
     /** Returns 1 if dir is ASCENDING, -1 otherwise. */
     default int bigger(Sorting dir) {
         return dir == Sorting.ASCENDING ? 1 : -1;
@@ -23,6 +23,9 @@ import megamek.client.ui.swing.lobby.MekTableModel;
 import megamek.common.Entity;
 import megamek.common.Player;
 
+import java.util.List;
+import java.util.function.ToIntFunction;
+
 /** A Lobby Mek Table sorter that sorts for 1) Player 2) BV. */
 public class PlayerBVSorter implements MekTableSorter {
     
@@ -37,6 +40,16 @@ public class PlayerBVSorter implements MekTableSorter {
     
     @Override
     public int compare(final Entity a, final Entity b) {
+        return compare(a, b, Entity::calculateBattleValue);
+    }
+
+    /** Sorts the entities, calculating the BV of each entity only once. */
+    @Override
+    public void sort(List<Entity> entities) {
+        MekTableSorter.sortByBV(entities, this::compare);
+    }
+
+    private int compare(final Entity a, final Entity b, final ToIntFunction<Entity> bvOf) {
         final Player p_a = clientGui.getClient().getGame().getPlayer(a.getOwnerId());
         final Player p_b = clientGui.getClient().getGame().getPlayer(b.getOwnerId());
         final Player localPlayer = clientGui.getClient().getLocalPlayer();
@@ -55,8 +68,8 @@ public class PlayerBVSorter implements MekTableSorter {
         } else if (!p_a.equals(p_b)) {
             return p_a.getName().compareTo(p_b.getName());
         } else {
-            int aBV = a.calculateBattleValue();
-            int bBV = b.calculateBattleValue();
+            int aBV = bvOf.applyAsInt(a);
+            int bBV = bvOf.applyAsInt(b);
             if (bBV > aBV) {
                 return smaller(direction);
             } else if (bBV < aBV) {
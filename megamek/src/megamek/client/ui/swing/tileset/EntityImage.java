@@ -30,7 +30,9 @@ import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.*;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 
 /** Handles the rotated and damaged and preview images for a unit. */
@@ -96,6 +98,8 @@ public class EntityImage {
         dmgEmpty = TilesetManager.LoadSpecificImage(DECAL_PATH, FILE_DAMAGEDECAL_EMPTY.toString());
     }
 
+    /** The unit image as loaded, before the camo is applied. */
+    private final Image source;
     /** The base (unit) image used for this icon. */
     private Image base;
     /** The wreck base image used for this icon. */
@@ -109,6 +113,10 @@ public class EntityImage {
     private Camouflage camouflage;
     private Image[] facings = new Image[6];
     private Image[] wreckFacings = new Image[6];
+    /** The pixels of the camo image, grabbed when first needed. */
+    private int[] camoPixels;
+    /** The pixels of the damage decal image, grabbed when first needed. */
+    private int[] decalPixels;
     private Component parent;
     /** The damage level, from none to crippled. */
     private final int dmgLevel;
@@ -141,6 +149,7 @@ public class EntityImage {
     public EntityImage(Image base, Image wreck, Camouflage camouflage, Component comp,
                        Entity entity, int secondaryPos, boolean preview) {
         this.base = base;
+        this.source = base;
         setCamouflage(camouflage);
         parent = comp;
         this.wreck = wreck;
@@ -201,57 +210,106 @@ public class EntityImage {
         return dmgLevel;
     }
 
-    /** Creates images applying damage decals, rotating and scaling. */
+    /**
+     * Creates images applying damage decals, rotating and scaling. The images are shared with
+     * all other EntityImages of the same unit image, camo and damage through the
+     * {@link TintedImageCache}.
+     */
     public void loadFacings() {
-        if (base == null) {
+        if (source == null) {
             return;
         }
 
+        final List<TintedImageCache.Key> keys = new ArrayList<>();
         for (int i = 0; i < 6; i++) {
-            // Apply the player/unit camouflage
-            Image fImage = applyColor(base, i);
-
-            // Add damage scars and smoke/fire; not to Infantry
-            if (!isInfantry && GUIPreferences.getInstance().getShowDamageDecal()) {
-                fImage = applyDamageDecal(fImage);
-                // No smoke in the lobby
-                if (!isPreview) {
-                    fImage = applyDamageSmoke(fImage);
-                }
+            keys.add(imageKey(TintedImageCache.Kind.FACING, source, i));
+        }
+        if (wreck != null) {
+            for (int i = 0; i < 6; i++) {
+                keys.add(imageKey(TintedImageCache.Kind.WRECK_FACING, wreck, i));
             }
+        }
+        keys.add(imageKey(TintedImageCache.Kind.TINTED, source, 0));
+        final Image[] images = TintedImageCache.getInstance().getAll(keys, this::createImage);
 
-            // Generate rotated images for the unit and for a wreck
-            facings[i] = rotateImage(fImage, i);
+        System.arraycopy(images, 0, facings, 0, 6);
+        if (wreck != null) {
+            System.arraycopy(images, 6, wreckFacings, 0, 6);
         }
 
-        // Apply the player/unit camouflage
-        base = applyColor(base, 0);
-        
+        // The player/unit camouflage without damage
+        base = images[images.length - 1];
+
         // Save a small icon (without damage decals) for the unit overview
         icon = ImageUtil.getScaledImage(base,  56, 48);
-        
-        if (wreck != null) {
-            wreck = applyColor(wreck, 0);
-
-            // Add damage scars and smoke/fire; not to Infantry
-            if (!isInfantry && GUIPreferences.getInstance().getShowDamageDecal()) {
-                wreck = applyDamageDecal(wreck);
-                // No smoke in the lobby
-                if (!isPreview) {
-                    wreck = applyDamageSmoke(wreck);
-                }
-            }
+    }
 
-            for (int i = 0; i < 6; i++) {
-                wreckFacings[i] = rotateImage(wreck, i);
-            }
+    /**
+     * @return the cache key for an image of the given kind made from the given unit or wreck image
+     */
+    private TintedImageCache.Key imageKey(TintedImageCache.Kind kind, Image image, int facing) {
+        final boolean damaged = (kind != TintedImageCache.Kind.TINTED) && showsDamage();
+        final boolean overlay = !isInfantry
+                && GUIPreferences.getInstance().getBoolean(GUIPreferences.ADVANCED_USE_CAMO_OVERLAY);
+        return new TintedImageCache.Key(kind, image, getCamouflage(), damaged ? decal : null,
+                (damaged && !isPreview) ? smoke : null, pos, facing, overlay);
+    }
+
+    /** @return true when damage scars and smoke/fire are added to the images; not to Infantry */
+    private boolean showsDamage() {
+        return !isInfantry && GUIPreferences.getInstance().getShowDamageDecal();
+    }
+
+    /** Creates the image for the given cache key. Called on the cache's background threads. */
+    private Image createImage(TintedImageCache.Key key) {
+        switch (key.getKind()) {
+            case FACING:
+                return rotateImage(composeImage(key.getSource(), key.getFacing(), true), key.getFacing());
+            case WRECK_FACING:
+                return rotateImage(composeImage(key.getSource(), 0, true), key.getFacing());
+            case PREVIEW:
+                return composeImage(key.getSource(), 0, true);
+            default:
+                return composeImage(key.getSource(), 0, false);
+        }
+    }
+
+    /**
+     * Applies the camouflage and, if damaged is true, the damage decal and smoke to the given
+     * unit image. Works on the pixel data directly and creates a single image at the end.
+     */
+    private Image composeImage(Image image, int facing, boolean damaged) {
+        final int[] pixels = new int[IMG_SIZE];
+        try {
+            grabImagePixels(image, pixels);
+        } catch (Exception e) {
+            LogManager.getLogger().error("Failed to grab pixels for an image to apply the camo." + e.getMessage());
+            return image;
+        }
+
+        // Apply the player/unit camouflage
+        applyColor(pixels, facing);
+
+        // Add damage scars and smoke/fire; not to Infantry
+        damaged &= showsDamage();
+        if (damaged) {
+            applyDamageDecal(pixels);
+        }
+
+        BufferedImage result = ImageUtil.createAcceleratedImage(IMG_WIDTH, IMG_HEIGHT);
+        result.setRGB(0, 0, IMG_WIDTH, IMG_HEIGHT, pixels, 0, IMG_WIDTH);
+
+        // No smoke in the lobby
+        if (damaged && !isPreview) {
+            applyDamageSmoke(result);
         }
+        return result;
     }
 
     /** Rotates a given unit image into direction dir. */
     private BufferedImage rotateImage(Image img, int dir) {
-        double cx = base.getWidth(parent) / 2.0;
-        double cy = base.getHeight(parent) / 2.0;
+        double cx = source.getWidth(parent) / 2.0;
+        double cy = source.getHeight(parent) / 2.0;
         AffineTransformOp xform = new AffineTransformOp(
                 AffineTransform.getRotateInstance(
                         (-Math.PI / 3) * (6 - dir), cx, cy),
@@ -285,44 +343,33 @@ public class EntityImage {
     }
 
     public Image loadPreviewImage() {
-        if (base == null) {
+        if (source == null) {
             return null;
         }
 
-        base = applyColor(getBase(), 0);
-
-        // Add damage scars and smoke/fire; not to Infantry
-        if (!isInfantry && GUIPreferences.getInstance().getShowDamageDecal()) {
-            base = applyDamageDecal(getBase());
-            // No smoke in the lobby
-            if (!isPreview) {
-                base = applyDamageSmoke(getBase());
-            }
-        }
+        base = TintedImageCache.getInstance().get(imageKey(TintedImageCache.Kind.PREVIEW, source, 0),
+                this::createImage);
         return getBase();
     }
 
-    /** Applies the unit individual or player camouflage to the icon. */
-    private Image applyColor(Image image, int facing) {
-        if (image == null) {
-            return null;
-        }
+    /** Applies the unit individual or player camouflage to the icon pixels. */
+    private void applyColor(int[] pMech, int facing) {
         final boolean colourCamouflage = getCamouflage().isColourCamouflage();
         final int colour = colourCamouflage ? PlayerColour.parseFromString(getCamouflage().getFilename()).getHex() : -1;
 
-        // Prepare the images for access
-        int[] pMech = new int[IMG_SIZE];
-        int[] pCamo = new int[IMG_SIZE];
-        try {
-            grabImagePixels(image, pMech);
-            if (!colourCamouflage) {
-                grabImagePixels(camouflage.getImage(), pCamo);
+        // Prepare the camo for access
+        int[] pCamo = null;
+        if (!colourCamouflage) {
+            pCamo = getCamoPixels();
+            if (pCamo == null) {
+                return;
             }
-        } catch (Exception e) {
-            LogManager.getLogger().error("Failed to grab pixels for an image to apply the camo." + e.getMessage());
-            return image;
         }
 
+        // Pretreat with the camo overlay (but not Infantry, they're too small, it'll just darken them)
+        final boolean useOverlay = !isInfantry
+                && GUIPreferences.getInstance().getBoolean(GUIPreferences.ADVANCED_USE_CAMO_OVERLAY);
+
         // Overlay the camo or color
         for (int i = 0; i < IMG_SIZE; i++) {
             int pixel = pMech[i];
@@ -343,12 +390,7 @@ public class EntityImage {
                 int green1 = (pixel1 >> 8) & 0xff;
                 int blue1 = (pixel1) & 0xff;
 
-                // Pretreat with the camo overlay (but not Infantry, they're too small, it'll just darken them)
-                int oalpha = 128;
-                if (GUIPreferences.getInstance().getBoolean(GUIPreferences.ADVANCED_USE_CAMO_OVERLAY)
-                        && !isInfantry) {
-                    oalpha = pOverlays[facing][i] & 0xff;
-                }
+                int oalpha = useOverlay ? (pOverlays[facing][i] & 0xff) : 128;
                 
                 // "Overlay" image combination formula
                 if (oalpha < 128) {
@@ -367,32 +409,47 @@ public class EntityImage {
                 pMech[i] = (alpha << 24) | (red2 << 16) | (green2 << 8) | blue2;
             }
         }
-        
-        Image result = parent.createImage(new MemoryImageSource(IMG_WIDTH,
-                IMG_HEIGHT, pMech, 0, IMG_WIDTH));
-        return ImageUtil.createAcceleratedImage(result);
     }
-    
-    /** Applies the damage decal image to the icon. */
-    private Image applyDamageDecal(Image image) {
-        if (image == null) {
-            return null;
+
+    /** @return the camo image pixels, or null if they can't be read */
+    private synchronized int[] getCamoPixels() {
+        if (camoPixels == null) {
+            int[] pixels = new int[IMG_SIZE];
+            try {
+                grabImagePixels(camouflage.getImage(), pixels);
+                camoPixels = pixels;
+            } catch (Exception e) {
+                LogManager.getLogger().error("Failed to grab pixels for an image to apply the camo." + e.getMessage());
+            }
         }
-        
+        return camoPixels;
+    }
+
+    /** @return the damage decal pixels, or null if they can't be read */
+    private synchronized int[] getDecalPixels() {
+        if (decalPixels == null) {
+            int[] pixels = new int[IMG_SIZE];
+            try {
+                grabImagePixels(decal, pixels);
+                decalPixels = pixels;
+            } catch (Exception e) {
+                LogManager.getLogger().error("Failed to grab pixels for an image to apply the decal. " + e.getMessage());
+            }
+        }
+        return decalPixels;
+    }
+    
+    /** Applies the damage decal image to the icon pixels. */
+    private void applyDamageDecal(int[] pUnit) {
         // Get the damage decal; will be null for undamaged
         if (decal == null) {
-            return image;
+            return;
         }
         
-        // Prepare the images for access
-        int[] pUnit = new int[IMG_SIZE];
-        int[] pDmgD = new int[IMG_SIZE];
-        try {
-            grabImagePixels(image, pUnit);
-            grabImagePixels(decal, pDmgD);
-        } catch (Exception e) {
-            LogManager.getLogger().error("Failed to grab pixels for an image to apply the decal. " + e.getMessage());
-            return image;
+        // Prepare the decal for access
+        int[] pDmgD = getDecalPixels();
+        if (pDmgD == null) {
+            return;
         }
 
         // Overlay the damage decal where the unit image 
@@ -418,27 +475,18 @@ public class EntityImage {
                 pUnit[i] = (alp << 24) | (red << 16) | (grn << 8) | blu;
             }
         }
-        
-        Image temp = parent.createImage(new MemoryImageSource(IMG_WIDTH,
-                IMG_HEIGHT, pUnit, 0, IMG_WIDTH));
-        return ImageUtil.createAcceleratedImage(temp);
     }
     
-    /** Applies the smoke/fire image to the icon. */
-    private Image applyDamageSmoke(Image image) {
-        if (image == null) {
-            return null;
-        }
-        
+    /** Draws the smoke/fire image onto the icon. */
+    private void applyDamageSmoke(BufferedImage image) {
         // Get the smoke image for heavier damage; is transparent for lighter damage
         if (smoke == null) {
             LogManager.getLogger().error("Smoke decal image is null.");
-            return image;
+            return;
         }
         
         // Overlay the smoke image
-        Image result = ImageUtil.createAcceleratedImage(image);
-        Graphics g = result.getGraphics();
+        Graphics g = image.getGraphics();
         if (isSingleHex) {
             g.drawImage(smoke, 0, 0, null);
         } else {
@@ -447,12 +495,17 @@ public class EntityImage {
             int sy = smoke.getHeight(null) / 2 - IMG_HEIGHT / 2 + Y_POS[pos];
             g.drawImage(smoke, 0, 0, IMG_WIDTH, IMG_HEIGHT, sx, sy, sx + IMG_WIDTH, sy + IMG_HEIGHT, null);
         }
-
-        return result;
+        g.dispose();
     }
 
     /** Initiates the PixelGrabber for the given image and int array. */
     private static void grabImagePixels(Image img, int[] pixels) throws InterruptedException, RuntimeException {
+        if ((img instanceof BufferedImage) && (((BufferedImage) img).getWidth() >= IMG_WIDTH)
+                && (((BufferedImage) img).getHeight() >= IMG_HEIGHT)) {
+            // Read the raster directly
+            ((BufferedImage) img).getRGB(0, 0, IMG_WIDTH, IMG_HEIGHT, pixels, 0, IMG_WIDTH);
+            return;
+        }
         PixelGrabber pg = new PixelGrabber(img, 0, 0, IMG_WIDTH, IMG_HEIGHT, pixels, 0, IMG_WIDTH);
         pg.grabPixels();
         if ((pg.getStatus() & ImageObserver.ABORT) != 0) {
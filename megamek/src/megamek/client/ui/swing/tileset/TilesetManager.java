@@ -83,7 +83,6 @@ public class TilesetManager implements IPreferenceChangeListener, ITilesetManage
     // mech images
     private MechTileset wreckTileset = new MechTileset(
             new MegaMekFile(Configuration.unitImagesDir(), DIR_NAME_WRECKS).getFile());
-    private List<EntityImage> mechImageList = new ArrayList<>();
     private Map<ArrayList<Integer>, EntityImage> mechImages = new HashMap<>();
     private Map<String, Image> wreckageDecals = new HashMap<>();
     private Map<String, Integer> wreckageDecalCount;
@@ -585,27 +584,12 @@ public class TilesetManager implements IPreferenceChangeListener, ITilesetManage
 
         Camouflage camouflage = (player == null) ? new Camouflage()
                 : entity.getCamouflageOrElse(player.getCamouflage());
-        EntityImage entityImage = null;
-
-        // check if we have a duplicate image already loaded
-        for (Iterator<EntityImage> j = mechImageList.iterator(); j.hasNext();) {
-            EntityImage onList = j.next();
-            if ((onList.getBase() != null) && onList.getBase().equals(base)
-                    && onList.getCamouflage().equals(camouflage)
-                    && (onList.getDmgLvl() == entity.getDamageLevel(false))) {
-                entityImage = onList;
-                break;
-            }
-        }
-
-        // if we don't have a cached image, make a new one
-        if (entityImage == null) {
-            entityImage = new EntityImage(base, wreck, camouflage, boardview, entity, secondaryPos);
-            mechImageList.add(entityImage);
-            entityImage.loadFacings();
-            for (int j = 0; j < 6; j++) {
-                tracker.addImage(entityImage.getFacing(j), 1);
-            }
+        // The tinted images are shared through the TintedImageCache, so only the first
+        // EntityImage for a unit image, camo and damage level does the work
+        EntityImage entityImage = new EntityImage(base, wreck, camouflage, boardview, entity, secondaryPos);
+        entityImage.loadFacings();
+        for (int j = 0; j < 6; j++) {
+            tracker.addImage(entityImage.getFacing(j), 1);
         }
 
         // relate this id to this image set
@@ -624,7 +608,6 @@ public class TilesetManager implements IPreferenceChangeListener, ITilesetManage
         started = false;
 
         tracker = new MediaTracker(boardview);
-        mechImageList.clear();
         mechImages.clear();
         hexTileset.clearAllHexes();
     }  
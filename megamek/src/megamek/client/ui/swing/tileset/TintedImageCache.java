@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.swing.tileset;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.icons.Camouflage;
+import org.apache.logging.log4j.LogManager;
+
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * A process-wide cache of the camo-tinted, damaged and rotated unit images created by
+ * {@link EntityImage}. Tinting a unit image is expensive and the same unit, camo and damage
+ * are drawn by the board view, the minimap, the unit display and the lobby, each of which
+ * otherwise creates its own images.
+ *
+ * The cache holds the most recently used images up to a fixed memory budget. Missing images
+ * are created on a small pool of background threads.
+ */
+final class TintedImageCache {
+    //region Variable Declarations
+    /** The memory budget for the cached images, in bytes */
+    private static final long MAX_BYTES = Math.min(64L << 20, Runtime.getRuntime().maxMemory() / 8);
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final TintedImageCache instance = new TintedImageCache();
+
+    private final LinkedHashMap<Key, Image> images = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes = 0;
+    private final ExecutorService pool;
+    //endregion Variable Declarations
+
+    /** The kinds of image created from a unit image */
+    enum Kind {
+        /** The tinted and damaged image rotated to a facing */
+        FACING,
+        /** The tinted and damaged wreck image rotated to a facing */
+        WRECK_FACING,
+        /** The tinted image without damage, unrotated */
+        TINTED,
+        /** The tinted and damaged image, unrotated */
+        PREVIEW
+    }
+
+    /**
+     * Identifies a cached image by everything its pixels depend on. Images are compared by
+     * identity, as the unit, decal and smoke images are loaded once and then shared.
+     */
+    static final class Key {
+        private final Kind kind;
+        private final Image source;
+        private final Camouflage camouflage;
+        private final Image decal;
+        private final Image smoke;
+        private final int pos;
+        private final int facing;
+        private final boolean overlay;
+
+        /**
+         * @param kind       the kind of image
+         * @param source     the unit or wreck image
+         * @param camouflage the camo or colour applied
+         * @param decal      the damage decal, null if none is applied
+         * @param smoke      the smoke and fire image, null if none is applied
+         * @param pos        the position in multi-hex units, -1 for single hex units
+         * @param facing     the facing the image is rotated to
+         * @param overlay    true if the facing-dependent camo overlay is applied
+         */
+        Key(Kind kind, Image source, Camouflage camouflage, @Nullable Image decal,
+            @Nullable Image smoke, int pos, int facing, boolean overlay) {
+            this.kind = kind;
+            this.source = source;
+            this.camouflage = camouflage;
+            this.decal = decal;
+            this.smoke = smoke;
+            this.pos = pos;
+            this.facing = facing;
+            this.overlay = overlay;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return (kind == key.kind) && (source == key.source) && (decal == key.decal)
+                    && (smoke == key.smoke) && (pos == key.pos) && (facing == key.facing)
+                    && (overlay == key.overlay) && camouflage.equals(key.camouflage);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, System.identityHashCode(source), camouflage,
+                    System.identityHashCode(decal), System.identityHashCode(smoke), pos, facing, overlay);
+        }
+
+        Kind getKind() {
+            return kind;
+        }
+
+        Image getSource() {
+            return source;
+        }
+
+        int getFacing() {
+            return facing;
+        }
+    }
+
+    //region Constructors
+    private TintedImageCache() {
+        final int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        pool = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "Unit Image Tinting");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+
+    static TintedImageCache getInstance() {
+        return instance;
+    }
+    //endregion Constructors
+
+    /**
+     * Returns the images for the given keys. Images that are not cached are created in
+     * parallel on the background threads; this waits until all of them are ready.
+     *
+     * @param keys    the keys of the images
+     * @param creator creates the image for a key; may return null if the image can't be made
+     * @return the images, in the order of the keys
+     */
+    Image[] getAll(final List<Key> keys, final Function<Key, Image> creator) {
+        final Image[] result = new Image[keys.size()];
+        final Map<Integer, Future<Image>> pending = new HashMap<>();
+        synchronized (this) {
+            for (int i = 0; i < keys.size(); i++) {
+                result[i] = images.get(keys.get(i));
+            }
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            if (result[i] == null) {
+                final Key key = keys.get(i);
+                pending.put(i, pool.submit(() -> creator.apply(key)));
+            }
+        }
+        for (Map.Entry<Integer, Future<Image>> entry : pending.entrySet()) {
+            try {
+                result[entry.getKey()] = entry.getValue().get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return result;
+            } catch (ExecutionException ex) {
+                LogManager.getLogger().error("Failed to create a unit image", ex.getCause());
+            }
+            put(keys.get(entry.getKey()), result[entry.getKey()]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the image for the given key, creating it on the calling thread if it is not cached.
+     */
+    @Nullable Image get(final Key key, final Function<Key, Image> creator) {
+        synchronized (this) {
+            final Image image = images.get(key);
+            if (image != null) {
+                return image;
+            }
+        }
+        final Image image = creator.apply(key);
+        put(key, image);
+        return image;
+    }
+
+    private synchronized void put(final Key key, final @Nullable Image image) {
+        if (image == null) {
+            return;
+        }
+        final Image previous = images.put(key, image);
+        if (previous != null) {
+            bytes -= sizeOf(previous);
+        }
+        bytes += sizeOf(image);
+        final Iterator<Image> eldest = images.values().iterator();
+        while ((bytes > MAX_BYTES) && eldest.hasNext()) {
+            bytes -= sizeOf(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private static long sizeOf(final Image image) {
+        return (long) Math.max(1, image.getWidth(null)) * Math.max(1, image.getHeight(null)) * BYTES_PER_PIXEL;
+    }
+}
@@ -2821,8 +2821,7 @@ public class AmmoType extends EquipmentType {
         AmmoType.createMunitions(clanHeavyFlamerAmmos, munitions);
 
         // cache types that share a launcher for loadout purposes
-        for (Enumeration<EquipmentType> e = EquipmentType.getAllTypes(); e.hasMoreElements();) {
-            EquipmentType et = e.nextElement();
+        for (EquipmentType et : allTypes) {
             if (!(et instanceof AmmoType)) {
                 continue;
             }
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.util.StringUtil;
+import megamek.common.util.fileUtils.MegaMekFile;
+import org.apache.logging.log4j.LogManager;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An index of the board files in the boards directories that records the size, tags and
+ * validity of each board. Answering these questions otherwise requires opening and tokenizing
+ * every board file, which is what happens each time the server sends the map sizes or scans for
+ * the boards of a size.
+ *
+ * The index is kept in memory and saved to a cache file in the boards directory. An entry is
+ * re-read only when the modification time or length of its board file changes, so after the
+ * first scan a refresh only needs to list the directories.
+ */
+public final class BoardCatalog {
+    //region Variable Declarations
+    private static final String FILENAME_BOARDS_CACHE = "boards.cache";
+    private static final String BOARD_EXTENSION = ".board";
+
+    private static BoardCatalog instance;
+
+    /** The catalog entries keyed by the absolute path of the board file */
+    private final Map<String, BoardInfo> entries = new HashMap<>();
+    private final File cacheFile;
+    private boolean changed = false;
+    //endregion Variable Declarations
+
+    /**
+     * The data recorded for a single board file
+     */
+    private static class BoardInfo implements Serializable {
+        private static final long serialVersionUID = 3530412906468016374L;
+
+        private final long lastModified;
+        private final long length;
+        /** 0 if the file has no readable size */
+        private final int width;
+        private final int height;
+        private final Set<String> tags;
+        /** Null until the board has been fully loaded once */
+        private Boolean valid;
+
+        BoardInfo(long lastModified, long length, int width, int height, Set<String> tags) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.width = width;
+            this.height = height;
+            this.tags = tags;
+        }
+
+        boolean isCurrent(File file) {
+            return (lastModified == file.lastModified()) && (length == file.length());
+        }
+
+        @Nullable BoardDimensions getSize() {
+            return ((width > 0) && (height > 0)) ? new BoardDimensions(width, height) : null;
+        }
+    }
+
+    //region Constructors
+    private BoardCatalog(File cacheFile) {
+        this.cacheFile = cacheFile;
+        loadCache();
+    }
+
+    /**
+     * @return the shared catalog, reading the cache file the first time it is called
+     */
+    public static synchronized BoardCatalog getInstance() {
+        if (instance == null) {
+            instance = new BoardCatalog(new MegaMekFile(Configuration.boardsDir(),
+                    FILENAME_BOARDS_CACHE).getFile());
+        }
+        return instance;
+    }
+    //endregion Constructors
+
+    /**
+     * @param file a board file
+     * @return the dimensions of the board, or null if the file cannot be read or has no size
+     */
+    public synchronized @Nullable BoardDimensions getSize(final File file) {
+        final BoardInfo info = findInfo(file);
+        return (info == null) ? null : info.getSize();
+    }
+
+    /**
+     * @param file a board file
+     * @return the tags of the board; empty if the file cannot be read
+     */
+    public synchronized Set<String> getTags(final File file) {
+        final BoardInfo info = findInfo(file);
+        return (info == null) ? new HashSet<>() : new HashSet<>(info.tags);
+    }
+
+    /**
+     * Checks whether the board in the given file is valid. The first check for a board loads
+     * it completely; the result is then kept until the file changes.
+     *
+     * @param file a board file
+     * @return true if the board can be read and is valid
+     */
+    public synchronized boolean isValid(final File file) {
+        final BoardInfo info = findInfo(file);
+        if (info == null) {
+            return false;
+        }
+        if (info.valid == null) {
+            final Board board = new Board(16, 17);
+            board.load(file);
+            info.valid = board.isValid();
+            changed = true;
+        }
+        return info.valid;
+    }
+
+    /**
+     * Brings the catalog up to date with the boards directories and returns all board sizes.
+     *
+     * @return the sizes of all the boards in the boards directory and the userdata boards
+     * directory
+     */
+    public synchronized Set<BoardDimensions> getBoardSizes() {
+        refresh();
+        final Set<BoardDimensions> result = new TreeSet<>();
+        for (File dir : boardDirectories()) {
+            final String prefix = dir.getAbsolutePath() + File.separator;
+            for (Map.Entry<String, BoardInfo> entry : entries.entrySet()) {
+                final BoardDimensions size = entry.getValue().getSize();
+                if (entry.getKey().startsWith(prefix) && (size != null)) {
+                    result.add(size);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Brings the catalog up to date with the boards directories and returns the boards of the
+     * given size. The names are relative to the boards directory they were found in, start with
+     * a separator and have the .board extension removed.
+     *
+     * @param size the board size to look for
+     * @return the names of the boards of the given size, sorted
+     */
+    public synchronized List<String> getBoardsOfSize(final BoardDimensions size) {
+        Objects.requireNonNull(size);
+        refresh();
+        final List<String> result = new ArrayList<>();
+        for (File dir : boardDirectories()) {
+            final String base = dir.getAbsolutePath();
+            for (Map.Entry<String, BoardInfo> entry : entries.entrySet()) {
+                if (entry.getKey().startsWith(base + File.separator)
+                        && size.equals(entry.getValue().getSize())) {
+                    final String path = entry.getKey();
+                    result.add(path.substring(base.length(), path.length() - BOARD_EXTENSION.length()));
+                }
+            }
+        }
+        result.sort(StringUtil.stringComparator());
+        return result;
+    }
+
+    /**
+     * Scans the boards directories, re-reads any board file that was added or changed since it
+     * was last cataloged, drops entries for removed files and saves the cache if anything changed.
+     */
+    public synchronized void refresh() {
+        final Set<String> seen = new HashSet<>();
+        for (File dir : boardDirectories()) {
+            refreshDirectory(dir, seen);
+        }
+        if (entries.keySet().removeIf(path -> !seen.contains(path) && !new File(path).exists())) {
+            changed = true;
+        }
+        saveCache();
+    }
+
+    private void refreshDirectory(final File dir, final Set<String> seen) {
+        final File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                refreshDirectory(file, seen);
+            } else if (file.getName().endsWith(BOARD_EXTENSION)) {
+                if (findInfo(file) == null) {
+                    LogManager.getLogger().error("Error parsing board: " + file.getAbsolutePath());
+                }
+                seen.add(file.getAbsolutePath());
+            }
+        }
+    }
+
+    private List<File> boardDirectories() {
+        final List<File> result = new ArrayList<>();
+        if (Configuration.boardsDir().isDirectory()) {
+            result.add(Configuration.boardsDir());
+        }
+        final File userBoards = new File(Configuration.userdataDir(), Configuration.boardsDir().toString());
+        if (userBoards.isDirectory()) {
+            result.add(userBoards);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the catalog entry for the file, reading the file if there is no entry or the file
+     * has changed since it was cataloged.
+     */
+    private @Nullable BoardInfo findInfo(final File file) {
+        final String key = file.getAbsolutePath();
+        BoardInfo info = entries.get(key);
+        if ((info != null) && info.isCurrent(file)) {
+            return info;
+        }
+        info = readInfo(file);
+        if (info == null) {
+            if (entries.remove(key) != null) {
+                changed = true;
+            }
+        } else {
+            entries.put(key, info);
+            changed = true;
+        }
+        return info;
+    }
+
+    /**
+     * Reads the size and tags from the header of a board file in a single pass.
+     */
+    private static @Nullable BoardInfo readInfo(final File file) {
+        final long lastModified = file.lastModified();
+        final long length = file.length();
+        int width = 0;
+        int height = 0;
+        boolean sizeFound = false;
+        final Set<String> tags = new HashSet<>();
+        try (Reader r = new BufferedReader(new FileReader(file))) {
+            StreamTokenizer st = new StreamTokenizer(r);
+            st.eolIsSignificant(true);
+            st.commentChar('#');
+            st.quoteChar('"');
+            st.wordChars('_', '_');
+            while (st.nextToken() != StreamTokenizer.TT_EOF) {
+                if ((st.ttype == StreamTokenizer.TT_WORD) && st.sval.equalsIgnoreCase("size") && !sizeFound) {
+                    st.nextToken();
+                    width = (int) st.nval;
+                    st.nextToken();
+                    height = (int) st.nval;
+                    sizeFound = true;
+                } else if ((st.ttype == StreamTokenizer.TT_WORD) && st.sval.equalsIgnoreCase("tag")) {
+                    st.nextToken();
+                    if (st.ttype == '"') {
+                        tags.add(st.sval);
+                    }
+                } else if ((st.ttype == StreamTokenizer.TT_WORD) && st.sval.equalsIgnoreCase("end")) {
+                    break;
+                }
+            }
+        } catch (IOException ex) {
+            return null;
+        }
+        return new BoardInfo(lastModified, length, width, height, tags);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadCache() {
+        if (!cacheFile.exists()) {
+            return;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new BufferedInputStream(new FileInputStream(cacheFile)))) {
+            entries.putAll((Map<String, BoardInfo>) in.readObject());
+        } catch (Exception ex) {
+            // A stale or damaged cache only costs a rescan
+            LogManager.getLogger().warn("Unable to read the board cache; all boards will be rescanned", ex);
+            entries.clear();
+        }
+    }
+
+    private void saveCache() {
+        if (!changed) {
+            return;
+        }
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new BufferedOutputStream(new FileOutputStream(cacheFile)))) {
+            out.writeObject(new HashMap<>(entries));
+            changed = false;
+        } catch (Exception ex) {
+            LogManager.getLogger().error("Unable to save the board cache", ex);
+        }
+    }
+}
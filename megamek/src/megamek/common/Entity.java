@@ -1488,6 +1488,9 @@ public abstract class Entity extends TurnOrdered implements Transporter, Targeta
         ownerId = player.getId();
 
         generateDisplayName();
+        if (game != null) {
+            game.entityOwnerChanged(this);
+        }
     }
 
     public int getOwnerId() {
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import java.util.*;
+
+/**
+ * Indexes the entities of a {@link Game} by the id of their owner, so that the units of one player
+ * can be found without looking at all the units in the game. Within each owner, entities are kept in
+ * the order of the game's list of entities: an entity keeps its place when it is replaced by an
+ * updated copy or changes owner.
+ *
+ * The game keeps the index up to date as entities are added, replaced and removed, and
+ * {@link Entity#setOwner(Player)} reports owner changes. Whether an entity is deployed, destroyed
+ * and so on changes in too many places to be indexed; queries check that on the owner's entities.
+ */
+final class EntityIndex {
+    //region Variable Declarations
+    /** The entities of each owner, by the place of the entity in the game's order */
+    private final Map<Integer, NavigableMap<Long, Entity>> byOwner = new HashMap<>();
+    /** The place in the game's order of each entity, by entity id */
+    private final Map<Integer, Long> places = new HashMap<>();
+    /** The owner each entity is indexed under, by entity id */
+    private final Map<Integer, Integer> owners = new HashMap<>();
+    private long nextPlace = 0;
+    //endregion Variable Declarations
+
+    //region Constructors
+    /**
+     * Indexes the given entities, in their order.
+     */
+    EntityIndex(Collection<Entity> entities) {
+        for (Entity entity : entities) {
+            add(entity);
+        }
+    }
+    //endregion Constructors
+
+    /**
+     * Adds an entity after all others, or puts it in place of the entity with the same id.
+     */
+    synchronized void add(Entity entity) {
+        final int id = entity.getId();
+        final Long place = places.computeIfAbsent(id, key -> nextPlace++);
+        final Integer oldOwner = owners.put(id, entity.getOwnerId());
+        if ((oldOwner != null) && (oldOwner != entity.getOwnerId())) {
+            removeFromOwner(oldOwner, place);
+        }
+        byOwner.computeIfAbsent(entity.getOwnerId(), key -> new TreeMap<>()).put(place, entity);
+    }
+
+    synchronized void remove(int id) {
+        final Long place = places.remove(id);
+        final Integer owner = owners.remove(id);
+        if ((place != null) && (owner != null)) {
+            removeFromOwner(owner, place);
+        }
+    }
+
+    private void removeFromOwner(int owner, long place) {
+        final NavigableMap<Long, Entity> entities = byOwner.get(owner);
+        if (entities != null) {
+            entities.remove(place);
+            if (entities.isEmpty()) {
+                byOwner.remove(owner);
+            }
+        }
+    }
+
+    /**
+     * @return true if the given entity itself, not another with its id, is indexed
+     */
+    synchronized boolean contains(Entity entity) {
+        final Long place = places.get(entity.getId());
+        final Integer owner = owners.get(entity.getId());
+        return (place != null) && (owner != null) && (byOwner.get(owner).get(place) == entity);
+    }
+
+    /**
+     * @return the entities of the owner with the given id, in the game's order
+     */
+    synchronized List<Entity> getOwnedBy(int ownerId) {
+        final NavigableMap<Long, Entity> entities = byOwner.get(ownerId);
+        return (entities == null) ? new ArrayList<>() : new ArrayList<>(entities.values());
+    }
+}
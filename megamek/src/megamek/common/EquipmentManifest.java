@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.weapons.infantry.InfantryWeapon;
+import org.apache.logging.log4j.LogManager;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A list of the weapons and the ammo of small weapons, in the order they are added to the
+ * equipment types, with the names each of them can be looked up by. These make up most of the
+ * equipment types, and loading the classes of the weapons is most of the time it takes to create
+ * them. With the list, {@link EquipmentType} creates each of them only when it is first looked up
+ * or all types are asked for.
+ *
+ * The list is made from the types themselves by {@link #create()} and saved as a resource; it
+ * has to be made anew whenever a weapon is added or its names change, which the
+ * equipmentManifest task of the build does. Each line holds, separated by tabs, either "weapon",
+ * the class of the weapon and its names, or "ammo", the line number (counting from 0 and not
+ * counting comments) of the infantry weapon it is for and its names.
+ */
+public final class EquipmentManifest {
+    //region Variable Declarations
+    public static final String RESOURCE = "megamek/common/equipment.manifest";
+    private static final String WEAPON = "weapon";
+    private static final String SMALL_WEAPON_AMMO = "ammo";
+    private static final String SEPARATOR = "\t";
+    private static final String COMMENT = "#";
+
+    private final List<Entry> entries;
+    /** The entry each name stands for, by the name in lower case */
+    private final Map<String, Integer> owners = new HashMap<>();
+    private final AtomicReferenceArray<EquipmentType> types;
+    //endregion Variable Declarations
+
+    /** A weapon or an ammo of a small weapon */
+    private static final class Entry {
+        private final boolean weapon;
+        /** The class of a weapon, or the index of the entry of the weapon of an ammo */
+        private final String source;
+        private final List<String> names;
+
+        Entry(boolean weapon, String source, List<String> names) {
+            this.weapon = weapon;
+            this.source = source;
+            this.names = names;
+        }
+    }
+
+    //region Constructors
+    private EquipmentManifest(List<Entry> entries) {
+        this.entries = entries;
+        types = new AtomicReferenceArray<>(entries.size());
+        // As when the types are added one by one, a name stands for the last type that has it
+        for (int index = 0; index < entries.size(); index++) {
+            for (String name : entries.get(index).names) {
+                owners.put(name.toLowerCase(), index);
+            }
+        }
+    }
+    //endregion Constructors
+
+    /**
+     * Reads the manifest resource.
+     *
+     * @return the manifest, or null if it is not present or can't be read
+     */
+    static @Nullable EquipmentManifest load() {
+        final InputStream is = EquipmentManifest.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (is == null) {
+            return null;
+        }
+        final List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith(COMMENT)) {
+                    continue;
+                }
+                final String[] fields = line.split(SEPARATOR);
+                if ((fields.length < 3) || !(fields[0].equals(WEAPON) || fields[0].equals(SMALL_WEAPON_AMMO))) {
+                    throw new IOException("Malformed line: " + line);
+                }
+                entries.add(new Entry(fields[0].equals(WEAPON), fields[1],
+                        List.of(Arrays.copyOfRange(fields, 2, fields.length))));
+            }
+        } catch (IOException ex) {
+            LogManager.getLogger().error("Failed to read the equipment manifest", ex);
+            return null;
+        }
+        return new EquipmentManifest(entries);
+    }
+
+    /**
+     * Lets the given names stand for the types that have them rather than for the weapons. These
+     * types are added after the weapons and before the ammo of small weapons.
+     *
+     * @param names the names of the types that are created at once, in lower case
+     */
+    void resolveNames(Set<String> names) {
+        for (String name : names) {
+            final Integer owner = owners.get(name);
+            if ((owner != null) && entries.get(owner).weapon) {
+                owners.remove(name);
+            }
+        }
+    }
+
+    /**
+     * @param name a name in lower case
+     * @return the type the name stands for, or null if it is not in the manifest
+     */
+    @Nullable EquipmentType get(String name) {
+        final Integer index = owners.get(name);
+        return (index == null) ? null : get(index);
+    }
+
+    private @Nullable EquipmentType get(int index) {
+        EquipmentType type = types.get(index);
+        if (type == null) {
+            synchronized (EquipmentType.class) {
+                type = types.get(index);
+                if (type == null) {
+                    type = EquipmentType.createLazily(() -> create(entries.get(index)));
+                    types.set(index, type);
+                }
+            }
+        }
+        return type;
+    }
+
+    private @Nullable EquipmentType create(Entry entry) {
+        if (entry.weapon) {
+            try {
+                return Class.forName(entry.source).asSubclass(EquipmentType.class)
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | ClassCastException ex) {
+                LogManager.getLogger().error("Failed to create the weapon " + entry.source, ex);
+                return null;
+            }
+        }
+        final EquipmentType weapon = get(Integer.parseInt(entry.source));
+        if (!(weapon instanceof InfantryWeapon)) {
+            LogManager.getLogger().error("No infantry weapon for the ammo " + entry.names.get(0));
+            return null;
+        }
+        return new SmallWeaponAmmoType((InfantryWeapon) weapon);
+    }
+
+    /**
+     * @return all weapons, in their order, creating those that have not been created yet
+     */
+    List<EquipmentType> getWeapons() {
+        return getAll(true);
+    }
+
+    /**
+     * @return all ammo of small weapons, in their order, creating those that have not been
+     * created yet
+     */
+    List<EquipmentType> getSmallWeaponAmmo() {
+        return getAll(false);
+    }
+
+    private List<EquipmentType> getAll(boolean weapons) {
+        final List<EquipmentType> retVal = new ArrayList<>();
+        for (int index = 0; index < entries.size(); index++) {
+            if (entries.get(index).weapon == weapons) {
+                final EquipmentType type = get(index);
+                if (type != null) {
+                    retVal.add(type);
+                }
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * Makes the lines of the manifest by creating the weapons and the ammo of small weapons.
+     *
+     * @return the lines of the manifest
+     * @throws IllegalStateException if a weapon can't be created from the manifest
+     */
+    public static List<String> create() {
+        final List<EquipmentType> types = EquipmentType.createManifestTypes();
+        final Iterator<InfantryWeapon> ammoUsers = SmallWeaponAmmoType.getAmmoUsers(types).iterator();
+        final Map<EquipmentType, Integer> indexes = new IdentityHashMap<>();
+        final List<String> lines = new ArrayList<>();
+        lines.add(COMMENT + " The weapons and ammo of small weapons that are created when first looked up.");
+        lines.add(COMMENT + " Generated from the equipment types; see megamek.common.EquipmentManifest.");
+        for (EquipmentType type : types) {
+            final StringJoiner line = new StringJoiner(SEPARATOR);
+            if (type instanceof SmallWeaponAmmoType) {
+                line.add(SMALL_WEAPON_AMMO).add(Integer.toString(indexes.get(ammoUsers.next())));
+            } else {
+                try {
+                    type.getClass().getConstructor();
+                } catch (NoSuchMethodException ex) {
+                    throw new IllegalStateException(type.getClass() + " has no public constructor without arguments");
+                }
+                line.add(WEAPON).add(type.getClass().getName());
+            }
+            for (Enumeration<String> names = type.getNames(); names.hasMoreElements(); ) {
+                final String name = names.nextElement();
+                if (name.contains(SEPARATOR) || name.contains("\n")) {
+                    throw new IllegalStateException("The name " + name + " can't be saved in the manifest");
+                }
+                line.add(name);
+            }
+            indexes.put(type, indexes.size());
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Makes the manifest and saves it to the given file.
+     */
+    public static void write(File file) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.UTF_8))) {
+            for (String line : create()) {
+                writer.write(line);
+                writer.write("\n");
+            }
+        }
+    }
+}
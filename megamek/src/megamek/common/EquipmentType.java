@@ -14,6 +14,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Hashtable;
@@ -21,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Vector;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import megamek.common.annotations.Nullable;
@@ -201,6 +203,14 @@ public class EquipmentType implements ITechnology {
     // static list of eq
     protected static Vector<EquipmentType> allTypes;
     protected static Hashtable<String, EquipmentType> lookupHash;
+    /** Set once all types have been added, so that other threads can look them up */
+    private static volatile boolean initialized = false;
+    /** The types that are only created when they are first needed; null if all are created at once */
+    private static EquipmentManifest manifest;
+    /** Set once the types of the manifest have all been created and added to allTypes */
+    private static volatile boolean manifestCreated = false;
+    /** The thread creating a type of the manifest, whose names must not be added to lookupHash */
+    private static volatile Thread lazyCreator;
     
     /**
     * Keeps track of page numbers for rules references.
@@ -703,47 +713,140 @@ public class EquipmentType implements ITechnology {
     }
 
     public void addLookupName(String s) {
-        EquipmentType.lookupHash.put(s.toLowerCase(), this); // static variable
+        // The manifest decides which of its types a name stands for, as it knows the types that
+        // have not been created yet
+        if (lazyCreator != Thread.currentThread()) {
+            EquipmentType.lookupHash.put(s.toLowerCase(), this); // static variable
+        }
         namesVector.addElement(s); // member variable
     }
 
     public static EquipmentType get(String key) {
-        if (null == EquipmentType.lookupHash) {
+        if (!initialized) {
             EquipmentType.initializeTypes();
         }
-        return EquipmentType.lookupHash.get(key.toLowerCase());
+        final String name = key.toLowerCase();
+        if (manifest != null) {
+            final EquipmentType type = manifest.get(name);
+            if (type != null) {
+                return type;
+            }
+        }
+        return EquipmentType.lookupHash.get(name);
     }
 
     public Enumeration<String> getNames() {
         return namesVector.elements();
     }
 
-    public static void initializeTypes() {
+    /**
+     * Creates all equipment types. This is synchronized as the types are filled in one by one,
+     * so a lookup from another thread must wait until all of them have been added.
+     *
+     * The weapons and the ammo of small weapons, which make up most of the types and take most of
+     * the time to create, are listed in the {@link EquipmentManifest}. If it is present, each of
+     * them is only created when it is first looked up or all types are asked for.
+     */
+    public static synchronized void initializeTypes() {
         if (null == EquipmentType.allTypes) {
             EquipmentType.allTypes = new Vector<>();
             EquipmentType.lookupHash = new Hashtable<>();
 
-            WeaponType.initializeTypes();
+            manifest = EquipmentManifest.load();
+            if (manifest == null) {
+                WeaponType.initializeTypes();
+            }
             AmmoType.initializeTypes();
             MiscType.initializeTypes();
             BombType.initializeTypes();
-            SmallWeaponAmmoType.initializeTypes();
+            if (manifest == null) {
+                SmallWeaponAmmoType.initializeTypes();
+            } else {
+                manifest.resolveNames(lookupHash.keySet());
+            }
             for (EquipmentType et : allTypes) {
-                if (et.getTechAdvancement().getStaticTechLevel() == null) {
-                    et.getTechAdvancement().setStaticTechLevel(et.getTechAdvancement()
-                            .guessStaticTechLevel(et.getRulesRefs()));
-                }
+                guessStaticTechLevel(et);
             }
+            initialized = true;
+        }
+    }
+
+    private static void guessStaticTechLevel(EquipmentType et) {
+        if (et.getTechAdvancement().getStaticTechLevel() == null) {
+            et.getTechAdvancement().setStaticTechLevel(et.getTechAdvancement()
+                    .guessStaticTechLevel(et.getRulesRefs()));
+        }
+    }
+
+    /**
+     * Creates a type of the manifest. Its names are not added to the lookup table, as the
+     * manifest may know other types for some of them.
+     *
+     * @param creator creates the type; may return null if it can't be created
+     * @return the type, or null if it can't be created
+     */
+    static synchronized @Nullable EquipmentType createLazily(Supplier<EquipmentType> creator) {
+        final Thread previousCreator = lazyCreator;
+        lazyCreator = Thread.currentThread();
+        final EquipmentType type;
+        try {
+            type = creator.get();
+        } finally {
+            lazyCreator = previousCreator;
+        }
+        if (type != null) {
+            guessStaticTechLevel(type);
+        }
+        return type;
+    }
+
+    /**
+     * Creates the weapons and the ammo of small weapons the way they are created when there is no
+     * manifest, without adding them to the types in use. This is what the manifest is made from.
+     *
+     * @return the types, in the order they are added
+     */
+    static synchronized List<EquipmentType> createManifestTypes() {
+        initializeTypes();
+        final Vector<EquipmentType> typesInUse = allTypes;
+        final Hashtable<String, EquipmentType> namesInUse = lookupHash;
+        allTypes = new Vector<>();
+        lookupHash = new Hashtable<>();
+        try {
+            WeaponType.initializeTypes();
+            SmallWeaponAmmoType.initializeTypes();
+            return new ArrayList<>(allTypes);
+        } finally {
+            allTypes = typesInUse;
+            lookupHash = namesInUse;
         }
     }
 
     public static Enumeration<EquipmentType> getAllTypes() {
-        if (null == EquipmentType.allTypes) {
+        if (!initialized) {
             EquipmentType.initializeTypes();
         }
+        if ((manifest != null) && !manifestCreated) {
+            createManifest();
+        }
         return EquipmentType.allTypes.elements();
     }
 
+    /**
+     * Creates all types of the manifest and puts them in the list of all types where they would
+     * be without a manifest: the weapons first and the ammo of small weapons last.
+     */
+    private static synchronized void createManifest() {
+        if (!manifestCreated) {
+            final Vector<EquipmentType> types = new Vector<>();
+            types.addAll(manifest.getWeapons());
+            types.addAll(allTypes);
+            types.addAll(manifest.getSmallWeaponAmmo());
+            allTypes = types;
+            manifestCreated = true;
+        }
+    }
+
     protected static void addType(EquipmentType type) {
         if (null == EquipmentType.allTypes) {
             EquipmentType.initializeTypes();
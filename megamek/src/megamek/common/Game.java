@@ -75,6 +75,9 @@ public class Game implements Serializable {
 
     private final Map<Coords, HashSet<Integer>> entityPosLookup = new HashMap<>();
 
+    /** The entities by owner; built when first needed, as it is not saved with the game */
+    private transient volatile EntityIndex entityIndex;
+
     /**
      * have the entities been deployed?
      */
@@ -507,13 +510,7 @@ public class Game implements Serializable {
      * status, as long as they are in the game.
      */
     public int getEntitiesOwnedBy(Player player) {
-        int count = 0;
-        for (Entity entity : entities) {
-            if ((entity != null) && player.equals(entity.getOwner())) {
-                count++;
-            }
-        }
-        return count;
+        return getOwnedEntities(player).size();
     }
 
     /**
@@ -521,12 +518,7 @@ public class Game implements Serializable {
      * status.
      */
     public int getAllEntitiesOwnedBy(Player player) {
-        int count = 0;
-        for (Entity entity : entities) {
-            if (entity.getOwner().equals(player)) {
-                count++;
-            }
-        }
+        int count = getOwnedEntities(player).size();
         for (Entity entity : vOutOfGame) {
             if (entity.getOwner().equals(player)) {
                 count++;
@@ -540,8 +532,8 @@ public class Game implements Serializable {
      */
     public int getLiveEntitiesOwnedBy(Player player) {
         int count = 0;
-        for (Entity entity : entities) {
-            if (entity.getOwner().equals(player) && !entity.isDestroyed()
+        for (Entity entity : getOwnedEntities(player)) {
+            if (!entity.isDestroyed()
                     && !entity.isCarcass()) {
                 count++;
             }
@@ -555,8 +547,8 @@ public class Game implements Serializable {
      */
     public int getLiveDeployedEntitiesOwnedBy(Player player) {
         int count = 0;
-        for (Entity entity : entities) {
-            if (entity.getOwner().equals(player) && !entity.isDestroyed()
+        for (Entity entity : getOwnedEntities(player)) {
+            if (!entity.isDestroyed()
                 && !entity.isCarcass()
                 && !entity.isOffBoard() && !entity.isCaptured()) {
                 count++;
@@ -571,8 +563,8 @@ public class Game implements Serializable {
      */
     public int getLiveCommandersOwnedBy(Player player) {
         int count = 0;
-        for (Entity entity : entities) {
-            if (entity.getOwner().equals(player) && !entity.isDestroyed()
+        for (Entity entity : getOwnedEntities(player)) {
+            if (!entity.isDestroyed()
                     && !entity.isCarcass()
                     && entity.isCommander() && !entity.isOffBoard()
                     && !entity.isCaptured()) {
@@ -586,9 +578,9 @@ public class Game implements Serializable {
      * @return true if the player has a valid unit with the Tactical Genius pilot special ability.
      */
     public boolean hasTacticalGenius(Player player) {
-        for (Entity entity : entities) {
+        for (Entity entity : getOwnedEntities(player)) {
             if (entity.hasAbility(OptionsConstants.MISC_TACTICAL_GENIUS)
-                    && entity.getOwner().equals(player) && !entity.isDestroyed() && entity.isDeployed()
+                    && !entity.isDestroyed() && entity.isDeployed()
                     && !entity.isCarcass() && !entity.getCrew().isUnconscious()) {
                 return true;
             }
@@ -911,12 +903,53 @@ public class Game implements Serializable {
         return Collections.unmodifiableList(entities);
     }
 
+    /**
+     * @return the entities in the game owned by the given player, in the order of the game
+     */
+    private List<Entity> getOwnedEntities(Player player) {
+        return getEntityIndex().getOwnedBy(player.getId());
+    }
+
+    private EntityIndex getEntityIndex() {
+        EntityIndex index = entityIndex;
+        if (index == null) {
+            synchronized (this) {
+                if (entityIndex == null) {
+                    entityIndex = new EntityIndex(entities);
+                }
+                index = entityIndex;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds the given entity to the index, or puts it in place of the entity with its id.
+     */
+    private void indexEntity(Entity entity) {
+        EntityIndex index = entityIndex;
+        if (index != null) {
+            index.add(entity);
+        }
+    }
+
+    /**
+     * Called by an entity when its owner has changed, to move it to its new owner in the index.
+     */
+    synchronized void entityOwnerChanged(Entity entity) {
+        EntityIndex index = entityIndex;
+        if ((index != null) && index.contains(entity)) {
+            index.add(entity);
+        }
+    }
+
     public synchronized void setEntitiesVector(List<Entity> entities) {
         //checkPositionCacheConsistency();
         this.entities.clear();
         this.entities.addAll(entities);
         reindexEntities();
         resetEntityPositionLookup();
+        entityIndex = null;
         processGameEvent(new GameEntityNewEvent(this, entities));
     }
 
@@ -1242,8 +1275,13 @@ public class Game implements Serializable {
      * @param entities the Entity objects to be added.
      */
     public void addEntities(List<Entity> entities) {
-        for (int i = 0; i < entities.size(); i++) {
-            addEntity(entities.get(i), false);
+        synchronized (this) {
+            for (Entity entity : entities) {
+                registerEntity(entity);
+            }
+            // the entities are added to the list all at once, as each addition copies the list
+            this.entities.addAll(entities);
+            assert (this.entities.size() == entityIds.size()) : "Add Entities failed";
         }
         // We need to delay calculating BV until all units have been added because
         // C3 network connections will be cleared if the master is not in the game yet.
@@ -1281,6 +1319,23 @@ public class Game implements Serializable {
      * @param genEvent A flag that determines whether a GameEntityNewEvent is generated.
      */
     public synchronized void addEntity(Entity entity, boolean genEvent) {
+        registerEntity(entity);
+        entities.add(entity);
+
+        assert (entities.size() == entityIds.size()) : "Add Entity failed";
+        if (genEvent) {
+            entity.setInitialBV(entity.calculateBattleValue(false, false));
+            processGameEvent(new GameEntityNewEvent(this, entity));
+        }
+    }
+
+    /**
+     * Prepares a new Entity for this Game object and adds it to the lookups, but not to the list
+     * of entities.
+     *
+     * @param entity The Entity to add.
+     */
+    private void registerEntity(Entity entity) {
         entity.setGame(this);
         if (entity instanceof Mech) {
             ((Mech) entity).setBAGrabBars();
@@ -1315,8 +1370,8 @@ public class Game implements Serializable {
             entity.setId(id);
             entityIds.put(id, entity);
         }
-        entities.add(entity);
         updateEntityPositionLookup(entity, null);
+        indexEntity(entity);
 
         if (id > lastEntityId) {
             lastEntityId = id;
@@ -1336,12 +1391,6 @@ public class Game implements Serializable {
             ((Mech) entity).setCondEjectCTDest(true);
             ((Mech) entity).setCondEjectHeadshot(true);
         }
-
-        assert (entities.size() == entityIds.size()) : "Add Entity failed";
-        if (genEvent) {
-            entity.setInitialBV(entity.calculateBattleValue(false, false));
-            processGameEvent(new GameEntityNewEvent(this, entity));
-        }
     }
 
     public void setEntity(int id, Entity entity) {
@@ -1356,6 +1405,7 @@ public class Game implements Serializable {
             entity.setGame(this);
             entities.set(entities.indexOf(oldEntity), entity);
             entityIds.put(id, entity);
+            indexEntity(entity);
             // Get the collection of positions
             HashSet<Coords> oldPositions = oldEntity.getOccupiedCoords();
             // Update position lookup table
@@ -1394,7 +1444,19 @@ public class Game implements Serializable {
         // always attempt to remove the entity with this ID from the entities collection
         // as it may have gotten stuck there.
         entities.removeIf(ent -> (ent.getId() == id));
-        
+        forgetEntity(id, condition);
+    }
+
+    /**
+     * Removes the entity with the given id from the lookups, once it has been removed from the
+     * list of entities.
+     */
+    private void forgetEntity(int id, int condition) {
+        EntityIndex index = entityIndex;
+        if (index != null) {
+            index.remove(id);
+        }
+
         Entity toRemove = getEntity(id);
         if (toRemove == null) {
             return;
@@ -1431,9 +1493,12 @@ public class Game implements Serializable {
         processGameEvent(new GameEntityRemoveEvent(this, toRemove));
     }
 
-    public void removeEntities(List<Integer> ids, int condition) {
-        for (int i = 0; i < ids.size(); i++) {
-            removeEntity(ids.get(i), condition);
+    public synchronized void removeEntities(List<Integer> ids, int condition) {
+        // the entities are removed from the list all at once, as each removal copies the list
+        Set<Integer> idSet = new HashSet<>(ids);
+        entities.removeIf(ent -> idSet.contains(ent.getId()));
+        for (int id : ids) {
+            forgetEntity(id, condition);
         }
     }
 
@@ -1448,6 +1513,7 @@ public class Game implements Serializable {
         entities.clear();
         entityIds.clear();
         entityPosLookup.clear();
+        entityIndex = null;
 
         vOutOfGame.removeAllElements();
 
@@ -1489,6 +1555,7 @@ public class Game implements Serializable {
      */
     private void reindexEntities() {
         entityIds.clear();
+        entityIndex = null;
         lastEntityId = 0;
 
         // Add these entities to the game.
@@ -1924,13 +1991,11 @@ public class Game implements Serializable {
      */
     public ArrayList<Entity> getPlayerEntities(Player player, boolean hide) {
         ArrayList<Entity> output = new ArrayList<>();
-        for (Entity entity : entities) {
+        for (Entity entity : getOwnedEntities(player)) {
             if (entity.isPartOfFighterSquadron() && hide) {
                 continue;
             }
-            if (player.equals(entity.getOwner())) {
-                output.add(entity);
-            }
+            output.add(entity);
         }
         return output;
     }
@@ -1944,13 +2009,11 @@ public class Game implements Serializable {
      */
     public ArrayList<Integer> getPlayerEntityIds(Player player, boolean hide) {
         ArrayList<Integer> output = new ArrayList<>();
-        for (Entity entity : entities) {
+        for (Entity entity : getOwnedEntities(player)) {
             if (entity.isPartOfFighterSquadron() && hide) {
                 continue;
             }
-            if (player.equals(entity.getOwner())) {
-                output.add(entity.getId());
-            }
+            output.add(entity.getId());
         }
         return output;
     }
@@ -1996,9 +2059,8 @@ public class Game implements Serializable {
         Player player = getPlayer(playerId);
         int remaining = 0;
 
-        for (Entity entity : entities) {
-            if (player.equals(entity.getOwner()) && entity.isSelectableThisTurn()
-                    && (entity instanceof Infantry)) {
+        for (Entity entity : getOwnedEntities(player)) {
+            if (entity.isSelectableThisTurn() && (entity instanceof Infantry)) {
                 remaining++;
             }
         }
@@ -2014,9 +2076,8 @@ public class Game implements Serializable {
         Player player = getPlayer(playerId);
         int remaining = 0;
 
-        for (Entity entity : entities) {
-            if (player.equals(entity.getOwner()) && entity.isSelectableThisTurn()
-                    && (entity instanceof Protomech)) {
+        for (Entity entity : getOwnedEntities(player)) {
+            if (entity.isSelectableThisTurn() && (entity instanceof Protomech)) {
                 remaining++;
             }
         }
@@ -2032,9 +2093,8 @@ public class Game implements Serializable {
         Player player = getPlayer(playerId);
         int remaining = 0;
 
-        for (Entity entity : entities) {
-            if (player.equals(entity.getOwner()) && entity.isSelectableThisTurn()
-                    && (entity instanceof Tank)) {
+        for (Entity entity : getOwnedEntities(player)) {
+            if (entity.isSelectableThisTurn() && (entity instanceof Tank)) {
                 remaining++;
             }
         }
@@ -2050,9 +2110,8 @@ public class Game implements Serializable {
         Player player = getPlayer(playerId);
         int remaining = 0;
 
-        for (Entity entity : entities) {
-            if (player.equals(entity.getOwner()) && entity.isSelectableThisTurn()
-                    && (entity instanceof Mech)) {
+        for (Entity entity : getOwnedEntities(player)) {
+            if (entity.isSelectableThisTurn() && (entity instanceof Mech)) {
                 remaining++;
             }
         }
@@ -215,6 +215,46 @@ public class LosEffects {
         }     
     }
 
+    /**
+     * @return a copy of these LOS effects that can be changed without changing this one
+     */
+    public LosEffects copy() {
+        LosEffects copy = new LosEffects();
+        copy.blocked = blocked;
+        copy.deadZone = deadZone;
+        copy.infProtected = infProtected;
+        copy.hasLoS = hasLoS;
+        copy.targetIsOversized = targetIsOversized;
+        copy.plantedFields = plantedFields;
+        copy.heavyIndustrial = heavyIndustrial;
+        copy.lightWoods = lightWoods;
+        copy.heavyWoods = heavyWoods;
+        copy.ultraWoods = ultraWoods;
+        copy.lightSmoke = lightSmoke;
+        copy.heavySmoke = heavySmoke;
+        copy.screen = screen;
+        copy.softBuildings = softBuildings;
+        copy.hardBuildings = hardBuildings;
+        copy.buildingLevelsOrHexes = buildingLevelsOrHexes;
+        copy.blockedByHill = blockedByHill;
+        copy.blockedByWater = blockedByWater;
+        copy.targetCover = targetCover;
+        copy.attackerCover = attackerCover;
+        copy.thruBldg = thruBldg;
+        copy.targetLoc = targetLoc;
+        copy.damagableCoverTypePrimary = damagableCoverTypePrimary;
+        copy.damagableCoverTypeSecondary = damagableCoverTypeSecondary;
+        copy.coverBuildingPrimary = coverBuildingPrimary;
+        copy.coverBuildingSecondary = coverBuildingSecondary;
+        copy.coverDropshipPrimary = coverDropshipPrimary;
+        copy.coverDropshipSecondary = coverDropshipSecondary;
+        copy.coverLocPrimary = coverLocPrimary;
+        copy.coverLocSecondary = coverLocSecondary;
+        copy.minimumWaterDepth = minimumWaterDepth;
+        copy.arcedShot = arcedShot;
+        return copy;
+    }
+
     public int getPlantedFields() {
         return plantedFields;
     }
@@ -62,6 +62,14 @@ public abstract class MMRandom {
         }
     }
 
+    /**
+     * Gives a SunRandom that always produces the same sequence for the same seed, for
+     * reproducible simulations and tests.
+     */
+    public static MMRandom seeded(long seed) {
+        return new MMRandom.SunRandom(seed);
+    }
+
     /**
      * Simulates six-sided die rolls.
      * 
@@ -130,7 +138,15 @@ public abstract class MMRandom {
      * Uses com.sun.java.util.collections.Random
      */
     static class SunRandom extends MMRandom {
-        Random random = new Random();
+        Random random;
+
+        SunRandom() {
+            random = new Random();
+        }
+
+        SunRandom(long seed) {
+            random = new Random(seed);
+        }
 
         @Override
         public int randomInt(int maxValue) {
@@ -681,13 +681,12 @@ public class MapSettings implements Serializable {
                     } else {
                         rindex = Compute.randomInt(boardsAvailable.size() - 3) + 3;
                         // validate that the selected map is legal
-                        Board b = new Board(16, 17);
                         String boardSelected = boardsAvailable.get(rindex);
                         if (!MapSettings.BOARD_GENERATED.equals(boardSelected)
                                 && !MapSettings.BOARD_RANDOM.equals(boardSelected)
                                 && !MapSettings.BOARD_SURPRISE.equals(boardSelected)) {
-                            b.load(new File(Configuration.boardsDir(), boardSelected + ".board"));
-                            if (b.isValid()) {
+                            File boardFile = new File(Configuration.boardsDir(), boardSelected + ".board");
+                            if (BoardCatalog.getInstance().isValid(boardFile)) {
                                 nonFound = false;
                             } else {
                                 boardsAvailable.remove(rindex);
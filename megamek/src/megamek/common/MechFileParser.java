@@ -19,7 +19,6 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -797,33 +796,7 @@ public class MechFileParser {
         }
         
         // Check if it's canon; if it is, mark it as such.
-        ent.setCanon(false);// Guilty until proven innocent
-        try {
-            if (canonUnitNames == null) {
-                canonUnitNames = new Vector<>();
-                // init the list.
-                try (BufferedReader br = new BufferedReader(new FileReader(new MegaMekFile(
-                            Configuration.docsDir(), FILENAME_OFFICIAL_UNITS).getFile()))) {
-                    String s;
-                    String name;
-                    while ((s = br.readLine()) != null) {
-                        int nIndex1 = s.indexOf('|');
-                        if (nIndex1 > -1) {
-                            name = s.substring(0, nIndex1);
-                            canonUnitNames.addElement(name);
-                        }
-                    }
-                    Collections.sort(canonUnitNames);
-                } catch (FileNotFoundException e) {
-                }
-            }
-        } catch (IOException e) {
-        }
-        int index = Collections.binarySearch(canonUnitNames,
-                ent.getShortNameRaw()); 
-        if (index >= 0) {
-            ent.setCanon(true);
-        }        
+        ent.setCanon(Collections.binarySearch(getCanonUnitNames(), ent.getShortNameRaw()) >= 0);
         ent.initMilitary();
 
     }
@@ -950,7 +923,36 @@ public class MechFileParser {
         return entity;
     }
 
-    public static void dispose() {
+    /**
+     * Loads the names of the official units the first time it is called. This is synchronized
+     * as units may be loaded on several threads at once.
+     *
+     * @return the sorted names of the official units
+     */
+    private static synchronized List<String> getCanonUnitNames() {
+        if (canonUnitNames == null) {
+            canonUnitNames = new Vector<>();
+            // init the list.
+            try (BufferedReader br = new BufferedReader(new FileReader(new MegaMekFile(
+                        Configuration.docsDir(), FILENAME_OFFICIAL_UNITS).getFile()))) {
+                String s;
+                String name;
+                while ((s = br.readLine()) != null) {
+                    int nIndex1 = s.indexOf('|');
+                    if (nIndex1 > -1) {
+                        name = s.substring(0, nIndex1);
+                        canonUnitNames.addElement(name);
+                    }
+                }
+                Collections.sort(canonUnitNames);
+            } catch (IOException ignored) {
+                // without the list, no unit is canon
+            }
+        }
+        return canonUnitNames;
+    }
+
+    public static synchronized void dispose() {
         canonUnitNames = null;
     }
 }
@@ -158,9 +158,6 @@ public class Report implements Serializable {
      */
     private Vector<String> obscuredRecipients = new Vector<>();
 
-    /** Keep track of what data we have already substituted for tags. */
-    private transient int tagCounter = 0;
-
     /** bool for determining when code should be used to show image. */
     private transient boolean showImage = false;
 
@@ -215,7 +212,6 @@ public class Report implements Serializable {
         obscuredIndexes = (Hashtable<Integer, Boolean>) r.obscuredIndexes
                 .clone();
         obscuredRecipients = (Vector<String>) r.obscuredRecipients.clone();
-        tagCounter = r.tagCounter;
     }
 
     /**
@@ -407,10 +403,6 @@ public class Report implements Serializable {
         return tagData.size();
     }
 
-    private String getTag() {
-        return getTag(tagCounter);
-    }
-
     private String getTag(int index) {
         try {
             String value = tagData.elementAt(index);
@@ -441,116 +433,83 @@ public class Report implements Serializable {
      * @return a String with the final report
      */
     public String getText() {
-        // The raw text of the message, with tags.
-        String raw = ReportMessages.getString(String.valueOf(messageId));
+        StringBuilder text = new StringBuilder();
+        appendText(text);
+        return text.toString();
+    }
 
-        // This will be the finished product, with data substituted for tags.
-        StringBuffer text = new StringBuffer();
+    /**
+     * Appends the report in its final form, with all the necessary substitutions
+     * made, to the given builder. Use this to collect many reports into a single text.
+     *
+     * @param text the builder to append the report to
+     */
+    public void appendText(StringBuilder text) {
+        // Where this report starts in the builder
+        final int start = text.length();
 
-        if (raw == null) {
+        // The message, parsed into tags and literal text.
+        ReportTemplate template = ReportTemplate.of(messageId);
+
+        if (template == null) {
             // Should we handle this better? Check alternate language files?
             System.out.println("Error: No message found for ID "
                     + messageId);
             text.append("[Reporting Error for message ID ").append(
                     messageId).append("]");
         } else {
-            int i = 0;
-            int mark = 0;
-            while (i < raw.length()) {
-                if (raw.charAt(i) == '<') {
-                    // find end of tag
-                    int endTagIdx = raw.indexOf('>', i);
-                    if ((raw.indexOf('<', i + 1) != -1)
-                            && (raw.indexOf('<', i + 1) < endTagIdx)) {
-                        // hmm...this must be a literal '<' character
-                        i++;
-                        continue;
-                    }
-                    // copy the preceeding characters into the buffer
-                    text.append(raw.substring(mark, i));
-                    if (raw.substring(i + 1, endTagIdx).equals("data")) {
-                        text.append(getTag());
-                        // System.out.println("Report-->getText(): " +
-                        // this.tagData.elementAt(this.tagCounter));
+            int tagCounter = 0;
+            for (ReportTemplate.Token token : template.getBody()) {
+                switch (token.type) {
+                    case LITERAL:
+                        text.append(token.text);
+                        break;
+                    case DATA:
+                        text.append(getTag(tagCounter));
                         tagCounter++;
-                    } else if (raw.substring(i + 1, endTagIdx).equals("list")) {
+                        break;
+                    case LIST:
                         for (int j = tagCounter; j < tagData.size(); j++) {
                             text.append(getTag(j)).append(", ");
                         }
-                        text.setLength(text.length() - 2); // trim last comma
-                    } else if (raw.substring(i + 1, endTagIdx).startsWith(
-                            "msg:")) {
-                        boolean selector = Boolean.valueOf(getTag())
-                                .booleanValue();
-                        if (selector) {
-                            text.append(ReportMessages.getString(raw.substring(
-                                    i + 5, raw.indexOf(',', i))));
-                        } else {
-                            text.append(ReportMessages.getString(raw.substring(
-                                    raw.indexOf(',', i) + 1, endTagIdx)));
-                        }
+                        // trim last comma
+                        text.setLength(Math.max(start, text.length() - 2));
+                        break;
+                    case CHOICE:
+                        boolean selector = Boolean.parseBoolean(getTag(tagCounter));
+                        text.append(selector ? token.text : token.alternative);
                         tagCounter++;
-                    } else if (raw.substring(i + 1, endTagIdx)
-                            .equals("newline")) {
-                        text.append("\n");
-                    } else {
-                        // not a special tag, so treat as literal text
-                        text.append(raw.substring(i, endTagIdx + 1));
-                    }
-                    mark = endTagIdx + 1;
-                    i = endTagIdx;
+                        break;
                 }
-                i++;
             }
             //add the sprite code at the beginning of the line
             if (imageCode != null && !imageCode.isEmpty()) {
-                if (text.toString().startsWith("\n")) {
-                    text.insert(1, imageCode);
+                if ((text.length() > start) && (text.charAt(start) == '\n')) {
+                    text.insert(start + 1, imageCode);
                 }
                 else {
-                    text.insert(0, imageCode);
+                    text.insert(start, imageCode);
                 }
             }
-            text.append(raw.substring(mark));
-            handleIndentation(text);
-            text.append(getNewlines());
+            text.append(template.getTail());
+            handleIndentation(text, start);
+            for (int i = 0; i < newlines; i++) {
+                text.append("\n");
+            }
         }
-        tagCounter = 0;
         // debugReport
         if (type == Report.TESTING) {
-            Report.mark(text);
+            Report.mark(text, start);
         }
-        return text.toString();
     }
 
-    private void handleIndentation(StringBuffer sb) {
-        if ((indentation == 0) || (sb.length() == 0)) {
+    private void handleIndentation(StringBuilder sb, int start) {
+        if ((indentation == 0) || (sb.length() == start)) {
             return;
         }
-        int i = 0;
-        while (sb.substring(i, i+4).equals("\n")) {
-            i+=4;
-            if (i == sb.length()) {
-                continue;
-            }
-        }
-        sb.insert(i, getSpaces());
-    }
-
-    private String getSpaces() {
-        StringBuffer spaces = new StringBuffer();
         for (int i = 0; i < indentation; i++) {
-            spaces.append("&nbsp;");
-        }
-        return spaces.toString();
-    }
-
-    private String getNewlines() {
-        StringBuffer sbNewlines = new StringBuffer();
-        for (int i = 0; i < newlines; i++) {
-            sbNewlines.append("\n");
+            sb.insert(start, "&nbsp;");
         }
-        return sbNewlines.toString();
     }
 
     /**
@@ -624,17 +583,16 @@ public class Report implements Serializable {
     }
 
     // debugReport method
-    private static StringBuffer mark(StringBuffer sb) {
-        sb.insert(0, "<hidden>");
+    private static void mark(StringBuilder sb, int start) {
+        sb.insert(start, "<hidden>");
         int i = sb.length() - 1;
         while (sb.charAt(i) == '\n') {
             i--;
-            if (i == 0) {
+            if (i == start) {
                 continue;
             }
         }
         sb.insert(i + 1, "</hidden>");
-        return sb;
     }
 
     public static void indentAll(Vector<Report> vDesc, int amount) {
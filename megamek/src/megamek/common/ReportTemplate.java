@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import megamek.common.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A report message from {@link ReportMessages} that has been parsed once into a list of tokens,
+ * so that a {@link Report} can be rendered without scanning the raw message for tags each time.
+ *
+ * The tags of a message are &lt;data&gt;, &lt;list&gt;, &lt;msg:trueId,falseId&gt; and
+ * &lt;newline&gt;. Anything else in angle brackets, and any '&lt;' that is followed by another
+ * '&lt;' before the next '&gt;', is literal text.
+ */
+final class ReportTemplate {
+    //region Variable Declarations
+    /** Marks message ids that have no message, as the map can't hold null */
+    private static final ReportTemplate MISSING = new ReportTemplate(Collections.emptyList(), "");
+
+    private static final Map<Integer, ReportTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    /** The tokens of the message up to and including its last tag */
+    private final List<Token> body;
+    /** The literal text after the last tag */
+    private final String tail;
+    //endregion Variable Declarations
+
+    enum TokenType {
+        /** Literal text */
+        LITERAL,
+        /** The next data value */
+        DATA,
+        /** All remaining data values, separated by commas */
+        LIST,
+        /** One of two messages, chosen by the next data value */
+        CHOICE
+    }
+
+    static final class Token {
+        final TokenType type;
+        /** The literal text, or the message used when the choice is true */
+        final String text;
+        /** The message used when the choice is false */
+        final String alternative;
+
+        private Token(TokenType type, String text, String alternative) {
+            this.type = type;
+            this.text = text;
+            this.alternative = alternative;
+        }
+    }
+
+    private ReportTemplate(List<Token> body, String tail) {
+        this.body = body;
+        this.tail = tail;
+    }
+
+    /**
+     * @param messageId the id of a report message
+     * @return the parsed message, or null if there is no message with that id
+     */
+    static @Nullable ReportTemplate of(int messageId) {
+        final ReportTemplate template = TEMPLATES.computeIfAbsent(messageId, id -> {
+            final String raw = ReportMessages.getString(String.valueOf(id));
+            return (raw == null) ? MISSING : parse(raw);
+        });
+        return (template == MISSING) ? null : template;
+    }
+
+    /** Parses a raw report message into tokens. */
+    static ReportTemplate parse(String raw) {
+        final List<Token> body = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        int mark = 0;
+        while (i < raw.length()) {
+            if (raw.charAt(i) == '<') {
+                // find end of tag
+                int endTagIdx = raw.indexOf('>', i);
+                if (endTagIdx == -1) {
+                    // an unclosed '<' and everything after it is literal text
+                    break;
+                }
+                int nextTagIdx = raw.indexOf('<', i + 1);
+                if ((nextTagIdx != -1) && (nextTagIdx < endTagIdx)) {
+                    // hmm...this must be a literal '<' character
+                    i++;
+                    continue;
+                }
+                literal.append(raw, mark, i);
+                String tag = raw.substring(i + 1, endTagIdx);
+                if (tag.equals("data")) {
+                    addLiteral(body, literal);
+                    body.add(new Token(TokenType.DATA, null, null));
+                } else if (tag.equals("list")) {
+                    addLiteral(body, literal);
+                    body.add(new Token(TokenType.LIST, null, null));
+                } else if (tag.startsWith("msg:")) {
+                    addLiteral(body, literal);
+                    int comma = raw.indexOf(',', i);
+                    body.add(new Token(TokenType.CHOICE,
+                            ReportMessages.getString(raw.substring(i + 5, comma)),
+                            ReportMessages.getString(raw.substring(comma + 1, endTagIdx))));
+                } else if (tag.equals("newline")) {
+                    literal.append("\n");
+                } else {
+                    // not a special tag, so treat as literal text
+                    literal.append(raw, i, endTagIdx + 1);
+                }
+                mark = endTagIdx + 1;
+                i = endTagIdx;
+            }
+            i++;
+        }
+        addLiteral(body, literal);
+        return new ReportTemplate(body, raw.substring(mark));
+    }
+
+    private static void addLiteral(List<Token> body, StringBuilder literal) {
+        if (literal.length() > 0) {
+            body.add(new Token(TokenType.LITERAL, literal.toString(), null));
+            literal.setLength(0);
+        }
+    }
+
+    /** @return the tokens of the message up to and including its last tag */
+    List<Token> getBody() {
+        return body;
+    }
+
+    /** @return the literal text after the last tag of the message */
+    String getTail() {
+        return tail;
+    }
+}
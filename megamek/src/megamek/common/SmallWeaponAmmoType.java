@@ -16,6 +16,7 @@ package megamek.common;
 
 import megamek.common.weapons.infantry.InfantryWeapon;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -66,12 +67,19 @@ public class SmallWeaponAmmoType extends AmmoType {
      * after WeaponType is initialized.
      */
     public static void initializeTypes() {
-        List<InfantryWeapon> weapons = allTypes.stream()
+        for (InfantryWeapon weapon : getAmmoUsers(allTypes)) {
+            addType(new SmallWeaponAmmoType(weapon));
+        }
+    }
+
+    /**
+     * @return the infantry weapons among the given types that use ammo, in their order; one ammo
+     * is created for each of them
+     */
+    static List<InfantryWeapon> getAmmoUsers(Collection<EquipmentType> types) {
+        return types.stream()
                 .filter(et -> (et instanceof InfantryWeapon)
                     && (((InfantryWeapon) et).getAmmoType() == AmmoType.T_INFANTRY))
                 .map(et -> (InfantryWeapon) et).collect(Collectors.toList());
-        for (InfantryWeapon weapon : weapons) {
-            addType(new SmallWeaponAmmoType(weapon));
-        }
     }
 }
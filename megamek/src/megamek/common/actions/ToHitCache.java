@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.actions;
+
+import megamek.common.*;
+import megamek.common.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caches the parts of a weapon's to-hit number that are the same for every weapon an attacker
+ * fires at one target: the line of sight between them and the ECM fields of all units. Working
+ * these out is the most expensive part of {@link WeaponAttackAction#toHit}, and the firing
+ * display and Princess work out the to-hit numbers of every weapon against the same target.
+ *
+ * A cache is opened on the calling thread while the to-hit numbers of several weapons are worked
+ * out, and closed afterwards:
+ * <pre>
+ * final ToHitCache toHitCache = ToHitCache.open(game);
+ * try {
+ *     ...
+ * } finally {
+ *     toHitCache.close();
+ * }
+ * </pre>
+ * Nothing may move or change while the cache is open. Without an open cache, nothing is cached.
+ */
+public final class ToHitCache {
+    //region Variable Declarations
+    private static final ThreadLocal<ToHitCache> current = new ThreadLocal<>();
+
+    private final Game game;
+    /** The cache that was open when this one was opened, if any */
+    private final ToHitCache outer;
+    private final Map<LosKey, LosEffects> lineOfSight = new HashMap<>();
+    private List<ECMInfo> ecmInfo;
+    /** The number of times this cache has been opened and not yet closed */
+    private int depth = 1;
+    //endregion Variable Declarations
+
+    //region Constructors
+    private ToHitCache(Game game, @Nullable ToHitCache outer) {
+        this.game = game;
+        this.outer = outer;
+    }
+
+    /**
+     * Opens a cache on the calling thread for the given game. If a cache for the game is already
+     * open, it is shared until both are closed.
+     *
+     * @param game the game the to-hit numbers are worked out for
+     * @return the cache, to be closed when the to-hit numbers are done
+     */
+    public static ToHitCache open(Game game) {
+        final ToHitCache open = current.get();
+        if ((open != null) && (open.game == game)) {
+            open.depth++;
+            return open;
+        }
+        final ToHitCache cache = new ToHitCache(game, open);
+        current.set(cache);
+        return cache;
+    }
+    //endregion Constructors
+
+    /**
+     * Closes this cache. Once it has been closed as often as it was opened, the cache that was
+     * open before it, if any, is open again.
+     */
+    public void close() {
+        if (--depth > 0) {
+            return;
+        } else if (outer == null) {
+            current.remove();
+        } else {
+            current.set(outer);
+        }
+    }
+
+    static @Nullable ToHitCache get(Game game) {
+        final ToHitCache cache = current.get();
+        return ((cache != null) && (cache.game == game)) ? cache : null;
+    }
+
+    /**
+     * Returns the LOS effects between an attacker and its target, as
+     * {@link LosEffects#calculateLOS(Game, Entity, Targetable)} does. The result may be changed
+     * by the caller.
+     */
+    static LosEffects calculateLos(Game game, @Nullable Entity attacker, @Nullable Targetable target) {
+        final ToHitCache cache = get(game);
+        if ((cache == null) || (attacker == null) || (target == null)) {
+            return LosEffects.calculateLOS(game, attacker, target);
+        }
+        return cache.lineOfSight.computeIfAbsent(new LosKey(attacker, target),
+                key -> LosEffects.calculateLOS(game, attacker, target)).copy();
+    }
+
+    /**
+     * @return the ECM info of all units in the game, or null if no cache is open, in which case
+     * {@link ComputeECM} works it out itself
+     */
+    static @Nullable List<ECMInfo> getECMInfo(Game game) {
+        final ToHitCache cache = get(game);
+        if (cache == null) {
+            return null;
+        } else if (cache.ecmInfo == null) {
+            cache.ecmInfo = ComputeECM.computeAllEntitiesECMInfo(game.getEntitiesVector());
+        }
+        return cache.ecmInfo;
+    }
+
+    /**
+     * Identifies a line of sight by the attacker and target and where they are, as a unit is
+     * moved to a different elevation for some attacks.
+     */
+    static final class LosKey {
+        private final int attackerId;
+        private final Coords attackerPosition;
+        private final int attackerElevation;
+        private final int targetType;
+        private final int targetId;
+        private final Coords targetPosition;
+        private final int targetElevation;
+
+        LosKey(Entity attacker, Targetable target) {
+            attackerId = attacker.getId();
+            attackerPosition = attacker.getPosition();
+            attackerElevation = attacker.getElevation();
+            targetType = target.getTargetType();
+            targetId = target.getTargetId();
+            targetPosition = target.getPosition();
+            targetElevation = target.getElevation();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof LosKey)) {
+                return false;
+            }
+            final LosKey key = (LosKey) other;
+            return (attackerId == key.attackerId) && (attackerElevation == key.attackerElevation)
+                    && (targetType == key.targetType) && (targetId == key.targetId)
+                    && (targetElevation == key.targetElevation)
+                    && Objects.equals(attackerPosition, key.attackerPosition)
+                    && Objects.equals(targetPosition, key.targetPosition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(attackerId, attackerPosition, attackerElevation, targetType, targetId,
+                    targetPosition, targetElevation);
+        }
+    }
+}
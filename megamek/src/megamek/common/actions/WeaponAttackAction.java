@@ -278,6 +278,10 @@ public class WeaponAttackAction extends AbstractAttackAction implements Serializ
 
         final EquipmentType type = weapon.getType();
 
+        if (allECMInfo == null) {
+            allECMInfo = ToHitCache.getECMInfo(game);
+        }
+
         // No need to process anything further if we're not using a weapon somehow
         if (!(type instanceof WeaponType)) {
             LogManager.getLogger().error("Trying to make a weapon attack with " + weapon.getName() + " which has type " + type.getName());
@@ -541,7 +545,7 @@ public class WeaponAttackAction extends AbstractAttackAction implements Serializ
             losMods = new ToHitData();
         } else if (!isIndirect || (spotter == null)) {
             if (!exchangeSwarmTarget) {
-                los = LosEffects.calculateLos(game, attackerId, target);
+                los = ToHitCache.calculateLos(game, ae, target);
             } else {
                 // Swarm should draw LoS between targets, not attacker, since
                 // we don't want LoS to be blocked
@@ -792,7 +796,7 @@ public class WeaponAttackAction extends AbstractAttackAction implements Serializ
         boolean inSameBuilding = Compute.isInSameBuilding(game, ae, te);
 
         // check LOS
-        LosEffects los = LosEffects.calculateLOS(game, ae, target);
+        LosEffects los = ToHitCache.calculateLos(game, ae, target);
 
         if (ae.hasActiveEiCockpit()) {
             if (los.getLightWoods() > 0) {
@@ -2256,7 +2260,7 @@ public class WeaponAttackAction extends AbstractAttackAction implements Serializ
             // Can't fire Indirect LRM with direct LOS
             if (isIndirect && game.getOptions().booleanOption(OptionsConstants.BASE_INDIRECT_FIRE)
                     && !game.getOptions().booleanOption(OptionsConstants.ADVCOMBAT_INDIRECT_ALWAYS_POSSIBLE)
-                    && LosEffects.calculateLOS(game, ae, target).canSee()
+                    && ToHitCache.calculateLos(game, ae, target).canSee()
                     && (!game.getOptions().booleanOption(OptionsConstants.ADVANCED_DOUBLE_BLIND)
                             || Compute.canSee(game, ae, target))
                     && !(wtype instanceof ArtilleryCannonWeapon) && !(wtype instanceof MekMortarWeapon)) {
@@ -4480,7 +4484,7 @@ public class WeaponAttackAction extends AbstractAttackAction implements Serializ
         // Per TacOps errata, this bonus also applies to all units on the same C3 network
         if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TACOPS_BAP) && !isIndirect && (te != null)
                 && ae.hasBAP() && (ae.getBAPRange() >= Compute.effectiveDistance(game, ae, te))
-                && !ComputeECM.isAffectedByECM(ae, ae.getPosition(), te.getPosition())
+                && !ComputeECM.isAffectedByECM(ae, ae.getPosition(), te.getPosition(), ToHitCache.getECMInfo(game))
                 && (game.getBoard().getHex(te.getPosition()).containsTerrain(Terrains.WOODS)
                         || game.getBoard().getHex(te.getPosition()).containsTerrain(Terrains.JUNGLE)
                         || (los.getLightWoods() > 0) || (los.getHeavyWoods() > 0) || (los.getUltraWoods() > 0))
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts events or amounts, such as bytes sent.
+ */
+public final class Counter implements Metric {
+    //region Variable Declarations
+    private final LongAdder count = new LongAdder();
+    //endregion Variable Declarations
+
+    //region Constructors
+    Counter() {
+    }
+    //endregion Constructors
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long get() {
+        return count.sum();
+    }
+
+    @Override
+    public String describe() {
+        return Long.toString(get());
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+    }
+}
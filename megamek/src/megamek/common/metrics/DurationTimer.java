@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long something takes. Take the start time with {@link #start()} and pass it to
+ * {@link #stop(long)} when done, usually in a finally block.
+ */
+public final class DurationTimer extends Histogram {
+
+    //region Constructors
+    DurationTimer() {
+    }
+    //endregion Constructors
+
+    /**
+     * @return the start time to pass to {@link #stop(long)}
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time since the given start time.
+     *
+     * @param start the time returned by {@link #start()}
+     */
+    public void stop(long start) {
+        record(System.nanoTime() - start);
+    }
+
+    @Override
+    public String describe() {
+        return String.format("count=%d total=%.1fms mean=%.3fms p50<=%.3fms p99<=%.3fms max=%.3fms",
+                getCount(), toMillis(getSum()), toMillis(getMean()), toMillis(getPercentile(0.5)),
+                toMillis(getPercentile(0.99)), toMillis(getMax()));
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
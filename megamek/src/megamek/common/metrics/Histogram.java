@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of non-negative values, such as packet sizes. Values are counted in
+ * buckets by their power of two, so percentiles are only accurate to within a factor of two; the
+ * count, sum and maximum are exact.
+ */
+public class Histogram implements Metric {
+    //region Variable Declarations
+    /** Bucket 0 counts the value 0 and bucket n the values from 2^(n-1) to 2^n - 1 */
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    //endregion Variable Declarations
+
+    //region Constructors
+    Histogram() {
+    }
+    //endregion Constructors
+
+    /**
+     * Records a value; negative values are recorded as 0.
+     */
+    public void record(long value) {
+        value = Math.max(0, value);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        final long n = getCount();
+        return (n == 0) ? 0 : (double) getSum() / n;
+    }
+
+    /**
+     * @param fraction the fraction of values, from 0 to 1
+     * @return an upper bound of the given fraction of the values recorded, that is at most twice
+     * the actual percentile and never more than the maximum
+     */
+    public long getPercentile(double fraction) {
+        final long n = getCount();
+        if (n == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(fraction * n));
+        long seen = 0;
+        for (int bucket = 0; bucket < buckets.length(); bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                final long upperBound = (bucket == 0) ? 0 : (1L << bucket) - 1;
+                return Math.min(upperBound, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    @Override
+    public String describe() {
+        return String.format("count=%d mean=%.1f p50<=%d p99<=%d max=%d", getCount(), getMean(),
+                getPercentile(0.5), getPercentile(0.99), getMax());
+    }
+
+    @Override
+    public void reset() {
+        for (int bucket = 0; bucket < buckets.length(); bucket++) {
+            buckets.set(bucket, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.metrics;
+
+/**
+ * A value measured while the program runs, such as how often something happens or how long it
+ * takes. Metrics are kept by {@link Metrics} and may be updated from any thread without locking.
+ */
+public interface Metric {
+    /**
+     * @return a short, human-readable description of the current value
+     */
+    String describe();
+
+    /**
+     * Starts measuring anew.
+     */
+    void reset();
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The process-wide registry of {@link Metric}s, such as how long the server takes to resolve
+ * attacks or how many bytes are sent for each kind of packet. Metrics are made the first time
+ * they are asked for by name and kept until the program ends; callers on hot paths should keep
+ * the metric rather than look it up each time. Names are dotted, starting with the part of the
+ * program they measure, e.g. "server.entityAllUpdate".
+ */
+public final class Metrics {
+    //region Variable Declarations
+    private static final Metrics instance = new Metrics();
+
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+    //endregion Variable Declarations
+
+    //region Constructors
+    private Metrics() {
+    }
+
+    public static Metrics getInstance() {
+        return instance;
+    }
+    //endregion Constructors
+
+    public Counter counter(String name) {
+        return get(name, Counter.class, Counter::new);
+    }
+
+    public Histogram histogram(String name) {
+        return get(name, Histogram.class, Histogram::new);
+    }
+
+    public DurationTimer timer(String name) {
+        return get(name, DurationTimer.class, DurationTimer::new);
+    }
+
+    private <T extends Metric> T get(String name, Class<T> type, Supplier<T> creator) {
+        final Metric metric = metrics.computeIfAbsent(name, key -> creator.get());
+        if (metric.getClass() != type) {
+            throw new IllegalArgumentException("The metric " + name + " is a "
+                    + metric.getClass().getSimpleName() + ", not a " + type.getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * @param prefix the start of the names of the metrics to describe; empty for all
+     * @return a line describing each metric whose name starts with the given prefix, by name
+     */
+    public List<String> describe(String prefix) {
+        final List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Metric> entry : new TreeMap<>(metrics).entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                lines.add(entry.getKey() + ": " + entry.getValue().describe());
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Starts measuring all metrics anew.
+     */
+    public void reset() {
+        metrics.values().forEach(Metric::reset);
+    }
+}
@@ -26,10 +26,15 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.util.Enumeration;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import megamek.common.metrics.Counter;
+import megamek.common.metrics.Histogram;
+import megamek.common.metrics.Metrics;
 import megamek.common.net.marshall.PacketMarshaller;
 import megamek.common.net.marshall.PacketMarshallerFactory;
 import megamek.common.util.CircularIntegerBuffer;
@@ -44,6 +49,14 @@ public abstract class AbstractConnection {
 
     private static final int DEFAULT_MARSHALLING = PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING;
 
+    /**
+     * Bytes sent and received by all connections of this process, by packet command
+     */
+    private static final Map<Integer, Counter> bytesSentByCommand = new ConcurrentHashMap<>();
+    private static final Map<Integer, Counter> bytesReceivedByCommand = new ConcurrentHashMap<>();
+    private static final Histogram sentPacketSizes = Metrics.getInstance().histogram("net.sent.packetBytes");
+    private static final Histogram receivedPacketSizes = Metrics.getInstance().histogram("net.received.packetBytes");
+
     /**
      * Peer Host Non null in case if it's a client connection
      */
@@ -490,13 +503,20 @@ public abstract class AbstractConnection {
             in = bis;
         }
         packet = pm.unmarshall(in);
+        receivedPacketSizes.record(data.length);
         if (packet != null) {
+            countBytes(bytesReceivedByCommand, "net.received.bytes.", packet.getCommand(), data.length);
             debugLastFewCommandsReceived.push(packet.getCommand());
             processConnectionEvent(new PacketReceivedEvent(
                     AbstractConnection.this, packet));
         }
     }
 
+    private static void countBytes(Map<Integer, Counter> counters, String prefix, int command, long bytes) {
+        counters.computeIfAbsent(command,
+                key -> Metrics.getInstance().counter(prefix + Packet.getCommandName(key))).add(bytes);
+    }
+
     /**
      * process a packet to be sent
      */
@@ -611,6 +631,8 @@ public abstract class AbstractConnection {
                 out.close();
                 data = bos.toByteArray();
                 bytesSent += data.length;
+                sentPacketSizes.record(data.length);
+                countBytes(bytesSentByCommand, "net.sent.bytes.", command, data.length);
             } catch (Exception e) {
                 e.printStackTrace();
             }
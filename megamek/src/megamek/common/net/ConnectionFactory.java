@@ -13,7 +13,12 @@
  */
 package megamek.common.net;
 
+import java.net.InetAddress;
 import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Connections factory. Creates the Client/Server connections
@@ -21,6 +26,12 @@ import java.net.Socket;
 public class ConnectionFactory {
     private static ConnectionFactory instance = new ConnectionFactory();
 
+    /**
+     * The servers running in this JVM, by port, each with a source of the client ends of loopback
+     * connections to it
+     */
+    private final Map<Integer, Supplier<AbstractConnection>> localServers = new ConcurrentHashMap<>();
+
     private ConnectionFactory() {
 
     }
@@ -35,7 +46,8 @@ public class ConnectionFactory {
     }
 
     /**
-     * Creates new Client (Client-Server) connection
+     * Creates new Client (Client-Server) connection. When the server is running in this JVM, the
+     * connection is an in-memory loopback connection rather than a socket.
      * 
      * @param host server host
      * @param port server port
@@ -43,9 +55,44 @@ public class ConnectionFactory {
      * @return new client (client-server) connection
      */
     public AbstractConnection createClientConnection(String host, int port, int id) {
+        final Supplier<AbstractConnection> localServer = localServers.get(port);
+        if ((localServer != null) && isLocalHost(host)) {
+            return localServer.get();
+        }
         return new DataStreamConnection(host, port, id);
     }
 
+    /**
+     * Registers a server running in this JVM, so that clients in this JVM connecting to its port
+     * are given loopback connections.
+     *
+     * @param port the port the server listens on
+     * @param connector opens a loopback connection to the server and returns its client end
+     */
+    public void registerLocalServer(int port, Supplier<AbstractConnection> connector) {
+        localServers.put(port, connector);
+    }
+
+    /**
+     * Removes a server registered with {@link #registerLocalServer(int, Supplier)}.
+     *
+     * @param port the port the server listened on
+     */
+    public void unregisterLocalServer(int port) {
+        localServers.remove(port);
+    }
+
+    private static boolean isLocalHost(String host) {
+        if ("localhost".equalsIgnoreCase(host)) {
+            return true;
+        }
+        try {
+            return InetAddress.getByName(host).isLoopbackAddress();
+        } catch (UnknownHostException ex) {
+            return false;
+        }
+    }
+
     /**
      * Creates new Server connection
      * 
@@ -56,4 +103,15 @@ public class ConnectionFactory {
     public AbstractConnection createServerConnection(Socket socket, int id) {
         return new DataStreamConnection(socket, id);
     }
+
+    /**
+     * Creates new in-memory Server connection for a client running in the same JVM. The client
+     * end of the connection is available from {@link LoopbackConnection#getPeer()}.
+     *
+     * @param id connection ID
+     * @return new Server connection
+     */
+    public LoopbackConnection createLoopbackServerConnection(int id) {
+        return new LoopbackConnection(id);
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.net;
+
+import megamek.common.annotations.Nullable;
+
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A connection between a server and a client running in the same JVM. The two ends of the
+ * connection pass packets to each other through a lock-free queue instead of a socket.
+ *
+ * The server and the client must not share the objects in a packet, so packets are still
+ * marshalled as a defensive copy, but they are not compressed. Packets that only hold
+ * immutable values, such as most of the phase, turn and done packets, are passed on as they
+ * are. Reading blocks until the other end sends a packet or the connection is closed; closing
+ * either end closes both.
+ */
+public final class LoopbackConnection extends AbstractConnection {
+    //region Variable Declarations
+    private static final String LOOPBACK_HOST = "loopback";
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+            Double.class);
+
+    private final LoopbackConnection peer;
+    private final ConcurrentLinkedQueue<INetworkPacket> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean closed;
+    /** The thread waiting for an incoming packet, if any */
+    private volatile Thread reader;
+    //endregion Variable Declarations
+
+    //region Constructors
+    /**
+     * Creates the server end of a new connection together with its client end.
+     *
+     * @param id the connection ID
+     */
+    LoopbackConnection(int id) {
+        super((Socket) null, id);
+        closed = new AtomicBoolean(false);
+        peer = new LoopbackConnection(this, id);
+        setCompression(false);
+    }
+
+    private LoopbackConnection(LoopbackConnection server, int id) {
+        super(LOOPBACK_HOST, 0, id);
+        closed = server.closed;
+        peer = server;
+        setCompression(false);
+    }
+    //endregion Constructors
+
+    /**
+     * @return the other end of this connection
+     */
+    public LoopbackConnection getPeer() {
+        return peer;
+    }
+
+    @Override
+    public boolean open() {
+        return !isClosed();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            wakeReader();
+            peer.wakeReader();
+            super.close();
+            peer.closePeer();
+        }
+    }
+
+    /** Sends the disconnected event of this end after the other end has been closed. */
+    private void closePeer() {
+        super.close();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public String getInetAddress() {
+        return LOOPBACK_HOST;
+    }
+
+    @Override
+    protected @Nullable INetworkPacket readNetworkPacket() {
+        INetworkPacket packet = incoming.poll();
+        if (packet != null) {
+            return packet;
+        }
+        reader = Thread.currentThread();
+        try {
+            while (((packet = incoming.poll()) == null) && !isClosed()) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    // Return to the caller, as a blocked socket read would be unblocked
+                    break;
+                }
+            }
+        } finally {
+            reader = null;
+        }
+        return packet;
+    }
+
+    @Override
+    public synchronized void send(Packet packet) {
+        if (isImmutable(packet.getData())) {
+            // Nothing in the packet can change, so it needs no copy. Sending is synchronous, so
+            // this can't overtake a packet sent before it.
+            final Object[] data = (packet.getData() == null) ? null : packet.getData().clone();
+            deliver(new LoopbackPacket(new Packet(packet.getCommand(), data)));
+        } else {
+            super.send(packet);
+        }
+    }
+
+    private static boolean isImmutable(@Nullable Object[] data) {
+        if (data != null) {
+            for (Object object : data) {
+                if ((object != null) && !(object instanceof Enum) && !IMMUTABLE_TYPES.contains(object.getClass())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void sendNetworkPacket(byte[] data, boolean zipped) {
+        deliver(new LoopbackPacket(getMarshallingType(), data, zipped));
+    }
+
+    private void deliver(LoopbackPacket packet) {
+        if (isClosed()) {
+            // As with a socket, anything sent after the connection is closed is lost
+            return;
+        }
+        peer.incoming.add(packet);
+        peer.wakeReader();
+    }
+
+    @Override
+    protected void processPacket(INetworkPacket np) throws Exception {
+        final Packet packet = ((LoopbackPacket) np).packet;
+        if (packet == null) {
+            super.processPacket(np);
+        } else {
+            processConnectionEvent(new PacketReceivedEvent(this, packet));
+        }
+    }
+
+    private void wakeReader() {
+        final Thread thread = reader;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LoopbackConnection Id " + getId();
+    }
+
+    /**
+     * Either a marshalled packet or a packet that is passed on as it is
+     */
+    private static class LoopbackPacket implements INetworkPacket {
+        private final int marshallingType;
+        private final byte[] data;
+        private final boolean compressed;
+        private final Packet packet;
+
+        LoopbackPacket(int marshallingType, byte[] data, boolean compressed) {
+            this.marshallingType = marshallingType;
+            this.data = data;
+            this.compressed = compressed;
+            packet = null;
+        }
+
+        LoopbackPacket(Packet packet) {
+            marshallingType = 0;
+            data = null;
+            compressed = false;
+            this.packet = packet;
+        }
+
+        @Override
+        public int getMarshallingType() {
+            return marshallingType;
+        }
+
+        @Override
+        public byte[] getData() {
+            return data;
+        }
+
+        @Override
+        public boolean isCompressed() {
+            return compressed;
+        }
+    }
+}
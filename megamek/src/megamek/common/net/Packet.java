@@ -15,6 +15,14 @@
 package megamek.common.net;
 
 import megamek.common.annotations.Nullable;
+import org.apache.logging.log4j.LogManager;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Application layer data packet used to exchange information between client and
@@ -229,4 +237,35 @@ public class Packet {
     public boolean getBooleanValue(int index) {
         return ((Boolean) getObject(index)).booleanValue();
     }
+
+    /**
+     * @param command a command, such as {@link #COMMAND_PHASE_CHANGE}
+     * @return the name of the command without the COMMAND_ prefix, the names separated by a slash
+     * if several commands share its number, or the number of the command if it is not known
+     */
+    public static String getCommandName(int command) {
+        return CommandNames.NAMES.getOrDefault(command, Integer.toString(command));
+    }
+
+    /** The names of the commands, read from the constants when first needed */
+    private static final class CommandNames {
+        private static final String PREFIX = "COMMAND_";
+        private static final Map<Integer, String> NAMES = new HashMap<>();
+
+        static {
+            final Map<Integer, Set<String>> names = new HashMap<>();
+            for (Field field : Packet.class.getFields()) {
+                if (field.getName().startsWith(PREFIX) && (field.getType() == int.class)
+                        && Modifier.isStatic(field.getModifiers())) {
+                    try {
+                        names.computeIfAbsent(field.getInt(null), key -> new TreeSet<>())
+                                .add(field.getName().substring(PREFIX.length()));
+                    } catch (IllegalAccessException e) {
+                        LogManager.getLogger().error("", e);
+                    }
+                }
+            }
+            names.forEach((command, commandNames) -> NAMES.put(command, String.join("/", commandNames)));
+        }
+    }
 }
@@ -16,11 +16,7 @@ package megamek.common.options;
 import megamek.common.annotations.Nullable;
 
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.Enumeration;
-import java.util.Hashtable;
-import java.util.List;
-import java.util.Vector;
+import java.util.*;
 
 /**
  * Parent class for options settings
@@ -28,6 +24,14 @@ import java.util.Vector;
 public abstract class AbstractOptions implements Serializable {
     private static final long serialVersionUID = 6406883135074654379L;
     private Hashtable<String, IOption> optionsHash = new Hashtable<>();
+    /** The index of each option in the array of values, by name; built when first needed */
+    private transient volatile Map<String, Integer> optionIndexes;
+    /**
+     * The boolean value of each option, by index. It is built when first needed and replaced
+     * whenever an option changes, so that looking up a boolean option needs neither a lock
+     * nor a look at the option itself.
+     */
+    private transient volatile boolean[] booleanValues;
 
     protected AbstractOptions() {
         initialize();
@@ -164,12 +168,47 @@ public abstract class AbstractOptions implements Serializable {
      * @return the value of the desired option as the <code>boolean</code>
      */
     public boolean booleanOption(String name) {
-        IOption opt = getOption(name);
-        if (opt == null) {
-            return false;
-        } else {
-            return opt.booleanValue();
+        final Integer index = getOptionIndexes().get(name);
+        return (index != null) && getBooleanValues()[index];
+    }
+
+    private Map<String, Integer> getOptionIndexes() {
+        Map<String, Integer> indexes = optionIndexes;
+        if (indexes == null) {
+            indexes = new HashMap<>();
+            for (String name : new ArrayList<>(optionsHash.keySet())) {
+                indexes.put(name, indexes.size());
+            }
+            optionIndexes = indexes;
+        }
+        return indexes;
+    }
+
+    private boolean[] getBooleanValues() {
+        boolean[] values = booleanValues;
+        return (values == null) ? buildBooleanValues() : values;
+    }
+
+    private synchronized boolean[] buildBooleanValues() {
+        if (booleanValues == null) {
+            final Map<String, Integer> indexes = getOptionIndexes();
+            final boolean[] values = new boolean[indexes.size()];
+            for (Map.Entry<String, Integer> entry : indexes.entrySet()) {
+                final IOption option = optionsHash.get(entry.getKey());
+                // float options have no boolean value and would throw here
+                values[entry.getValue()] = (option != null) && (option.getType() != IOption.FLOAT)
+                        && (option.getValue() != null) && option.booleanValue();
+            }
+            booleanValues = values;
         }
+        return booleanValues;
+    }
+
+    /**
+     * Called by an option of this container when its value has changed.
+     */
+    synchronized void optionChanged() {
+        booleanValues = null;
     }
 
     /**
@@ -242,6 +281,10 @@ public abstract class AbstractOptions implements Serializable {
 
     protected void addOption(IBasicOptionGroup group, String name, int type, Object defaultValue) {
         optionsHash.put(name, new Option(this, name, type, defaultValue));
+        synchronized (this) {
+            optionIndexes = null;
+            booleanValues = null;
+        }
         getOptionsInfoImp().addOptionInfo(group, name);
     }
 
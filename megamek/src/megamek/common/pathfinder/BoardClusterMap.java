@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.pathfinder;
+
+import megamek.common.*;
+import megamek.common.pathfinder.BoardClusterTracker.BoardCluster;
+import megamek.common.pathfinder.BoardClusterTracker.MovementType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The board clusters of one kind of unit: the areas of the board it can move around in freely.
+ * What the unit can do in each hex is stored in arrays, so when hexes change only those hexes
+ * have to be looked at again before the clusters are worked out anew by a union-find pass over
+ * the arrays.
+ *
+ * Two neighboring hexes are in the same cluster if the unit can stand in both, their elevations
+ * differ by no more than it can climb, and it would not have to plow through a building in the
+ * one that comes first in the order of x, then y.
+ */
+final class BoardClusterMap {
+    //region Variable Declarations
+    private static final int NOT_ACCESSIBLE = -1;
+
+    private final boolean destructionAware;
+    private final boolean useBridgeTop;
+    private final int width;
+    private final int height;
+    private final int maxElevationChange;
+    /** The elevation of the unit in each hex, if it can stand there */
+    private final int[] elevations;
+    private final boolean[] accessible;
+    private final boolean[] plowThroughRequired;
+    /** The hex that represents the cluster of each hex, or NOT_ACCESSIBLE */
+    private final int[] clusters;
+    /** The number of hexes in each cluster, by its representing hex */
+    private final int[] clusterSizes;
+    //endregion Variable Declarations
+
+    //region Constructors
+    /**
+     * Works out the clusters of the given unit on its board.
+     *
+     * @param destructionAware whether hexes that can be leveled count as accessible
+     * @param useBridgeTop     whether the unit stands on top of the bridges that hold it
+     */
+    BoardClusterMap(Entity entity, boolean destructionAware, boolean useBridgeTop) {
+        this.destructionAware = destructionAware;
+        this.useBridgeTop = useBridgeTop;
+        final Board board = entity.getGame().getBoard();
+        width = board.getWidth();
+        height = board.getHeight();
+        maxElevationChange = entity.getMaxElevationChange();
+        final int size = width * height;
+        elevations = new int[size];
+        accessible = new boolean[size];
+        plowThroughRequired = new boolean[size];
+        clusters = new int[size];
+        clusterSizes = new int[size];
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                updateHex(entity, board, new Coords(x, y));
+            }
+        }
+        updateClusters();
+    }
+    //endregion Constructors
+
+    /**
+     * Looks at the given hexes again and works out the clusters anew.
+     *
+     * @param entity  a unit of the kind the clusters are for
+     * @param changed the hexes that have changed
+     */
+    void update(Entity entity, Collection<Coords> changed) {
+        final Board board = entity.getGame().getBoard();
+        for (Coords coords : changed) {
+            if (contains(coords)) {
+                updateHex(entity, board, coords);
+            }
+        }
+        updateClusters();
+    }
+
+    private void updateHex(Entity entity, Board board, Coords coords) {
+        final MovementType movementType = MovementType.getMovementType(entity);
+        final int index = index(coords);
+
+        // hex is either inaccessible
+        // or it is inaccessible AND we can't level it
+        plowThroughRequired[index] = buildingPlowThroughRequired(entity, movementType, coords);
+        accessible[index] = !((entity.isLocationProhibited(coords) || plowThroughRequired[index])
+                && (!destructionAware || !canLevel(entity, coords)));
+
+        if (!accessible[index]) {
+            return;
+        }
+
+        final Hex hex = board.getHex(coords);
+        if (useBridgeTop && hex.containsTerrain(Terrains.BRIDGE) && MovementType.canUseBridge(movementType)
+                && (entity.getWeight() <= board.getBuildingAt(coords).getCurrentCF(coords))) {
+            elevations[index] = hex.ceiling();
+        } else {
+            elevations[index] = BoardEdgePathFinder.calculateUnitElevationInHex(hex, entity,
+                    movementType == MovementType.Hover,
+                    (movementType == MovementType.WheeledAmphi) || (movementType == MovementType.TrackedAmphi));
+        }
+    }
+
+    /**
+     * Joins each accessible hex with the neighbors before it that it can move back and forth to.
+     */
+    private void updateClusters() {
+        for (int index = 0; index < clusters.length; index++) {
+            clusters[index] = accessible[index] ? index : NOT_ACCESSIBLE;
+        }
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                final int index = (x * height) + y;
+                if (!accessible[index]) {
+                    continue;
+                }
+                final Coords coords = new Coords(x, y);
+                for (int direction = 0; direction < 6; direction++) {
+                    final Coords neighbor = coords.translated(direction);
+                    if (!contains(neighbor)) {
+                        continue;
+                    }
+                    final int neighborIndex = index(neighbor);
+                    // buildings require special handling - while a tank technically CAN plow through a building
+                    // it is highly inadvisable and we will avoid it for now.
+                    if ((neighborIndex < index) && accessible[neighborIndex]
+                            && (Math.abs(elevations[neighborIndex] - elevations[index]) <= maxElevationChange)
+                            && !plowThroughRequired[neighborIndex]) {
+                        union(index, neighborIndex);
+                    }
+                }
+            }
+        }
+
+        for (int index = 0; index < clusters.length; index++) {
+            clusterSizes[index] = 0;
+        }
+        for (int index = 0; index < clusters.length; index++) {
+            if (accessible[index]) {
+                clusters[index] = find(index);
+                clusterSizes[clusters[index]]++;
+            }
+        }
+    }
+
+    private int find(int index) {
+        int root = index;
+        while (clusters[root] != root) {
+            root = clusters[root];
+        }
+        // point everything on the way straight at the root
+        while (clusters[index] != root) {
+            final int next = clusters[index];
+            clusters[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    private void union(int first, int second) {
+        final int firstRoot = find(first);
+        final int secondRoot = find(second);
+        if (firstRoot != secondRoot) {
+            clusters[Math.max(firstRoot, secondRoot)] = Math.min(firstRoot, secondRoot);
+        }
+    }
+
+    private int index(Coords coords) {
+        return (coords.getX() * height) + coords.getY();
+    }
+
+    private boolean contains(Coords coords) {
+        return (coords != null) && (coords.getX() >= 0) && (coords.getY() >= 0)
+                && (coords.getX() < width) && (coords.getY() < height);
+    }
+
+    /**
+     * @return true if the given hex is in a cluster
+     */
+    boolean isInCluster(Coords coords) {
+        return contains(coords) && accessible[index(coords)];
+    }
+
+    /**
+     * @return the elevation of the unit in the given hex, which must be in a cluster
+     */
+    int getElevation(Coords coords) {
+        return elevations[index(coords)];
+    }
+
+    /**
+     * @return the number of hexes in the cluster of the given hex, or 0 if it is in none
+     */
+    int getClusterSize(Coords coords) {
+        return isInCluster(coords) ? clusterSizes[clusters[index(coords)]] : 0;
+    }
+
+    /**
+     * @return true if both hexes are in the same cluster
+     */
+    boolean shareCluster(Coords first, Coords second) {
+        return isInCluster(first) && isInCluster(second) && (clusters[index(first)] == clusters[index(second)]);
+    }
+
+    /**
+     * Returns the hexes of the cluster of the given hex that lie in the given rectangle.
+     */
+    Set<Coords> getIntersectingHexes(Coords member, int xStart, int xEnd, int yStart, int yEnd) {
+        final Set<Coords> retVal = new HashSet<>();
+        for (int x = xStart; x < xEnd; x++) {
+            for (int y = yStart; y < yEnd; y++) {
+                final Coords coords = new Coords(x, y);
+                if (shareCluster(member, coords)) {
+                    retVal.add(coords);
+                }
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * @return the clusters as a map from each hex in a cluster to its cluster
+     */
+    Map<Coords, BoardCluster> toBoardClusters() {
+        final Map<Coords, BoardCluster> retVal = new HashMap<>();
+        final Map<Integer, BoardCluster> byRoot = new HashMap<>();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                final int index = (x * height) + y;
+                if (accessible[index]) {
+                    final BoardCluster cluster = byRoot.computeIfAbsent(clusters[index],
+                            root -> new BoardCluster(byRoot.size()));
+                    final Coords coords = new Coords(x, y);
+                    cluster.contents.put(coords, elevations[index]);
+                    retVal.put(coords, cluster);
+                }
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * Whether or not we are required to plow through a building if we enter this hex.
+     */
+    private static boolean buildingPlowThroughRequired(Entity entity, MovementType relevantMovementType, Coords coords) {
+        // basic premise:
+        // ground tanks cannot climb over buildings and must plow through
+        // mechs can climb over buildings that won't collapse under them
+        // the relative height comparison is handled elsewhere
+
+        Board board = entity.getGame().getBoard();
+        Hex hex = board.getHex(coords);
+
+        if (!hex.containsTerrain(Terrains.BLDG_CF) && !hex.containsExit(Terrains.FUEL_TANK_CF)) {
+            return false;
+        } else if (relevantMovementType == MovementType.Walker) {
+            final Building building = board.getBuildingAt(coords);
+
+            if (building == null) {
+                return false;
+            }
+
+            int buildingCF = building.getCurrentCF(coords);
+
+            return entity.getWeight() > buildingCF;
+        } else if ((relevantMovementType != MovementType.Flyer) &&
+                (relevantMovementType != MovementType.Jump) &&
+                (relevantMovementType != MovementType.None) &&
+                (relevantMovementType != MovementType.Water)) {
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Indicates whether an entity would be able to pass through a given set of coordinates
+     * if it were to degrade the terrain there sufficiently.
+     */
+    private static boolean canLevel(Entity entity, Coords c) {
+        return BulldozerMovePath.calculateLevelingCost(c, entity) > BulldozerMovePath.CANNOT_LEVEL;
+    }
+}
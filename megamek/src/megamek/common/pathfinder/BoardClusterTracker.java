@@ -14,16 +14,21 @@
 */
 package megamek.common.pathfinder;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import megamek.client.bot.princess.CardinalEdge;
 import megamek.common.*;
+import megamek.common.event.BoardEvent;
+import megamek.common.event.BoardListenerAdapter;
 import megamek.common.util.BoardUtilities;
 
 /**
@@ -94,51 +99,54 @@ public class BoardClusterTracker {
         }
     }
     
-    private Map<MovementType, Map<Coords, BoardCluster>> movableAreas = new HashMap<>();
-    private Map<MovementType, Map<Coords, BoardCluster>> movableAreasWithTerrainReduction = new HashMap<>();
-    private Map<MovementType, Map<Coords, BoardCluster>> movableAreasBridges = new HashMap<>();
-    private Map<MovementType, Map<Coords, BoardCluster>> movableAreasBridgesWithTerrainReduction = new HashMap<>();
+    /** The most distance fields kept; more are only needed if the destinations keep changing */
+    private static final int MAX_DISTANCE_FIELDS = 64;
+    
+    /**
+     * The most boards tracked at once: a bot and its precognition thread each have their own copy
+     * of the board
+     */
+    private static final int MAX_TRACKED_BOARDS = 2;
+    
+    private static final int PLAIN = 0;
+    private static final int WITH_TERRAIN_REDUCTION = 1;
+    private static final int BRIDGES = 2;
+    private static final int BRIDGES_WITH_TERRAIN_REDUCTION = 3;
+    
+    // the clusters and distance fields of each board, by the board, oldest first
+    private final Map<Board, TrackedBoard> trackedBoards = new LinkedHashMap<>();
+    
+    // the key of the entity last asked about; the bots ask about the same entity for many hexes
+    // in a row, and the key is worked out anew when its movable areas are updated
+    private Entity keyEntity;
+    private ClusterKey key;
     
     /**
      * Returns the size of the biggest terrain-reduced or non-terrain-reduced
      * board cluster in which the given coordinates currently reside.
      */
-    public int getBoardClusterSize(Entity entity, Coords actualCoords, boolean terrainReduction) {
-        MovementType movementType = MovementType.getMovementType(entity);
-        
-        updateMovableAreas(entity);
+    public synchronized int getBoardClusterSize(Entity entity, Coords actualCoords, boolean terrainReduction) {
+        BoardClusterMap[] areas = getMovableAreas(entity);
         
         if (terrainReduction) {
-            BoardCluster noBridgeCluster = movableAreasWithTerrainReduction.get(movementType).get(actualCoords);
-            int noBridgeClusterSize = noBridgeCluster == null ? 0 : noBridgeCluster.contents.size();
-            
-            BoardCluster bridgeCluster = movableAreasBridgesWithTerrainReduction.get(movementType).get(actualCoords);
-            int bridgeClusterSize = bridgeCluster == null ? 0 : bridgeCluster.contents.size();
-            
-            return Math.max(noBridgeClusterSize, bridgeClusterSize);
+            return Math.max(areas[WITH_TERRAIN_REDUCTION].getClusterSize(actualCoords),
+                    areas[BRIDGES_WITH_TERRAIN_REDUCTION].getClusterSize(actualCoords));
         } else {
-            BoardCluster noBridgeCluster = movableAreas.get(movementType).get(actualCoords);
-            int noBridgeClusterSize = noBridgeCluster == null ? 0 : noBridgeCluster.contents.size();
-            
-            BoardCluster bridgeCluster = movableAreasBridges.get(movementType).get(actualCoords);
-            int bridgeClusterSize = bridgeCluster == null ? 0 : bridgeCluster.contents.size();
-            
-            return Math.max(noBridgeClusterSize, bridgeClusterSize);
+            return Math.max(areas[PLAIN].getClusterSize(actualCoords),
+                    areas[BRIDGES].getClusterSize(actualCoords));
         }
     }
     
     /**
      * Determines whether, for the given entity, the two sets of coordinates share any cluster.
      */
-    public boolean coordinatesShareCluster(Entity mover, Coords first, Coords second, int firstElevation, int secondElevation) {
-        updateMovableAreas(mover);
-        
-        MovementType movementType = MovementType.getMovementType(mover);
+    public synchronized boolean coordinatesShareCluster(Entity mover, Coords first, Coords second, int firstElevation, int secondElevation) {
+        BoardClusterMap[] areas = getMovableAreas(mover);
         
-        return coordinatesShareCluster(first, second, firstElevation, secondElevation, movableAreasBridges.get(movementType).get(first)) ||
-            coordinatesShareCluster(first, second, firstElevation, secondElevation, movableAreasBridgesWithTerrainReduction.get(movementType).get(first)) ||
-            coordinatesShareCluster(first, second, firstElevation, secondElevation, movableAreas.get(movementType).get(first)) ||
-            coordinatesShareCluster(first, second, firstElevation, secondElevation, movableAreasWithTerrainReduction.get(movementType).get(first));
+        return coordinatesShareCluster(first, second, firstElevation, secondElevation, areas[BRIDGES]) ||
+            coordinatesShareCluster(first, second, firstElevation, secondElevation, areas[BRIDGES_WITH_TERRAIN_REDUCTION]) ||
+            coordinatesShareCluster(first, second, firstElevation, secondElevation, areas[PLAIN]) ||
+            coordinatesShareCluster(first, second, firstElevation, secondElevation, areas[WITH_TERRAIN_REDUCTION]);
     }
     
     /**
@@ -150,11 +158,17 @@ public class BoardClusterTracker {
                 cluster.contents.get(first) == firstElevation && cluster.contents.get(second) == secondElevation;
     }
     
+    private boolean coordinatesShareCluster(Coords first, Coords second, int firstElevation, int secondElevation,
+                                            BoardClusterMap areas) {
+        return areas.shareCluster(first, second) &&
+                (areas.getElevation(first) == firstElevation) && (areas.getElevation(second) == secondElevation);
+    }
+    
     /**
      * Returns a set of coordinates on a given board edge that intersects with the cluster
      * in which the given entity resides. May return an empty set.
      */
-    public Set<Coords> getDestinationCoords(Entity entity, CardinalEdge edge, boolean terrainReduction) {
+    public synchronized Set<Coords> getDestinationCoords(Entity entity, CardinalEdge edge, boolean terrainReduction) {
         CardinalEdge actualEdge = edge;
         if (edge == CardinalEdge.NEAREST) {
             actualEdge = BoardUtilities.getClosestEdge(entity);
@@ -162,229 +176,299 @@ public class BoardClusterTracker {
             return Collections.emptySet();
         }
         
-        updateMovableAreas(entity);
+        BoardClusterMap[] areas = getMovableAreas(entity);
+        Board board = entity.getGame().getBoard();
         
-        MovementType movementType = MovementType.getMovementType(entity);
-        BoardCluster entityCluster = null;
+        Set<Coords> retVal = getIntersectingHexes(entity.getPosition(), actualEdge, board,
+                areas[terrainReduction ? WITH_TERRAIN_REDUCTION : PLAIN]);
         
-        if (terrainReduction) {
-            entityCluster = movableAreasWithTerrainReduction.get(movementType).get(entity.getPosition());
-        } else {
-            entityCluster = movableAreas.get(movementType).get(entity.getPosition());
+        // try with bridges
+        if (retVal.size() == 0) {
+            retVal = getIntersectingHexes(entity.getPosition(), actualEdge, board,
+                    areas[terrainReduction ? BRIDGES_WITH_TERRAIN_REDUCTION : BRIDGES]);
         }
         
-        Set<Coords> retVal = Collections.emptySet();
+        return retVal;
+    }
+    
+    /**
+     * Returns the hexes on the given board edge in the cluster of the given coordinates.
+     */
+    private Set<Coords> getIntersectingHexes(Coords member, CardinalEdge edge, Board board, BoardClusterMap areas) {
+        if (!areas.isInCluster(member)) {
+            return Collections.emptySet();
+        }
         
-        if (entityCluster != null) {
-            retVal = entityCluster.getIntersectingHexes(actualEdge, entity.getGame().getBoard());
+        switch (edge) {
+            case NORTH:
+                return areas.getIntersectingHexes(member, 0, board.getWidth(), 0, 1);
+            case SOUTH:
+                return areas.getIntersectingHexes(member, 0, board.getWidth(), board.getHeight() - 1, board.getHeight());
+            case EAST:
+                return areas.getIntersectingHexes(member, board.getWidth() - 1, board.getWidth(), 0, board.getHeight());
+            case WEST:
+                return areas.getIntersectingHexes(member, 0, 1, 0, board.getHeight());
+            default:
+                return null;
         }
+    }
+    
+    /**
+     * Returns the number of hexes the given entity has to walk from each hex to the nearest of the
+     * given destinations, for use as an A* heuristic. The field is shared by all entities that
+     * move the same way, and kept until the terrain of the board changes.
+     */
+    public synchronized DistanceField getDistanceField(Entity entity, Set<Coords> destinations) {
+        Map<DistanceField.Key, DistanceField> distanceFields = trackBoard(entity.getGame().getBoard(), false)
+                .distanceFields;
         
-        // try with bridges
-        if (retVal.size() == 0) {
-            if (terrainReduction) {
-                entityCluster = movableAreasBridgesWithTerrainReduction.get(movementType).get(entity.getPosition());
-            } else {
-                entityCluster = movableAreasBridges.get(movementType).get(entity.getPosition());
-            }
-            
-            if (entityCluster != null) {
-                retVal = entityCluster.getIntersectingHexes(actualEdge, entity.getGame().getBoard());
-            }
+        if (distanceFields.size() >= MAX_DISTANCE_FIELDS) {
+            distanceFields.clear();
         }
         
-        return retVal;
+        return distanceFields.computeIfAbsent(new DistanceField.Key(entity, destinations),
+                key -> DistanceField.compute(entity, key));
     }
     
     /**
      * Resets board clusters
      */
-    public void clearMovableAreas() {
-        movableAreas.clear();
-        movableAreasWithTerrainReduction.clear();
-        movableAreasBridges.clear();
-        movableAreasBridgesWithTerrainReduction.clear();
+    public synchronized void clearMovableAreas() {
+        for (TrackedBoard trackedBoard : trackedBoards.values()) {
+            trackedBoard.movableAreas.clear();
+        }
     }
     
     /**
      * Updates and stores accessible clusters for the given entity,
      * both for destruction and non-destruction-aware path finding.
+     * The clusters are shared by all entities that move the same way, and only the hexes
+     * that have changed since they were last used are looked at again. This is also when
+     * buildings that have been weakened are found, as that changes no hex.
      */
-    public void updateMovableAreas(Entity entity) {
-        MovementType movementType = MovementType.getMovementType(entity);
-        
-        if (!movableAreas.containsKey(movementType)) {
-            movableAreas.put(movementType, generateClusters(entity, false, false));
-        }
+    public synchronized void updateMovableAreas(Entity entity) {
+        keyEntity = entity;
+        key = new ClusterKey(entity);
+        getMovableAreas(entity, true);
+    }
+    
+    private BoardClusterMap[] getMovableAreas(Entity entity) {
+        return getMovableAreas(entity, false);
+    }
+    
+    private BoardClusterMap[] getMovableAreas(Entity entity, boolean checkBuildings) {
+        Map<ClusterKey, BoardClusterMap[]> movableAreas = trackBoard(entity.getGame().getBoard(), checkBuildings)
+                .movableAreas;
         
-        if (!movableAreasWithTerrainReduction.containsKey(movementType)) {
-            movableAreasWithTerrainReduction.putIfAbsent(movementType, generateClusters(entity, true, false));
+        if (entity != keyEntity) {
+            keyEntity = entity;
+            key = new ClusterKey(entity);
         }
-        
-        if (!movableAreasBridges.containsKey(movementType)) {
-            movableAreasBridges.put(movementType, generateClusters(entity, false, true));
+        BoardClusterMap[] areas = movableAreas.get(key);
+        if (areas == null) {
+            areas = new BoardClusterMap[] {
+                new BoardClusterMap(entity, false, false),
+                new BoardClusterMap(entity, true, false),
+                new BoardClusterMap(entity, false, true),
+                new BoardClusterMap(entity, true, true)
+            };
+            movableAreas.put(key, areas);
         }
-        
-        if (!movableAreasBridgesWithTerrainReduction.containsKey(movementType)) {
-            movableAreasBridgesWithTerrainReduction.putIfAbsent(movementType, generateClusters(entity, true, true));
+        return areas;
+    }
+    
+    /**
+     * Brings the clusters and distance fields of the given board up to date: all of them are
+     * dropped for a new board, and only the changed hexes are looked at again otherwise.
+     *
+     * @param checkBuildings whether to look for buildings whose CF has changed even if no hex
+     *                       has changed
+     */
+    private TrackedBoard trackBoard(Board board, boolean checkBuildings) {
+        TrackedBoard trackedBoard = trackedBoards.get(board);
+        if (trackedBoard == null) {
+            if (trackedBoards.size() >= MAX_TRACKED_BOARDS) {
+                Iterator<TrackedBoard> eldest = trackedBoards.values().iterator();
+                eldest.next().stopTracking();
+                eldest.remove();
+            }
+            trackedBoard = new TrackedBoard(board);
+            trackedBoards.put(board, trackedBoard);
+        } else {
+            trackedBoard.update(checkBuildings);
         }
+        return trackedBoard;
     }
-
+    
     /**
      * Returns accessible clusters for the given entity.
      */
     public Map<Coords, BoardCluster> generateClusters(Entity entity, boolean destructionAware, boolean useBridgeTop) { 
-        Map<Coords, BoardCluster> clusters = new HashMap<>();
-        
-        // start with (0, 0)
-        // for each hex:
-        // if hex is not accessible to this entity, move on
-        // if hex is accessible, check if its neighbors are in a cluster
-        // for each neighbor in a cluster, check if we can move from this hex to the neighbor and back 
-        //      if yes, flag for joining neighbor's cluster
-        //      note that if any other neighbor is in a different cluster, and we can move back and forth, we merge the two clusters
-        // if no neighbors or cannot move back and forth between hex and neighbors, start new cluster
-        
         if (entity == null || entity.getGame() == null) {
-            return clusters;
+            return new HashMap<>();
         }
         
-        Board board = entity.getGame().getBoard();
-        int clusterID = 0;
+        return new BoardClusterMap(entity, destructionAware, useBridgeTop).toBoardClusters();
+    }
+    
+    /**
+     * The clusters and distance fields of one board, the hexes that have changed on it since they
+     * were last brought up to date, and the building CFs they were worked out with, as buildings
+     * that weaken don't change their hex.
+     */
+    private static final class TrackedBoard {
+        private final Board board;
+        // the clusters of each kind of unit, in the order: plain, with terrain reduction,
+        // with bridges, with bridges and terrain reduction
+        private final Map<ClusterKey, BoardClusterMap[]> movableAreas = new HashMap<>();
+        // distance fields only depend on the terrain, so they are kept until the board changes
+        private final Map<DistanceField.Key, DistanceField> distanceFields = new HashMap<>();
+        private final Map<Coords, Integer> buildingCFs = new HashMap<>();
+        
+        // changed by the board listener, which may run on another thread
+        private final Set<Coords> changedHexes = new HashSet<>();
+        private boolean allHexesChanged = false;
+        private final BoardListenerAdapter boardListener = new BoardListenerAdapter() {
+            @Override
+            public void boardNewBoard(BoardEvent b) {
+                boardChanged(null);
+            }
+            
+            @Override
+            public void boardChangedHex(BoardEvent b) {
+                boardChanged(b.getCoords());
+            }
+            
+            @Override
+            public void boardChangedAllHexes(BoardEvent b) {
+                boardChanged(null);
+            }
+        };
         
-        MovementType movementType = MovementType.getMovementType(entity);
-        boolean isHovercraft = movementType == MovementType.Hover;
-        boolean isAmphibious = movementType == MovementType.WheeledAmphi ||
-                                movementType == MovementType.TrackedAmphi;
+        TrackedBoard(Board board) {
+            this.board = board;
+            board.addBoardListener(boardListener);
+            recordBuildingCFs(board, buildingCFs);
+        }
         
-        boolean canUseBridge = MovementType.canUseBridge(movementType);
+        void stopTracking() {
+            board.removeBoardListener(boardListener);
+        }
         
-        for (int x = 0; x < board.getWidth(); x++) {
-            for (int y = 0; y < board.getHeight(); y++) {
-                Coords c = new Coords(x, y);
-                
-                // hex is either inaccessible
-                // or it is inaccessible AND we can't level it, then we move on
-                if ((entity.isLocationProhibited(c) || buildingPlowThroughRequired(entity, movementType, c)) &&
-                        (!destructionAware || (destructionAware && !canLevel(entity, c)))) {
-                    continue;
+        /**
+         * Looks at the hexes that have changed since the last update again.
+         *
+         * @param checkBuildings whether to look for weakened buildings even if no hex has changed
+         */
+        void update(boolean checkBuildings) {
+            boolean rebuild;
+            Set<Coords> changed;
+            synchronized (changedHexes) {
+                rebuild = allHexesChanged;
+                changed = new HashSet<>(changedHexes);
+                changedHexes.clear();
+                allHexesChanged = false;
+            }
+            
+            if (rebuild) {
+                movableAreas.clear();
+                distanceFields.clear();
+                buildingCFs.clear();
+                recordBuildingCFs(board, buildingCFs);
+                return;
+            } else if (checkBuildings || !changed.isEmpty()) {
+                findChangedBuildings(changed);
+            }
+            
+            if (!changed.isEmpty()) {
+                distanceFields.clear();
+                for (Iterator<Map.Entry<ClusterKey, BoardClusterMap[]>> entries = movableAreas.entrySet().iterator();
+                        entries.hasNext(); ) {
+                    Map.Entry<ClusterKey, BoardClusterMap[]> entry = entries.next();
+                    Entity entity = entry.getKey().entity;
+                    // the entity the clusters were made for may have changed since, and then can't be used
+                    if (!entry.getKey().equals(new ClusterKey(entity))) {
+                        entries.remove();
+                        continue;
+                    }
+                    for (BoardClusterMap areas : entry.getValue()) {
+                        areas.update(entity, changed);
+                    }
                 }
-                
-                int myElevation = 0; 
-                        
-                if (useBridgeTop && board.getHex(c).containsTerrain(Terrains.BRIDGE) &&
-                        canUseBridge && (entity.getWeight() <= board.getBuildingAt(c).getCurrentCF(c))) {
-                    myElevation = board.getHex(c).ceiling();
-                } else {
-                    myElevation = BoardEdgePathFinder.calculateUnitElevationInHex(board.getHex(c), entity, isHovercraft, isAmphibious);
+            }
+        }
+        
+        /**
+         * Adds the hexes whose building CF has changed to the given set, and records the new CFs.
+         */
+        private void findChangedBuildings(Set<Coords> changed) {
+            Map<Coords, Integer> currentCFs = new HashMap<>();
+            recordBuildingCFs(board, currentCFs);
+            for (Map.Entry<Coords, Integer> entry : currentCFs.entrySet()) {
+                if (!entry.getValue().equals(buildingCFs.get(entry.getKey()))) {
+                    changed.add(entry.getKey());
                 }
-                
-                List<Coords> neighborsToJoin = new ArrayList<>();
-                BoardCluster biggestNeighbor = null; 
-                
-                // hex is accessible one way or another
-                for (int direction = 0; direction < 6; direction++) {
-                    Coords neighbor = c.translated(direction);
-                    
-                    if (clusters.containsKey(neighbor)) {
-                        int neighborElevation = 0;
-                        
-                        if (useBridgeTop && board.getHex(neighbor).containsTerrain(Terrains.BRIDGE) &&
-                                canUseBridge && (entity.getWeight() <= board.getBuildingAt(neighbor).getCurrentCF(neighbor))) {
-                            neighborElevation = board.getHex(neighbor).ceiling();
-                        } else {
-                            neighborElevation = BoardEdgePathFinder.calculateUnitElevationInHex(board.getHex(neighbor), entity, isHovercraft, isAmphibious);
-                        }
-                        
-                        // if we can't reach from here to the neighbor due to elevation differences, move on
-                        // buildings require special handling - while a tank technically CAN plow through a building
-                        // it is highly inadvisable and we will avoid it for now.
-                        int elevationDiff = Math.abs(neighborElevation - myElevation);
-                        if ((elevationDiff > entity.getMaxElevationChange())
-                                || buildingPlowThroughRequired(entity, movementType, neighbor)) {
-                            continue;
-                        }
-                        
-                        // we can "freely" go back and forth between ourselves and the neighbor, so let's join that cluster 
-                        neighborsToJoin.add(neighbor);
-                        
-                        if ((biggestNeighbor == null) ||
-                                (clusters.get(neighbor).contents.size() > biggestNeighbor.contents.size())) {
-                            biggestNeighbor = clusters.get(neighbor);
-                        }
-                    }
+            }
+            for (Coords coords : buildingCFs.keySet()) {
+                if (!currentCFs.containsKey(coords)) {
+                    changed.add(coords);
                 }
-                
-                // start up a new cluster if we have no mutually accessible neighbors
-                if (neighborsToJoin.isEmpty() || biggestNeighbor == null) {
-                    BoardCluster newCluster = new BoardCluster(clusterID++);
-                    newCluster.contents.put(c, myElevation);
-                    clusters.put(c, newCluster);
-                // otherwise, join an existing cluster, bringing any other mutually accessible neighbors and their clusters with me
-                // join the biggest neighbor to reduce shuffling.
+            }
+            buildingCFs.clear();
+            buildingCFs.putAll(currentCFs);
+        }
+        
+        private void boardChanged(Coords coords) {
+            synchronized (changedHexes) {
+                if (coords == null) {
+                    allHexesChanged = true;
                 } else {
-                    biggestNeighbor.contents.put(c, myElevation);
-                    clusters.put(c, biggestNeighbor);
-                    
-                    // merge any other clusters belonging to joined neighbors to this cluster
-                    for (int neighborIndex = 0; neighborIndex < neighborsToJoin.size(); neighborIndex++) {
-                        BoardCluster oldCluster = clusters.get(neighborsToJoin.get(neighborIndex));
-                        if (oldCluster == biggestNeighbor) {
-                            continue;
-                        }
-                        
-                        for (Coords member : oldCluster.contents.keySet()) {
-                            biggestNeighbor.contents.put(member, oldCluster.contents.get(member));
-                            clusters.put(member, biggestNeighbor);
-                        }
-                    }
-                    
+                    changedHexes.add(coords);
                 }
             }
         }
         
-        return clusters;
+        private static void recordBuildingCFs(Board board, Map<Coords, Integer> buildingCFs) {
+            for (Enumeration<Building> buildings = board.getBuildings(); buildings.hasMoreElements(); ) {
+                Building building = buildings.nextElement();
+                for (Enumeration<Coords> coords = building.getCoords(); coords.hasMoreElements(); ) {
+                    Coords c = coords.nextElement();
+                    buildingCFs.put(c, building.getCurrentCF(c));
+                }
+            }
+        }
     }
     
     /**
-     * Whether or not we are required to plow through a building if we enter this hex.
+     * The properties of an entity that decide where it can go, as far as the clusters are
+     * concerned. Entities with equal keys share their clusters.
      */
-    private boolean buildingPlowThroughRequired(Entity entity, MovementType relevantMovementType, Coords coords) {
-        // basic premise:
-        // ground tanks cannot climb over buildings and must plow through
-        // mechs can climb over buildings that won't collapse under them
-        // the relative height comparison is handled elsewhere
+    private static final class ClusterKey {
+        /** An entity with this key, used to look at changed hexes again */
+        private final Entity entity;
+        private final List<Object> properties;
         
-        Board board = entity.getGame().getBoard();
-        Hex hex = board.getHex(coords);
+        ClusterKey(Entity entity) {
+            this.entity = entity;
+            properties = Arrays.asList(entity.getClass(), MovementType.getMovementType(entity),
+                    entity.getMovementMode(), entity.getWeight(), entity.getElevation(),
+                    entity.getMaxElevationChange(), entity.height(), entity.isHidden(), entity.isAirborne(),
+                    entity.isConvertingNow(), entity.isSuperHeavy(), entity.hasEnvironmentalSealing(),
+                    entity.hasWorkingMisc(MiscType.F_FLOTATION_HULL), entity.hasWorkingMisc(MiscType.F_AMPHIBIOUS),
+                    entity.hasWorkingMisc(MiscType.F_FULLY_AMPHIBIOUS),
+                    entity.hasWorkingMisc(MiscType.F_LIMITED_AMPHIBIOUS),
+                    entity.isNaval(), entity.isSurfaceNaval(), entity.hasETypeFlag(Entity.ETYPE_QUADVEE));
+        }
         
-        if (!hex.containsTerrain(Terrains.BLDG_CF) && !hex.containsExit(Terrains.FUEL_TANK_CF)) {
-            return false;
-        } else if (relevantMovementType == MovementType.Walker) {
-            final Building building = board.getBuildingAt(coords);
-            
-            if (building == null) {
-                return false;
-            }
-            
-            int buildingCF = building.getCurrentCF(coords);
-            
-            return entity.getWeight() > buildingCF;            
-        } else if ((relevantMovementType != MovementType.Flyer) &&
-                (relevantMovementType != MovementType.Jump) &&
-                (relevantMovementType != MovementType.None) &&
-                (relevantMovementType != MovementType.Water)) {
-            return true;
-        } else {
-            return false;
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof ClusterKey) && properties.equals(((ClusterKey) other).properties);
+        }
+        
+        @Override
+        public int hashCode() {
+            return properties.hashCode();
         }
-    }
-    
-    /**
-     * Indicates whether an entity would be able to pass through a given set of coordinates
-     * if it were to degrade the terrain there sufficiently.
-     */
-    private boolean canLevel(Entity entity, Coords c) {
-        return BulldozerMovePath.calculateLevelingCost(c, entity) > BulldozerMovePath.CANNOT_LEVEL;
     }
     
     /**
@@ -35,6 +35,7 @@ public class DestructionAwareDestinationPathfinder extends BoardEdgePathFinder {
 
     private Comparator<BulldozerMovePath> movePathComparator;
     private int maximumCost = Integer.MAX_VALUE;
+    private DistanceField distanceField;
     private Map<Coords, Boolean> friendlyFireCheckResults = new HashMap<>();
     
     /**
@@ -88,6 +89,15 @@ public class DestructionAwareDestinationPathfinder extends BoardEdgePathFinder {
             return null;
         }
         
+        // a walking path needs at least as many MP as it has hexes left to walk around obstacles,
+        // so paths that can't beat the best one found so far can be cut off early.
+        // Jumps go over obstacles, so they can't be cut off this way.
+        distanceField = jump ? null : clusterTracker.getDistanceField(entity, destinationCoords);
+        if ((distanceField != null)
+                && (distanceField.getDistance(entity.getPosition()) == DistanceField.UNREACHABLE)) {
+            return null;
+        }
+        
         movePathComparator = new AStarComparator(closest);
         maximumCost = Integer.MAX_VALUE;
         
@@ -243,10 +253,22 @@ public class DestructionAwareDestinationPathfinder extends BoardEdgePathFinder {
                 // better than existing path to ultimate destination
                 (child.getMpUsed() + child.getLevelingCost() < maximumCost)) {
             shortestPathsToCoords.put(child.getFinalCoords(), child);
-            children.add(child);
+            
+            // no need to go on if even the shortest way from here costs more than the best path
+            if (getRemainingCost(child) < maximumCost - child.getMpUsed() - child.getLevelingCost()) {
+                children.add(child);
+            }
         }
     }
     
+    /**
+     * The least number of MP the given path still needs to reach a destination, or
+     * {@link DistanceField#UNREACHABLE} if it can't reach one.
+     */
+    private int getRemainingCost(BulldozerMovePath path) {
+        return (distanceField == null) ? 0 : distanceField.getDistance(path.getFinalCoords());
+    }
+    
     /**
      * Utility function that returns true if an attack on the building in the given coordinates
      * will result in damage to friendly units. Computation is cached as it is somewhat expensive to perform for each possible path node.
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.pathfinder;
+
+import megamek.common.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The number of hexes a ground unit has to walk from each hex of the board to the nearest of a set
+ * of destination hexes, worked out once by a breadth-first search outwards from the destinations.
+ *
+ * The search allows every step the destruction-aware pathfinder could take without jumping,
+ * and a few more: bridges and buildings are assumed to hold, and any terrain that could be
+ * leveled is assumed passable. As every step costs at least one MP, the distance is a lower
+ * bound on the MP a path still needs, which makes it an admissible A* heuristic. A hex that
+ * cannot reach any destination this way cannot reach one at all without jumping.
+ *
+ * A field depends only on the terrain and on the properties of the unit in its {@link Key}, so
+ * it can be shared by all units with the same key until the terrain changes.
+ */
+public final class DistanceField {
+    //region Variable Declarations
+    /** The distance of a hex from which no destination can be reached */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int width;
+    private final int height;
+    private final int[] distances;
+    //endregion Variable Declarations
+
+    //region Constructors
+    private DistanceField(int width, int height, int[] distances) {
+        this.width = width;
+        this.height = height;
+        this.distances = distances;
+    }
+    //endregion Constructors
+
+    /**
+     * Works out the distance field of the given unit to the given destinations on its board.
+     *
+     * @param entity       the unit, which only matters through its {@link Key}
+     * @param destinations the destination hexes; those off the board are ignored
+     * @return the distance field
+     */
+    public static DistanceField compute(Entity entity, Set<Coords> destinations) {
+        return compute(entity, new Key(entity, destinations));
+    }
+
+    static DistanceField compute(Entity entity, Key key) {
+        final Board board = entity.getGame().getBoard();
+        final int width = board.getWidth();
+        final int height = board.getHeight();
+        final int size = width * height;
+
+        // the elevations the unit may have in each hex: on the ground, and on top of a bridge
+        final int[] groundElevation = new int[size];
+        final int[] bridgeElevation = new int[size];
+        final boolean[] blocked = new boolean[size];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                final Hex hex = board.getHex(x, y);
+                final int index = (y * width) + x;
+                groundElevation[index] = BoardEdgePathFinder.calculateUnitElevationInHex(hex, entity,
+                        key.hover, key.amphibious, false);
+                bridgeElevation[index] = BoardEdgePathFinder.calculateUnitElevationInHex(hex, entity,
+                        key.hover, key.amphibious, true);
+                blocked[index] = key.isBlocked(hex);
+            }
+        }
+
+        final int[] distances = new int[size];
+        Arrays.fill(distances, UNREACHABLE);
+        final int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (Coords destination : key.destinations) {
+            if (board.contains(destination)) {
+                final int index = (destination.getY() * width) + destination.getX();
+                if (distances[index] == UNREACHABLE) {
+                    distances[index] = 0;
+                    queue[tail++] = index;
+                }
+            }
+        }
+
+        // every step costs the same, so a breadth-first search visits the hexes in the order
+        // of their distance; the search runs backwards, from the hex entered to the one left
+        while (head < tail) {
+            final int to = queue[head++];
+            if (blocked[to]) {
+                continue;
+            }
+            final Coords toCoords = new Coords(to % width, to / width);
+            for (int direction = 0; direction < 6; direction++) {
+                final Coords fromCoords = toCoords.translated(direction);
+                if (!board.contains(fromCoords)) {
+                    continue;
+                }
+                final int from = (fromCoords.getY() * width) + fromCoords.getX();
+                if ((distances[from] == UNREACHABLE) && key.canStep(groundElevation[from],
+                        bridgeElevation[from], groundElevation[to], bridgeElevation[to])) {
+                    distances[from] = distances[to] + 1;
+                    queue[tail++] = from;
+                }
+            }
+        }
+        return new DistanceField(width, height, distances);
+    }
+
+    /**
+     * @return the number of hexes the unit has to walk from the given hex to the nearest
+     * destination, or {@link #UNREACHABLE} if it cannot reach one without jumping
+     */
+    public int getDistance(Coords coords) {
+        if ((coords == null) || (coords.getX() < 0) || (coords.getY() < 0)
+                || (coords.getX() >= width) || (coords.getY() >= height)) {
+            return UNREACHABLE;
+        }
+        return distances[(coords.getY() * width) + coords.getX()];
+    }
+
+    /**
+     * The properties of a unit and the destinations a distance field depends on. Units with equal
+     * keys share a field.
+     */
+    public static final class Key {
+        private final Set<Coords> destinations;
+        private final EntityMovementMode movementMode;
+        private final boolean tracked;
+        private final boolean wheeled;
+        private final boolean hover;
+        private final boolean amphibious;
+        private final boolean mech;
+        private final boolean naval;
+        private final boolean surfaceNaval;
+        private final int maxElevationUp;
+        private final int maxElevationDown;
+
+        public Key(Entity entity, Set<Coords> destinations) {
+            this.destinations = new HashSet<>(destinations);
+            movementMode = entity.getMovementMode();
+            // these match the checks of BoardEdgePathFinder.isLegalMove()
+            tracked = (movementMode == EntityMovementMode.TRACKED) && !entity.hasETypeFlag(Entity.ETYPE_QUADVEE);
+            wheeled = movementMode == EntityMovementMode.WHEELED;
+            hover = movementMode == EntityMovementMode.HOVER;
+            amphibious = entity.hasWorkingMisc(MiscType.F_AMPHIBIOUS)
+                    || entity.hasWorkingMisc(MiscType.F_FULLY_AMPHIBIOUS)
+                    || entity.hasWorkingMisc(MiscType.F_LIMITED_AMPHIBIOUS);
+            mech = entity.hasETypeFlag(Entity.ETYPE_MECH);
+            naval = entity.isNaval();
+            surfaceNaval = entity.isSurfaceNaval();
+            maxElevationUp = entity.getMaxElevationChange();
+            maxElevationDown = entity.getMaxElevationDown();
+        }
+
+        /**
+         * @return true if the unit can't enter the hex even after leveling it
+         */
+        private boolean isBlocked(Hex hex) {
+            final boolean road = hex.containsTerrain(Terrains.ROAD);
+            final boolean building = hex.containsTerrain(Terrains.BLDG_CF) || hex.containsTerrain(Terrains.FUEL_TANK_CF);
+            return hex.containsTerrain(Terrains.IMPASSABLE)
+                    || (wheeled && !road && (hex.containsTerrain(Terrains.ROUGH)
+                            || hex.containsTerrain(Terrains.RUBBLE) || building
+                            || (hex.terrainLevel(Terrains.SNOW) > 1)))
+                    || ((tracked || wheeled) && !amphibious && hex.containsTerrain(Terrains.WATER)
+                            && (hex.depth() > 0) && !hex.containsTerrain(Terrains.BRIDGE));
+        }
+
+        /**
+         * @return true if the unit can step between hexes at the given elevations, either on the
+         * ground or on a bridge
+         */
+        private boolean canStep(int fromGround, int fromBridge, int toGround, int toBridge) {
+            return canStep(fromGround, toGround) || canStep(fromGround, toBridge)
+                    || canStep(fromBridge, toGround) || canStep(fromBridge, toBridge);
+        }
+
+        private boolean canStep(int from, int to) {
+            return ((to - from) <= maxElevationUp) && ((from - to) <= maxElevationDown);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return (movementMode == key.movementMode) && (tracked == key.tracked) && (wheeled == key.wheeled)
+                    && (hover == key.hover) && (amphibious == key.amphibious) && (mech == key.mech)
+                    && (naval == key.naval) && (surfaceNaval == key.surfaceNaval)
+                    && (maxElevationUp == key.maxElevationUp) && (maxElevationDown == key.maxElevationDown)
+                    && destinations.equals(key.destinations);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(destinations, movementMode, tracked, wheeled, hover, amphibious, mech, naval,
+                    surfaceNaval, maxElevationUp, maxElevationDown);
+        }
+    }
+}
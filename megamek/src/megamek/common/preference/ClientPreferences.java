@@ -37,6 +37,7 @@ public class ClientPreferences extends PreferenceStoreProxy {
     public static final String MECH_DIRECTORY = "MechDirectory";
     public static final String MEK_HIT_LOC_LOG = "MekHitLocLog";
     public static final String MEMORY_DUMP_ON = "MemoryDumpOn";
+    public static final String METRICS_LOG_INTERVAL = "MetricsLogInterval";
     public static final String DEBUG_OUTPUT_ON = "DebugOutputOn";
     public static final String GAMELOG_KEEP = "KeepGameLog";
     public static final String GAMELOG_FILENAME = "GameLogFilename";
@@ -84,6 +85,7 @@ public class ClientPreferences extends PreferenceStoreProxy {
         store.setDefault(MAP_HEIGHT, 1);
         store.setDefault(DEBUG_OUTPUT_ON,false);
         store.setDefault(MEMORY_DUMP_ON,false);
+        store.setDefault(METRICS_LOG_INTERVAL, 0);
         store.setDefault(IP_ADDRESSES_IN_CHAT, false);
         setLocale(store.getString(LOCALE));
         setMekHitLocLog();
@@ -201,6 +203,13 @@ public class ClientPreferences extends PreferenceStoreProxy {
         return store.getBoolean(MEMORY_DUMP_ON);
     }
 
+    /**
+     * @return how often the server logs its metrics, in seconds, or 0 if it doesn't
+     */
+    public int getMetricsLogInterval() {
+        return store.getInt(METRICS_LOG_INTERVAL);
+    }
+
     public boolean debugOutputOn() {
         return store.getBoolean(DEBUG_OUTPUT_ON);
     }
@@ -46,8 +46,8 @@ public class TROView {
 
     private Template template;
     private final Map<String, Object> model = new HashMap<>();
-    private final EntityVerifier verifier = EntityVerifier
-            .getInstance(new MegaMekFile(Configuration.unitsDir(), EntityVerifier.CONFIG_FILENAME).getFile());
+    /** Loaded from its config file the first time it is needed and shared by all views */
+    private static EntityVerifier verifier;
 
     private boolean includeFluff = true;
 
@@ -85,11 +85,19 @@ public class TROView {
             } catch (final IOException e) {
                 LogManager.getLogger().error("", e);
             }
-            view.initModel(view.verifier);
+            view.initModel(getVerifier());
         }
         return view;
     }
 
+    private static synchronized EntityVerifier getVerifier() {
+        if (verifier == null) {
+            verifier = EntityVerifier.getInstance(new MegaMekFile(Configuration.unitsDir(),
+                    EntityVerifier.CONFIG_FILENAME).getFile());
+        }
+        return verifier;
+    }
+
     protected String getTemplateFileName(boolean html) {
         return null;
     }
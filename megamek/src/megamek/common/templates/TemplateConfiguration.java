@@ -14,6 +14,7 @@
 
 package megamek.common.templates;
 
+import freemarker.cache.StrongCacheStorage;
 import freemarker.template.Configuration;
 import freemarker.template.TemplateExceptionHandler;
 
@@ -27,7 +28,11 @@ public final class TemplateConfiguration {
 
     private static Configuration configuration = null;
 
-    public static Configuration getInstance() {
+    /**
+     * The configuration keeps the templates it has parsed, so each template is only read and
+     * parsed once. Once created, it may be used from any thread.
+     */
+    public static synchronized Configuration getInstance() {
         if (null == configuration) {
             configuration = createConfiguration();
         }
@@ -41,6 +46,10 @@ public final class TemplateConfiguration {
         cfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
         cfg.setLogTemplateExceptions(false);
         cfg.setWrapUncheckedExceptions(true);
+        // The templates are bundled with the program, so keep them once parsed and never check
+        // whether they changed
+        cfg.setCacheStorage(new StrongCacheStorage());
+        cfg.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
         return cfg;
     }
 }
@@ -21,9 +21,30 @@ import megamek.common.util.generator.ElevationGenerator;
 import megamek.common.util.generator.SimplexGenerator;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 public class BoardUtilities {
     private static List<ElevationGenerator> elevationGenerators = new ArrayList<>();
+
+    /** Boards with at least this many hexes have their elevation computed in parallel */
+    private static final int PARALLEL_HEX_THRESHOLD = 64 * 64;
+
+    /**
+     * The stages of random board generation. When a board is generated from a seed, each stage
+     * draws from its own generator seeded from the board seed and the stage, so that changing
+     * the settings for one stage (e.g. more forests) does not change the result of the others.
+     * New stages must be added at the end to keep existing seeds producing the same boards.
+     */
+    private enum GeneratorStage {
+        ELEVATION, MOUNTAINS, CLIFFS, WOODS, FOLIAGE, ROUGH, SAND, FIELDS, SWAMP, FORTIFIED,
+        RUBBLE, WATER, PAVEMENT, ICE, CRATERS, RIVER, SPECIAL_EFFECTS, CITY
+    }
+
+    /** The board seed of a seeded generation running on this thread, if any */
+    private static final ThreadLocal<Long> generatorSeed = new ThreadLocal<>();
+    /** The generator for the current stage of a seeded generation running on this thread */
+    private static final ThreadLocal<Random> generatorRandom = new ThreadLocal<>();
+
     static {
         // TODO: make this externally accessible via registerElevationGenerator()
         elevationGenerators.add(new SimplexGenerator());
@@ -108,12 +129,56 @@ public class BoardUtilities {
         }
     }
 
+    /**
+     * Generates a random board that depends only on the settings and the given seed, so the same
+     * board can be generated again. Different boards can be generated on different threads
+     * at the same time.
+     *
+     * @param mapSettings The parameters for random board creation.
+     * @param seed        The seed for the random numbers used
+     */
+    public static Board generateRandom(MapSettings mapSettings, long seed) {
+        final Long previousSeed = generatorSeed.get();
+        final Random previousRandom = generatorRandom.get();
+        generatorSeed.set(seed);
+        try {
+            return generateRandom(mapSettings);
+        } finally {
+            generatorSeed.set(previousSeed);
+            generatorRandom.set(previousRandom);
+        }
+    }
+
+    /**
+     * Returns a random integer for the board generator. Draws from the generator of the current
+     * stage during seeded generation and from the shared dice roller otherwise.
+     *
+     * @param maxValue the exclusive upper bound
+     * @return a random int in the range [0, maxValue)
+     */
+    static int randomInt(int maxValue) {
+        final Random random = generatorRandom.get();
+        return (random == null) ? Compute.randomInt(maxValue) : random.nextInt(maxValue);
+    }
+
+    /**
+     * Switches to the generator for the given stage if a seeded generation is running.
+     */
+    private static void beginStage(GeneratorStage stage) {
+        final Long seed = generatorSeed.get();
+        if (seed != null) {
+            // Spread the stage over the seed bits so neighbouring seeds do not share stages
+            generatorRandom.set(new Random(seed ^ ((stage.ordinal() + 1) * 0x9E3779B97F4A7C15L)));
+        }
+    }
+
     /**
      * Generates a Random Board
      *
      * @param mapSettings The parameters for random board creation.
      */
     public static Board generateRandom(MapSettings mapSettings) {
+        beginStage(GeneratorStage.ELEVATION);
         int[][] elevationMap = new int[mapSettings.getBoardWidth()][mapSettings.getBoardHeight()];
         double sizeScale = (double) (mapSettings.getBoardWidth() * mapSettings.getBoardHeight())
                 / (16d * 17d);
@@ -124,17 +189,23 @@ public class BoardUtilities {
                 .getInvertNegativeTerrain(), elevationMap, mapSettings
                 .getAlgorithmToUse());
 
-        Hex[] nb = new Hex[mapSettings.getBoardWidth() * mapSettings.getBoardHeight()];
-        int index = 0;
-        for (int h = 0; h < mapSettings.getBoardHeight(); h++) {
-            for (int w = 0; w < mapSettings.getBoardWidth(); w++) {
-                if (mapSettings.getMedium() == MapSettings.MEDIUM_SPACE) {
-                    nb[index++] = new Hex(0, "space:1", mapSettings.getTheme(), new Coords(w, h));
-                } else {
-                    nb[index++] = new Hex(elevationMap[w][h], "", mapSettings.getTheme(), new Coords(w, h));
+        final int boardWidth = mapSettings.getBoardWidth();
+        final boolean space = mapSettings.getMedium() == MapSettings.MEDIUM_SPACE;
+        Hex[] nb = new Hex[boardWidth * mapSettings.getBoardHeight()];
+        IntStream rows = IntStream.range(0, mapSettings.getBoardHeight());
+        if (nb.length >= PARALLEL_HEX_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(h -> {
+            for (int w = 0; w < boardWidth; w++) {
+                Terrain[] terrains = new Terrain[Terrains.SIZE];
+                if (space) {
+                    terrains[Terrains.SPACE] = new Terrain(Terrains.SPACE, 1);
                 }
+                nb[h * boardWidth + w] = new Hex(space ? 0 : elevationMap[w][h], terrains,
+                        mapSettings.getTheme(), new Coords(w, h));
             }
-        }
+        });
 
         Board result = new Board(mapSettings.getBoardWidth(), mapSettings.getBoardHeight(), nb);
 
@@ -152,35 +223,38 @@ public class BoardUtilities {
             }
         }
 
+        beginStage(GeneratorStage.MOUNTAINS);
         int peaks = mapSettings.getMountainPeaks();
         while (peaks > 0) {
             peaks--;
             int mountainHeight = mapSettings.getMountainHeightMin()
-                    + Compute.randomInt(1 + mapSettings.getMountainHeightMax()
+                    + randomInt(1 + mapSettings.getMountainHeightMax()
                             - mapSettings.getMountainHeightMin());
             int mountainWidth = mapSettings.getMountainWidthMin()
-                    + Compute.randomInt(1 + mapSettings.getMountainWidthMax()
+                    + randomInt(1 + mapSettings.getMountainWidthMax()
                             - mapSettings.getMountainWidthMin());
             int mapWidth = result.getWidth();
             int mapHeight = result.getHeight();
 
             // put the peak somewhere in the middle of the map...
             Coords peak = new Coords(mapWidth / 4
-                    + Compute.randomInt((mapWidth + 1) / 2), mapHeight / 4
-                    + Compute.randomInt((mapHeight + 1) / 2));
+                    + randomInt((mapWidth + 1) / 2), mapHeight / 4
+                    + randomInt((mapHeight + 1) / 2));
 
             generateMountain(result, mountainWidth, peak, mountainHeight,
                     mapSettings.getMountainStyle());
         }
 
+        beginStage(GeneratorStage.CLIFFS);
         if (mapSettings.getCliffs() > 0) {
             addCliffs(result, mapSettings.getCliffs());
         }
 
         // Add the woods
+        beginStage(GeneratorStage.WOODS);
         int count = mapSettings.getMinForestSpots();
         if (mapSettings.getMaxForestSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxForestSpots());
+            count += randomInt(mapSettings.getMaxForestSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -190,9 +264,10 @@ public class BoardUtilities {
         }
         
         // Add foliage (1 elevation high woods)
+        beginStage(GeneratorStage.FOLIAGE);
         count = mapSettings.getMinFoliageSpots();
         if (mapSettings.getMaxFoliageSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxFoliageSpots());
+            count += randomInt(mapSettings.getMaxFoliageSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -202,9 +277,10 @@ public class BoardUtilities {
         }
         
         // Add the rough
+        beginStage(GeneratorStage.ROUGH);
         count = mapSettings.getMinRoughSpots();
         if (mapSettings.getMaxRoughSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxRoughSpots());
+            count += randomInt(mapSettings.getMaxRoughSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -214,9 +290,10 @@ public class BoardUtilities {
         }
 
         // Add the sand
+        beginStage(GeneratorStage.SAND);
         count = mapSettings.getMinSandSpots();
         if (mapSettings.getMaxSandSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxSandSpots());
+            count += randomInt(mapSettings.getMaxSandSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -226,9 +303,10 @@ public class BoardUtilities {
         }
 
         // Add the planted field
+        beginStage(GeneratorStage.FIELDS);
         count = mapSettings.getMinPlantedFieldSpots();
         if (mapSettings.getMaxPlantedFieldSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxPlantedFieldSpots());
+            count += randomInt(mapSettings.getMaxPlantedFieldSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -238,9 +316,10 @@ public class BoardUtilities {
         }
 
         // Add the swamp
+        beginStage(GeneratorStage.SWAMP);
         count = mapSettings.getMinSwampSpots();
         if (mapSettings.getMaxSwampSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxSwampSpots());
+            count += randomInt(mapSettings.getMaxSwampSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -250,9 +329,10 @@ public class BoardUtilities {
         }
 
         // Add the Fortified hexes
+        beginStage(GeneratorStage.FORTIFIED);
         count = mapSettings.getMinFortifiedSpots();
         if (mapSettings.getMaxFortifiedSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxFortifiedSpots());
+            count += randomInt(mapSettings.getMaxFortifiedSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -262,9 +342,10 @@ public class BoardUtilities {
         }
 
         // Add the rubble
+        beginStage(GeneratorStage.RUBBLE);
         count = mapSettings.getMinRubbleSpots();
         if (mapSettings.getMaxRubbleSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxRubbleSpots());
+            count += randomInt(mapSettings.getMaxRubbleSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -274,9 +355,10 @@ public class BoardUtilities {
         }
 
         // Add the water
+        beginStage(GeneratorStage.WATER);
         count = mapSettings.getMinWaterSpots();
         if (mapSettings.getMaxWaterSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxWaterSpots());
+            count += randomInt(mapSettings.getMaxWaterSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -285,9 +367,10 @@ public class BoardUtilities {
         }
 
         // Add the pavements
+        beginStage(GeneratorStage.PAVEMENT);
         count = mapSettings.getMinPavementSpots();
         if (mapSettings.getMaxPavementSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxPavementSpots());
+            count += randomInt(mapSettings.getMaxPavementSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -296,9 +379,10 @@ public class BoardUtilities {
         }
 
         // Add the ice
+        beginStage(GeneratorStage.ICE);
         count = mapSettings.getMinIceSpots();
         if (mapSettings.getMaxIceSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxIceSpots());
+            count += randomInt(mapSettings.getMaxIceSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -307,36 +391,40 @@ public class BoardUtilities {
         }
 
         // Add the craters
-        if (Compute.randomInt(100) < mapSettings.getProbCrater()) {
+        beginStage(GeneratorStage.CRATERS);
+        if (randomInt(100) < mapSettings.getProbCrater()) {
             addCraters(result, mapSettings.getMinRadius(), mapSettings.getMaxRadius(),
                     (int) (mapSettings.getMinCraters() * sizeScale),
                     (int) (mapSettings.getMaxCraters() * sizeScale));
         }
 
         // Add the river
-        if (Compute.randomInt(100) < mapSettings.getProbRiver()) {
+        beginStage(GeneratorStage.RIVER);
+        if (randomInt(100) < mapSettings.getProbRiver()) {
             addRiver(result, reverseHex);
         }
 
         // Add special effects
-        if (Compute.randomInt(100) < mapSettings.getProbFlood()) {
+        beginStage(GeneratorStage.SPECIAL_EFFECTS);
+        if (randomInt(100) < mapSettings.getProbFlood()) {
             postProcessFlood(nb, mapSettings.getFxMod());
         }
 
-        if (Compute.randomInt(100) < mapSettings.getProbDrought()) {
+        if (randomInt(100) < mapSettings.getProbDrought()) {
             postProcessDrought(nb, mapSettings.getFxMod());
         }
 
-        if (Compute.randomInt(100) < mapSettings.getProbFreeze()) {
+        if (randomInt(100) < mapSettings.getProbFreeze()) {
             postProcessDeepFreeze(nb, mapSettings.getFxMod());
         }
 
-        if (Compute.randomInt(100) < mapSettings.getProbForestFire()) {
+        if (randomInt(100) < mapSettings.getProbForestFire()) {
             postProcessForestFire(nb, mapSettings.getFxMod());
         }
 
         // Add the road
-        boolean roadNeeded = Compute.randomInt(100) < mapSettings.getProbRoad();
+        beginStage(GeneratorStage.CITY);
+        boolean roadNeeded = randomInt(100) < mapSettings.getProbRoad();
 
         // add buildings
         ArrayList<BuildingTemplate> buildings = mapSettings.getBoardBuildings();
@@ -395,15 +483,15 @@ public class BoardUtilities {
      */
     protected static void placeSomeTerrain(Board board, int terrainType, int probMore, int minHexes,
                                            int maxHexes, Map<Hex, Point> reverseHex, boolean exclusive) {
-        Point p = new Point(Compute.randomInt(board.getWidth()), Compute.randomInt(board.getHeight()));
+        Point p = new Point(randomInt(board.getWidth()), randomInt(board.getHeight()));
         int count = minHexes;
         if ((maxHexes - minHexes) > 0) {
-            count += Compute.randomInt(maxHexes - minHexes);
+            count += randomInt(maxHexes - minHexes);
         }
         Hex field;
 
         HashSet<Hex> alreadyUsed = new HashSet<>();
-        HashSet<Hex> unUsed = new HashSet<>();
+        Set<Hex> unUsed = new LinkedHashSet<>();
         field = board.getHex(p.x, p.y);
         if (!field.containsTerrain(terrainType)) {
             unUsed.add(field);
@@ -415,7 +503,7 @@ public class BoardUtilities {
             if (unUsed.isEmpty()) {
                 return;
             }
-            int which = Compute.randomInt(unUsed.size());
+            int which = randomInt(unUsed.size());
             Iterator<Hex> iter = unUsed.iterator();
             for (int n = 0; n < (which - 1); n++) {
                 iter.next();
@@ -424,7 +512,7 @@ public class BoardUtilities {
             if (exclusive) {
                 field.removeAllTerrains();
             }
-            int tempInt = (Compute.randomInt(100) < probMore) ? 2 : 1;
+            int tempInt = (randomInt(100) < probMore) ? 2 : 1;
             Terrain tempTerrain = new Terrain(terrainType, tempInt);
             field.addTerrain(tempTerrain);
             if (terrainType == Terrains.WOODS) {
@@ -468,15 +556,15 @@ public class BoardUtilities {
      */
     protected static void placeFoliage(Board board, int terrainType, int probMore, int minHexes,
                                        int maxHexes, Map<Hex, Point> reverseHex, boolean exclusive) {
-        Point p = new Point(Compute.randomInt(board.getWidth()), Compute.randomInt(board.getHeight()));
+        Point p = new Point(randomInt(board.getWidth()), randomInt(board.getHeight()));
         int count = minHexes;
         if ((maxHexes - minHexes) > 0) {
-            count += Compute.randomInt(maxHexes - minHexes);
+            count += randomInt(maxHexes - minHexes);
         }
         Hex field;
 
         HashSet<Hex> alreadyUsed = new HashSet<>();
-        HashSet<Hex> unUsed = new HashSet<>();
+        Set<Hex> unUsed = new LinkedHashSet<>();
         field = board.getHex(p.x, p.y);
         if (!field.containsTerrain(terrainType)) {
             unUsed.add(field);
@@ -488,7 +576,7 @@ public class BoardUtilities {
             if (unUsed.isEmpty()) {
                 return;
             }
-            int which = Compute.randomInt(unUsed.size());
+            int which = randomInt(unUsed.size());
             Iterator<Hex> iter = unUsed.iterator();
             for (int n = 0; n < (which - 1); n++) {
                 iter.next();
@@ -497,7 +585,7 @@ public class BoardUtilities {
             if (exclusive) {
                 field.removeAllTerrains();
             }
-            int tempInt = (Compute.randomInt(100) < probMore) ? 2 : 1;
+            int tempInt = (randomInt(100) < probMore) ? 2 : 1;
             Terrain tempTerrain = new Terrain(terrainType, tempInt);
             field.addTerrain(tempTerrain);
             field.addTerrain(new Terrain(Terrains.FOLIAGE_ELEV, 1));
@@ -523,7 +611,7 @@ public class BoardUtilities {
     private static void findAllUnused(Board board, int terrainType, Set<Hex> alreadyUsed,
                                       Set<Hex> unUsed, Hex searchFrom, Map<Hex, Point> reverseHex) {
         Hex field;
-        Set<Hex> notYetUsed = new HashSet<>();
+        Set<Hex> notYetUsed = new LinkedHashSet<>();
 
         notYetUsed.add(searchFrom);
         do {
@@ -554,7 +642,7 @@ public class BoardUtilities {
         // Calculate number of craters to generate.
         int numberCraters = minCraters;
         if (maxCraters > minCraters) {
-            numberCraters += Compute.randomInt(maxCraters - minCraters);
+            numberCraters += randomInt(maxCraters - minCraters);
         }
 
         // Stay within the board boundaries.
@@ -567,16 +655,16 @@ public class BoardUtilities {
         for (int i = 0; i < numberCraters; i++) {
 
             // Locate the center of the crater.
-            Point center = new Point(Compute.randomInt(width), Compute.randomInt(height));
+            Point center = new Point(randomInt(width), randomInt(height));
 
             // What is the diameter of this crater?
-            int radius = Compute.randomInt(maxRadius - minRadius) + minRadius;
+            int radius = randomInt(maxRadius - minRadius) + minRadius;
 
             // Terrestrial crater depth to radius ratio is typically 1:5 to 1:7.
             // Hexes are 30m across and levels are 6m high.
             // This ends up with rather deep craters (a 6-diameter crater can have a depth of 4-6).  For gamability
             // and verisimilitude, we're making crater's more shallow than is typical (1:8 to 1:10 ratio).
-            int divisor = Compute.randomInt(2) + 8;
+            int divisor = randomInt(2) + 8;
             int radiusM = radius * 30;
             int maxDepthM = Math.max(6, radiusM / divisor);
             int maxDepth = maxDepthM / 6;
@@ -681,7 +769,7 @@ public class BoardUtilities {
      */
     public static void addRiver(Board board, Map<Hex, Point> reverseHex) {
         int minElevation = Integer.MAX_VALUE;
-        HashSet<Hex> riverHexes = new HashSet<>();
+        Set<Hex> riverHexes = new LinkedHashSet<>();
         Hex field;
         Point p = null;
         int direction = 0;
@@ -696,22 +784,22 @@ public class BoardUtilities {
             return;
         }
         /* First select start and the direction */
-        switch (Compute.randomInt(4)) {
+        switch (randomInt(4)) {
             case 0:
-                p = new Point(0, Compute.randomInt(5) - 2 + height / 2);
-                direction = Compute.randomInt(2) + 1;
+                p = new Point(0, randomInt(5) - 2 + height / 2);
+                direction = randomInt(2) + 1;
                 nextLeft = direction - 1;
                 nextRight = direction + 1;
                 break;
             case 1:
-                p = new Point(width - 1, Compute.randomInt(5) - 2 + height / 2);
-                direction = Compute.randomInt(2) + 4;
+                p = new Point(width - 1, randomInt(5) - 2 + height / 2);
+                direction = randomInt(2) + 4;
                 nextLeft = direction - 1;
                 nextRight = (direction + 1) % 6;
                 break;
             case 2:
             case 3:
-                p = new Point(Compute.randomInt(5) - 2 + width / 2, 0);
+                p = new Point(randomInt(5) - 2 + width / 2, 0);
                 direction = 2;
                 nextRight = 3;
                 nextLeft = 4;
@@ -727,11 +815,11 @@ public class BoardUtilities {
             riverHexes.add(field);
             p = reverseHex.get(field);
             /* then maybe the left and right neighbours */
-            riverHexes.addAll(extendRiverToSide(board, p, Compute.randomInt(3),
+            riverHexes.addAll(extendRiverToSide(board, p, randomInt(3),
                     nextLeft, reverseHex));
-            riverHexes.addAll(extendRiverToSide(board, p, Compute.randomInt(3),
+            riverHexes.addAll(extendRiverToSide(board, p, randomInt(3),
                     nextRight, reverseHex));
-            switch (Compute.randomInt(4)) {
+            switch (randomInt(4)) {
                 case 0:
                     field = board.getHexInDir(p.x, p.y, (direction + 5) % 6);
                     break;
@@ -746,7 +834,7 @@ public class BoardUtilities {
         } while (field != null);
 
         /* search the elevation for the river */
-        HashSet<Hex> tmpRiverHexes = new HashSet<>(riverHexes);
+        Set<Hex> tmpRiverHexes = new LinkedHashSet<>(riverHexes);
         while (!tmpRiverHexes.isEmpty()) {
             Iterator<Hex> iter = tmpRiverHexes.iterator();
             field = iter.next();
@@ -785,7 +873,7 @@ public class BoardUtilities {
     private static Set<Hex> extendRiverToSide(Board board, Point hexloc, int width, int direction,
                                               Map<Hex, Point> reverseHex) {
         Point current = new Point(hexloc);
-        Set<Hex> result = new HashSet<>();
+        Set<Hex> result = new LinkedHashSet<>();
         Hex hex;
 
         hex = board.getHexInDir(current.x, current.y, direction);
@@ -845,7 +933,7 @@ public class BoardUtilities {
             } else if (field.containsTerrain(Terrains.SWAMP)) {
                 field.removeTerrain(Terrains.SWAMP);
                 if (field.terrainsPresent() == 0) {
-                    if (Compute.randomInt(100) < 30) {
+                    if (randomInt(100) < 30) {
                         // if no other terrains present, 30% chance to change to
                         // rough
                         field.addTerrain(new Terrain(Terrains.ROUGH, 1));
@@ -870,7 +958,7 @@ public class BoardUtilities {
             field = hexSet[n];
             level = field.terrainLevel(Terrains.WOODS);
             if (level != Terrain.LEVEL_NONE) {
-                severity = Compute.randomInt(5) - 2 + modifier;
+                severity = randomInt(5) - 2 + modifier;
                 newlevel = level - severity;
 
                 if (newlevel <= level) {
@@ -896,7 +984,7 @@ public class BoardUtilities {
         int n;
         Hex field;
         int level, newlevel;
-        int severity = 1 + Compute.randomInt(3) + modifier;
+        int severity = 1 + randomInt(3) + modifier;
         if (severity < 0) {
             return;
         }
@@ -906,7 +994,7 @@ public class BoardUtilities {
             if (field.containsTerrain(Terrains.SWAMP)) {
                 field.removeTerrain(Terrains.SWAMP); // any swamps are dried
                                                         // up to hardened mud
-                if ((field.terrainsPresent() == 0) && (Compute.randomInt(100) < 30)) {
+                if ((field.terrainsPresent() == 0) && (randomInt(100) < 30)) {
                     // if no other terrains present, 30% chance to change to
                     // rough
                     field.addTerrain(new Terrain(Terrains.ROUGH, 1));
@@ -991,7 +1079,7 @@ public class BoardUtilities {
 
                 findCliffNeighbours(board, c, candidate, ignore);
                 // is the candidate interesting (at least 3 hexes)?
-                if ((candidate.size() >= 3) && (Compute.randomInt(100) < modifier)) {
+                if ((candidate.size() >= 3) && (randomInt(100) < modifier)) {
                     if (elevation > 0) {
                         elevation--;
                     } else {
@@ -1092,7 +1180,7 @@ public class BoardUtilities {
                                          int invertProb, int invertNegative, int[][] elevationMap,
                                          int algorithm) {
         int minLevel = 0;
-        boolean invert = (Compute.randomInt(100) < invertProb);
+        boolean invert = (randomInt(100) < invertProb);
 
         /* init elevation map with 0 */
         for (int w = 0; w < width; w++) {
@@ -1115,7 +1203,13 @@ public class BoardUtilities {
             default:
                 // Non-hardcoded generators, if we have any
                 if ((algorithm > 2) && (algorithm - 3 < elevationGenerators.size())) {
-                    elevationGenerators.get(algorithm - 3).generate(hilliness, width, height, elevationMap);
+                    final ElevationGenerator generator = elevationGenerators.get(algorithm - 3);
+                    final Random random = generatorRandom.get();
+                    if (random == null) {
+                        generator.generate(hilliness, width, height, elevationMap);
+                    } else {
+                        generator.generate(hilliness, width, height, elevationMap, random);
+                    }
                 }
         }
 
@@ -1180,7 +1274,7 @@ public class BoardUtilities {
                 int distance = c.distance(centre);
                 int elev = (100 * height * (width - distance)) / width;
                 elev = (elev / 100)
-                        + (Compute.randomInt(100) < (elev % 100) ? 1 : 0);
+                        + (randomInt(100) < (elev % 100) ? 1 : 0);
 
                 Hex hex = board.getHex(c);
 
@@ -1340,6 +1434,9 @@ public class BoardUtilities {
      * one of the landscape generation algorithms
      */
     protected static void cutSteps(int hilliness, int width, int height, int[][] elevationMap) {
+        // The cuts are rolled first and then applied column by column, as the columns are
+        // independent of each other and can be processed in parallel on large maps
+        final List<Cut> cuts = new ArrayList<>();
         Point p1, p2;
         int sideA, sideB;
         int type;
@@ -1350,83 +1447,118 @@ public class BoardUtilities {
             /*
              * select which side should be decremented, and which incremented
              */
-            sideA = (Compute.randomInt(2) == 0) ? -1 : 1;
+            sideA = (randomInt(2) == 0) ? -1 : 1;
             sideB = -sideA;
-            type = Compute.randomInt(6);
+            type = randomInt(6);
             /*
              * 6 different lines in rectangular area from border to border
              * possible
              */
             switch (type) {
                 case 0: /* left to upper border */
-                    p1.setLocation(0, Compute.randomInt(height));
-                    p2.setLocation(Compute.randomInt(width), height - 1);
-                    markSides(p1, p2, sideB, sideA, elevationMap, height);
-                    markRect(p2.x, width, sideA, elevationMap, height);
+                    p1.setLocation(0, randomInt(height));
+                    p2.setLocation(randomInt(width), height - 1);
+                    cuts.add(Cut.sides(p1, p2, sideB, sideA));
+                    cuts.add(Cut.rect(p2.x, width, sideA));
                     break;
                 case 1: /* upper to lower border */
-                    p1.setLocation(Compute.randomInt(width), 0);
-                    p2.setLocation(Compute.randomInt(width), height - 1);
+                    p1.setLocation(randomInt(width), 0);
+                    p2.setLocation(randomInt(width), height - 1);
                     if (p1.x < p2.x) {
-                        markSides(p1, p2, sideA, sideB, elevationMap, height);
+                        cuts.add(Cut.sides(p1, p2, sideA, sideB));
                     } else {
-                        markSides(p2, p1, sideB, sideA, elevationMap, height);
+                        cuts.add(Cut.sides(p2, p1, sideB, sideA));
                     }
-                    markRect(0, p1.x, sideA, elevationMap, height);
-                    markRect(p2.x, width, sideB, elevationMap, height);
+                    cuts.add(Cut.rect(0, p1.x, sideA));
+                    cuts.add(Cut.rect(p2.x, width, sideB));
                     break;
                 case 2: /* upper to right border */
-                    p1.setLocation(Compute.randomInt(width), height - 1);
-                    p2.setLocation(width, Compute.randomInt(height));
-                    markSides(p1, p2, sideB, sideA, elevationMap, height);
-                    markRect(0, p1.x, sideA, elevationMap, height);
+                    p1.setLocation(randomInt(width), height - 1);
+                    p2.setLocation(width, randomInt(height));
+                    cuts.add(Cut.sides(p1, p2, sideB, sideA));
+                    cuts.add(Cut.rect(0, p1.x, sideA));
                     break;
                 case 3: /* left to right border */
-                    p1.setLocation(0, Compute.randomInt(height));
-                    p2.setLocation(width, Compute.randomInt(height));
-                    markSides(p1, p2, sideA, sideB, elevationMap, height);
+                    p1.setLocation(0, randomInt(height));
+                    p2.setLocation(width, randomInt(height));
+                    cuts.add(Cut.sides(p1, p2, sideA, sideB));
                     break;
                 case 4: /* left to lower border */
-                    p1.setLocation(0, Compute.randomInt(height));
-                    p2.setLocation(Compute.randomInt(width), 0);
-                    markSides(p1, p2, sideB, sideA, elevationMap, height);
-                    markRect(p2.x, width, sideB, elevationMap, height);
+                    p1.setLocation(0, randomInt(height));
+                    p2.setLocation(randomInt(width), 0);
+                    cuts.add(Cut.sides(p1, p2, sideB, sideA));
+                    cuts.add(Cut.rect(p2.x, width, sideB));
                     break;
                 case 5: /* lower to right border */
-                    p1.setLocation(Compute.randomInt(width), 0);
-                    p2.setLocation(width, Compute.randomInt(height));
-                    markSides(p1, p2, sideB, sideA, elevationMap, height);
-                    markRect(0, p1.x, sideB, elevationMap, height);
+                    p1.setLocation(randomInt(width), 0);
+                    p2.setLocation(width, randomInt(height));
+                    cuts.add(Cut.sides(p1, p2, sideB, sideA));
+                    cuts.add(Cut.rect(0, p1.x, sideB));
                     break;
             }
 
         }
-    }
 
-    /**
-     * Helper function for the map generator increased a heightmap by a given value
-     */
-    protected static void markRect(int x1, int x2, int inc, int[][] elevationMap, int height) {
-        for (int x = x1; x < x2; x++) {
-            for (int y = 0; y < height; y++) {
-                elevationMap[x][y] += inc;
-            }
+        IntStream columns = IntStream.range(0, width);
+        if (width * height >= PARALLEL_HEX_THRESHOLD) {
+            columns = columns.parallel();
         }
+        columns.forEach(x -> {
+            for (Cut cut : cuts) {
+                cut.apply(x, elevationMap[x], height);
+            }
+        });
     }
 
     /**
-     * Helper function for map generator increases all of one side and decreased
-     * on other side
+     * A single cut of the cutSteps landscape algorithm: either a rectangle from column x1 up to
+     * x2 that is raised or lowered as a whole or a line from p1 to p2 with one side raised and
+     * the other lowered
      */
-    protected static void markSides(Point p1, Point p2, int upperInc, int lowerInc,
-                                    int[][] elevationMap, int height) {
-        for (int x = p1.x; x < p2.x; x++) {
+    private static final class Cut {
+        private final boolean sides;
+        private final int x1;
+        private final int y1;
+        private final int x2;
+        private final int y2;
+        private final int upperInc;
+        private final int lowerInc;
+
+        private Cut(boolean sides, int x1, int y1, int x2, int y2, int upperInc, int lowerInc) {
+            this.sides = sides;
+            this.x1 = x1;
+            this.y1 = y1;
+            this.x2 = x2;
+            this.y2 = y2;
+            this.upperInc = upperInc;
+            this.lowerInc = lowerInc;
+        }
+
+        static Cut rect(int x1, int x2, int inc) {
+            return new Cut(false, x1, 0, x2, 0, inc, inc);
+        }
+
+        static Cut sides(Point p1, Point p2, int upperInc, int lowerInc) {
+            return new Cut(true, p1.x, p1.y, p2.x, p2.y, upperInc, lowerInc);
+        }
+
+        /** Applies this cut to the given column of the elevation map */
+        void apply(int x, int[] column, int height) {
+            if ((x < x1) || (x >= x2)) {
+                return;
+            }
+            if (!sides) {
+                for (int y = 0; y < height; y++) {
+                    column[y] += upperInc;
+                }
+                return;
+            }
+            int point = (y2 - y1) / (x2 - x1) * (x - x1) + y1;
             for (int y = 0; y < height; y++) {
-                int point = (p2.y - p1.y) / (p2.x - p1.x) * (x - p1.x) + p1.y;
                 if (y > point) {
-                    elevationMap[x][y] += upperInc;
+                    column[y] += upperInc;
                 } else if (y < point) {
-                    elevationMap[x][y] += lowerInc;
+                    column[y] += lowerInc;
                 }
             }
         }
@@ -1570,8 +1702,8 @@ public class BoardUtilities {
      */
     private static int normRNG(int factor) {
         factor++;
-        return (2 * (Compute.randomInt(factor) + Compute.randomInt(factor) + Compute
-                .randomInt(factor)) - 3 * (factor - 1)) / 32;
+        return (2 * (randomInt(factor) + randomInt(factor)
+                + randomInt(factor)) - 3 * (factor - 1)) / 32;
     }
 
     /**
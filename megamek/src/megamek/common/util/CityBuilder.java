@@ -110,15 +110,15 @@ public class CityBuilder {
                             * distance * distance));
                 }
 
-                if (Compute.randomInt(100) > localdensity) {
+                if (BoardUtilities.randomInt(100) > localdensity) {
                     continue; // empty lot
                 }
                 coordList = new ArrayList<>();
                 coordList.add(coord);
                 buildingUsed.add(coord);
-                while (Compute.randomInt(100) < localdensity) {
+                while (BoardUtilities.randomInt(100) < localdensity) {
                     // try to make a bigger building!
-                    int dir = Compute.randomInt(6);
+                    int dir = BoardUtilities.randomInt(6);
                     Coords next = coord.translated(dir);
                     if (cityPlan.contains(next) || buildingUsed.contains(next)
                             || !board.contains(next)
@@ -135,7 +135,7 @@ public class CityBuilder {
                 if (floors <= 0)
                     floors = mapSettings.getCityMinFloors();
                 else
-                    floors = Compute.randomInt(floors + 1)
+                    floors = BoardUtilities.randomInt(floors + 1)
                             + mapSettings.getCityMinFloors();
 
                 int totalCF = mapSettings.getCityMaxCF()
@@ -144,7 +144,7 @@ public class CityBuilder {
                 if (totalCF <= 0)
                     totalCF = mapSettings.getCityMinCF();
                 else
-                    totalCF = Compute.randomInt(totalCF + 1)
+                    totalCF = BoardUtilities.randomInt(totalCF + 1)
                             + mapSettings.getCityMinCF();
 
                 int type = getBuildingTypeByCF(totalCF);
@@ -159,22 +159,22 @@ public class CityBuilder {
 
     private void buildGridCity(int maxX, int maxY, int roads) {
         for (int y = 0; y < roads; y++) {
-            int startY = Compute.randomInt(maxY / roads) + ((y * maxY) / roads);
+            int startY = BoardUtilities.randomInt(maxY / roads) + ((y * maxY) / roads);
             // int start = Compute.randomInt(2);
             Coords coords = new Coords(-1, startY);
-            int roadStyle = Compute.randomInt(2) + 1;
-            int dir = Compute.randomInt(2) + NE;
+            int roadStyle = BoardUtilities.randomInt(2) + 1;
+            int dir = BoardUtilities.randomInt(2) + NE;
             buildStraightRoad(coords, dir, roadStyle);
-            startY = Compute.randomInt(maxY / roads) + ((y * maxY) / roads);
+            startY = BoardUtilities.randomInt(maxY / roads) + ((y * maxY) / roads);
             coords = new Coords(maxX, startY);
-            dir = Compute.randomInt(2) + SW;
+            dir = BoardUtilities.randomInt(2) + SW;
             buildStraightRoad(coords, dir, roadStyle);
         }
 
         for (int x = 0; x < roads; x++) {
-            int startX = Compute.randomInt(maxX / roads) + (x * (maxX / roads));
+            int startX = BoardUtilities.randomInt(maxX / roads) + (x * (maxX / roads));
             Coords coords = new Coords(startX, -1);
-            int roadStyle = Compute.randomInt(2) + 1;
+            int roadStyle = BoardUtilities.randomInt(2) + 1;
             buildStraightRoad(coords, S, roadStyle);
         }
     }
@@ -207,33 +207,33 @@ public class CityBuilder {
         int y = 0;
         for (int dir = 0; dir < roads; dir++) {
             int baseDirection = -1;
-            int roadStyle = Compute.randomInt(2) + 1;
+            int roadStyle = BoardUtilities.randomInt(2) + 1;
 
             if (dir < 8) {
                 x = midX;
                 y = midY;
-                baseDirection = directions.remove(Compute.randomInt(directions.size()));
+                baseDirection = directions.remove(BoardUtilities.randomInt(directions.size()));
             } else {
-                switch (Compute.randomInt(4)) {
+                switch (BoardUtilities.randomInt(4)) {
                     case 1:
-                        x = Compute.randomInt(maxX);
+                        x = BoardUtilities.randomInt(maxX);
                         y = -1;
                         baseDirection = S;
                         break;
                     case 2:
-                        x = Compute.randomInt(maxX);
+                        x = BoardUtilities.randomInt(maxX);
                         y = maxY;
                         baseDirection = N;
                         break;
                     case 3:
                         x = -1;
-                        y = Compute.randomInt(maxY);
-                        baseDirection = NE + Compute.randomInt(2);
+                        y = BoardUtilities.randomInt(maxY);
+                        baseDirection = NE + BoardUtilities.randomInt(2);
                         break;
                     default:
                         x = maxX;
-                        y = Compute.randomInt(maxY);
-                        baseDirection = SW + Compute.randomInt(2);
+                        y = BoardUtilities.randomInt(maxY);
+                        baseDirection = SW + BoardUtilities.randomInt(2);
                         break;
                 }
             }
@@ -242,7 +242,7 @@ public class CityBuilder {
             int nextDirection = baseDirection;
             while (coords.getX() >= -1 && coords.getX() <= maxX && coords.getY() >= -1
                    && coords.getY() <= maxY) {
-                int choice = Compute.randomInt(10);
+                int choice = BoardUtilities.randomInt(10);
 
                 if (board.contains(coords)) {
                     // don't change direction offboard
@@ -434,7 +434,7 @@ public class CityBuilder {
             // build the bridge
             int exits = (1 << direction) | (1 << ((direction + 3) % 6));
             int cf = mapSettings.getCityMinCF()
-                    + Compute.randomInt(1 + mapSettings.getCityMaxCF()
+                    + BoardUtilities.randomInt(1 + mapSettings.getCityMaxCF()
                             - mapSettings.getCityMinCF());
 
             for (Enumeration<Coords> e = hexes.elements(); e.hasMoreElements();) {
@@ -504,9 +504,9 @@ public class CityBuilder {
      * turn in it. Map must be at least 3x3.
      */
     private void addGenericRoad() {
-        Coords c = new Coords(Compute.randomInt(board.getWidth()), Compute.randomInt(board.getHeight()));
-        int side0 = Compute.randomInt(6);
-        int side1 = Compute.randomInt(5);
+        Coords c = new Coords(BoardUtilities.randomInt(board.getWidth()), BoardUtilities.randomInt(board.getHeight()));
+        int side0 = BoardUtilities.randomInt(6);
+        int side1 = BoardUtilities.randomInt(5);
         if (side1 >= side0) {
             side1++;
         }
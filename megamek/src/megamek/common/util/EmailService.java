@@ -75,7 +75,7 @@ public class EmailService {
 
             var body = new StringBuilder("<div style=\"white-space: pre\">");
             for (var report: reports) {
-                body.append(report.getText());
+                report.appendText(body);
             }
             body.append("</div>");
             setText(body.toString(), "UTF-8", "html");
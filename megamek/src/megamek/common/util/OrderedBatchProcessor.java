@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.util;
+
+import org.apache.logging.log4j.LogManager;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs a task for each item of a list on a fixed number of worker threads and hands the
+ * results to a sink on the calling thread in the order of the items, so the output is the same
+ * for any number of threads. Only a few results per thread are held at a time. Progress and
+ * throughput are logged while the batch runs.
+ *
+ * @param <T> the type of the items
+ * @param <R> the type of the results
+ */
+public final class OrderedBatchProcessor<T, R> {
+    //region Variable Declarations
+    /** The number of tasks queued or running per thread */
+    private static final int TASKS_PER_THREAD = 4;
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    private final String description;
+    private final int threads;
+    //endregion Variable Declarations
+
+    /**
+     * Receives the results of a batch.
+     */
+    @FunctionalInterface
+    public interface Sink<R> {
+        void accept(R result) throws IOException;
+    }
+
+    //region Constructors
+    /**
+     * @param description describes the batch in the progress messages
+     * @param threads     the number of worker threads; 1 runs the tasks on the calling thread
+     */
+    public OrderedBatchProcessor(String description, int threads) {
+        this.description = description;
+        this.threads = Math.max(1, threads);
+    }
+    //endregion Constructors
+
+    /**
+     * @return the number of worker threads used by default, one per processor
+     */
+    public static int defaultThreads() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Runs the task for each item and passes the results to the sink in the order of the items.
+     * An item whose task returns null is skipped, and one whose task fails is logged and skipped.
+     * If the calling thread is interrupted, the tasks not yet run are cancelled and the batch
+     * ends early.
+     *
+     * @param items the items
+     * @param task  creates the result for an item; called on the worker threads
+     * @param sink  receives the results; called on the calling thread
+     * @return the number of results passed to the sink
+     * @throws IOException if the sink fails, which ends the batch
+     */
+    public int process(List<T> items, Function<? super T, ? extends R> task,
+                       Sink<? super R> sink) throws IOException {
+        final Progress progress = new Progress(items.size());
+        if (threads == 1) {
+            for (T item : items) {
+                progress.accept(sink, run(task, item));
+            }
+            return progress.finish();
+        }
+
+        final ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, description);
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Deque<Future<R>> pending = new ArrayDeque<>();
+        try {
+            int next = 0;
+            while ((next < items.size()) || !pending.isEmpty()) {
+                while ((next < items.size()) && (pending.size() < threads * TASKS_PER_THREAD)) {
+                    final T item = items.get(next++);
+                    pending.add(pool.submit(() -> run(task, item)));
+                }
+                final R result;
+                try {
+                    result = pending.poll().get();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException ex) {
+                    // run() catches everything the task throws
+                    throw new IllegalStateException(ex.getCause());
+                }
+                progress.accept(sink, result);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return progress.finish();
+    }
+
+    private R run(Function<? super T, ? extends R> task, T item) {
+        try {
+            return task.apply(item);
+        } catch (Exception ex) {
+            LogManager.getLogger().error(description + ": failed for " + item, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Counts the results passed to the sink and logs the progress of the batch.
+     */
+    private final class Progress {
+        private final int total;
+        private final long start = System.nanoTime();
+        private long lastReport = start;
+        private int done = 0;
+        private int written = 0;
+
+        Progress(int total) {
+            this.total = total;
+        }
+
+        void accept(Sink<? super R> sink, R result) throws IOException {
+            if (result != null) {
+                sink.accept(result);
+                written++;
+            }
+            done++;
+            final long now = System.nanoTime();
+            if (now - lastReport >= PROGRESS_INTERVAL) {
+                lastReport = now;
+                LogManager.getLogger().info(String.format("%s: %d/%d (%.0f/s)",
+                        description, done, total, rate(now)));
+            }
+        }
+
+        int finish() {
+            final long now = System.nanoTime();
+            LogManager.getLogger().info(String.format("%s: %d of %d done in %.1f s (%.0f/s) on %d thread(s)",
+                    description, written, total, (now - start) / 1e9, rate(now), threads));
+            return written;
+        }
+
+        private double rate(long now) {
+            return done / Math.max((now - start) / 1e9, 1e-3);
+        }
+    }
+}
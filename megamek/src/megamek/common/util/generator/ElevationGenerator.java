@@ -13,6 +13,8 @@
  */
 package megamek.common.util.generator;
 
+import java.util.Random;
+
 public interface ElevationGenerator {
     /** @return translatable string for the generator name */
     String getName();
@@ -29,4 +31,19 @@ public interface ElevationGenerator {
      * @param elevationMap the target elevation map, indexed as <tt>elevationMap[width][height]</tt>
      */
     void generate(int hilliness, int width, int height, int[][] elevationMap);
+
+    /**
+     * Generate a map as {@link #generate(int, int, int, int[][])} does, drawing any random values
+     * from the given generator so that the result can be reproduced. Generators that use no
+     * random values need not override this.
+     *
+     * @param hilliness 1-100
+     * @param width width of the map, in hexes
+     * @param height height of the map, in hexes
+     * @param elevationMap the target elevation map, indexed as <tt>elevationMap[width][height]</tt>
+     * @param random the source of random values
+     */
+    default void generate(int hilliness, int width, int height, int[][] elevationMap, Random random) {
+        generate(hilliness, width, height, elevationMap);
+    }
 }
@@ -45,6 +45,11 @@ public class SimplexGenerator implements ElevationGenerator {
 
     @Override
     public void generate(int hilliness, int width, int height, int[][] elevationMap) {
+        generate(hilliness, width, height, elevationMap, rnd);
+    }
+
+    @Override
+    public void generate(int hilliness, int width, int height, int[][] elevationMap, Random rnd) {
         double noiseStartX = rnd.nextDouble() * 1000000;
         double noiseStartY = rnd.nextDouble() * 1000000;
         double noiseScale = (200.0 + rnd.nextDouble() * 30.0) / (4.0 + hilliness / 5.0);
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.util.weightedMaps;
+
+import megamek.common.Compute;
+import megamek.common.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * An immutable table of values with int weights that selects a random value in constant time
+ * using Walker's alias method (in the form described by Vose). Unlike {@link WeightedIntMap},
+ * which does a binary search over the cumulative weights, this trades a more expensive
+ * construction for cheaper draws, so it is suited to tables that are built once and sampled
+ * many times.
+ *
+ * All arithmetic is done in integers, so the selection probability of each value is exactly
+ * its weight divided by the total weight.
+ *
+ * @param <T> The values in the table
+ */
+public class WeightedAliasTable<T> {
+    //region Variable Declarations
+    private final List<T> values;
+    private final int totalWeight;
+    /* For each column, the threshold below which a roll in [0, totalWeight) selects the column
+     * itself rather than its alias. */
+    private final long[] threshold;
+    private final int[] alias;
+    //endregion Variable Declarations
+
+    /**
+     * @param values  the values in the table
+     * @param weights the weight of each value, in the same order as the values. Values with a
+     *                weight of zero or less are never selected.
+     * @throws IllegalArgumentException if the lists are not the same size or the total weight
+     *                                  does not fit in an int
+     */
+    public WeightedAliasTable(final List<T> values, final List<Integer> weights) {
+        if (values.size() != weights.size()) {
+            throw new IllegalArgumentException("Each value requires exactly one weight");
+        }
+        this.values = new ArrayList<>(values.size());
+        final List<Integer> positiveWeights = new ArrayList<>(weights.size());
+        long total = 0;
+        for (int i = 0; i < values.size(); i++) {
+            if (weights.get(i) > 0) {
+                this.values.add(values.get(i));
+                positiveWeights.add(weights.get(i));
+                total += weights.get(i);
+            }
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total weight " + total + " is too large");
+        }
+        totalWeight = (int) total;
+
+        final int size = this.values.size();
+        threshold = new long[size];
+        alias = new int[size];
+        // Scale each weight by the number of columns, so that the average scaled weight is
+        // equal to the total weight and each column holds exactly totalWeight.
+        final long[] scaled = new long[size];
+        final Deque<Integer> small = new ArrayDeque<>();
+        final Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            scaled[i] = (long) positiveWeights.get(i) * size;
+            if (scaled[i] < totalWeight) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            final int less = small.pop();
+            final int more = large.pop();
+            threshold[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - totalWeight;
+            if (scaled[more] < totalWeight) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        while (!large.isEmpty()) {
+            final int i = large.pop();
+            threshold[i] = totalWeight;
+            alias[i] = i;
+        }
+        // The sums work out exactly with integer weights so this should never be needed, but a
+        // column without a threshold would never be selected.
+        while (!small.isEmpty()) {
+            final int i = small.pop();
+            threshold[i] = totalWeight;
+            alias[i] = i;
+        }
+    }
+
+    /**
+     * @return the number of values that can be selected
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * @return true if there is no value that can be selected
+     */
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * @return the sum of the weights of all the values that can be selected
+     */
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * @return a random item from the table, or null if it is empty
+     */
+    public @Nullable T randomItem() {
+        return isEmpty() ? null
+                : randomItem(Compute.randomInt(values.size()), Compute.randomInt(totalWeight));
+    }
+
+    /**
+     * @param column the column of the alias table, in the range [0, size())
+     * @param roll   the roll that selects between the column and its alias, in the range
+     *               [0, getTotalWeight()) (used for simplification and unit testing reasons)
+     * @return the item selected by the column and roll, or null if the table is empty
+     */
+    protected @Nullable T randomItem(final int column, final int roll) {
+        if (isEmpty()) {
+            return null;
+        }
+        return values.get((roll < threshold[column]) ? column : alias[column]);
+    }
+}
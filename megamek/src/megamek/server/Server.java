@@ -34,6 +34,8 @@ import megamek.common.event.GameVictoryEvent;
 import megamek.common.force.Force;
 import megamek.common.force.Forces;
 import megamek.common.icons.Camouflage;
+import megamek.common.metrics.DurationTimer;
+import megamek.common.metrics.Metrics;
 import megamek.common.net.*;
 import megamek.common.options.GameOptions;
 import megamek.common.options.IBasicOption;
@@ -148,7 +150,10 @@ public class Server implements Runnable {
                 while (!packetQueue.isEmpty()) {
                     ReceivedPacket rp = packetQueue.poll();
                     synchronized (serverLock) {
+                        final long start = System.nanoTime();
                         handle(rp.connId, rp.packet);
+                        handleTimers.computeIfAbsent(rp.packet.getCommand(), command -> Metrics.getInstance()
+                                .timer("server.handle." + Packet.getCommandName(command))).stop(start);
                     }
                 }
                 try {
@@ -222,6 +227,25 @@ public class Server implements Runnable {
 
     private Timer serverBrowserUpdateTimer = null;
 
+    private Timer metricsLogTimer = null;
+
+    private static final DurationTimer CHANGE_PHASE_TIMER = Metrics.getInstance().timer("server.changePhase");
+    private static final DurationTimer WEAPON_ATTACKS_TIMER = Metrics.getInstance().timer("server.resolveOnlyWeaponAttacks");
+    private static final DurationTimer PHYSICAL_ATTACKS_TIMER = Metrics.getInstance().timer("server.resolvePhysicalAttacks");
+    private static final DurationTimer ENTITY_ALL_UPDATE_TIMER = Metrics.getInstance().timer("server.entityAllUpdate");
+    private static final DurationTimer WHO_CAN_SEE_TIMER = Metrics.getInstance().timer("server.whoCanSee");
+    private static final DurationTimer AUTO_SAVE_TIMER = Metrics.getInstance().timer("server.autoSave");
+
+    /**
+     * The time taken to handle received packets, by packet command
+     */
+    private final Map<Integer, DurationTimer> handleTimers = new HashMap<>();
+
+    /**
+     * When the current phase started, as given by {@link System#nanoTime()}, or 0 before the first phase
+     */
+    private long phaseStartTime = 0;
+
     /**
      * Keeps track of what team a player requested to join.
      */
@@ -399,6 +423,7 @@ public class Server implements Runnable {
         registerCommand(new AssignNovaNetServerCommand(this));
         registerCommand(new AllowTeamChangeCommand(this));
         registerCommand(new JoinTeamCommand(this));
+        registerCommand(new MetricsCommand(this));
 
         // register terrain processors
         terrainProcessors.add(new FireProcessor(this));
@@ -426,9 +451,24 @@ public class Server implements Runnable {
             serverBrowserUpdateTimer.schedule(register, 1, 40000);
         }
 
+        final int metricsLogInterval = PreferenceManager.getClientPreferences().getMetricsLogInterval();
+        if (metricsLogInterval > 0) {
+            final TimerTask logMetrics = new TimerTask() {
+                @Override
+                public void run() {
+                    LogManager.getLogger().info("Metrics:\n" + String.join("\n", Metrics.getInstance().describe("")));
+                }
+            };
+            metricsLogTimer = new Timer("Metrics Log Timer", true);
+            metricsLogTimer.schedule(logMetrics, metricsLogInterval * 1000L, metricsLogInterval * 1000L);
+        }
+
         // Fully initialised, now accept connections
         connector = new Thread(this, "Connection Listener");
         connector.start();
+        // Clients in this JVM are connected in memory
+        ConnectionFactory.getInstance().registerLocalServer(serverSocket.getLocalPort(),
+                this::openLoopbackConnection);
 
         serverInstance = this;
     }
@@ -556,6 +596,7 @@ public class Server implements Runnable {
         packetPumpThread = null;
 
         // close socket
+        ConnectionFactory.getInstance().unregisterLocalServer(serverSocket.getLocalPort());
         try {
             serverSocket.close();
         } catch (IOException ignored) {
@@ -591,6 +632,10 @@ public class Server implements Runnable {
             serverBrowserUpdateTimer.cancel();
         }
 
+        if (metricsLogTimer != null) {
+            metricsLogTimer.cancel();
+        }
+
         if (!metaServerUrl.isBlank()) {
             registerWithServerBrowser(false, metaServerUrl);
         }
@@ -1102,6 +1147,15 @@ public class Server implements Runnable {
      * automatically save the game
      */
     public void autoSave() {
+        final long start = AUTO_SAVE_TIMER.start();
+        try {
+            autoSaveUntimed();
+        } finally {
+            AUTO_SAVE_TIMER.stop(start);
+        }
+    }
+
+    private void autoSaveUntimed() {
         String fileName = "autosave";
         if (PreferenceManager.getClientPreferences().stampFilenames()) {
             fileName = StringUtil.addDateTimeStamp(fileName);
@@ -2128,6 +2182,12 @@ public class Server implements Runnable {
      * @param phase the <code>int</code> id of the phase to change to
      */
     private void changePhase(GamePhase phase) {
+        // How long the game was in the last phase, including the time taken by the players
+        if (phaseStartTime != 0) {
+            Metrics.getInstance().timer("server.phase." + game.getPhase().name()).stop(phaseStartTime);
+        }
+        final long start = CHANGE_PHASE_TIMER.start();
+        phaseStartTime = start;
         game.setLastPhase(game.getPhase());
         game.setPhase(phase);
 
@@ -2138,9 +2198,13 @@ public class Server implements Runnable {
             // tell the players about the new phase
             send(new Packet(Packet.COMMAND_PHASE_CHANGE, phase));
 
+            // Executing the phase may change to the next one, which is timed by itself
+            CHANGE_PHASE_TIMER.stop(start);
             // post phase change stuff
             executePhase(phase);
         } else {
+            // Ending the phase changes to the next one, which is timed by itself
+            CHANGE_PHASE_TIMER.stop(start);
             endCurrentPhase();
         }
     }
@@ -14250,6 +14314,15 @@ public class Server implements Runnable {
      * Called during the fire phase to resolve all (and only) weapon attacks
      */
     private void resolveOnlyWeaponAttacks() {
+        final long start = WEAPON_ATTACKS_TIMER.start();
+        try {
+            resolveOnlyWeaponAttacksUntimed();
+        } finally {
+            WEAPON_ATTACKS_TIMER.stop(start);
+        }
+    }
+
+    private void resolveOnlyWeaponAttacksUntimed() {
         // loop through received attack actions, getting attack handlers
         for (Enumeration<EntityAction> i = game.getActions(); i.hasMoreElements(); ) {
             EntityAction ea = i.nextElement();
@@ -14881,6 +14954,15 @@ public class Server implements Runnable {
      * Handle all physical attacks for the round
      */
     private void resolvePhysicalAttacks() {
+        final long start = PHYSICAL_ATTACKS_TIMER.start();
+        try {
+            resolvePhysicalAttacksUntimed();
+        } finally {
+            PHYSICAL_ATTACKS_TIMER.stop(start);
+        }
+    }
+
+    private void resolvePhysicalAttacksUntimed() {
         // Physical phase header
         addReport(new Report(4000, Report.PUBLIC));
 
@@ -28758,67 +28840,13 @@ public class Server implements Runnable {
         createSmoke(coords, smokeLevel, 0);
     }
 
-    /**
-     * Recursively scan the specified path to determine the board sizes
-     * available.
-     *
-     * @param searchDir The directory to search below this path (may be null for all
-     *                  in base path).
-     * @param sizes     Where to store the discovered board sizes
-     */
-    private void getBoardSizesInDir(final File searchDir, TreeSet<BoardDimensions> sizes) {
-        if (searchDir == null) {
-            throw new IllegalArgumentException("must provide searchDir");
-        }
-
-        if (sizes == null) {
-            throw new IllegalArgumentException("must provide sizes");
-        }
-
-        String[] file_list = searchDir.list();
-
-        if (file_list != null) {
-            for (String filename : file_list) {
-                File query_file = new File(searchDir, filename);
-
-                if (query_file.isDirectory()) {
-                    getBoardSizesInDir(query_file, sizes);
-                } else {
-                    try {
-                        if (filename.endsWith(".board")) {
-                            BoardDimensions size = Board.getSize(query_file);
-                            if (size == null) {
-                                throw new Exception();
-                            }
-                            sizes.add(Board.getSize(query_file));
-                        }
-                    } catch (Exception e) {
-                        LogManager.getLogger().error("Error parsing board: " + query_file.getAbsolutePath(), e);
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * Get a list of the available board sizes from the boards data directory.
      *
      * @return A Set containing all the available board sizes.
      */
     private Set<BoardDimensions> getBoardSizes() {
-        TreeSet<BoardDimensions> board_sizes = new TreeSet<>();
-
-        File boards_dir = Configuration.boardsDir();
-        // Slightly overkill sanity check...
-        if (boards_dir.isDirectory()) {
-            getBoardSizesInDir(boards_dir, board_sizes);
-        }
-        boards_dir = new File(Configuration.userdataDir(), Configuration.boardsDir().toString());
-        if (boards_dir.isDirectory()) {
-            getBoardSizesInDir(boards_dir, board_sizes);
-        }
-
-        return board_sizes;
+        return BoardCatalog.getInstance().getBoardSizes();
     }
 
     /**
@@ -28964,6 +28992,16 @@ public class Server implements Runnable {
      */
     private Vector<Player> whoCanSee(Entity entity, boolean useSensors,
             Map<EntityTargetPair, LosEffects> losCache) {
+        final long start = WHO_CAN_SEE_TIMER.start();
+        try {
+            return whoCanSeeUntimed(entity, useSensors, losCache);
+        } finally {
+            WHO_CAN_SEE_TIMER.stop(start);
+        }
+    }
+
+    private Vector<Player> whoCanSeeUntimed(Entity entity, boolean useSensors,
+            Map<EntityTargetPair, LosEffects> losCache) {
         if (losCache == null) {
             losCache = new HashMap<>();
         }
@@ -29112,6 +29150,15 @@ public class Server implements Runnable {
      * effect, enforce it by filtering the entities
      */
     private void entityAllUpdate() {
+        final long start = ENTITY_ALL_UPDATE_TIMER.start();
+        try {
+            entityAllUpdateUntimed();
+        } finally {
+            ENTITY_ALL_UPDATE_TIMER.stop(start);
+        }
+    }
+
+    private void entityAllUpdateUntimed() {
         // If double-blind is in effect, filter each players' list individually,
         // and then quit out...
         if (doBlind()) {
@@ -31322,19 +31369,7 @@ public class Server implements Runnable {
                 synchronized (serverLock) {
                     int id = getFreeConnectionId();
                     LogManager.getLogger().info("s: accepting player connection #" + id + "...");
-
-                    AbstractConnection c = ConnectionFactory.getInstance().createServerConnection(s, id);
-                    c.addConnectionListener(connectionListener);
-                    c.open();
-                    connectionsPending.addElement(c);
-                    ConnectionHandler ch = new ConnectionHandler(c);
-                    Thread newConnThread = new Thread(ch, "Connection " + id);
-                    newConnThread.start();
-                    connectionHandlers.put(id, ch);
-
-                    clientVersionCheck(id);
-                    ConnectionWatchdog w = new ConnectionWatchdog(this, id);
-                    watchdogTimer.schedule(w, 1000, 500);
+                    acceptConnection(ConnectionFactory.getInstance().createServerConnection(s, id));
                 }
             } catch (InterruptedIOException ignored) {
                 // ignore , just SOTimeout blowing..
@@ -31342,6 +31377,41 @@ public class Server implements Runnable {
         }
     }
 
+    /**
+     * Connects a client running in the same JVM as this server. The packets of the connection
+     * are passed in memory rather than through the server socket.
+     *
+     * @return the client end of the connection
+     */
+    public AbstractConnection openLoopbackConnection() {
+        synchronized (serverLock) {
+            int id = getFreeConnectionId();
+            LogManager.getLogger().info("s: accepting local player connection #" + id + "...");
+            LoopbackConnection c = ConnectionFactory.getInstance().createLoopbackServerConnection(id);
+            acceptConnection(c);
+            return c.getPeer();
+        }
+    }
+
+    /**
+     * Starts handling a new connection and asks the client for its version. Must be called
+     * while holding the server lock.
+     */
+    private void acceptConnection(AbstractConnection c) {
+        int id = c.getId();
+        c.addConnectionListener(connectionListener);
+        c.open();
+        connectionsPending.addElement(c);
+        ConnectionHandler ch = new ConnectionHandler(c);
+        Thread newConnThread = new Thread(ch, "Connection " + id);
+        newConnThread.start();
+        connectionHandlers.put(id, ch);
+
+        clientVersionCheck(id);
+        ConnectionWatchdog w = new ConnectionWatchdog(this, id);
+        watchdogTimer.schedule(w, 1000, 500);
+    }
+
     /**
      * Makes one slot of inferno ammo, determined by certain rules, explode on a
      * mech.
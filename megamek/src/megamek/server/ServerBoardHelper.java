@@ -18,16 +18,10 @@
  */
 package megamek.server;
 
-import java.io.File;
 import java.util.ArrayList;
-import java.util.List;
 
-import megamek.common.Board;
-import megamek.common.BoardDimensions;
-import megamek.common.Configuration;
+import megamek.common.BoardCatalog;
 import megamek.common.MapSettings;
-import megamek.common.util.StringUtil;
-import megamek.common.util.fileUtils.MegaMekFile;
 
 class ServerBoardHelper {
     
@@ -37,54 +31,7 @@ class ServerBoardHelper {
      * the boards data directory.
      */
     static ArrayList<String> scanForBoards(MapSettings mapSettings) {
-        BoardDimensions boardSize = mapSettings.getBoardSize();
-        ArrayList<String> result = new ArrayList<>();
-        
-        // Scan the Megamek boards directory
-        File boardDir = Configuration.boardsDir();
-        scanForBoardsInDir(boardDir, "", boardSize, result);
-        
-        // Scan the userData directory
-        boardDir = new File(Configuration.userdataDir(), Configuration.boardsDir().toString());
-        if (boardDir.isDirectory()) {
-            scanForBoardsInDir(boardDir, "", boardSize, result);
-        }
-        
-        result.sort(StringUtil.stringComparator());
-        return result;
-    }
-    
-    /**
-     * Scans the given boardDir directory for map boards of the given size and
-     * returns them by adding them to the given boards list. Removes the .board extension.
-     */
-    static List<String> scanForBoardsInDir(final File boardDir, final String basePath,
-                                            final BoardDimensions dimensions, List<String> boards) {
-        if (boardDir == null) {
-            throw new IllegalArgumentException("must provide searchDir");
-        } else if (basePath == null) {
-            throw new IllegalArgumentException("must provide basePath");
-        } else if (dimensions == null) {
-            throw new IllegalArgumentException("must provide dimensions");
-        } else if (boards == null) {
-            throw new IllegalArgumentException("must provide boards");
-        }
-
-        String[] fileList = boardDir.list();
-        if (fileList != null) {
-            for (String filename : fileList) {
-                File filePath = new MegaMekFile(boardDir, filename).getFile();
-                if (filePath.isDirectory()) {
-                    scanForBoardsInDir(filePath, basePath + File.separator + filename, dimensions, boards);
-                } else {
-                    if (filename.endsWith(".board")) {
-                        if (Board.boardIsSize(filePath, dimensions)) {
-                            boards.add(basePath + File.separator + filename.substring(0, filename.lastIndexOf(".")));
-                        }
-                    }
-                }
-            }
-        }
-        return boards;
+        // Scans the Megamek boards directory and the userData directory
+        return new ArrayList<>(BoardCatalog.getInstance().getBoardsOfSize(mapSettings.getBoardSize()));
     }
 }
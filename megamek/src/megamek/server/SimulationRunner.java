@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.server;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import megamek.client.bot.princess.Princess;
+import megamek.common.*;
+import megamek.common.enums.GamePhase;
+import megamek.common.event.GameListenerAdapter;
+import megamek.common.event.GameVictoryEvent;
+import megamek.common.options.GameOptions;
+import megamek.common.options.OptionsConstants;
+import megamek.common.util.AbstractCommandLineParser;
+import org.apache.logging.log4j.LogManager;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays batches of Princess-vs-Princess games without a GUI, for balance testing and bot tuning.
+ * Each MUL file is one side, played by its own Princess on its own team. The bots are connected
+ * to the server through loopback connections, so no packet goes through a socket.
+ *
+ * Every game gets its own seeded dice. As the bots think on their own threads the seed does not
+ * replay a game exactly, but it makes the dice of a batch repeatable.
+ *
+ * The server, the dice and the client event thread are shared by everything in a JVM, so only
+ * one game can be played in a JVM at a time. To use more than one core, the batch is split
+ * across worker processes that each play their share of the games in turn.
+ */
+public class SimulationRunner {
+    //region Variable Declarations
+    private static final String INCORRECT_ARGUMENTS_MESSAGE = "Incorrect arguments:";
+    private static final String ARGUMENTS_DESCRIPTION_MESSAGE = "Arguments syntax:\n\t "
+            + "[-games <count>] [-seed <seed>] [-threads <count>] [-options <game options file>] "
+            + "[-rounds <round limit>] [-timeout <seconds per game>] [-out <file.csv|file.json>] "
+            + "-board <board file> <MUL file> <MUL file> [<MUL file>...]";
+
+    /** The deployment edges of the sides, in MUL file order */
+    private static final int[] STARTING_POSITIONS = { Board.START_N, Board.START_S, Board.START_E,
+            Board.START_W, Board.START_NW, Board.START_SE, Board.START_NE, Board.START_SW };
+
+    private final CommandLineParser settings;
+    private final List<String> sideNames = new ArrayList<>();
+    /** The serialized units of each side, copied for every game */
+    private final List<byte[]> sideUnits = new ArrayList<>();
+    /** Whether a worker process exited with an error */
+    private boolean workerFailed = false;
+    //endregion Variable Declarations
+
+    /**
+     * The outcome of one game. The sides are in MUL file order.
+     */
+    static final class GameResult {
+        enum Outcome { VICTORY, DRAW, TIMEOUT, ERROR }
+
+        final int index;
+        final long seed;
+        final Outcome outcome;
+        /** The winning team, or {@link Player#TEAM_NONE} */
+        final int winningTeam;
+        final int rounds;
+        final long millis;
+        final int[] unitsLeft;
+        final int[] bvLeft;
+
+        GameResult(int index, long seed, Outcome outcome, int winningTeam, int rounds, long millis,
+                   int[] unitsLeft, int[] bvLeft) {
+            this.index = index;
+            this.seed = seed;
+            this.outcome = outcome;
+            this.winningTeam = winningTeam;
+            this.rounds = rounds;
+            this.millis = millis;
+            this.unitsLeft = unitsLeft;
+            this.bvLeft = bvLeft;
+        }
+
+        String toCsv() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(index).append(',').append(seed).append(',').append(outcome).append(',')
+                    .append(winningTeam).append(',').append(rounds).append(',').append(millis);
+            for (int side = 0; side < unitsLeft.length; side++) {
+                sb.append(',').append(unitsLeft[side]).append(',').append(bvLeft[side]);
+            }
+            return sb.toString();
+        }
+
+        static GameResult fromCsv(String line) {
+            String[] fields = line.split(",");
+            int sides = (fields.length - 6) / 2;
+            int[] unitsLeft = new int[sides];
+            int[] bvLeft = new int[sides];
+            for (int side = 0; side < sides; side++) {
+                unitsLeft[side] = Integer.parseInt(fields[6 + 2 * side]);
+                bvLeft[side] = Integer.parseInt(fields[7 + 2 * side]);
+            }
+            return new GameResult(Integer.parseInt(fields[0]), Long.parseLong(fields[1]),
+                    Outcome.valueOf(fields[2]), Integer.parseInt(fields[3]), Integer.parseInt(fields[4]),
+                    Long.parseLong(fields[5]), unitsLeft, bvLeft);
+        }
+    }
+
+    private SimulationRunner(CommandLineParser settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Runs the simulation with the given arguments.
+     *
+     * @param args the command line arguments
+     * @return the exit status: 0 if all went well, 1 if the arguments are wrong or the simulation
+     * or one of its workers failed
+     */
+    public static int start(String... args) {
+        CommandLineParser cp = new CommandLineParser(args);
+        try {
+            cp.parse();
+        } catch (AbstractCommandLineParser.ParseException e) {
+            LogManager.getLogger().error(INCORRECT_ARGUMENTS_MESSAGE + e.getMessage() + '\n'
+                    + ARGUMENTS_DESCRIPTION_MESSAGE);
+            return 1;
+        }
+        try {
+            SimulationRunner runner = new SimulationRunner(cp);
+            runner.loadSides();
+            if (cp.workerFile != null) {
+                runner.runWorker();
+            } else {
+                runner.runBatch();
+            }
+            return runner.workerFailed ? 1 : 0;
+        } catch (Exception ex) {
+            LogManager.getLogger().error("Simulation failed", ex);
+            return 1;
+        }
+    }
+
+    public static void main(String... args) {
+        // The bots and servers leave non-daemon threads behind, so always exit
+        System.exit(start(args));
+    }
+
+    /**
+     * Reads the units of every side once; each game gets its own copy.
+     */
+    private void loadSides() throws Exception {
+        GameOptions options = loadGameOptions();
+        for (String mulFile : settings.mulFiles) {
+            File file = new File(mulFile);
+            Vector<Entity> units = new MULParser(file, options).getEntities();
+            if (units.isEmpty()) {
+                throw new IOException("No units in " + file);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(units);
+            }
+            sideUnits.add(bytes.toByteArray());
+
+            String name = file.getName().replaceFirst("\\.mul$", "");
+            while (sideNames.contains(name)) {
+                name = name + '.' + (sideNames.size() + 1);
+            }
+            sideNames.add(name);
+        }
+    }
+
+    private GameOptions loadGameOptions() {
+        GameOptions options = new GameOptions();
+        if (settings.optionsFile == null) {
+            options.loadOptions();
+        } else {
+            options.loadOptions(new File(settings.optionsFile), true);
+        }
+        if (settings.rounds > 0) {
+            options.getOption(OptionsConstants.VICTORY_USE_GAME_TURN_LIMIT).setValue(true);
+            options.getOption(OptionsConstants.VICTORY_GAME_TURN_LIMIT).setValue(settings.rounds);
+        }
+        return options;
+    }
+
+    /**
+     * Plays all the games, in this JVM or split across worker processes, and writes the results.
+     */
+    private void runBatch() throws Exception {
+        final long start = System.nanoTime();
+        final int workers = Math.max(1, Math.min(settings.threads, settings.games));
+        final List<GameResult> results = new ArrayList<>();
+        if (workers == 1) {
+            for (int index = 0; index < settings.games; index++) {
+                results.add(playGame(index));
+            }
+        } else {
+            results.addAll(runWorkers(workers));
+        }
+        results.sort(Comparator.comparingInt(result -> result.index));
+        writeResults(results);
+        LogManager.getLogger().info(summarize(results, System.nanoTime() - start));
+    }
+
+    /**
+     * Starts the worker processes, waits for them and gathers the results they wrote.
+     */
+    private List<GameResult> runWorkers(int workers) throws Exception {
+        final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        final List<Process> processes = new ArrayList<>();
+        final List<File> resultFiles = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            File resultFile = File.createTempFile("simulation-" + worker + '-', ".csv");
+            resultFile.deleteOnExit();
+            resultFiles.add(resultFile);
+
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+            command.add("-Djava.awt.headless=true");
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(SimulationRunner.class.getName());
+            command.addAll(Arrays.asList(settings.getArgs()));
+            command.addAll(List.of("-worker", Integer.toString(worker), Integer.toString(workers),
+                    resultFile.getAbsolutePath()));
+            File log = new File(resultFile.getParentFile(), resultFile.getName().replace(".csv", ".log"));
+            log.deleteOnExit();
+            processes.add(new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(log).start());
+        }
+
+        final List<GameResult> results = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            int exit = processes.get(worker).waitFor();
+            if (exit != 0) {
+                LogManager.getLogger().error("Simulation worker " + worker + " exited with " + exit);
+                workerFailed = true;
+            }
+            for (String line : Files.readAllLines(resultFiles.get(worker).toPath(), StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    results.add(GameResult.fromCsv(line));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Plays every game that falls to this worker, writing each result as soon as it is known.
+     */
+    private void runWorker() throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(settings.workerFile, StandardCharsets.UTF_8))) {
+            for (int index = settings.worker; index < settings.games; index += settings.workers) {
+                out.println(playGame(index).toCsv());
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * @return the seed of the dice of the game with the given index
+     */
+    private long gameSeed(int index) {
+        return settings.seed + index * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * Plays one game between the bots and waits until it ends or times out.
+     */
+    private GameResult playGame(int index) {
+        final long seed = gameSeed(index);
+        final int sides = sideNames.size();
+        final long start = System.nanoTime();
+        Compute.setRNG(MMRandom.seeded(seed));
+
+        Server server = null;
+        final List<Princess> bots = new ArrayList<>();
+        final GameResult[] result = new GameResult[1];
+        final CountDownLatch gameOver = new CountDownLatch(1);
+        try {
+            server = new Server("", 0);
+            server.setGame(createGame());
+            server.calculatePlayerInitialCounts();
+            final Game game = server.getGame();
+            game.addGameListener(new GameListenerAdapter() {
+                @Override
+                public void gameVictory(GameVictoryEvent e) {
+                    int[] unitsLeft = new int[sides];
+                    int[] bvLeft = new int[sides];
+                    for (Entity entity : game.getEntitiesVector()) {
+                        if (!entity.isDestroyed() && !entity.isDoomed()) {
+                            unitsLeft[entity.getOwnerId()]++;
+                            bvLeft[entity.getOwnerId()] += entity.calculateBattleValue();
+                        }
+                    }
+                    int winningTeam = game.getVictoryTeam();
+                    if ((winningTeam == Player.TEAM_NONE) && (game.getVictoryPlayerId() != Player.PLAYER_NONE)) {
+                        winningTeam = game.getPlayer(game.getVictoryPlayerId()).getTeam();
+                    }
+                    result[0] = new GameResult(index, seed,
+                            (winningTeam == Player.TEAM_NONE) ? GameResult.Outcome.DRAW : GameResult.Outcome.VICTORY,
+                            winningTeam, game.getRoundCount(), elapsedMillis(start), unitsLeft, bvLeft);
+                    gameOver.countDown();
+                }
+            });
+
+            for (String name : sideNames) {
+                Princess bot = new Princess(name, "localhost", 0);
+                bots.add(bot);
+                bot.connect(server.openLoopbackConnection());
+            }
+
+            if (!gameOver.await(settings.timeoutSeconds, TimeUnit.SECONDS)) {
+                LogManager.getLogger().warn("Simulated game " + index + " timed out in round "
+                        + game.getRoundCount());
+                result[0] = new GameResult(index, seed, GameResult.Outcome.TIMEOUT, Player.TEAM_NONE,
+                        game.getRoundCount(), elapsedMillis(start), new int[sides], new int[sides]);
+            }
+        } catch (Exception ex) {
+            LogManager.getLogger().error("Simulated game " + index + " failed", ex);
+            result[0] = new GameResult(index, seed, GameResult.Outcome.ERROR, Player.TEAM_NONE, 0,
+                    elapsedMillis(start), new int[sides], new int[sides]);
+        } finally {
+            for (Princess bot : bots) {
+                bot.die();
+            }
+            if (server != null) {
+                server.die();
+            }
+        }
+        LogManager.getLogger().info("Simulated game " + index + ": " + result[0].toCsv());
+        return result[0];
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /**
+     * Sets up a game in the same way as a scenario: one ghost player per side, which its bot
+     * takes over when it connects.
+     */
+    private Game createGame() throws Exception {
+        Game game = new Game();
+        Board board = new Board();
+        board.load(new File(settings.boardFile));
+        game.setBoardDirect(board);
+
+        int entityId = 0;
+        for (int side = 0; side < sideNames.size(); side++) {
+            Player player = new Player(side, sideNames.get(side));
+            player.setGhost(true);
+            player.setTeam(side + 1);
+            player.setStartingPos(STARTING_POSITIONS[side % STARTING_POSITIONS.length]);
+            game.addPlayer(side, player);
+
+            for (Entity entity : copyUnits(side)) {
+                entity.setOwner(player);
+                entity.setId(entityId++);
+                game.addEntity(entity);
+            }
+        }
+
+        game.setOptions(loadGameOptions());
+        game.getPlanetaryConditions().determineWind();
+        game.setupTeams();
+        game.setPhase(GamePhase.STARTING_SCENARIO);
+        game.setupRoundDeployment();
+        game.setVictoryContext(new HashMap<>());
+        game.createVictoryConditions();
+        return game;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Vector<Entity> copyUnits(int side) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(sideUnits.get(side)))) {
+            return (Vector<Entity>) in.readObject();
+        }
+    }
+
+    private void writeResults(List<GameResult> results) throws IOException {
+        File file = new File(settings.outFile);
+        if (settings.outFile.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            try (OutputStream out = new FileOutputStream(file);
+                 JsonGenerator writer = new JsonFactory().createGenerator(out).useDefaultPrettyPrinter()) {
+                writer.writeStartObject();
+                writer.writeStringField("board", settings.boardFile);
+                writer.writeArrayFieldStart("sides");
+                for (int side = 0; side < sideNames.size(); side++) {
+                    writer.writeStartObject();
+                    writer.writeStringField("name", sideNames.get(side));
+                    writer.writeNumberField("team", side + 1);
+                    writer.writeStringField("file", settings.mulFiles.get(side));
+                    writer.writeEndObject();
+                }
+                writer.writeEndArray();
+                writer.writeArrayFieldStart("games");
+                for (GameResult result : results) {
+                    writer.writeStartObject();
+                    writer.writeNumberField("game", result.index);
+                    writer.writeNumberField("seed", result.seed);
+                    writer.writeStringField("outcome", result.outcome.name());
+                    writer.writeNumberField("winningTeam", result.winningTeam);
+                    writer.writeNumberField("rounds", result.rounds);
+                    writer.writeNumberField("millis", result.millis);
+                    writer.writeArrayFieldStart("unitsLeft");
+                    for (int units : result.unitsLeft) {
+                        writer.writeNumber(units);
+                    }
+                    writer.writeEndArray();
+                    writer.writeArrayFieldStart("bvLeft");
+                    for (int bv : result.bvLeft) {
+                        writer.writeNumber(bv);
+                    }
+                    writer.writeEndArray();
+                    writer.writeEndObject();
+                }
+                writer.writeEndArray();
+                writer.writeEndObject();
+            }
+        } else {
+            try (PrintWriter out = new PrintWriter(new FileWriter(file, StandardCharsets.UTF_8))) {
+                StringBuilder header = new StringBuilder("game,seed,outcome,winning_team,rounds,millis");
+                for (String name : sideNames) {
+                    String column = name.replaceAll("[^A-Za-z0-9_.-]", "_");
+                    header.append(',').append(column).append("_units,").append(column).append("_bv");
+                }
+                out.println(header);
+                for (GameResult result : results) {
+                    out.println(result.toCsv());
+                }
+            }
+        }
+    }
+
+    private String summarize(List<GameResult> results, long nanos) {
+        int[] wins = new int[sideNames.size() + 1];
+        int draws = 0;
+        int failures = 0;
+        long gameMillis = 0;
+        for (GameResult result : results) {
+            gameMillis += result.millis;
+            if (result.outcome == GameResult.Outcome.VICTORY) {
+                wins[result.winningTeam]++;
+            } else if (result.outcome == GameResult.Outcome.DRAW) {
+                draws++;
+            } else {
+                failures++;
+            }
+        }
+        StringBuilder sb = new StringBuilder("Simulated ").append(results.size()).append(" games in ")
+                .append(TimeUnit.NANOSECONDS.toSeconds(nanos)).append(" s (")
+                .append(results.isEmpty() ? 0 : gameMillis / results.size()).append(" ms per game)\n");
+        for (int side = 0; side < sideNames.size(); side++) {
+            sb.append('\t').append(sideNames.get(side)).append(" won ").append(wins[side + 1]).append('\n');
+        }
+        sb.append('\t').append(draws).append(" draws, ").append(failures).append(" timed out or failed\n");
+        sb.append("\tResults written to ").append(new File(settings.outFile).getAbsolutePath());
+        return sb.toString();
+    }
+
+    private static class CommandLineParser extends AbstractCommandLineParser {
+        private final String[] args;
+        private int games = 1;
+        private long seed = 0;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private String optionsFile;
+        private int rounds = 0;
+        private int timeoutSeconds = 3600;
+        private String outFile = "simulation.csv";
+        private String boardFile;
+        private final List<String> mulFiles = new ArrayList<>();
+        private String workerFile;
+        private int worker;
+        private int workers;
+
+        // Options
+        private static final String OPTION_GAMES = "games";
+        private static final String OPTION_SEED = "seed";
+        private static final String OPTION_THREADS = "threads";
+        private static final String OPTION_OPTIONS = "options";
+        private static final String OPTION_ROUNDS = "rounds";
+        private static final String OPTION_TIMEOUT = "timeout";
+        private static final String OPTION_OUT = "out";
+        private static final String OPTION_BOARD = "board";
+        private static final String OPTION_WORKER = "worker";
+
+        CommandLineParser(String... args) {
+            super(args);
+            this.args = args;
+        }
+
+        /**
+         * @return the arguments, to be passed on to the worker processes
+         */
+        String[] getArgs() {
+            return args;
+        }
+
+        @Override
+        protected void start() throws ParseException {
+            while (getToken() != TOK_EOF) {
+                if (getToken() == TOK_OPTION) {
+                    final String option = getTokenValue();
+                    nextToken();
+                    switch (option) {
+                        case OPTION_GAMES:
+                            games = parseCount("game count");
+                            break;
+                        case OPTION_SEED:
+                            try {
+                                seed = Long.parseLong(literal("seed"));
+                            } catch (NumberFormatException ex) {
+                                throw new ParseException("invalid seed");
+                            }
+                            break;
+                        case OPTION_THREADS:
+                            threads = parseCount("thread count");
+                            break;
+                        case OPTION_OPTIONS:
+                            optionsFile = literal("game options file");
+                            break;
+                        case OPTION_ROUNDS:
+                            rounds = parseCount("round limit");
+                            break;
+                        case OPTION_TIMEOUT:
+                            timeoutSeconds = parseCount("timeout");
+                            break;
+                        case OPTION_OUT:
+                            outFile = literal("output file");
+                            break;
+                        case OPTION_BOARD:
+                            boardFile = literal("board file");
+                            break;
+                        case OPTION_WORKER:
+                            worker = Integer.parseInt(literal("worker index"));
+                            workers = parseCount("worker count");
+                            workerFile = literal("worker result file");
+                            break;
+                        default:
+                            throw new ParseException("unknown option -" + option);
+                    }
+                } else {
+                    mulFiles.add(literal("MUL file"));
+                }
+            }
+            if (boardFile == null) {
+                throw new ParseException("board file expected");
+            } else if (mulFiles.size() < 2) {
+                throw new ParseException("at least two MUL files expected");
+            }
+        }
+
+        private String literal(String description) throws ParseException {
+            if (getToken() != TOK_LITERAL) {
+                throw new ParseException(description + " expected");
+            }
+            String value = getTokenValue();
+            nextToken();
+            return value;
+        }
+
+        private int parseCount(String description) throws ParseException {
+            try {
+                int count = Integer.parseInt(literal(description));
+                if (count < 1) {
+                    throw new ParseException("invalid " + description);
+                }
+                return count;
+            } catch (NumberFormatException ex) {
+                throw new ParseException("invalid " + description);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.server.commands;
+
+import megamek.common.metrics.Metrics;
+import megamek.server.Server;
+
+import java.util.List;
+
+/**
+ * Lists the metrics of the server, such as how long it takes to resolve attacks and how many
+ * bytes it sends for each kind of packet.
+ */
+public class MetricsCommand extends ServerCommand {
+    private static final String RESET = "reset";
+
+    public MetricsCommand(Server server) {
+        super(server, "metrics",
+                "Lists the timings and counts measured by the server. "
+                        + "Usage: /metrics [prefix] to list the metrics whose names start with prefix, "
+                        + "or /metrics reset to start measuring anew.");
+    }
+
+    @Override
+    public void run(int connId, String[] args) {
+        if ((args.length > 1) && args[1].equals(RESET)) {
+            if (!canRunRestrictedCommand(connId)) {
+                server.sendServerChat(connId, "Observers are restricted from resetting the metrics.");
+                return;
+            }
+            Metrics.getInstance().reset();
+            server.sendServerChat(server.getPlayer(connId).getName() + " reset the metrics.");
+            return;
+        }
+        final List<String> lines = Metrics.getInstance().describe((args.length > 1) ? args[1] : "");
+        if (lines.isEmpty()) {
+            server.sendServerChat(connId, "No metrics found.");
+        }
+        for (String line : lines) {
+            server.sendServerChat(connId, line);
+        }
+    }
+}
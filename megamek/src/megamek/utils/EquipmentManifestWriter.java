@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.utils;
+
+import megamek.common.EquipmentManifest;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes the {@link EquipmentManifest} of the weapons and the ammo of small weapons. This has to
+ * be run whenever a weapon is added or its names change.
+ *
+ * The only argument is the file to write to, by default the manifest resource below the
+ * resources directory.
+ */
+public class EquipmentManifestWriter {
+
+    public static void main(String[] args) throws IOException {
+        final File file = new File((args.length > 0) ? args[0] : "resources/" + EquipmentManifest.RESOURCE);
+        EquipmentManifest.write(file);
+        System.out.println("Wrote the equipment manifest to " + file);
+        System.exit(0);
+    }
+}
@@ -87,7 +87,7 @@ public class RATGeneratorEditor extends JFrame {
                 // Do nothing
             }
         }
-        rg.getEraSet().forEach(e -> rg.loadYear(e));
+        rg.loadEras(rg.getEraSet());
         ERAS = rg.getEraSet().toArray(new Integer[0]);
         rg.initRemainingUnits();
 
@@ -33,6 +33,7 @@ import org.mockito.Mockito;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -2620,6 +2621,126 @@ public class FireControlTest {
         assertArrayEquals(expected, actual);
     }
 
+    /**
+     * The heat table is filled in from running sums rather than by rating each candidate plan, so
+     * check it still picks the plans the straightforward greedy build picks, for a few weapon sets
+     * and heat capacities.
+     */
+    @Test
+    public void testCalcFiringPlansUnderHeatMatchesGreedyPlans() {
+        Mockito.doReturn(0.0).when(testFireControl).calcDamageAllocationUtility(Mockito.any(Targetable.class), Mockito.anyDouble());
+
+        // heat, damage on hit, odds to hit, criticals, kill odds
+        final double[][] mediumMech = { { 10, 10, 0.6, 0.46, 0.002 }, { 3, 5, 0.6, 0, 0 }, { 3, 5, 0.5, 0, 0 },
+                { 1, 3, 0.6, 0, 0 }, { 0, 2, 0.6, 0, 0 } };
+        final double[][] boatMech = { { 4, 5, 0.7, 0.1, 0 }, { 4, 5, 0.7, 0.1, 0 }, { 4, 5, 0.7, 0.1, 0 },
+                { 4, 5, 0.7, 0.1, 0 }, { 4, 5, 0.3, 0.1, 0 }, { 2, 6, 0.4, 0.05, 0.001 } };
+        final double[][] mixedMech = { { 15, 15, 0.4, 0.8, 0.01 }, { 7, 9, 0.55, 0.2, 0 }, { 6, 8, 0.65, 0.2, 0 },
+                { 2, 1, 0.9, 0, 0 }, { 1, 2, 0.8, 0, 0 }, { 0, 1, 0.9, 0, 0 }, { 0, 0.5, 0.4, 0, 0 } };
+
+        for (final double[][] weapons : new double[][][] { mediumMech, boatMech, mixedMech }) {
+            for (final int heatCapacity : new int[] { 0, 4, 10, 17, 30 }) {
+                for (final boolean flipArms : new boolean[] { false, true }) {
+                    Mockito.when(mockShooter.getHeatCapacity()).thenReturn(heatCapacity);
+                    final FiringPlan alphaStrike = new FiringPlan(mockTarget, flipArms);
+                    for (final double[] weapon : weapons) {
+                        alphaStrike.add(mockFireInfo(weapon));
+                    }
+
+                    final FiringPlan[] expected = calcGreedyFiringPlansUnderHeat(mockShooter, alphaStrike);
+                    final FiringPlan[] actual = testFireControl.calcFiringPlansUnderHeat(mockShooter, alphaStrike);
+                    assertArrayEquals(expected, actual);
+                    for (int heatLevel = 0; heatLevel < expected.length; heatLevel++) {
+                        Assert.assertEquals("heat capacity " + heatCapacity + ", heat " + heatLevel,
+                                            expected[heatLevel].getFlipArms(), actual[heatLevel].getFlipArms());
+                    }
+                }
+            }
+        }
+        Mockito.when(mockShooter.getHeatCapacity()).thenReturn(10);
+    }
+
+    /**
+     * A weapon that is already fired for no heat must not be added again by the heat table.
+     */
+    @Test
+    public void testCalcFiringPlansUnderHeatSkipsHeatlessWeapons() {
+        Mockito.doReturn(0.0).when(testFireControl).calcDamageAllocationUtility(Mockito.any(Targetable.class), Mockito.anyDouble());
+
+        final FiringPlan alphaStrike = new FiringPlan(mockTarget);
+        final WeaponFireInfo heatlessShot = mockFireInfo(new double[] { 0, 2, 0.6, 0, 0 });
+        alphaStrike.add(heatlessShot);
+        final WeaponFireInfo hotShot = mockFireInfo(new double[] { 2, 4, 0.6, 0, 0 });
+        final Mounted heatlessWeapon = heatlessShot.getWeapon();
+        Mockito.when(hotShot.getWeapon()).thenReturn(heatlessWeapon);
+        alphaStrike.add(hotShot);
+        alphaStrike.add(mockFireInfo(new double[] { 3, 5, 0.6, 0, 0 }));
+
+        final FiringPlan[] expected = calcGreedyFiringPlansUnderHeat(mockShooter, alphaStrike);
+        final FiringPlan[] actual = testFireControl.calcFiringPlansUnderHeat(mockShooter, alphaStrike);
+        assertArrayEquals(expected, actual);
+        for (final FiringPlan plan : actual) {
+            Assert.assertFalse(plan.contains(hotShot));
+        }
+    }
+
+    private WeaponFireInfo mockFireInfo(final double[] weapon) {
+        final Mounted mockWeapon = Mockito.mock(Mounted.class);
+        final WeaponFireInfo mockFireInfo = Mockito.mock(WeaponFireInfo.class);
+        Mockito.when(mockFireInfo.getHeat()).thenReturn((int) weapon[0]);
+        Mockito.when(mockFireInfo.getExpectedDamageOnHit()).thenReturn(weapon[1]);
+        Mockito.when(mockFireInfo.getProbabilityToHit()).thenReturn(weapon[2]);
+        Mockito.when(mockFireInfo.getExpectedCriticals()).thenReturn(weapon[3]);
+        Mockito.when(mockFireInfo.getKillProbability()).thenReturn(weapon[4]);
+        Mockito.when(mockFireInfo.getWeapon()).thenReturn(mockWeapon);
+        Mockito.when(mockFireInfo.getShooter()).thenReturn(mockShooter);
+        Mockito.when(mockFireInfo.getDebugDescription()).thenReturn("mock weapon " + Arrays.toString(weapon));
+        return mockFireInfo;
+    }
+
+    /**
+     * The heat table as it was built before it was worked out from running sums: every candidate
+     * plan is built and rated in full.
+     */
+    private FiringPlan[] calcGreedyFiringPlansUnderHeat(final Entity shooter, final FiringPlan alphaStrike) {
+        final int maxHeat = Math.max(0, alphaStrike.getHeat());
+        final Targetable target = alphaStrike.getTarget();
+        final boolean isAero = shooter.isAero();
+        final int heatTolerance = testFireControl.calcHeatTolerance(shooter, isAero);
+
+        final FiringPlan[] bestPlans = new FiringPlan[maxHeat + 1];
+        bestPlans[0] = new FiringPlan(target, alphaStrike.getFlipArms());
+        final FiringPlan nonZeroHeatOptions = new FiringPlan(target);
+        for (final WeaponFireInfo weaponFireInfo : alphaStrike) {
+            if (0 == weaponFireInfo.getHeat()) {
+                bestPlans[0].add(weaponFireInfo);
+            } else {
+                nonZeroHeatOptions.add(weaponFireInfo);
+            }
+        }
+        testFireControl.calculateUtility(bestPlans[0], heatTolerance, isAero);
+
+        for (int heatLevel = 1; heatLevel <= maxHeat; heatLevel++) {
+            bestPlans[heatLevel] = new FiringPlan(target);
+            bestPlans[heatLevel].addAll(bestPlans[heatLevel - 1]);
+            testFireControl.calculateUtility(bestPlans[heatLevel], heatTolerance, isAero);
+            for (final WeaponFireInfo weaponFireInfo : nonZeroHeatOptions) {
+                final int leftoverHeatCapacity = heatLevel - weaponFireInfo.getHeat();
+                if ((0 <= leftoverHeatCapacity)
+                        && !bestPlans[leftoverHeatCapacity].containsWeapon(weaponFireInfo.getWeapon())) {
+                    final FiringPlan testPlan = new FiringPlan(target, alphaStrike.getFlipArms());
+                    testPlan.addAll(bestPlans[leftoverHeatCapacity]);
+                    testPlan.add(weaponFireInfo);
+                    testFireControl.calculateUtility(testPlan, heatTolerance, isAero);
+                    if (testPlan.getUtility() > bestPlans[heatLevel].getUtility()) {
+                        bestPlans[heatLevel] = testPlan;
+                    }
+                }
+            }
+        }
+        return bestPlans;
+    }
+
     private void assertArrayEquals(final FiringPlan[] expected,
                                    final Object actual) {
         Assert.assertNotNull(actual);
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.bot.princess;
+
+import megamek.common.BipedMech;
+import megamek.common.Coords;
+import megamek.common.Entity;
+import megamek.common.Game;
+import megamek.common.Player;
+import megamek.common.enums.GamePhase;
+import megamek.common.event.GameEntityChangeEvent;
+import megamek.common.event.GamePhaseChangeEvent;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrecognitionTest {
+
+    @Test
+    public void entityChangesAreCoalescedPerEntity() {
+        final Precognition precognition = new Precognition(Mockito.mock(Princess.class));
+        final Game game = precognition.getGame();
+        final Entity first = createEntity(game, 1, new Coords(3, 3));
+        final Entity second = createEntity(game, 2, new Coords(5, 5));
+
+        game.processGameEvent(new GameEntityChangeEvent(this, first));
+        game.processGameEvent(new GameEntityChangeEvent(this, second));
+        game.processGameEvent(new GameEntityChangeEvent(this, first));
+        game.processGameEvent(new GameEntityChangeEvent(this, first));
+        assertEquals(4, precognition.getEventQueueDepth());
+
+        precognition.processGameEvents();
+        assertEquals(0, precognition.getEventQueueDepth());
+        assertEquals(4, precognition.getEventsProcessed());
+        // Only the latest change of the first entity is handled
+        assertEquals(2, precognition.getEventsCoalesced());
+        assertEquals(0, precognition.getDirtyUnitCount());
+        assertEquals(0, precognition.getRecalculations());
+    }
+
+    @Test
+    public void movementPhaseMakesDeployedUnitsDirty() {
+        final Precognition precognition = new Precognition(Mockito.mock(Princess.class));
+        final Game game = precognition.getGame();
+        createEntity(game, 1, new Coords(3, 3));
+        createEntity(game, 2, new Coords(5, 5));
+        createEntity(game, 3, null);
+
+        game.processGameEvent(new GamePhaseChangeEvent(this, GamePhase.INITIATIVE, GamePhase.MOVEMENT));
+        precognition.processGameEvents();
+        assertEquals(1, precognition.getEventsProcessed());
+        assertEquals(0, precognition.getEventsCoalesced());
+        assertEquals(2, precognition.getDirtyUnitCount());
+    }
+
+    private static Entity createEntity(final Game game, final int id, final Coords position) {
+        if (game.getPlayer(0) == null) {
+            game.addPlayer(0, new Player(0, "Test"));
+        }
+        final Entity entity = new BipedMech();
+        entity.setId(id);
+        entity.setOwner(game.getPlayer(0));
+        entity.setGame(game);
+        entity.setPosition(position);
+        entity.setDeployed(position != null);
+        game.addEntity(entity);
+        return entity;
+    }
+}
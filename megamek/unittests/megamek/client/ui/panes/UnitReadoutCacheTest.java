@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.panes;
+
+import megamek.client.ui.panes.UnitReadoutCache.Readout;
+import megamek.common.MechSummary;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+public class UnitReadoutCacheTest {
+    private static final Readout READOUT = new Readout("summary", "tro");
+
+    private static MechSummary createUnit(final String name, final long modified) {
+        final MechSummary unit = new MechSummary();
+        unit.setSourceFile(new File("data/mechfiles/test.zip"));
+        unit.setEntryName(name);
+        unit.setModified(modified);
+        return unit;
+    }
+
+    @Test
+    public void readoutsAreKeptByUnitAndCost() {
+        final UnitReadoutCache cache = new UnitReadoutCache(1 << 20);
+        final MechSummary unit = createUnit("Atlas.mtf", 1);
+        cache.put(unit, true, READOUT);
+
+        assertSame(READOUT, cache.get(createUnit("Atlas.mtf", 1), true));
+        assertNull(cache.get(unit, false));
+        assertNull(cache.get(createUnit("Locust.mtf", 1), true));
+        // A changed unit file gives new readouts
+        assertNull(cache.get(createUnit("Atlas.mtf", 2), true));
+    }
+
+    @Test
+    public void leastRecentlyUsedReadoutsAreDroppedOverBudget() {
+        // room for two readouts
+        final UnitReadoutCache cache = new UnitReadoutCache(2 * READOUT.size());
+        final MechSummary first = createUnit("Atlas.mtf", 1);
+        final MechSummary second = createUnit("Locust.mtf", 1);
+        final MechSummary third = createUnit("Commando.mtf", 1);
+        cache.put(first, true, READOUT);
+        cache.put(second, true, READOUT);
+        // using the first readout leaves the second as the least recently used
+        assertNotNull(cache.get(first, true));
+
+        cache.put(third, true, READOUT);
+        assertNotNull(cache.get(first, true));
+        assertNull(cache.get(second, true));
+        assertNotNull(cache.get(third, true));
+    }
+
+    @Test
+    public void replacedReadoutsAreNotCountedTwice() {
+        final UnitReadoutCache cache = new UnitReadoutCache(2 * READOUT.size());
+        final MechSummary first = createUnit("Atlas.mtf", 1);
+        final MechSummary second = createUnit("Locust.mtf", 1);
+        cache.put(first, true, READOUT);
+        cache.put(first, true, READOUT);
+        cache.put(second, true, READOUT);
+
+        assertNotNull(cache.get(first, true));
+        assertNotNull(cache.get(second, true));
+    }
+
+    @Test
+    public void readoutLargerThanTheBudgetIsNotKept() {
+        final UnitReadoutCache cache = new UnitReadoutCache(READOUT.size() - 1);
+        final MechSummary unit = createUnit("Atlas.mtf", 1);
+        cache.put(unit, true, READOUT);
+        assertNull(cache.get(unit, true));
+    }
+}
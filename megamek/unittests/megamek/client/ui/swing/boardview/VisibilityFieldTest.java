@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.swing.boardview;
+
+import megamek.common.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class VisibilityFieldTest {
+    private Game game;
+    private Player player;
+    private VisibilityField.Key key;
+
+    @Before
+    public void setUp() {
+        final Hex[] hexes = new Hex[16 * 17];
+        Arrays.setAll(hexes, i -> new Hex());
+        game = new Game();
+        game.setBoardDirect(new Board(16, 17, hexes));
+        player = new Player(0, "Test");
+        game.addPlayer(0, player);
+        key = new VisibilityField.Key(new Coords(0, 8), null, 0, 1, 1, false, false, false);
+    }
+
+    private Entity addEntity(Entity entity, int id, Coords position) {
+        entity.setId(id);
+        entity.setOwner(player);
+        entity.setGame(game);
+        entity.setPosition(position);
+        entity.setDeployed(true);
+        game.addEntity(entity);
+        return entity;
+    }
+
+    private Entity addDropship(int id, Coords position) {
+        final Dropship dropship = new Dropship();
+        dropship.setAltitude(0);
+        return addEntity(dropship, id, position);
+    }
+
+    /**
+     * Checks that updating the given field gives the same field as working it out anew
+     */
+    private void assertUpdateMatchesCompute(VisibilityField field) {
+        final VisibilityField updated = VisibilityField.update(game, field, () -> false);
+        final VisibilityField computed = VisibilityField.compute(game, key, () -> false);
+        assertNotNull(updated);
+        assertNotNull(computed);
+        assertEquals(Collections.emptySet(), updated.getDifferences(computed));
+    }
+
+    @Test
+    public void movedUnitsAreUpdated() {
+        final Entity mech = addEntity(new BipedMech(), 1, new Coords(3, 8));
+        final VisibilityField field = VisibilityField.compute(game, key, () -> false);
+
+        mech.setPosition(new Coords(10, 5));
+        assertUpdateMatchesCompute(field);
+    }
+
+    @Test
+    public void groundedDropshipBlocksOtherHexes() {
+        final VisibilityField field = VisibilityField.compute(game, key, () -> false);
+        addDropship(2, new Coords(3, 8));
+
+        final VisibilityField computed = VisibilityField.compute(game, key, () -> false);
+        assertNotNull(computed);
+        // the hexes behind the DropShip can no longer be seen
+        assertEquals(VisibilityField.HIDDEN, computed.getVisibility(new Coords(8, 8)));
+        assertEquals(VisibilityField.VISIBLE, field.getVisibility(new Coords(8, 8)));
+        assertUpdateMatchesCompute(field);
+    }
+
+    @Test
+    public void movedAndRemovedDropshipsAreUpdated() {
+        final Entity dropship = addDropship(2, new Coords(3, 8));
+        final VisibilityField field = VisibilityField.compute(game, key, () -> false);
+
+        dropship.setPosition(new Coords(3, 3));
+        assertUpdateMatchesCompute(field);
+
+        game.removeEntity(dropship.getId(), IEntityRemovalConditions.REMOVE_NEVER_JOINED);
+        assertUpdateMatchesCompute(field);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EntityIndexTest {
+    private Player first;
+    private Player second;
+
+    @Before
+    public void setUp() {
+        first = new Player(0, "First");
+        second = new Player(1, "Second");
+    }
+
+    private static Entity createEntity(final int id, final Player owner) {
+        final Entity entity = new BipedMech();
+        entity.setId(id);
+        entity.setOwner(owner);
+        return entity;
+    }
+
+    @Test
+    public void entitiesAreIndexedByOwnerInTheirOrder() {
+        final Entity a = createEntity(1, first);
+        final Entity b = createEntity(2, second);
+        final Entity c = createEntity(3, first);
+        final EntityIndex index = new EntityIndex(Arrays.asList(a, b, c));
+
+        assertEquals(Arrays.asList(a, c), index.getOwnedBy(first.getId()));
+        assertEquals(Collections.singletonList(b), index.getOwnedBy(second.getId()));
+        assertTrue(index.getOwnedBy(5).isEmpty());
+
+        final Entity d = createEntity(4, second);
+        index.add(d);
+        assertEquals(Arrays.asList(b, d), index.getOwnedBy(second.getId()));
+    }
+
+    @Test
+    public void replacedEntityKeepsItsPlace() {
+        final Entity a = createEntity(1, first);
+        final Entity b = createEntity(2, first);
+        final EntityIndex index = new EntityIndex(Arrays.asList(a, b));
+
+        final Entity copy = createEntity(1, first);
+        index.add(copy);
+        assertEquals(Arrays.asList(copy, b), index.getOwnedBy(first.getId()));
+        assertTrue(index.contains(copy));
+        assertFalse(index.contains(a));
+    }
+
+    @Test
+    public void ownerChangeMovesTheEntityInItsPlace() {
+        final Entity a = createEntity(1, first);
+        final Entity b = createEntity(2, second);
+        final Entity c = createEntity(3, first);
+        final EntityIndex index = new EntityIndex(Arrays.asList(a, b, c));
+
+        a.setOwner(second);
+        index.add(a);
+        assertEquals(Collections.singletonList(c), index.getOwnedBy(first.getId()));
+        // a came before b in the game, so it still does
+        assertEquals(Arrays.asList(a, b), index.getOwnedBy(second.getId()));
+    }
+
+    @Test
+    public void removedEntityIsForgotten() {
+        final Entity a = createEntity(1, first);
+        final Entity b = createEntity(2, first);
+        final EntityIndex index = new EntityIndex(Arrays.asList(a, b));
+
+        index.remove(1);
+        assertEquals(Collections.singletonList(b), index.getOwnedBy(first.getId()));
+        assertFalse(index.contains(a));
+        index.remove(2);
+        assertTrue(index.getOwnedBy(first.getId()).isEmpty());
+        // removing an unknown id does nothing
+        index.remove(7);
+
+        // an entity that is added again goes after the others
+        final Entity c = createEntity(3, first);
+        index.add(c);
+        index.add(a);
+        assertEquals(Arrays.asList(c, a), index.getOwnedBy(first.getId()));
+    }
+
+    @Test
+    public void ownedEntitiesAreACopy() {
+        final Entity a = createEntity(1, first);
+        final EntityIndex index = new EntityIndex(Collections.singletonList(a));
+        final List<Entity> owned = index.getOwnedBy(first.getId());
+        owned.clear();
+        assertEquals(Collections.singletonList(a), index.getOwnedBy(first.getId()));
+    }
+}
@@ -0,0 +1,48 @@
+package megamek.common;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class EquipmentManifestTest {
+
+    /**
+     * The manifest has to be made anew when a weapon is added or its names change; if this fails,
+     * run megamek.utils.EquipmentManifestWriter or the equipmentManifest task.
+     */
+    @Test
+    public void manifestIsUpToDate() throws IOException {
+        final InputStream is = getClass().getClassLoader().getResourceAsStream(EquipmentManifest.RESOURCE);
+        assertNotNull(is);
+        final List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+        assertEquals(EquipmentManifest.create(), lines);
+    }
+
+    /** The weapons and ammo created when they are looked up must be those in the list of all types */
+    @Test
+    public void lookedUpTypesAreAllTypes() {
+        final Set<EquipmentType> allTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+        allTypes.addAll(Collections.list(EquipmentType.getAllTypes()));
+        for (EquipmentType type : allTypes) {
+            for (String name : Collections.list(type.getNames())) {
+                final EquipmentType lookedUp = EquipmentType.get(name);
+                if ((lookedUp instanceof WeaponType) || (lookedUp instanceof SmallWeaponAmmoType)) {
+                    assertTrue(name, allTypes.contains(lookedUp));
+                }
+            }
+        }
+    }
+}
@@ -5,6 +5,16 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 @RunWith(JUnit4.class)
@@ -57,4 +67,110 @@ public class GameTest {
         assertSame(winningTeam, victoryResult2.getWinningTeam());
     }
 
+    private static Game createGameWithPlayers() {
+        Game game = new Game();
+        game.addPlayer(0, new Player(0, "First"));
+        game.addPlayer(1, new Player(1, "Second"));
+        return game;
+    }
+
+    private static Entity createEntity(int id, Player owner) {
+        Entity entity = new BipedMech();
+        entity.setId(id);
+        entity.setOwner(owner);
+        return entity;
+    }
+
+    @Test
+    public void testOwnerQueriesFollowAddedReplacedAndRemovedEntities() {
+        Game game = createGameWithPlayers();
+        Player first = game.getPlayer(0);
+        Player second = game.getPlayer(1);
+        Entity a = createEntity(1, first);
+        Entity b = createEntity(2, second);
+        Entity c = createEntity(3, first);
+        game.addEntity(a);
+        game.addEntity(b);
+        game.addEntity(c);
+
+        assertEquals(2, game.getEntitiesOwnedBy(first));
+        assertEquals(1, game.getEntitiesOwnedBy(second));
+        assertEquals(Arrays.asList(a, c), game.getPlayerEntities(first, false));
+        assertEquals(Arrays.asList(1, 3), game.getPlayerEntityIds(first, false));
+
+        // a copy of a unit with the same id takes its place
+        Entity copy = createEntity(1, first);
+        game.setEntity(1, copy);
+        assertEquals(Arrays.asList(copy, c), game.getPlayerEntities(first, false));
+
+        game.removeEntity(1, IEntityRemovalConditions.REMOVE_NEVER_JOINED);
+        assertEquals(Collections.singletonList(c), game.getPlayerEntities(first, false));
+        assertEquals(1, game.getEntitiesOwnedBy(first));
+    }
+
+    @Test
+    public void testSetOwnerMovesTheEntityToItsNewOwner() {
+        Game game = createGameWithPlayers();
+        Player first = game.getPlayer(0);
+        Player second = game.getPlayer(1);
+        Entity a = createEntity(1, first);
+        Entity b = createEntity(2, second);
+        game.addEntity(a);
+        game.addEntity(b);
+        // the index is built here, so the owner change must update it
+        assertEquals(1, game.getEntitiesOwnedBy(first));
+
+        a.setOwner(second);
+        assertEquals(0, game.getEntitiesOwnedBy(first));
+        assertEquals(Arrays.asList(a, b), game.getPlayerEntities(second, false));
+    }
+
+    @Test
+    public void testBatchAddAndRemoveKeepGameOrder() {
+        Game game = createGameWithPlayers();
+        Player first = game.getPlayer(0);
+        Player second = game.getPlayer(1);
+        // build the index before the batches
+        assertEquals(0, game.getEntitiesOwnedBy(first));
+
+        List<Entity> batch = new ArrayList<>();
+        for (int id = 1; id <= 6; id++) {
+            batch.add(createEntity(id, (id % 2 == 0) ? second : first));
+        }
+        game.addEntities(batch);
+        assertEquals(batch, game.getEntitiesVector());
+        assertEquals(Arrays.asList(1, 3, 5), game.getPlayerEntityIds(first, false));
+        assertEquals(Arrays.asList(2, 4, 6), game.getPlayerEntityIds(second, false));
+
+        game.removeEntities(Arrays.asList(3, 4), IEntityRemovalConditions.REMOVE_NEVER_JOINED);
+        assertEquals(4, game.getNoOfEntities());
+        assertEquals(Arrays.asList(1, 5), game.getPlayerEntityIds(first, false));
+        assertEquals(Arrays.asList(2, 6), game.getPlayerEntityIds(second, false));
+        assertNull(game.getEntity(3));
+    }
+
+    @Test
+    public void testOwnerIndexIsRebuiltAfterDeserialization() throws IOException, ClassNotFoundException {
+        Game game = createGameWithPlayers();
+        Player first = game.getPlayer(0);
+        game.addEntity(createEntity(1, first));
+        game.addEntity(createEntity(2, game.getPlayer(1)));
+        game.addEntity(createEntity(3, first));
+        assertEquals(2, game.getEntitiesOwnedBy(first));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(game);
+        }
+        Game copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Game) in.readObject();
+        }
+
+        assertEquals(Arrays.asList(1, 3), copy.getPlayerEntityIds(copy.getPlayer(0), false));
+        assertEquals(Collections.singletonList(2), copy.getPlayerEntityIds(copy.getPlayer(1), false));
+        // the rebuilt index is kept up to date
+        copy.removeEntity(1, IEntityRemovalConditions.REMOVE_NEVER_JOINED);
+        assertEquals(Collections.singletonList(3), copy.getPlayerEntityIds(copy.getPlayer(0), false));
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ReportTemplateTest {
+    @Test
+    public void testParseTags() {
+        ReportTemplate template = ReportTemplate.parse("Hit <data> for <data><newline>damage: <list> done");
+        List<ReportTemplate.Token> body = template.getBody();
+        assertEquals(6, body.size());
+        assertEquals(ReportTemplate.TokenType.LITERAL, body.get(0).type);
+        assertEquals("Hit ", body.get(0).text);
+        assertEquals(ReportTemplate.TokenType.DATA, body.get(1).type);
+        assertEquals(" for ", body.get(2).text);
+        assertEquals(ReportTemplate.TokenType.DATA, body.get(3).type);
+        // The newline is merged into the literal text before the list
+        assertEquals(ReportTemplate.TokenType.LITERAL, body.get(4).type);
+        assertEquals("\ndamage: ", body.get(4).text);
+        assertEquals(ReportTemplate.TokenType.LIST, body.get(5).type);
+        assertEquals(" done", template.getTail());
+    }
+
+    @Test
+    public void testParseLiterals() {
+        ReportTemplate template = ReportTemplate.parse("a < b <i>c</i> <data>");
+        List<ReportTemplate.Token> body = template.getBody();
+        assertEquals(2, body.size());
+        assertEquals("a < b <i>c</i> ", body.get(0).text);
+        assertEquals(ReportTemplate.TokenType.DATA, body.get(1).type);
+        assertEquals("", template.getTail());
+
+        template = ReportTemplate.parse("no tags at all");
+        assertTrue(template.getBody().isEmpty());
+        assertEquals("no tags at all", template.getTail());
+    }
+
+    @Test
+    public void testReportText() {
+        // 4005=<newline><B>Physical attacks for <data> (<data>)</B>
+        Report report = new Report(4005);
+        report.add("Atlas");
+        report.add(7);
+        assertEquals("\n<B>Physical attacks for Atlas (7)</B>\n", report.getText());
+
+        // 1020=<newline>The turn order for movement is:<newline>  <list>
+        report = new Report(1020);
+        report.add("A");
+        report.add("B");
+        StringBuilder text = new StringBuilder("before");
+        report.appendText(text);
+        assertEquals("before\nThe turn order for movement is:\n  A, B\n", text.toString());
+    }
+
+    @Test
+    public void testMissingMessage() {
+        assertNull(ReportTemplate.of(-12345));
+        assertEquals("[Reporting Error for message ID -12345]", new Report(-12345).getText());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.actions;
+
+import megamek.common.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class ToHitCacheTest {
+    private Game game;
+    private Entity attacker;
+    private Entity target;
+
+    @Before
+    public void setUp() {
+        final Hex[] hexes = new Hex[16 * 17];
+        Arrays.setAll(hexes, i -> new Hex());
+        game = new Game();
+        game.setBoardDirect(new Board(16, 17, hexes));
+        final Player player = new Player(0, "Test");
+        game.addPlayer(0, player);
+        attacker = createEntity(1, new Coords(3, 3), player);
+        target = createEntity(2, new Coords(3, 8), player);
+    }
+
+    @After
+    public void tearDown() {
+        // Make sure a failed test leaves no cache open on the test thread
+        while (ToHitCache.get(game) != null) {
+            ToHitCache.get(game).close();
+        }
+    }
+
+    private Entity createEntity(final int id, final Coords position, final Player owner) {
+        final Entity entity = new BipedMech();
+        entity.setId(id);
+        entity.setOwner(owner);
+        entity.setGame(game);
+        entity.setPosition(position);
+        entity.setDeployed(true);
+        game.addEntity(entity);
+        return entity;
+    }
+
+    @Test
+    public void cacheIsOnlyOpenOnItsThread() throws InterruptedException {
+        assertNull(ToHitCache.getECMInfo(game));
+        final ToHitCache toHitCache = ToHitCache.open(game);
+        try {
+            assertNotNull(ToHitCache.getECMInfo(game));
+            final AtomicReference<ToHitCache> other = new AtomicReference<>(toHitCache);
+            final Thread thread = new Thread(() -> other.set(ToHitCache.get(game)));
+            thread.start();
+            thread.join();
+            assertNull(other.get());
+        } finally {
+            toHitCache.close();
+        }
+        assertNull(ToHitCache.getECMInfo(game));
+    }
+
+    @Test
+    public void nestedOpensShareTheCache() {
+        final ToHitCache outer = ToHitCache.open(game);
+        final ToHitCache inner = ToHitCache.open(game);
+        assertSame(outer, inner);
+        inner.close();
+        assertSame(outer, ToHitCache.get(game));
+        outer.close();
+        assertNull(ToHitCache.get(game));
+    }
+
+    @Test
+    public void cacheOfAnotherGameIsRestored() {
+        final Game otherGame = new Game();
+        final ToHitCache outer = ToHitCache.open(game);
+        final ToHitCache inner = ToHitCache.open(otherGame);
+        assertNotSame(outer, inner);
+        assertNull(ToHitCache.get(game));
+        assertSame(inner, ToHitCache.get(otherGame));
+        inner.close();
+        assertSame(outer, ToHitCache.get(game));
+        assertNull(ToHitCache.get(otherGame));
+        outer.close();
+        assertNull(ToHitCache.get(game));
+    }
+
+    @Test
+    public void losKeysDependOnPositionAndElevation() {
+        final ToHitCache.LosKey key = new ToHitCache.LosKey(attacker, target);
+        assertEquals(key, new ToHitCache.LosKey(attacker, target));
+        assertEquals(key.hashCode(), new ToHitCache.LosKey(attacker, target).hashCode());
+        assertNotEquals(key, new ToHitCache.LosKey(target, attacker));
+
+        attacker.setElevation(1);
+        assertNotEquals(key, new ToHitCache.LosKey(attacker, target));
+        attacker.setElevation(0);
+        assertEquals(key, new ToHitCache.LosKey(attacker, target));
+
+        target.setPosition(new Coords(4, 8));
+        assertNotEquals(key, new ToHitCache.LosKey(attacker, target));
+    }
+
+    @Test
+    public void cachedLosEffectsAreCopies() {
+        final ToHitCache toHitCache = ToHitCache.open(game);
+        try {
+            final LosEffects first = ToHitCache.calculateLos(game, attacker, target);
+            final int targetCover = first.getTargetCover();
+            first.setTargetCover(targetCover + 1);
+
+            final LosEffects second = ToHitCache.calculateLos(game, attacker, target);
+            assertNotSame(first, second);
+            assertEquals(targetCover, second.getTargetCover());
+            assertEquals(first.canSee(), second.canSee());
+        } finally {
+            toHitCache.close();
+        }
+    }
+}
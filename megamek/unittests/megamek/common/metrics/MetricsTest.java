@@ -0,0 +1,50 @@
+package megamek.common.metrics;
+
+import megamek.common.net.Packet;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MetricsTest {
+
+    @Test
+    public void histogramPercentilesAreBucketUpperBounds() {
+        final Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getSum());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 0.001);
+        // 50 lies in the bucket from 32 to 63
+        assertEquals(63, histogram.getPercentile(0.5));
+        // The upper bound of the last bucket is limited by the maximum
+        assertEquals(100, histogram.getPercentile(0.99));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(0.5));
+    }
+
+    @Test
+    public void metricsAreKeptByName() {
+        final Metrics metrics = Metrics.getInstance();
+        final Counter counter = metrics.counter("test.metricsAreKeptByName");
+        counter.add(3);
+        assertSame(counter, metrics.counter("test.metricsAreKeptByName"));
+
+        final List<String> lines = metrics.describe("test.metricsAreKeptByName");
+        assertEquals(List.of("test.metricsAreKeptByName: 3"), lines);
+        assertThrows(IllegalArgumentException.class, () -> metrics.timer("test.metricsAreKeptByName"));
+    }
+
+    @Test
+    public void commandsAreNamed() {
+        assertEquals("ENTITY_UPDATE", Packet.getCommandName(Packet.COMMAND_ENTITY_UPDATE));
+        assertEquals("BLDG_EXPLODE/PHASE_CHANGE", Packet.getCommandName(Packet.COMMAND_PHASE_CHANGE));
+        assertEquals("-1", Packet.getCommandName(-1));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.net;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import static org.junit.Assert.*;
+
+public class LoopbackConnectionTest {
+    @Test
+    public void testPacketsArriveAsCopies() throws Exception {
+        LoopbackConnection server = ConnectionFactory.getInstance().createLoopbackServerConnection(3);
+        AbstractConnection client = server.getPeer();
+        assertTrue(server.isServer());
+        assertFalse(client.isServer());
+        assertTrue(client.open());
+
+        List<Packet> received = new ArrayList<>();
+        client.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void packetReceived(PacketReceivedEvent e) {
+                received.add(e.getPacket());
+                // stop reading once the packet has arrived
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Vector<String> data = new Vector<>(List.of("a", "b"));
+        server.send(new Packet(Packet.COMMAND_CHAT, data));
+        client.update();
+
+        assertEquals(1, received.size());
+        assertEquals(Packet.COMMAND_CHAT, received.get(0).getCommand());
+        assertEquals(data, received.get(0).getObject(0));
+        assertNotSame(data, received.get(0).getObject(0));
+    }
+
+    @Test
+    public void testImmutablePacketsArrive() {
+        LoopbackConnection server = ConnectionFactory.getInstance().createLoopbackServerConnection(5);
+        AbstractConnection client = server.getPeer();
+        List<Packet> received = new ArrayList<>();
+        server.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void packetReceived(PacketReceivedEvent e) {
+                received.add(e.getPacket());
+                if (received.size() == 2) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        client.send(new Packet(Packet.COMMAND_PLAYER_READY, true));
+        client.send(new Packet(Packet.COMMAND_CHAT, new Object[] { "hello", 3 }));
+        server.update();
+
+        assertEquals(2, received.size());
+        assertEquals(Packet.COMMAND_PLAYER_READY, received.get(0).getCommand());
+        assertTrue(received.get(0).getBooleanValue(0));
+        assertEquals("hello", received.get(1).getObject(0));
+        assertEquals(3, received.get(1).getIntValue(1));
+    }
+
+    @Test
+    public void testLocalServerIsConnectedInMemory() {
+        LoopbackConnection server = ConnectionFactory.getInstance().createLoopbackServerConnection(6);
+        ConnectionFactory.getInstance().registerLocalServer(61234, server::getPeer);
+        try {
+            assertSame(server.getPeer(),
+                    ConnectionFactory.getInstance().createClientConnection("localhost", 61234, 1));
+            assertSame(server.getPeer(),
+                    ConnectionFactory.getInstance().createClientConnection("127.0.0.1", 61234, 1));
+            assertFalse(ConnectionFactory.getInstance().createClientConnection("localhost", 61235, 1)
+                    instanceof LoopbackConnection);
+        } finally {
+            ConnectionFactory.getInstance().unregisterLocalServer(61234);
+        }
+        assertFalse(ConnectionFactory.getInstance().createClientConnection("localhost", 61234, 1)
+                instanceof LoopbackConnection);
+    }
+
+    @Test
+    public void testCloseClosesBothEnds() {
+        LoopbackConnection server = ConnectionFactory.getInstance().createLoopbackServerConnection(4);
+        AbstractConnection client = server.getPeer();
+        List<AbstractConnection> disconnected = new ArrayList<>();
+        ConnectionListener listener = new ConnectionListener() {
+            @Override
+            public void disconnected(DisconnectedEvent e) {
+                disconnected.add(e.getConnection());
+            }
+        };
+        server.addConnectionListener(listener);
+        client.addConnectionListener(listener);
+
+        client.close();
+        assertTrue(server.isClosed());
+        assertTrue(client.isClosed());
+        assertEquals(List.of(client, server), disconnected);
+        // a read on a closed connection returns at once
+        client.update();
+    }
+}
@@ -18,6 +18,8 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Enumeration;
 import java.util.Vector;
+
+import megamek.common.Crew;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -111,4 +113,31 @@ public class GameOptionsTest {
         }
     }
     
+    @Test
+    public void testBooleanOptionOfOtherTypes() {
+        Enumeration<IOption> opts = testMe.getOptions();
+        while (opts.hasMoreElements()) {
+            IOption io = opts.nextElement();
+            if (io.getType() == IOption.FLOAT) {
+                assertFalse(testMe.booleanOption(io.getName()));
+            } else {
+                assertEquals(io.booleanValue(), testMe.booleanOption(io.getName()));
+            }
+        }
+        assertFalse(testMe.booleanOption("no such option"));
+    }
+
+    @Test
+    public void testBooleanOptionOfChoiceOption() {
+        PilotOptions pilotOptions = new PilotOptions();
+        assertFalse(pilotOptions.booleanOption(OptionsConstants.GUNNERY_SPECIALIST));
+
+        // A chosen value is true, as the abilities of a unit rely on that
+        pilotOptions.getOption(OptionsConstants.GUNNERY_SPECIALIST).setValue(Crew.SPECIAL_ENERGY);
+        assertTrue(pilotOptions.booleanOption(OptionsConstants.GUNNERY_SPECIALIST));
+
+        pilotOptions.getOption(OptionsConstants.GUNNERY_SPECIALIST).setValue(Crew.SPECIAL_NONE);
+        assertFalse(pilotOptions.booleanOption(OptionsConstants.GUNNERY_SPECIALIST));
+    }
+
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.pathfinder;
+
+import megamek.common.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class BoardClusterMapTest {
+    static final int WIDTH = 6;
+    static final int HEIGHT = 6;
+    /** The column of the wall that splits the test boards */
+    static final int WALL = 3;
+
+    private Board board;
+    private Entity mech;
+
+    @Before
+    public void setUp() {
+        final Hex[] hexes = new Hex[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                // a cliff too high for a mech to climb
+                hexes[(y * WIDTH) + x] = new Hex((x == WALL) ? 5 : 0);
+            }
+        }
+        board = new Board();
+        board.newData(WIDTH, HEIGHT, hexes, null);
+        mech = createMech(board);
+    }
+
+    static Entity createMech(Board board) {
+        final Game game = new Game();
+        game.setBoardDirect(board);
+        final Player player = new Player(0, "Test");
+        game.addPlayer(0, player);
+        final Entity mech = new BipedMech();
+        mech.setId(1);
+        mech.setWeight(50);
+        mech.setOwner(player);
+        mech.setGame(game);
+        mech.setPosition(new Coords(0, 0));
+        mech.setDeployed(true);
+        game.addEntity(mech);
+        return mech;
+    }
+
+    @Test
+    public void cliffSplitsTheBoard() {
+        final BoardClusterMap areas = new BoardClusterMap(mech, false, false);
+        final Coords west = new Coords(0, 0);
+        final Coords east = new Coords(WIDTH - 1, HEIGHT - 1);
+        final Coords cliff = new Coords(WALL, 2);
+
+        assertEquals(WALL * HEIGHT, areas.getClusterSize(west));
+        assertEquals((WIDTH - WALL - 1) * HEIGHT, areas.getClusterSize(east));
+        assertEquals(HEIGHT, areas.getClusterSize(cliff));
+        assertFalse(areas.shareCluster(west, east));
+        assertTrue(areas.shareCluster(west, new Coords(WALL - 1, HEIGHT - 1)));
+        assertEquals(0, areas.getElevation(west));
+        assertEquals(0, areas.getClusterSize(new Coords(WIDTH, 0)));
+        assertEquals(HEIGHT, areas.getIntersectingHexes(west, 0, 1, 0, HEIGHT).size());
+        assertTrue(areas.getIntersectingHexes(west, WIDTH - 1, WIDTH, 0, HEIGHT).isEmpty());
+    }
+
+    @Test
+    public void updateJoinsClustersWhenTheCliffIsLeveled() {
+        final BoardClusterMap areas = new BoardClusterMap(mech, false, false);
+        final List<Coords> changed = new ArrayList<>();
+        for (int y = 0; y < HEIGHT; y++) {
+            final Coords coords = new Coords(WALL, y);
+            board.setHex(coords, new Hex(0));
+            changed.add(coords);
+        }
+        areas.update(mech, changed);
+
+        assertEquals(WIDTH * HEIGHT, areas.getClusterSize(new Coords(0, 0)));
+        assertTrue(areas.shareCluster(new Coords(0, 0), new Coords(WIDTH - 1, HEIGHT - 1)));
+        assertEquals(0, areas.getElevation(new Coords(WALL, 0)));
+    }
+
+    @Test
+    public void boardClustersMatchTheMap() {
+        final BoardClusterMap areas = new BoardClusterMap(mech, false, false);
+        final Map<Coords, BoardClusterTracker.BoardCluster> clusters = areas.toBoardClusters();
+
+        assertEquals(WIDTH * HEIGHT, clusters.size());
+        for (Coords first : clusters.keySet()) {
+            for (Coords second : clusters.keySet()) {
+                assertEquals(areas.shareCluster(first, second), clusters.get(first) == clusters.get(second));
+            }
+        }
+        assertEquals(WALL * HEIGHT, clusters.get(new Coords(0, 0)).contents.size());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.pathfinder;
+
+import megamek.common.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import static megamek.common.pathfinder.BoardClusterMapTest.*;
+import static org.junit.Assert.assertEquals;
+
+public class BoardClusterTrackerTest {
+    private static final Coords WEST = new Coords(0, 0);
+
+    private Board board;
+    private Entity mech;
+
+    /**
+     * Sets up a board split by a wall of buildings with the given CF
+     */
+    private void setUp(int cf) {
+        final Hex[] hexes = new Hex[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                hexes[(y * WIDTH) + x] = (x == WALL)
+                        ? new Hex(0, "building:2;bldg_cf:" + cf + ";bldg_elev:1", "")
+                        : new Hex(0);
+            }
+        }
+        board = new Board();
+        board.newData(WIDTH, HEIGHT, hexes, null);
+        mech = createMech(board);
+    }
+
+    @Before
+    public void setUp() {
+        setUp(15);
+    }
+
+    @Test
+    public void collapsedBuildingJoinsClusters() {
+        final BoardClusterTracker tracker = new BoardClusterTracker();
+        tracker.updateMovableAreas(mech);
+        // the mech is too heavy to climb onto the wall, so it only has its side of the board
+        assertEquals(WALL * HEIGHT, tracker.getBoardClusterSize(mech, WEST, false));
+
+        for (int y = 0; y < HEIGHT; y++) {
+            board.collapseBuilding(new Coords(WALL, y));
+        }
+        // the collapse changes the hexes, which is noticed without updating the movable areas
+        assertEquals(WIDTH * HEIGHT, tracker.getBoardClusterSize(mech, WEST, false));
+    }
+
+    @Test
+    public void weakenedBuildingIsNoticedOnUpdate() {
+        setUp(80);
+        final BoardClusterTracker tracker = new BoardClusterTracker();
+        tracker.updateMovableAreas(mech);
+        assertEquals(WIDTH * HEIGHT, tracker.getBoardClusterSize(mech, WEST, false));
+
+        // damage to a building changes no hex, so it is looked for when the areas are updated
+        for (int y = 0; y < HEIGHT; y++) {
+            final Coords coords = new Coords(WALL, y);
+            board.getBuildingAt(coords).setCurrentCF(15, coords);
+        }
+        tracker.updateMovableAreas(mech);
+        assertEquals(WALL * HEIGHT, tracker.getBoardClusterSize(mech, WEST, false));
+    }
+
+    @Test
+    public void newBoardDropsTheClusters() {
+        final BoardClusterTracker tracker = new BoardClusterTracker();
+        tracker.updateMovableAreas(mech);
+        assertEquals(WALL * HEIGHT, tracker.getBoardClusterSize(mech, WEST, false));
+
+        final Hex[] hexes = new Hex[WIDTH * HEIGHT];
+        for (int index = 0; index < hexes.length; index++) {
+            hexes[index] = new Hex(0);
+        }
+        board.newData(WIDTH, HEIGHT, hexes, null);
+        assertEquals(WIDTH * HEIGHT, tracker.getBoardClusterSize(mech, WEST, false));
+    }
+}
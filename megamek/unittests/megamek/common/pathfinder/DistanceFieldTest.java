@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.pathfinder;
+
+import megamek.common.*;
+import megamek.common.MovePath.MoveStepType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class DistanceFieldTest {
+    private static final int WIDTH = 8;
+    private static final int HEIGHT = 8;
+    private static final Coords DESTINATION = new Coords(WIDTH - 1, 0);
+    /** A hex walled in on all sides */
+    private static final Coords POCKET = new Coords(0, HEIGHT - 1);
+
+    private Board board;
+    private Entity mech;
+
+    @Before
+    public void setUp() {
+        final Hex[] hexes = new Hex[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                hexes[(y * WIDTH) + x] = new Hex(0);
+            }
+        }
+        board = new Board();
+        board.newData(WIDTH, HEIGHT, hexes, null);
+        // a wall too high to climb, with a gap of deep water
+        for (int y = 0; y < HEIGHT; y++) {
+            board.setHex(new Coords(3, y), new Hex(5));
+        }
+        board.setHex(new Coords(3, 5), new Hex(0, "water:2", ""));
+        // shallow water and a hill that can only be climbed from its shoulder
+        board.setHex(new Coords(5, 2), new Hex(0, "water:1", ""));
+        board.setHex(new Coords(5, 4), new Hex(0, "water:1", ""));
+        board.setHex(new Coords(6, 3), new Hex(3));
+        board.setHex(new Coords(6, 4), new Hex(1));
+        for (int direction = 0; direction < 6; direction++) {
+            final Coords neighbour = POCKET.translated(direction);
+            if (board.contains(neighbour)) {
+                board.setHex(neighbour, new Hex(5));
+            }
+        }
+
+        mech = BoardClusterMapTest.createMech(board);
+        mech.setEngine(new Engine(200, Engine.NORMAL_ENGINE, 0));
+        mech.getGame().getOptions().initialize();
+    }
+
+    /**
+     * @return true if the mech may walk from one hex into the one next to it, as ruled by a move
+     * path of that single step
+     */
+    private boolean canStep(Coords from, int direction) {
+        mech.setPosition(from);
+        // a mech walks on the bottom of water
+        mech.setElevation(-board.getHex(from).depth());
+        mech.setFacing(direction);
+        final MovePath path = new MovePath(mech.getGame(), mech);
+        path.addStep(MoveStepType.FORWARDS);
+        return path.isMoveLegal() && path.getFinalCoords().equals(from.translated(direction));
+    }
+
+    /**
+     * Works out the number of hexes from each hex to the destination by a breadth-first search
+     * over the steps the movement rules allow
+     */
+    private int[] bruteForceDistances(Set<Coords> destinations) {
+        final boolean[][] legal = new boolean[WIDTH * HEIGHT][6];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                for (int direction = 0; direction < 6; direction++) {
+                    final Coords to = new Coords(x, y).translated(direction);
+                    legal[(y * WIDTH) + x][direction] = board.contains(to) && canStep(new Coords(x, y), direction);
+                }
+            }
+        }
+        final int[] distances = new int[WIDTH * HEIGHT];
+        Arrays.fill(distances, DistanceField.UNREACHABLE);
+        final Deque<Coords> queue = new ArrayDeque<>();
+        for (Coords destination : destinations) {
+            distances[(destination.getY() * WIDTH) + destination.getX()] = 0;
+            queue.add(destination);
+        }
+        while (!queue.isEmpty()) {
+            final Coords to = queue.poll();
+            final int distance = distances[(to.getY() * WIDTH) + to.getX()];
+            for (int direction = 0; direction < 6; direction++) {
+                final Coords from = to.translated(direction);
+                if (!board.contains(from)) {
+                    continue;
+                }
+                final int index = (from.getY() * WIDTH) + from.getX();
+                // the step from the neighbour back into this hex goes the opposite way
+                if ((distances[index] == DistanceField.UNREACHABLE) && legal[index][(direction + 3) % 6]) {
+                    distances[index] = distance + 1;
+                    queue.add(from);
+                }
+            }
+        }
+        return distances;
+    }
+
+    @Test
+    public void distancesNeverExceedTheWalkingDistance() {
+        final Set<Coords> destinations = Collections.singleton(DESTINATION);
+        final DistanceField field = DistanceField.compute(mech, destinations);
+        final int[] walked = bruteForceDistances(destinations);
+
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                final Coords coords = new Coords(x, y);
+                final int distance = field.getDistance(coords);
+                final int walkedDistance = walked[(y * WIDTH) + x];
+                // every step costs at least one MP, so the field is admissible if it never
+                // exceeds the number of hexes walked
+                assertTrue(coords + ": " + distance + " > " + walkedDistance, distance <= walkedDistance);
+                if (walkedDistance != DistanceField.UNREACHABLE) {
+                    // and without buildings or bridges it is exact
+                    assertEquals(coords.toString(), walkedDistance, distance);
+                }
+            }
+        }
+        // the wall is crossed through the water gap
+        assertNotEquals(DistanceField.UNREACHABLE, field.getDistance(new Coords(0, 0)));
+        // hexes off the board are unreachable
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(new Coords(WIDTH, 0)));
+    }
+
+    @Test
+    public void walledInHexIsUnreachable() {
+        final Set<Coords> destinations = Collections.singleton(DESTINATION);
+        final DistanceField field = DistanceField.compute(mech, destinations);
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(POCKET));
+        final int[] walked = bruteForceDistances(destinations);
+        assertEquals(DistanceField.UNREACHABLE, walked[(POCKET.getY() * WIDTH) + POCKET.getX()]);
+
+        mech.setPosition(POCKET);
+        mech.setFacing(0);
+        assertNull(new DestructionAwareDestinationPathfinder().findPathToCoords(mech, destinations,
+                new BoardClusterTracker()));
+    }
+
+    @Test
+    public void pathfinderPathsCostAtLeastTheDistance() {
+        final Set<Coords> destinations = Collections.singleton(DESTINATION);
+        final DistanceField field = DistanceField.compute(mech, destinations);
+        // past the water and around the hill
+        final Coords start = new Coords(5, HEIGHT - 1);
+        mech.setPosition(start);
+        mech.setFacing(0);
+
+        final BulldozerMovePath path = new DestructionAwareDestinationPathfinder().findPathToCoords(mech,
+                destinations, new BoardClusterTracker());
+        assertNotNull(path);
+        assertEquals(DESTINATION, path.getFinalCoords());
+        assertTrue(path.getMpUsed() + path.getLevelingCost() >= field.getDistance(start));
+    }
+}
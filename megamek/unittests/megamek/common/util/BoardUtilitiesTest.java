@@ -1,5 +1,8 @@
 package megamek.common.util;
 
+import megamek.common.Board;
+import megamek.common.Hex;
+import megamek.common.MapSettings;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -58,4 +61,33 @@ public class BoardUtilitiesTest {
         expected = 0;
         Assert.assertEquals(expected, BoardUtilities.craterProfile(distanceFromCenter, craterRadius, maxDepth));
     }
+
+    @Test
+    public void testGenerateRandomIsReproducible() {
+        MapSettings mapSettings = MapSettings.getInstance();
+        mapSettings.setBoardSize(32, 34);
+        mapSettings.setForestParams(3, 8, 3, 10, 30);
+        mapSettings.setWaterParams(1, 4, 2, 6, 30);
+        mapSettings.setCityParams(4, "GRID", 10, 100, 1, 4, 75, 60);
+
+        String board = describe(BoardUtilities.generateRandom(mapSettings, 42L));
+        // An unseeded board in between must not change what the seed gives
+        BoardUtilities.generateRandom(mapSettings);
+        Assert.assertEquals(board, describe(BoardUtilities.generateRandom(mapSettings, 42L)));
+    }
+
+    private static String describe(Board board) {
+        StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                Hex hex = board.getHex(x, y);
+                sb.append(hex.getLevel());
+                for (int type : hex.getTerrainTypes()) {
+                    sb.append(' ').append(hex.getTerrain(type));
+                }
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
 }
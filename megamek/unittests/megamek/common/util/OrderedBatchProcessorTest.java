@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class OrderedBatchProcessorTest {
+    private static final List<Integer> ITEMS = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+
+    private static String slowSquare(int item) {
+        if (item % 7 == 0) {
+            // let later items finish first
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return Integer.toString(item * item);
+    }
+
+    @Test
+    public void testResultsKeepItemOrder() throws Exception {
+        final List<String> expected = ITEMS.stream().map(OrderedBatchProcessorTest::slowSquare)
+                .collect(Collectors.toList());
+        for (int threads : new int[] { 1, 4 }) {
+            final List<String> results = new ArrayList<>();
+            final int count = new OrderedBatchProcessor<Integer, String>("test", threads)
+                    .process(ITEMS, OrderedBatchProcessorTest::slowSquare, results::add);
+            assertEquals(ITEMS.size(), count);
+            assertEquals(expected, results);
+        }
+    }
+
+    @Test
+    public void testFailedItemsAreSkipped() throws Exception {
+        for (int threads : new int[] { 1, 4 }) {
+            final List<Integer> results = new ArrayList<>();
+            final int count = new OrderedBatchProcessor<Integer, Integer>("test", threads)
+                    .process(ITEMS, item -> {
+                        if (item % 10 == 3) {
+                            throw new IllegalArgumentException("bad item " + item);
+                        }
+                        return (item % 10 == 5) ? null : item;
+                    }, results::add);
+            assertEquals(160, count);
+            assertEquals(ITEMS.stream().filter(i -> (i % 10 != 3) && (i % 10 != 5))
+                    .collect(Collectors.toList()), results);
+        }
+    }
+}
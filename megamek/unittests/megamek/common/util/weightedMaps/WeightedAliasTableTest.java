@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.util.weightedMaps;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WeightedAliasTableTest {
+
+    @Test
+    public void testSelectionIsProportionalToWeight() {
+        final List<String> values = Arrays.asList("a", "b", "c", "d", "e");
+        final List<Integer> weights = Arrays.asList(1, 0, 7, 3, 13);
+        final WeightedAliasTable<String> table = new WeightedAliasTable<>(values, weights);
+
+        assertEquals(4, table.size());
+        assertEquals(24, table.getTotalWeight());
+
+        // Enumerating every column and roll must hit each value exactly size * weight times
+        final int[] counts = new int[values.size()];
+        for (int column = 0; column < table.size(); column++) {
+            for (int roll = 0; roll < table.getTotalWeight(); roll++) {
+                counts[values.indexOf(table.randomItem(column, roll))]++;
+            }
+        }
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(table.size() * weights.get(i), counts[i]);
+        }
+    }
+
+    @Test
+    public void testRandomItem() {
+        final WeightedAliasTable<Integer> table = new WeightedAliasTable<>(Arrays.asList(1, 2),
+                Arrays.asList(2, 5));
+        for (int i = 0; i < 100; i++) {
+            final Integer item = table.randomItem();
+            assertTrue((item == 1) || (item == 2));
+        }
+    }
+
+    @Test
+    public void testEmptyTable() {
+        final WeightedAliasTable<Integer> table = new WeightedAliasTable<>(Collections.singletonList(1),
+                Collections.singletonList(0));
+        assertTrue(table.isEmpty());
+        assertNull(table.randomItem());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMismatchedWeights() {
+        new WeightedAliasTable<>(Arrays.asList(1, 2), Collections.singletonList(1));
+    }
+}